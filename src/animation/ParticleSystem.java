@@ -0,0 +1,496 @@
+package animation;
+
+import graphics.AnimatedTexture;
+import graphics.AnimationClip;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Fixed-capacity particle pool stored as parallel arrays.
+ *
+ * Particles are plain slots in float arrays (position, velocity, life, size,
+ * color) recycled through a free list, so emitting and expiring particles
+ * allocates nothing. Randomness comes from one shared xorshift generator.
+ *
+ * Particles can belong to a group. A group has an origin that its particles
+ * are drawn relative to (so an effect can follow an entity), a spawn area
+ * that looping particles respawn in, and a live count so an effect knows when
+ * it has finished. Particles without a group (-1) use world coordinates.
+ *
+ * A particle is either a dot or a sprite. Dots blit pre-rendered dot images,
+ * one per color, size and alpha level, instead of creating a Color and filling
+ * an oval for every particle. Sprites play a shared AnimationClip (frames are
+ * tinted and scaled once per clip, tint and size); the frame comes from the
+ * particle's age, so a slot needs no playback object of its own.
+ */
+public class ParticleSystem {
+
+    public static final int DEFAULT_CAPACITY = 16384;
+    public static final int MAX_DOT_SIZE = 16;
+    private static final int ALPHA_LEVELS = 32;
+    private static final int MAX_COLORS = 256;
+
+    // Particle data; slot i is live when life[i] > 0
+    private float[] x, y;
+    private float[] vx, vy;       // Pixels per second
+    private float[] life, maxLife;
+    private byte[] size;
+    private short[] color;        // Palette index
+    private int[] group;
+    private boolean[] looping;
+    private short[] sprite;       // Sprite index, or -1 for a dot
+    private float[] age;          // Seconds since emitted (picks the sprite frame)
+    private boolean[] fadeTail;   // Sprite fades out over the last 30% of its life
+    private int[] freeSlots;
+    private int freeCount;
+    private int highWater;        // Slots at or above this have never been used
+    private int liveCount;
+    private int capacity;
+
+    // Groups
+    private float[] groupX = new float[16], groupY = new float[16];
+    private float[] groupWidth = new float[16], groupHeight = new float[16];
+    private int[] groupLive = new int[16];
+    private int[] freeGroups = new int[16];
+    private int freeGroupCount;
+    private int groupCount;
+
+    // Color palette and lazily rendered dot sprites per (color, size, alpha level)
+    private final Map<Integer, Integer> paletteIndex = new HashMap<>();
+    private int[] palette = new int[16];
+    private int paletteSize;
+    private BufferedImage[] dotSprites = new BufferedImage[16 * (MAX_DOT_SIZE + 1) * ALPHA_LEVELS];
+
+    // Sprites: a clip, optional tint and draw size, with lazily rendered frames
+    private AnimationClip[] spriteClips = new AnimationClip[16];
+    private Color[] spriteTints = new Color[16];
+    private int[] spriteWidths = new int[16], spriteHeights = new int[16];
+    private BufferedImage[][] spriteFrames = new BufferedImage[16][];
+    private int spriteCount;
+    private final AlphaComposite[] fadeComposites = new AlphaComposite[ALPHA_LEVELS];
+
+    // Shared xorshift generator
+    private int seed = (int) System.nanoTime() | 1;
+
+    public ParticleSystem() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ParticleSystem(int capacity) {
+        allocate(Math.max(1, capacity));
+    }
+
+    private void allocate(int capacity) {
+        this.capacity = capacity;
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        life = new float[capacity];
+        maxLife = new float[capacity];
+        size = new byte[capacity];
+        color = new short[capacity];
+        group = new int[capacity];
+        looping = new boolean[capacity];
+        sprite = new short[capacity];
+        age = new float[capacity];
+        fadeTail = new boolean[capacity];
+        freeSlots = new int[capacity];
+        freeCount = 0;
+        highWater = 0;
+        liveCount = 0;
+    }
+
+    /**
+     * Changes the particle cap. Growing keeps live particles; shrinking clears them.
+     * @param capacity Maximum live particles
+     */
+    public void setCapacity(int capacity) {
+        capacity = Math.max(1, capacity);
+        if (capacity == this.capacity) return;
+        if (capacity < highWater) {
+            allocate(capacity);
+            Arrays.fill(groupLive, 0);
+            return;
+        }
+        this.capacity = capacity;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        life = Arrays.copyOf(life, capacity);
+        maxLife = Arrays.copyOf(maxLife, capacity);
+        size = Arrays.copyOf(size, capacity);
+        color = Arrays.copyOf(color, capacity);
+        group = Arrays.copyOf(group, capacity);
+        looping = Arrays.copyOf(looping, capacity);
+        sprite = Arrays.copyOf(sprite, capacity);
+        age = Arrays.copyOf(age, capacity);
+        fadeTail = Arrays.copyOf(fadeTail, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+    }
+
+    public int getCapacity() { return capacity; }
+    public int getLiveCount() { return liveCount; }
+
+    // ==================== Random ====================
+
+    /**
+     * Next random float in [0, 1).
+     */
+    public float nextFloat() {
+        int s = seed;
+        s ^= s << 13;
+        s ^= s >>> 17;
+        s ^= s << 5;
+        seed = s;
+        return (s >>> 8) * (1.0f / (1 << 24));
+    }
+
+    /**
+     * Next random int in [0, bound).
+     */
+    public int nextInt(int bound) {
+        return (int) (nextFloat() * bound);
+    }
+
+    // ==================== Groups ====================
+
+    /**
+     * Creates a particle group.
+     * @param originX Origin that the group's particles are drawn relative to
+     * @param originY Origin Y
+     * @param width Spawn area width (looping particles respawn inside it)
+     * @param height Spawn area height
+     * @return Group id
+     */
+    public int createGroup(float originX, float originY, float width, float height) {
+        int id;
+        if (freeGroupCount > 0) {
+            id = freeGroups[--freeGroupCount];
+        } else {
+            if (groupCount == groupX.length) {
+                int n = groupCount * 2;
+                groupX = Arrays.copyOf(groupX, n);
+                groupY = Arrays.copyOf(groupY, n);
+                groupWidth = Arrays.copyOf(groupWidth, n);
+                groupHeight = Arrays.copyOf(groupHeight, n);
+                groupLive = Arrays.copyOf(groupLive, n);
+                freeGroups = Arrays.copyOf(freeGroups, n);
+            }
+            id = groupCount++;
+        }
+        groupX[id] = originX;
+        groupY[id] = originY;
+        groupWidth[id] = width;
+        groupHeight[id] = height;
+        groupLive[id] = 0;
+        return id;
+    }
+
+    /**
+     * Moves a group's origin (its particles move with it).
+     */
+    public void setGroupOrigin(int id, float originX, float originY) {
+        groupX[id] = originX;
+        groupY[id] = originY;
+    }
+
+    /**
+     * Gets the number of live particles in a group.
+     */
+    public int getGroupLiveCount(int id) {
+        return groupLive[id];
+    }
+
+    /**
+     * Kills a group's particles and frees the group id.
+     */
+    public void releaseGroup(int id) {
+        if (groupLive[id] > 0) {
+            for (int i = 0; i < highWater; i++) {
+                if (group[i] == id && life[i] > 0) {
+                    free(i);
+                }
+            }
+        }
+        freeGroups[freeGroupCount++] = id;
+    }
+
+    // ==================== Emitting ====================
+
+    /**
+     * Emits one particle. Does nothing when the pool is full.
+     * @param groupId Group, or -1 for world coordinates
+     * @param px X (relative to the group origin)
+     * @param py Y (relative to the group origin)
+     * @param velX X velocity in pixels per second
+     * @param velY Y velocity in pixels per second
+     * @param lifeSeconds Lifetime in seconds
+     * @param dotSize Dot diameter in pixels (1 to MAX_DOT_SIZE)
+     * @param colorIndex Palette index from getColorIndex()
+     * @param loop Respawn inside the group's spawn area instead of dying
+     * @return Particle slot, or -1 if the pool is full
+     */
+    public int emit(int groupId, float px, float py, float velX, float velY,
+                    float lifeSeconds, int dotSize, int colorIndex, boolean loop) {
+        int i = obtain(groupId, px, py, lifeSeconds, loop);
+        if (i < 0) return -1;
+        vx[i] = velX;
+        vy[i] = velY;
+        size[i] = (byte) Math.max(1, Math.min(MAX_DOT_SIZE, dotSize));
+        color[i] = (short) colorIndex;
+        sprite[i] = -1;
+        return i;
+    }
+
+    /**
+     * Emits one sprite particle that plays a clip in place. Does nothing when the pool is full.
+     * @param groupId Group, or -1 for world coordinates
+     * @param px Left (relative to the group origin)
+     * @param py Top (relative to the group origin)
+     * @param spriteIndex Sprite index from getSpriteIndex()
+     * @param lifeSeconds Lifetime in seconds (a looping sprite restarts it instead of dying)
+     * @param fadeOut Fade out over the last 30% of the lifetime
+     * @param loop Keep playing instead of dying (grouped sprites only)
+     * @return Particle slot, or -1 if the pool is full
+     */
+    public int emitSprite(int groupId, float px, float py, int spriteIndex,
+                          float lifeSeconds, boolean fadeOut, boolean loop) {
+        int i = obtain(groupId, px, py, lifeSeconds, loop);
+        if (i < 0) return -1;
+        vx[i] = 0;
+        vy[i] = 0;
+        sprite[i] = (short) spriteIndex;
+        fadeTail[i] = fadeOut;
+        return i;
+    }
+
+    private int obtain(int groupId, float px, float py, float lifeSeconds, boolean loop) {
+        int i;
+        if (freeCount > 0) {
+            i = freeSlots[--freeCount];
+        } else if (highWater < capacity) {
+            i = highWater++;
+        } else {
+            return -1;
+        }
+        x[i] = px;
+        y[i] = py;
+        life[i] = Math.max(lifeSeconds, 0.001f);
+        maxLife[i] = life[i];
+        age[i] = 0;
+        group[i] = groupId;
+        looping[i] = loop && groupId >= 0;
+        liveCount++;
+        if (groupId >= 0) {
+            groupLive[groupId]++;
+        }
+        return i;
+    }
+
+    private void free(int i) {
+        life[i] = 0;
+        liveCount--;
+        if (group[i] >= 0) {
+            groupLive[group[i]]--;
+        }
+        freeSlots[freeCount++] = i;
+    }
+
+    /**
+     * Gets the palette index for a color, adding it if needed.
+     */
+    public int getColorIndex(Color c) {
+        int argb = c.getRGB();
+        Integer index = paletteIndex.get(argb);
+        if (index != null) return index;
+        if (paletteSize == MAX_COLORS) {
+            return MAX_COLORS - 1; // Palette full; reuse the last color
+        }
+        if (paletteSize == palette.length) {
+            palette = Arrays.copyOf(palette, paletteSize * 2);
+            dotSprites = Arrays.copyOf(dotSprites, palette.length * (MAX_DOT_SIZE + 1) * ALPHA_LEVELS);
+        }
+        palette[paletteSize] = argb;
+        paletteIndex.put(argb, paletteSize);
+        return paletteSize++;
+    }
+
+    /**
+     * Gets the sprite index for a clip, tint and draw size, adding it if needed.
+     * @param clip Frames to play
+     * @param tint Tint blended into the frames (null for none)
+     * @param drawWidth Draw width in pixels
+     * @param drawHeight Draw height in pixels
+     */
+    public int getSpriteIndex(AnimationClip clip, Color tint, int drawWidth, int drawHeight) {
+        drawWidth = Math.max(1, drawWidth);
+        drawHeight = Math.max(1, drawHeight);
+        for (int i = 0; i < spriteCount; i++) {
+            if (spriteClips[i] == clip && spriteWidths[i] == drawWidth && spriteHeights[i] == drawHeight
+                    && Objects.equals(spriteTints[i], tint)) {
+                return i;
+            }
+        }
+        if (spriteCount == spriteClips.length) {
+            int n = spriteCount * 2;
+            spriteClips = Arrays.copyOf(spriteClips, n);
+            spriteTints = Arrays.copyOf(spriteTints, n);
+            spriteWidths = Arrays.copyOf(spriteWidths, n);
+            spriteHeights = Arrays.copyOf(spriteHeights, n);
+            spriteFrames = Arrays.copyOf(spriteFrames, n);
+        }
+        spriteClips[spriteCount] = clip;
+        spriteTints[spriteCount] = tint;
+        spriteWidths[spriteCount] = drawWidth;
+        spriteHeights[spriteCount] = drawHeight;
+        spriteFrames[spriteCount] = new BufferedImage[clip.getFrameCount()];
+        return spriteCount++;
+    }
+
+    // ==================== Update and Render ====================
+
+    /**
+     * Advances every live particle.
+     * @param deltaSeconds Time step in seconds
+     */
+    public void update(float deltaSeconds) {
+        for (int i = 0; i < highWater; i++) {
+            if (life[i] <= 0) continue;
+            x[i] += vx[i] * deltaSeconds;
+            y[i] += vy[i] * deltaSeconds;
+            age[i] += deltaSeconds;
+            life[i] -= deltaSeconds;
+            if (life[i] <= 0) {
+                if (looping[i] && sprite[i] >= 0) {
+                    life[i] = maxLife[i]; // Sprites keep playing where they are
+                } else if (looping[i]) {
+                    int gid = group[i];
+                    x[i] = nextFloat() * groupWidth[gid];
+                    y[i] = nextFloat() * groupHeight[gid];
+                    life[i] = maxLife[i];
+                } else {
+                    free(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws every live particle, fading out over its life.
+     */
+    public void draw(Graphics g) {
+        for (int i = 0; i < highWater; i++) {
+            if (life[i] > 0) {
+                drawParticle(g, i);
+            }
+        }
+    }
+
+    /**
+     * Draws the live particles of one group.
+     */
+    public void drawGroup(Graphics g, int groupId) {
+        if (groupLive[groupId] == 0) return;
+        for (int i = 0; i < highWater; i++) {
+            if (group[i] == groupId && life[i] > 0) {
+                drawParticle(g, i);
+            }
+        }
+    }
+
+    private void drawParticle(Graphics g, int i) {
+        int gid = group[i];
+        float ox = gid >= 0 ? groupX[gid] : 0;
+        float oy = gid >= 0 ? groupY[gid] : 0;
+        if (sprite[i] >= 0) {
+            drawSprite(g, i, (int) ox + (int) x[i], (int) oy + (int) y[i]);
+            return;
+        }
+        int level = (int) (life[i] / maxLife[i] * ALPHA_LEVELS);
+        if (level >= ALPHA_LEVELS) level = ALPHA_LEVELS - 1;
+        g.drawImage(getDotSprite(color[i], size[i], level), (int) ox + (int) x[i], (int) oy + (int) y[i], null);
+    }
+
+    private void drawSprite(Graphics g, int i, int drawX, int drawY) {
+        int s = sprite[i];
+        AnimationClip clip = spriteClips[s];
+        int frameIndex = clip.frameIndexAt((long) (age[i] * 1000), true);
+        BufferedImage frame = spriteFrames[s][frameIndex];
+        if (frame == null) {
+            frame = renderSpriteFrame(s, frameIndex);
+            spriteFrames[s][frameIndex] = frame;
+        }
+
+        int level = ALPHA_LEVELS;
+        if (fadeTail[i] && !looping[i]) {
+            level = (int) (life[i] / (maxLife[i] * 0.3f) * ALPHA_LEVELS);
+        }
+        if (level >= ALPHA_LEVELS) {
+            g.drawImage(frame, drawX, drawY, null);
+            return;
+        }
+        AlphaComposite fade = fadeComposites[level];
+        if (fade == null) {
+            fade = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (level + 0.5f) / ALPHA_LEVELS);
+            fadeComposites[level] = fade;
+        }
+        Graphics2D g2d = (Graphics2D) g;
+        Composite oldComposite = g2d.getComposite();
+        g2d.setComposite(fade);
+        g.drawImage(frame, drawX, drawY, null);
+        g2d.setComposite(oldComposite);
+    }
+
+    /**
+     * Renders a sprite frame tinted and at draw size, so drawing it is a plain blit.
+     */
+    private BufferedImage renderSpriteFrame(int s, int frameIndex) {
+        BufferedImage source = spriteClips[s].getFrame(frameIndex);
+        if (spriteTints[s] != null) {
+            source = AnimatedTexture.createTintedFrame(source, spriteTints[s]);
+        }
+        BufferedImage frame = new BufferedImage(spriteWidths[s], spriteHeights[s], BufferedImage.TYPE_INT_ARGB);
+        Graphics2D fg = frame.createGraphics();
+        fg.drawImage(source, 0, 0, spriteWidths[s], spriteHeights[s], null);
+        fg.dispose();
+        return frame;
+    }
+
+    /**
+     * Gets (rendering on first use) the dot sprite for a color, size and alpha level.
+     */
+    private BufferedImage getDotSprite(int colorIndex, int dotSize, int level) {
+        int key = (colorIndex * (MAX_DOT_SIZE + 1) + dotSize) * ALPHA_LEVELS + level;
+        BufferedImage sprite = dotSprites[key];
+        if (sprite == null) {
+            int argb = palette[colorIndex];
+            int alpha = (int) ((argb >>> 24) * (level + 0.5f) / ALPHA_LEVELS);
+            sprite = new BufferedImage(dotSize, dotSize, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D sg = sprite.createGraphics();
+            sg.setColor(new Color((argb >> 16) & 0xFF, (argb >> 8) & 0xFF, argb & 0xFF, alpha));
+            sg.fillOval(0, 0, dotSize, dotSize);
+            sg.dispose();
+            dotSprites[key] = sprite;
+        }
+        return sprite;
+    }
+
+    /**
+     * Kills every particle and group (dot images, sprites and palette are kept).
+     */
+    public void clear() {
+        Arrays.fill(life, 0, highWater, 0);
+        freeCount = 0;
+        highWater = 0;
+        liveCount = 0;
+        groupCount = 0;
+        freeGroupCount = 0;
+    }
+}
@@ -1,6 +1,7 @@
 package animation;
 
 import graphics.AnimatedTexture;
+import graphics.AnimationClip;
 import graphics.AssetLoader;
 
 import java.awt.*;
@@ -40,9 +41,12 @@ public class TriggeredAnimationManager {
     private final Map<ParticleAnimationState, AnimatedTexture> particleAnimationCache;
     private final Map<String, Map<String, AnimatedTexture>> blockAnimationCache;
 
-    // Active particle instances
+    // Looping particle effects, tracked so they can follow entities and be stopped
     private final List<ActiveParticle> activeParticles;
 
+    // Pool holding every particle: one-shot effects live only here
+    private final ParticleSystem particleSystem;
+
     // Active item animation instances (attached to entities)
     private final Map<Object, ActiveItemAnimation> activeItemAnimations;
 
@@ -51,8 +55,9 @@ public class TriggeredAnimationManager {
     private static final String PARTICLES_BASE_PATH = "assets/particles/";
     private static final String BLOCKS_BASE_PATH = "assets/textures/blocks/";
 
-    // Maximum particles
-    private static final int MAX_PARTICLES = 100;
+    // Maximum looping particle effects (one-shot effects are capped by the pool's capacity)
+    public static final int DEFAULT_MAX_EFFECTS = 512;
+    private int maxEffects = DEFAULT_MAX_EFFECTS;
 
     /**
      * Private constructor for singleton pattern.
@@ -62,6 +67,7 @@ public class TriggeredAnimationManager {
         this.particleAnimationCache = new ConcurrentHashMap<>();
         this.blockAnimationCache = new ConcurrentHashMap<>();
         this.activeParticles = Collections.synchronizedList(new ArrayList<>());
+        this.particleSystem = new ParticleSystem(ParticleSystem.DEFAULT_CAPACITY);
         this.activeItemAnimations = new ConcurrentHashMap<>();
     }
 
@@ -238,6 +244,8 @@ public class TriggeredAnimationManager {
 
     /**
      * Triggers a particle effect at a position with custom parameters.
+     * One-shot effects are emitted straight into the particle pool; only looping
+     * effects get an ActiveParticle to track them.
      * @param state The particle animation state
      * @param x World X position
      * @param y World Y position
@@ -246,7 +254,7 @@ public class TriggeredAnimationManager {
      * @param tint Optional color tint (null for default)
      * @param duration Duration in seconds (0 for single play)
      * @param looping Whether to loop the animation
-     * @return The created ActiveParticle, or null if animation not available
+     * @return The created ActiveParticle for a looping effect, or null for a one-shot effect
      */
     public ActiveParticle triggerParticle(ParticleAnimationState state, int x, int y,
                                            int width, int height, Color tint,
@@ -254,18 +262,24 @@ public class TriggeredAnimationManager {
         AnimatedTexture texture = loadParticleAnimation(state);
         Color finalTint = tint != null ? tint : state.getDefaultTint();
 
-        // Create particle even without texture (will use procedural fallback)
-        ActiveParticle particle = new ActiveParticle(
-            state, texture, x, y, width, height, finalTint, duration, looping
-        );
+        synchronized (activeParticles) {
+            if (!looping) {
+                emitEffect(particleSystem, -1, x, y, width, height, texture, finalTint, duration, false);
+                return null;
+            }
 
-        // Limit particle count
-        while (activeParticles.size() >= MAX_PARTICLES) {
-            activeParticles.remove(0);
-        }
+            // Limit particle count
+            while (activeParticles.size() >= maxEffects) {
+                activeParticles.remove(0).release();
+            }
 
-        activeParticles.add(particle);
-        return particle;
+            // Create particle even without texture (will use procedural dots)
+            ActiveParticle particle = new ActiveParticle(
+                state, texture, x, y, width, height, finalTint, duration, looping, particleSystem
+            );
+            activeParticles.add(particle);
+            return particle;
+        }
     }
 
     /**
@@ -313,7 +327,14 @@ public class TriggeredAnimationManager {
      */
     public void removeAttachedParticles(Object entityKey) {
         synchronized (activeParticles) {
-            activeParticles.removeIf(p -> entityKey.equals(p.attachedTo));
+            Iterator<ActiveParticle> iterator = activeParticles.iterator();
+            while (iterator.hasNext()) {
+                ActiveParticle particle = iterator.next();
+                if (entityKey.equals(particle.attachedTo)) {
+                    particle.release();
+                    iterator.remove();
+                }
+            }
         }
     }
 
@@ -387,8 +408,14 @@ public class TriggeredAnimationManager {
             while (iterator.hasNext()) {
                 ActiveParticle particle = iterator.next();
                 particle.update(deltaMs);
+            }
+            particleSystem.update(deltaMs / 1000.0f);
 
+            iterator = activeParticles.iterator();
+            while (iterator.hasNext()) {
+                ActiveParticle particle = iterator.next();
                 if (particle.isExpired()) {
+                    particle.release();
                     iterator.remove();
                 }
             }
@@ -396,25 +423,60 @@ public class TriggeredAnimationManager {
     }
 
     /**
-     * Draws all active particles.
+     * Draws all active particles in one pass over the particle pool.
      * @param g Graphics context
      */
     public void drawParticles(Graphics g) {
         synchronized (activeParticles) {
             for (ActiveParticle particle : activeParticles) {
-                particle.draw(g);
+                particle.syncOrigin();
             }
+            particleSystem.draw(g);
         }
     }
 
     /**
-     * Gets the current number of active particles.
-     * @return Count of active particles
+     * Gets the current number of tracked (looping) particle effects.
+     * @return Count of active particle effects
      */
     public int getActiveParticleCount() {
         return activeParticles.size();
     }
 
+    /**
+     * Gets the number of live pooled particles (dots and sprites).
+     * @return Count of live particles
+     */
+    public int getLiveParticleCount() {
+        return particleSystem.getLiveCount();
+    }
+
+    /**
+     * Gets the shared particle pool (for effects that emit particles directly).
+     * @return The particle system
+     */
+    public ParticleSystem getParticleSystem() {
+        return particleSystem;
+    }
+
+    /**
+     * Sets the maximum number of looping particle effects (oldest are dropped first).
+     * @param maxEffects Effect cap
+     */
+    public void setMaxEffects(int maxEffects) {
+        this.maxEffects = Math.max(1, maxEffects);
+    }
+
+    /**
+     * Sets the maximum number of live pooled particles.
+     * @param capacity Particle cap
+     */
+    public void setParticleCapacity(int capacity) {
+        synchronized (activeParticles) {
+            particleSystem.setCapacity(capacity);
+        }
+    }
+
     /**
      * Clears all cached animations (for hot reload).
      */
@@ -428,10 +490,51 @@ public class TriggeredAnimationManager {
      * Clears all active animations.
      */
     public void clearActive() {
-        activeParticles.clear();
+        synchronized (activeParticles) {
+            activeParticles.clear();
+            particleSystem.clear();
+        }
         activeItemAnimations.clear();
     }
 
+    // Procedural particle speed in pixels per second (about 1 pixel per frame at 60 FPS)
+    private static final float PROCEDURAL_SPEED = 60.0f;
+
+    /**
+     * Emits one effect into the particle pool: a sprite playing the texture's clip,
+     * or a handful of procedural dots when there is no texture.
+     * @param groupId Group to emit into (positions relative to its origin), or -1 for world coordinates
+     * @param duration Duration in seconds (0: a sprite plays its clip once, dots live out their life)
+     */
+    private static void emitEffect(ParticleSystem particles, int groupId, float x, float y,
+                                   int width, int height, AnimatedTexture texture, Color tint,
+                                   double duration, boolean looping) {
+        if (texture != null) {
+            AnimationClip clip = texture.getClip();
+            float life = duration > 0 ? (float) duration : clip.getTotalDuration() / 1000.0f;
+            particles.emitSprite(groupId, x, y, particles.getSpriteIndex(clip, tint, width, height),
+                life, duration > 0, looping);
+            return;
+        }
+
+        int colorIndex = particles.getColorIndex(tint);
+        int count = 5 + particles.nextInt(10);
+        for (int i = 0; i < count; i++) {
+            float life = 0.5f + particles.nextFloat() * 0.5f;
+            if (duration > 0 && !looping) {
+                life = Math.min(life, (float) duration);
+            }
+            particles.emit(groupId,
+                x + particles.nextFloat() * width,
+                y + particles.nextFloat() * height,
+                (particles.nextFloat() - 0.5f) * 2 * PROCEDURAL_SPEED,
+                (particles.nextFloat() - 0.5f) * 2 * PROCEDURAL_SPEED,
+                life,
+                2 + particles.nextInt(4),
+                colorIndex, looping);
+        }
+    }
+
     // ==================== Inner Classes ====================
 
     /**
@@ -485,7 +588,8 @@ public class TriggeredAnimationManager {
     }
 
     /**
-     * Represents an active particle effect.
+     * Represents a tracked particle effect: a group in the shared pool that
+     * follows the effect's position until the effect expires.
      */
     public static class ActiveParticle {
         public final ParticleAnimationState state;
@@ -499,12 +603,13 @@ public class TriggeredAnimationManager {
         public Object attachedTo;
         public int offsetX, offsetY;
 
-        // For procedural particles (when no texture)
-        private final List<ProceduralParticle> proceduralParticles;
+        // The effect's sprite or procedural dots: a group in the shared pool
+        private final ParticleSystem particles;
+        private int groupId = -1;
 
         public ActiveParticle(ParticleAnimationState state, AnimatedTexture texture,
                                int x, int y, int width, int height, Color tint,
-                               double duration, boolean looping) {
+                               double duration, boolean looping, ParticleSystem particles) {
             this.state = state;
             this.texture = texture;
             this.x = x;
@@ -515,58 +620,33 @@ public class TriggeredAnimationManager {
             this.duration = duration;
             this.elapsed = 0;
             this.looping = looping;
-            this.proceduralParticles = new ArrayList<>();
+            this.particles = particles;
 
-            // Initialize procedural particles if no texture
-            if (texture == null) {
-                initProceduralParticles();
-            }
+            groupId = particles.createGroup(x, y, width, height);
+            emitEffect(particles, groupId, 0, 0, width, height, texture, tint, duration, looping);
         }
 
-        private void initProceduralParticles() {
-            Random rand = new Random();
-            int count = 5 + rand.nextInt(10);
-
-            for (int i = 0; i < count; i++) {
-                ProceduralParticle p = new ProceduralParticle();
-                p.x = rand.nextDouble() * width;
-                p.y = rand.nextDouble() * height;
-                p.velX = (rand.nextDouble() - 0.5) * 2;
-                p.velY = (rand.nextDouble() - 0.5) * 2;
-                p.size = 2 + rand.nextInt(4);
-                p.life = 0.5 + rand.nextDouble() * 0.5;
-                p.maxLife = p.life;
-                proceduralParticles.add(p);
-            }
+        public void update(long deltaMs) {
+            // Sprite frames and dots are advanced by the shared pool
+            elapsed += deltaMs / 1000.0;
         }
 
-        public void update(long deltaMs) {
-            double deltaSeconds = deltaMs / 1000.0;
-            elapsed += deltaSeconds;
+        /**
+         * Moves this effect's pooled particles to its current position.
+         */
+        void syncOrigin() {
+            if (groupId >= 0) {
+                particles.setGroupOrigin(groupId, x, y);
+            }
+        }
 
-            if (texture != null) {
-                texture.update(deltaMs);
-            } else {
-                // Update procedural particles
-                Iterator<ProceduralParticle> it = proceduralParticles.iterator();
-                while (it.hasNext()) {
-                    ProceduralParticle p = it.next();
-                    p.x += p.velX;
-                    p.y += p.velY;
-                    p.life -= deltaSeconds;
-
-                    if (p.life <= 0) {
-                        if (looping) {
-                            // Reset particle
-                            Random rand = new Random();
-                            p.x = rand.nextDouble() * width;
-                            p.y = rand.nextDouble() * height;
-                            p.life = p.maxLife;
-                        } else {
-                            it.remove();
-                        }
-                    }
-                }
+        /**
+         * Returns this effect's pooled particles to the pool.
+         */
+        void release() {
+            if (groupId >= 0) {
+                particles.releaseGroup(groupId);
+                groupId = -1;
             }
         }
 
@@ -574,65 +654,20 @@ public class TriggeredAnimationManager {
             if (duration > 0 && elapsed >= duration) {
                 return true;
             }
-            if (!looping && texture == null && proceduralParticles.isEmpty()) {
-                return true;
-            }
-            if (!looping && texture != null && !texture.isLooping()) {
-                return texture.getCurrentFrameIndex() >= texture.getFrameCount() - 1;
-            }
-            return false;
+            return !looping && (groupId < 0 || particles.getGroupLiveCount(groupId) == 0);
         }
 
+        /**
+         * Draws just this effect (drawParticles draws every effect in one pass).
+         */
         public void draw(Graphics g) {
-            Graphics2D g2d = (Graphics2D) g;
-
-            if (texture != null) {
-                BufferedImage frame = tint != null
-                    ? texture.getCurrentFrame(tint)
-                    : texture.getCurrentFrame();
-
-                if (frame != null) {
-                    // Apply alpha based on fade out
-                    float alpha = 1.0f;
-                    if (duration > 0 && elapsed > duration * 0.7) {
-                        alpha = (float)((duration - elapsed) / (duration * 0.3));
-                    }
-
-                    if (alpha < 1.0f) {
-                        Composite oldComp = g2d.getComposite();
-                        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
-                        g2d.drawImage(frame, x, y, width, height, null);
-                        g2d.setComposite(oldComp);
-                    } else {
-                        g2d.drawImage(frame, x, y, width, height, null);
-                    }
-                }
-            } else {
-                // Draw procedural particles
-                for (ProceduralParticle p : proceduralParticles) {
-                    float alpha = (float)(p.life / p.maxLife);
-                    Color c = new Color(
-                        tint.getRed(), tint.getGreen(), tint.getBlue(),
-                        (int)(tint.getAlpha() * alpha)
-                    );
-                    g2d.setColor(c);
-                    g2d.fillOval(x + (int)p.x, y + (int)p.y, p.size, p.size);
-                }
+            if (groupId >= 0) {
+                syncOrigin();
+                particles.drawGroup(g, groupId);
             }
         }
     }
 
-    /**
-     * Simple procedural particle for fallback rendering.
-     */
-    private static class ProceduralParticle {
-        double x, y;
-        double velX, velY;
-        int size;
-        double life;
-        double maxLife;
-    }
-
     // ==================== Convenience Methods ====================
 
     /**
@@ -0,0 +1,198 @@
+package animation.bone;
+
+import java.awt.*;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Pre-renders bone animations into sprite frames.
+ *
+ * A skeleton with a bake key (see Skeleton.setBakeKey) draws its current
+ * animation as a single blit of a baked frame instead of 10-20 rotated bone
+ * blits. Each animation is sampled at SAMPLE_RATE frames per second the first
+ * time it is needed, once per skeleton type, texture set, tint and scale, and
+ * the result is shared by every skeleton with the same key. Blends between
+ * animations are still drawn live.
+ *
+ * Baked animations are kept in a shared LRU cache limited to MAX_CACHE_BYTES;
+ * the least recently used are evicted first.
+ */
+public class AnimationBaker {
+
+    public static final int SAMPLE_RATE = 30;
+    public static final long MAX_CACHE_BYTES = 64L * 1024 * 1024;
+
+    /**
+     * One animation rendered at a fixed sample rate.
+     * Frame images are positioned relative to the skeleton root.
+     */
+    public static class BakedAnimation {
+        private final BufferedImage[] frames;   // null entries for empty poses
+        private final int[] offsetX;
+        private final int[] offsetY;
+        private final boolean looping;
+        private long bytes;
+        private boolean evicted;
+
+        BakedAnimation(int frameCount, boolean looping) {
+            this.frames = new BufferedImage[frameCount];
+            this.offsetX = new int[frameCount];
+            this.offsetY = new int[frameCount];
+            this.looping = looping;
+        }
+
+        /**
+         * Gets the frame nearest to a playback time.
+         * @param time Animation time in seconds
+         * @return Frame index
+         */
+        public int getFrameIndex(double time) {
+            int frame = (int) Math.round(time * SAMPLE_RATE);
+            if (looping) {
+                frame %= frames.length;
+                return frame < 0 ? frame + frames.length : frame;
+            }
+            return Math.max(0, Math.min(frames.length - 1, frame));
+        }
+
+        public BufferedImage getFrame(int index) { return frames[index]; }
+        public int getOffsetX(int index) { return offsetX[index]; }
+        public int getOffsetY(int index) { return offsetY[index]; }
+        public int getFrameCount() { return frames.length; }
+        public long getBytes() { return bytes; }
+
+        /**
+         * Checks if this animation was dropped from the cache (holders should look it up again).
+         */
+        public boolean isEvicted() { return evicted; }
+    }
+
+    private static AnimationBaker instance;
+
+    // Baked animations by key, in least-recently-used order
+    private final LinkedHashMap<String, BakedAnimation> cache = new LinkedHashMap<>(32, 0.75f, true);
+    private long cachedBytes;
+    private int bakeCount;
+
+    private AnimationBaker() {
+    }
+
+    public static AnimationBaker getInstance() {
+        if (instance == null) {
+            instance = new AnimationBaker();
+        }
+        return instance;
+    }
+
+    /**
+     * Gets a baked animation, baking it from the skeleton if it is not cached.
+     * @param key Cache key (skeleton type, texture set, animation, scale and tints)
+     * @param skeleton Skeleton to bake from if needed
+     * @param animation Animation to bake
+     * @param scale Skeleton scale to bake at
+     * @return The baked animation
+     */
+    public BakedAnimation get(String key, Skeleton skeleton, BoneAnimation animation, double scale) {
+        BakedAnimation baked = cache.get(key);
+        if (baked == null) {
+            baked = bake(skeleton, animation, scale);
+            cache.put(key, baked);
+            cachedBytes += baked.bytes;
+            evict();
+        }
+        return baked;
+    }
+
+    /**
+     * Renders every sample of an animation. The skeleton's pose and the animation's
+     * playback time are restored afterwards.
+     */
+    private BakedAnimation bake(Skeleton skeleton, BoneAnimation animation, double scale) {
+        bakeCount++;
+        double duration = Math.max(0, animation.getDuration());
+        int frameCount = Math.max(1, (int) Math.ceil(duration * SAMPLE_RATE));
+        if (!animation.isLooping()) {
+            frameCount++; // Include the final pose, which is held
+        }
+        BakedAnimation baked = new BakedAnimation(frameCount, animation.isLooping());
+
+        double savedTime = animation.getCurrentTime();
+        double[] savedPose = skeleton.capturePose();
+        try {
+            for (int i = 0; i < frameCount; i++) {
+                skeleton.poseForBake(animation, (double) i / SAMPLE_RATE, scale);
+                Rectangle2D bounds = skeleton.getPoseBounds(scale);
+                if (bounds == null || bounds.isEmpty()) continue;
+
+                int minX = (int) Math.floor(bounds.getMinX());
+                int minY = (int) Math.floor(bounds.getMinY());
+                int width = (int) Math.ceil(bounds.getMaxX()) - minX;
+                int height = (int) Math.ceil(bounds.getMaxY()) - minY;
+
+                BufferedImage image = createFrameImage(width, height);
+                Graphics2D g = image.createGraphics();
+                g.translate(-minX, -minY);
+                skeleton.drawPose(g, g.getTransform(), scale);
+                g.dispose();
+
+                baked.frames[i] = image;
+                baked.offsetX[i] = minX;
+                baked.offsetY[i] = minY;
+                baked.bytes += (long) width * height * 4;
+            }
+        } finally {
+            animation.setCurrentTime(savedTime);
+            skeleton.restorePose(savedPose);
+        }
+        return baked;
+    }
+
+    /**
+     * Drop least recently used animations until the cache fits its budget.
+     * The newest entry is always kept.
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, BakedAnimation>> it = cache.entrySet().iterator();
+        while (cachedBytes > MAX_CACHE_BYTES && cache.size() > 1 && it.hasNext()) {
+            BakedAnimation evicted = it.next().getValue();
+            evicted.evicted = true;
+            cachedBytes -= evicted.bytes;
+            it.remove();
+        }
+    }
+
+    /**
+     * Create a frame image in the screen's native format when there is a screen,
+     * so Java2D can keep it accelerated.
+     */
+    private static BufferedImage createFrameImage(int width, int height) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            try {
+                GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                        .getDefaultScreenDevice().getDefaultConfiguration();
+                return config.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+            } catch (Exception e) {
+                System.err.println("AnimationBaker: Falling back to ARGB frames: " + e.getMessage());
+            }
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    /**
+     * Drop all baked animations (e.g. after textures are reloaded).
+     */
+    public void clear() {
+        for (BakedAnimation baked : cache.values()) {
+            baked.evicted = true;
+        }
+        cache.clear();
+        cachedBytes = 0;
+    }
+
+    public int getCachedAnimationCount() { return cache.size(); }
+    public long getCachedBytes() { return cachedBytes; }
+    public int getBakeCount() { return bakeCount; }
+}
@@ -20,6 +20,7 @@ public class Bone {
     // Texture - supports both static and animated textures
     private BufferedImage texture;  // Static texture or current frame for backward compatibility
     private AnimatedTexture animatedTexture;  // Animated texture support (GIF)
+    private Playhead playhead;  // Current frame of the animated texture (global clock)
     private int textureWidth;
     private int textureHeight;
 
@@ -59,6 +60,10 @@ public class Bone {
     private double worldRotation;
     private boolean transformDirty = true;
 
+    // Bumped on this bone and its ancestors whenever children or z-order change in
+    // its subtree, so a compiled skeleton knows to re-flatten (see Skeleton.draw)
+    private int structureVersion = 0;
+
     /**
      * Creates a new bone with a name.
      * @param name Unique identifier for this bone
@@ -91,6 +96,7 @@ public class Bone {
         AssetLoader.ImageAsset asset = AssetLoader.load(path);
         this.texture = asset.staticImage;
         this.animatedTexture = asset.animatedTexture;
+        this.playhead = createPlayhead(animatedTexture);
         // Invalidate tinted texture cache when base texture changes
         this.tintedTexture = null;
         if (this.texture != null) {
@@ -105,6 +111,7 @@ public class Bone {
             this.textureWidth = 0;
             this.textureHeight = 0;
             this.animatedTexture = null;
+            this.playhead = null;
             System.out.println("Bone '" + name + "' texture not found: " + path +
                               " (using placeholder color)");
         }
@@ -115,12 +122,14 @@ public class Bone {
      * @param deltaMs Time elapsed since last update in milliseconds
      */
     public void updateAnimation(long deltaMs) {
-        if (animatedTexture != null && animatedTexture.isAnimated()) {
-            animatedTexture.update(deltaMs);
+        if (playhead != null) {
             // Update the static texture reference for tinting compatibility
-            texture = animatedTexture.getCurrentFrame();
-            // Invalidate tint cache when frame changes
-            tintedTexture = null;
+            BufferedImage frame = playhead.getFrame();
+            if (frame != texture) {
+                texture = frame;
+                // Invalidate tint cache when frame changes
+                tintedTexture = null;
+            }
         }
         // Update children recursively
         for (Bone child : children) {
@@ -128,6 +137,13 @@ public class Bone {
         }
     }
 
+    /**
+     * Creates a playhead for a multi-frame texture (frames follow the global AnimationClock).
+     */
+    private static Playhead createPlayhead(AnimatedTexture animTex) {
+        return (animTex != null && animTex.isAnimated()) ? new Playhead(animTex.getClip()) : null;
+    }
+
     /**
      * Checks if this bone has an animated texture.
      * @return true if the texture is animated (multi-frame GIF)
@@ -150,6 +166,7 @@ public class Bone {
      */
     public void setAnimatedTexture(AnimatedTexture animTex) {
         this.animatedTexture = animTex;
+        this.playhead = createPlayhead(animTex);
         if (animTex != null) {
             this.texture = animTex.getCurrentFrame();
             this.textureWidth = animTex.getWidth();
@@ -166,6 +183,7 @@ public class Bone {
     public void setTexture(BufferedImage texture) {
         this.texture = texture;
         this.animatedTexture = null;  // Clear animated texture when setting static
+        this.playhead = null;
         // Invalidate tinted texture cache when base texture changes
         this.tintedTexture = null;
         if (texture != null) {
@@ -215,6 +233,22 @@ public class Bone {
         markTransformDirty();
     }
 
+    /**
+     * Gets the animation scale X value.
+     * @return Animation scale X
+     */
+    public double getScaleX() {
+        return scaleX;
+    }
+
+    /**
+     * Gets the animation scale Y value.
+     * @return Animation scale Y
+     */
+    public double getScaleY() {
+        return scaleY;
+    }
+
     /**
      * Sets the base/customization scale factors.
      * This scale persists through animation changes and is multiplied with animation scale.
@@ -370,6 +404,7 @@ public class Bone {
         child.parent = this;
         children.add(child);
         child.markTransformDirty();
+        bumpStructureVersion();
     }
 
     /**
@@ -379,6 +414,7 @@ public class Bone {
     public void removeChild(Bone child) {
         if (children.remove(child)) {
             child.parent = null;
+            bumpStructureVersion();
         }
     }
 
@@ -423,7 +459,10 @@ public class Bone {
      * @param zOrder Z-order value
      */
     public void setZOrder(int zOrder) {
-        this.zOrder = zOrder;
+        if (this.zOrder != zOrder) {
+            this.zOrder = zOrder;
+            bumpStructureVersion();
+        }
     }
 
     /**
@@ -528,28 +567,32 @@ public class Bone {
 
         // Save the current transform (includes camera transform in scrolling levels)
         AffineTransform oldTransform = g.getTransform();
+        drawAt(g, oldTransform, new AffineTransform(), worldX, worldY, worldRotation, rootScale);
 
-        // Calculate the scaled dimensions (baseScale * animationScale)
-        double totalScaleX = baseScaleX * scaleX;
-        double totalScaleY = baseScaleY * scaleY;
-        int drawWidth = (int)(texW * rootScale * totalScaleX);
-        int drawHeight = (int)(texH * rootScale * totalScaleY);
-
-        // Calculate pivot in pixels
-        double pivotPixelX = drawWidth * pivotX;
-        double pivotPixelY = drawHeight * pivotY;
+        // Restore transform
+        g.setTransform(oldTransform);
+    }
 
-        // Create transform: translate to world position, rotate around pivot
-        AffineTransform boneTransform = new AffineTransform();
-        boneTransform.translate(worldX, worldY);
-        boneTransform.rotate(Math.toRadians(worldRotation));
-        boneTransform.translate(-pivotPixelX, -pivotPixelY);
-        boneTransform.scale(rootScale * totalScaleX, rootScale * totalScaleY);
+    /**
+     * Draws this bone at a precomputed world transform. Does not allocate: the bone
+     * transform is built in the caller's scratch transform, and the caller restores
+     * the graphics transform afterwards.
+     * @param g Graphics context
+     * @param base Transform to draw relative to (camera/flip), not modified
+     * @param work Scratch transform, overwritten
+     * @param boneX World X of the bone's pivot
+     * @param boneY World Y of the bone's pivot
+     * @param boneRotation World rotation in degrees
+     * @param rootScale Skeleton scale factor
+     */
+    void drawAt(Graphics2D g, AffineTransform base, AffineTransform work,
+                double boneX, double boneY, double boneRotation, double rootScale) {
+        // Use default size if no texture
+        int texW = textureWidth > 0 ? textureWidth : defaultWidth;
+        int texH = textureHeight > 0 ? textureHeight : defaultHeight;
 
-        // Concatenate with existing transform (preserves camera transform)
-        AffineTransform combined = new AffineTransform(oldTransform);
-        combined.concatenate(boneTransform);
-        g.setTransform(combined);
+        buildTransform(work, base, boneX, boneY, boneRotation, rootScale);
+        g.setTransform(work);
 
         // Draw the texture or a placeholder
         if (texture != null) {
@@ -575,9 +618,50 @@ public class Bone {
             g.setColor(Color.BLACK);
             g.drawRect(0, 0, texW - 1, texH - 1);
         }
+    }
 
-        // Restore transform
-        g.setTransform(oldTransform);
+    /**
+     * Builds this bone's drawing transform into work: the base transform (camera/flip),
+     * then translate to world position, rotate around the pivot and scale.
+     * @param base Transform to start from, or null for identity
+     */
+    private void buildTransform(AffineTransform work, AffineTransform base,
+                                double boneX, double boneY, double boneRotation, double rootScale) {
+        // Use default size if no texture
+        int texW = textureWidth > 0 ? textureWidth : defaultWidth;
+        int texH = textureHeight > 0 ? textureHeight : defaultHeight;
+
+        // Calculate the scaled dimensions (baseScale * animationScale)
+        double totalScaleX = baseScaleX * scaleX;
+        double totalScaleY = baseScaleY * scaleY;
+        int drawWidth = (int)(texW * rootScale * totalScaleX);
+        int drawHeight = (int)(texH * rootScale * totalScaleY);
+
+        // Calculate pivot in pixels
+        double pivotPixelX = drawWidth * pivotX;
+        double pivotPixelY = drawHeight * pivotY;
+
+        if (base != null) {
+            work.setTransform(base);
+        } else {
+            work.setToIdentity();
+        }
+        work.translate(boneX, boneY);
+        work.rotate(Math.toRadians(boneRotation));
+        work.translate(-pivotPixelX, -pivotPixelY);
+        work.scale(rootScale * totalScaleX, rootScale * totalScaleY);
+    }
+
+    /**
+     * Gets the area this bone covers when drawn at the given world transform
+     * (in skeleton space, before any camera or flip transform).
+     */
+    java.awt.geom.Rectangle2D getDrawBounds(AffineTransform work,
+                                            double boneX, double boneY, double boneRotation, double rootScale) {
+        int texW = textureWidth > 0 ? textureWidth : defaultWidth;
+        int texH = textureHeight > 0 ? textureHeight : defaultHeight;
+        buildTransform(work, null, boneX, boneY, boneRotation, rootScale);
+        return work.createTransformedShape(new Rectangle(0, 0, texW, texH)).getBounds2D();
     }
 
     // ==================== Transform Calculation ====================
@@ -640,6 +724,29 @@ public class Bone {
         }
     }
 
+    /**
+     * Stores a world transform computed by a compiled Skeleton.
+     */
+    void setWorldTransform(double x, double y, double rotation) {
+        this.worldX = x;
+        this.worldY = y;
+        this.worldRotation = rotation;
+        this.transformDirty = false;
+    }
+
+    /**
+     * Version counter for hierarchy and z-order changes in this bone's subtree.
+     */
+    int getStructureVersion() {
+        return structureVersion;
+    }
+
+    private void bumpStructureVersion() {
+        for (Bone bone = this; bone != null; bone = bone.parent) {
+            bone.structureVersion++;
+        }
+    }
+
     /**
      * Gets the calculated world X position.
      * @return World X coordinate
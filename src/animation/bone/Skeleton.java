@@ -32,6 +32,30 @@ public class Skeleton {
 
     // Rendering options
     private boolean debugDraw = false;
+    private static final Font DEBUG_FONT = new Font("Arial", Font.PLAIN, 10);
+
+    // Compiled bone list for drawing: bones in parent-before-child order with
+    // parent indices, the z-sorted draw order, and per-frame world transforms.
+    // Rebuilt only when the root or any bone's children/z-order change.
+    private Bone[] flatBones = new Bone[0];
+    private int[] parentIndex = new int[0];
+    private int[] drawOrder = new int[0];
+    private double[] worldX = new double[0];
+    private double[] worldY = new double[0];
+    private double[] worldRotation = new double[0];
+    private Bone compiledRoot;
+    private int compiledVersion = -1;
+    private final java.awt.geom.AffineTransform boneTransform = new java.awt.geom.AffineTransform();
+    private final java.awt.geom.AffineTransform baseTransform = new java.awt.geom.AffineTransform();
+
+    // Baked animation playback (see AnimationBaker). Only skeletons with a bake key
+    // are baked; the key names the skeleton type and texture set.
+    private String bakeKey;
+    private AnimationBaker.BakedAnimation baked;
+    private BoneAnimation bakedAnimation;
+    private double bakedScale;
+    private int bakedAppearance;
+    private boolean poseStale = false;  // Bones not posed since update() skipped keyframes
 
     /**
      * Creates an empty skeleton.
@@ -217,6 +241,25 @@ public class Skeleton {
         return flipX;
     }
 
+    /**
+     * Enables baked animation playback. Skeletons sharing a bake key must have the
+     * same bones, rest pose, textures and animations (e.g. one mob type and texture
+     * set); tints and bone visibility are checked separately.
+     * @param bakeKey Skeleton type key, or null to always draw live
+     */
+    public void setBakeKey(String bakeKey) {
+        this.bakeKey = bakeKey;
+        this.baked = null;
+    }
+
+    /**
+     * Gets the bake key.
+     * @return Bake key, or null if this skeleton is always drawn live
+     */
+    public String getBakeKey() {
+        return bakeKey;
+    }
+
     // ==================== Animation Management ====================
 
     /**
@@ -325,7 +368,13 @@ public class Skeleton {
         // Update current animation
         if (currentAnimation != null) {
             currentAnimation.update(deltaTime);
-            applyAnimation(currentAnimation);
+            if (nextAnimation == null && canDrawBaked()) {
+                // Baked frames are drawn from the playback time alone
+                poseStale = true;
+            } else {
+                applyAnimation(currentAnimation);
+                poseStale = false;
+            }
         }
 
         // Handle animation blending
@@ -467,18 +516,28 @@ public class Skeleton {
 
         Graphics2D g2d = (Graphics2D) g;
 
-        // Save current transform
+        // Save current transform (the only copy per draw; the flipped base reuses a scratch transform)
         java.awt.geom.AffineTransform oldTransform = g2d.getTransform();
+        baseTransform.setTransform(oldTransform);
 
         // Apply flip if needed
         if (flipX) {
-            g2d.translate(x, 0);
-            g2d.scale(-1, 1);
-            g2d.translate(-x, 0);
+            baseTransform.translate(x, 0);
+            baseTransform.scale(-1, 1);
+            baseTransform.translate(-x, 0);
+            g2d.setTransform(baseTransform);
         }
 
-        // Draw the bone hierarchy
-        rootBone.draw(g2d, x, y, scale);
+        // Draw a baked frame, or the bone hierarchy while blending
+        ensureCompiled();
+        if (!canDrawBaked() || !drawBaked(g2d)) {
+            if (poseStale && currentAnimation != null) {
+                applyAnimation(currentAnimation);
+                poseStale = false;
+            }
+            updateWorldTransforms(x, y, scale);
+            drawPose(g2d, baseTransform, scale);
+        }
 
         // Debug drawing
         if (debugDraw) {
@@ -489,6 +548,226 @@ public class Skeleton {
         g2d.setTransform(oldTransform);
     }
 
+    /**
+     * Checks whether the current frame can come from baked animation frames.
+     */
+    private boolean canDrawBaked() {
+        if (bakeKey == null || currentAnimation == null || nextAnimation != null || debugDraw) {
+            return false;
+        }
+        ensureCompiled();
+        for (Bone bone : flatBones) {
+            if (bone.isAnimated()) return false; // GIF textures change independently
+        }
+        return true;
+    }
+
+    /**
+     * Draws the current animation frame from the shared baked cache.
+     * @return False if there was nothing baked to draw
+     */
+    private boolean drawBaked(Graphics2D g) {
+        int appearance = getAppearanceHash();
+        if (baked == null || baked.isEvicted() || bakedAnimation != currentAnimation
+                || bakedScale != scale || bakedAppearance != appearance) {
+            String key = bakeKey + "|" + currentAnimation.getName() + "|" + scale + "|" + Integer.toHexString(appearance);
+            baked = AnimationBaker.getInstance().get(key, this, currentAnimation, scale);
+            bakedAnimation = currentAnimation;
+            bakedScale = scale;
+            bakedAppearance = appearance;
+        }
+        if (baked == null) return false;
+
+        int frame = baked.getFrameIndex(currentAnimation.getCurrentTime());
+        java.awt.image.BufferedImage image = baked.getFrame(frame);
+        if (image != null) {
+            g.drawImage(image, (int) Math.floor(x) + baked.getOffsetX(frame),
+                    (int) Math.floor(y) + baked.getOffsetY(frame), null);
+        }
+        return true;
+    }
+
+    /**
+     * Hash of the per-instance appearance that baked frames depend on (tints, visibility).
+     */
+    private int getAppearanceHash() {
+        int hash = 1;
+        for (Bone bone : flatBones) {
+            Color tint = bone.getTintColor();
+            hash = 31 * hash + (tint != null ? tint.getRGB() : 0);
+            hash = 31 * hash + (bone.isVisible() ? 1 : 0);
+        }
+        return hash;
+    }
+
+    // ==================== Baking Support (used by AnimationBaker) ====================
+
+    /**
+     * Captures every bone's animated state so baking can restore it afterwards.
+     */
+    double[] capturePose() {
+        ensureCompiled();
+        double[] pose = new double[flatBones.length * 5];
+        for (int i = 0; i < flatBones.length; i++) {
+            Bone bone = flatBones[i];
+            pose[i * 5] = bone.getLocalX();
+            pose[i * 5 + 1] = bone.getLocalY();
+            pose[i * 5 + 2] = bone.getRotation();
+            pose[i * 5 + 3] = bone.getScaleX();
+            pose[i * 5 + 4] = bone.getScaleY();
+        }
+        return pose;
+    }
+
+    /**
+     * Restores a pose captured by capturePose().
+     */
+    void restorePose(double[] pose) {
+        for (int i = 0; i < flatBones.length && i * 5 < pose.length; i++) {
+            Bone bone = flatBones[i];
+            bone.setLocalPosition(pose[i * 5], pose[i * 5 + 1]);
+            bone.setRotation(pose[i * 5 + 2]);
+            bone.setScale(pose[i * 5 + 3], pose[i * 5 + 4]);
+        }
+    }
+
+    /**
+     * Poses the skeleton at one time of an animation, starting from the rest pose so the
+     * result does not depend on what played before, with the root at (0, 0).
+     */
+    void poseForBake(BoneAnimation animation, double time, double bakeScale) {
+        ensureCompiled();
+        for (Bone bone : flatBones) {
+            double[] rest = restPositions.get(bone.getName());
+            if (rest != null) {
+                bone.setLocalPosition(rest[0], rest[1]);
+                bone.setRotation(rest[2]);
+                bone.setScale(1.0, 1.0);
+            }
+        }
+        animation.setCurrentTime(time);
+        applyAnimation(animation);
+        updateWorldTransforms(0, 0, bakeScale);
+    }
+
+    /**
+     * Gets the area covered by the current pose (after poseForBake), or null if nothing is visible.
+     */
+    java.awt.geom.Rectangle2D getPoseBounds(double bakeScale) {
+        java.awt.geom.Rectangle2D bounds = null;
+        for (int i = 0; i < flatBones.length; i++) {
+            Bone bone = flatBones[i];
+            if (!bone.isVisible()) continue;
+            java.awt.geom.Rectangle2D b = bone.getDrawBounds(boneTransform, worldX[i], worldY[i], worldRotation[i], bakeScale);
+            if (bounds == null) {
+                bounds = b;
+            } else {
+                bounds.add(b);
+            }
+        }
+        return bounds;
+    }
+
+    /**
+     * Draws the bones at their computed world transforms in z-order, then restores base.
+     * @param rootScale Scale the world transforms were computed with
+     */
+    void drawPose(Graphics2D g2d, java.awt.geom.AffineTransform base, double rootScale) {
+        for (int i = 0; i < drawOrder.length; i++) {
+            int b = drawOrder[i];
+            Bone bone = flatBones[b];
+            if (bone.isVisible()) {
+                bone.drawAt(g2d, base, boneTransform, worldX[b], worldY[b], worldRotation[b], rootScale);
+            }
+        }
+        g2d.setTransform(base);
+    }
+
+    private void ensureCompiled() {
+        if (compiledRoot != rootBone || (rootBone != null && compiledVersion != rootBone.getStructureVersion())) {
+            compileBones();
+        }
+    }
+
+    /**
+     * Flattens the bone tree into arrays (depth-first, so every parent comes
+     * before its children) and sorts the draw order by z-order. Ties keep
+     * depth-first order, matching Bone.draw().
+     */
+    private void compileBones() {
+        ArrayList<Bone> bones = new ArrayList<>();
+        ArrayList<Integer> parents = new ArrayList<>();
+        if (rootBone != null) {
+            flattenBone(rootBone, -1, bones, parents);
+        }
+
+        int count = bones.size();
+        flatBones = bones.toArray(new Bone[0]);
+        parentIndex = new int[count];
+        drawOrder = new int[count];
+        worldX = new double[count];
+        worldY = new double[count];
+        worldRotation = new double[count];
+
+        for (int i = 0; i < count; i++) {
+            parentIndex[i] = parents.get(i);
+
+            // Stable insertion sort by z-order
+            int z = flatBones[i].getZOrder();
+            int j = i;
+            while (j > 0 && flatBones[drawOrder[j - 1]].getZOrder() > z) {
+                drawOrder[j] = drawOrder[j - 1];
+                j--;
+            }
+            drawOrder[j] = i;
+        }
+
+        compiledRoot = rootBone;
+        compiledVersion = rootBone != null ? rootBone.getStructureVersion() : 0;
+    }
+
+    private void flattenBone(Bone bone, int parent, ArrayList<Bone> bones, ArrayList<Integer> parents) {
+        int index = bones.size();
+        bones.add(bone);
+        parents.add(parent);
+        for (Bone child : bone.getChildren()) {
+            flattenBone(child, index, bones, parents);
+        }
+    }
+
+    /**
+     * Computes every bone's world transform in one pass over the flattened list.
+     * Same math as Bone.draw(): local offsets are scaled by the skeleton scale and
+     * the parent's base scale, then rotated by the parent's world rotation.
+     * Results are also stored on the bones so getWorldX/Y stay valid.
+     */
+    private void updateWorldTransforms(double rootX, double rootY, double rootScale) {
+        for (int i = 0; i < flatBones.length; i++) {
+            Bone bone = flatBones[i];
+            int p = parentIndex[i];
+            if (p < 0) {
+                worldRotation[i] = bone.getRotation();
+                worldX[i] = rootX + bone.getLocalX() * rootScale;
+                worldY[i] = rootY + bone.getLocalY() * rootScale;
+            } else {
+                Bone parent = flatBones[p];
+                double parentRotation = worldRotation[p];
+                worldRotation[i] = parentRotation + bone.getRotation();
+
+                double scaledLocalX = bone.getLocalX() * rootScale * parent.getBaseScaleX();
+                double scaledLocalY = bone.getLocalY() * rootScale * parent.getBaseScaleY();
+
+                double rad = Math.toRadians(parentRotation);
+                double cos = Math.cos(rad);
+                double sin = Math.sin(rad);
+
+                worldX[i] = worldX[p] + scaledLocalX * cos - scaledLocalY * sin;
+                worldY[i] = worldY[p] + scaledLocalX * sin + scaledLocalY * cos;
+            }
+            bone.setWorldTransform(worldX[i], worldY[i], worldRotation[i]);
+        }
+    }
+
     /**
      * Draws debug information (bone positions, pivots, etc.).
      */
@@ -506,7 +785,7 @@ public class Skeleton {
             g.fillOval(bx - 3, by - 3, 6, 6);
 
             // Draw bone name
-            g.setFont(new Font("Arial", Font.PLAIN, 10));
+            g.setFont(DEBUG_FONT);
             g.drawString(bone.getName(), bx + 5, by - 5);
         }
     }
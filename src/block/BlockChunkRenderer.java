@@ -0,0 +1,173 @@
+package block;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Draws a BlockGrid's static terrain from pre-rendered chunk images.
+ *
+ * Each BlockGrid chunk (CHUNK_SIZE x CHUNK_SIZE cells) is baked into one
+ * off-screen image the first time it comes into view, so drawing the terrain
+ * costs one blit per visible chunk instead of one or two per block. A chunk is
+ * re-baked only when its BlockGrid version changes (a block inside it was
+ * placed, mined, broken, tinted or re-overlaid).
+ *
+ * Animated and off-grid blocks are never baked (see BlockEntity.isStaticTerrain)
+ * and keep drawing individually every frame.
+ *
+ * Only chunks near the view are kept; the least recently drawn are evicted and
+ * their images reused.
+ */
+public class BlockChunkRenderer {
+
+    public static final int MAX_CACHED_CHUNKS = 48;
+
+    private final BlockGrid grid;
+    private final int chunkPixels;
+
+    // Baked chunks by chunk index, in least-recently-drawn order
+    private final LinkedHashMap<Integer, BakedChunk> cache = new LinkedHashMap<>(64, 0.75f, true);
+    private final ArrayDeque<BufferedImage> spareImages = new ArrayDeque<>();
+
+    // Stats for the debug overlay
+    private int chunksDrawn;
+    private int chunksBaked;
+
+    /**
+     * One baked chunk. The image is null when the chunk has no static blocks.
+     */
+    private static class BakedChunk {
+        int version;
+        BufferedImage image;
+    }
+
+    public BlockChunkRenderer(BlockGrid grid) {
+        this.grid = grid;
+        this.chunkPixels = BlockGrid.CHUNK_SIZE * BlockRegistry.BLOCK_SIZE;
+    }
+
+    /**
+     * Draw the static terrain overlapping a world-space view.
+     * The graphics context must already have the camera transform applied.
+     */
+    public void draw(Graphics2D g, int viewX, int viewY, int viewWidth, int viewHeight) {
+        int minChunkX = Math.max(0, Math.floorDiv(viewX, chunkPixels));
+        int minChunkY = Math.max(0, Math.floorDiv(viewY, chunkPixels));
+        int maxChunkX = Math.min(grid.getChunkCols() - 1, Math.floorDiv(viewX + viewWidth - 1, chunkPixels));
+        int maxChunkY = Math.min(grid.getChunkRows() - 1, Math.floorDiv(viewY + viewHeight - 1, chunkPixels));
+
+        chunksDrawn = 0;
+        chunksBaked = 0;
+        int visible = 0;
+        for (int cy = minChunkY; cy <= maxChunkY; cy++) {
+            for (int cx = minChunkX; cx <= maxChunkX; cx++) {
+                visible++;
+                int key = cy * grid.getChunkCols() + cx;
+                int version = grid.getChunkVersion(cx, cy);
+
+                BakedChunk chunk = cache.get(key);
+                if (chunk == null) {
+                    chunk = new BakedChunk();
+                    bake(chunk, cx, cy);
+                    chunk.version = version;
+                    cache.put(key, chunk);
+                } else if (chunk.version != version) {
+                    bake(chunk, cx, cy);
+                    chunk.version = version;
+                }
+
+                if (chunk.image != null) {
+                    g.drawImage(chunk.image, cx * chunkPixels, cy * chunkPixels, null);
+                    chunksDrawn++;
+                }
+            }
+        }
+
+        // Evict the least recently drawn chunks (never the ones drawn this frame)
+        int limit = Math.max(MAX_CACHED_CHUNKS, visible);
+        Iterator<Map.Entry<Integer, BakedChunk>> it = cache.entrySet().iterator();
+        while (cache.size() > limit && it.hasNext()) {
+            BakedChunk evicted = it.next().getValue();
+            if (evicted.image != null) {
+                spareImages.push(evicted.image);
+            }
+            it.remove();
+        }
+    }
+
+    /**
+     * Render every static block of a chunk into the chunk's image.
+     */
+    private void bake(BakedChunk chunk, int chunkX, int chunkY) {
+        chunksBaked++;
+        int minX = chunkX * BlockGrid.CHUNK_SIZE;
+        int minY = chunkY * BlockGrid.CHUNK_SIZE;
+        int maxX = Math.min(grid.getCols(), minX + BlockGrid.CHUNK_SIZE);
+        int maxY = Math.min(grid.getRows(), minY + BlockGrid.CHUNK_SIZE);
+
+        Graphics2D g = null;
+        for (int gy = minY; gy < maxY; gy++) {
+            for (int gx = minX; gx < maxX; gx++) {
+                BlockEntity block = grid.getBlock(gx, gy);
+                if (block == null || block.isBroken() || !block.isStaticTerrain()) continue;
+
+                if (g == null) {
+                    if (chunk.image == null) {
+                        chunk.image = spareImages.isEmpty() ? createChunkImage() : spareImages.pop();
+                    }
+                    g = chunk.image.createGraphics();
+                    g.setComposite(AlphaComposite.Clear);
+                    g.fillRect(0, 0, chunkPixels, chunkPixels);
+                    g.setComposite(AlphaComposite.SrcOver);
+                    g.translate(-chunkX * chunkPixels, -chunkY * chunkPixels);
+                }
+                block.drawTerrain(g);
+            }
+        }
+
+        if (g != null) {
+            g.dispose();
+        } else if (chunk.image != null) {
+            // Chunk was emptied (everything mined) - free its image
+            spareImages.push(chunk.image);
+            chunk.image = null;
+        }
+    }
+
+    /**
+     * Create a chunk image in the screen's native format when there is a screen,
+     * so Java2D can keep it accelerated.
+     */
+    private BufferedImage createChunkImage() {
+        if (!GraphicsEnvironment.isHeadless()) {
+            try {
+                GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                        .getDefaultScreenDevice().getDefaultConfiguration();
+                return config.createCompatibleImage(chunkPixels, chunkPixels, Transparency.TRANSLUCENT);
+            } catch (Exception e) {
+                System.err.println("BlockChunkRenderer: Falling back to ARGB chunk images: " + e.getMessage());
+            }
+        }
+        return new BufferedImage(chunkPixels, chunkPixels, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    /**
+     * Drop all baked chunks (e.g. after textures are reloaded).
+     */
+    public void invalidateAll() {
+        for (BakedChunk chunk : cache.values()) {
+            if (chunk.image != null) {
+                spareImages.push(chunk.image);
+            }
+        }
+        cache.clear();
+    }
+
+    public int getCachedChunkCount() { return cache.size(); }
+    public int getChunksDrawn() { return chunksDrawn; }
+    public int getChunksBaked() { return chunksBaked; }
+}
@@ -1,6 +1,7 @@
 package block;
 import entity.*;
 import entity.item.ItemEntity;
+import entity.item.ItemRegistry;
 import audio.*;
 
 import java.awt.*;
@@ -27,6 +28,10 @@ public class BlockEntity extends Entity {
     private final BlockType blockType;
     private final int size;
     private BufferedImage texture;
+    private final boolean animated; // Texture is an animated GIF (see BlockRegistry.isAnimated)
+
+    // Mining progress highlight (shared, drawn only on the targeted block)
+    private static final Color DAMAGE_HIGHLIGHT = new Color(255, 0, 0, 50);
 
     // Optional color tinting
     private boolean hasTint = false;
@@ -38,6 +43,9 @@ public class BlockEntity extends Entity {
     private int gridX;
     private int gridY;
 
+    // Grid this block is indexed in (notified on changes), or null
+    private BlockGrid grid = null;
+
     // Block state
     private boolean broken = false;
     private boolean targeted = false; // Whether this block is currently being targeted by player
@@ -76,6 +84,7 @@ public class BlockEntity extends Entity {
         this.blockType = blockType;
         this.size = BlockRegistry.BLOCK_SIZE;
         this.texture = BlockRegistry.getInstance().getTexture(blockType);
+        this.animated = BlockRegistry.getInstance().isAnimated(blockType);
 
         // Calculate grid position
         this.gridX = x / BlockRegistry.BLOCK_SIZE;
@@ -99,6 +108,7 @@ public class BlockEntity extends Entity {
         this.blockType = blockType;
         this.size = BlockRegistry.BLOCK_SIZE;
         this.texture = BlockRegistry.getInstance().getTexture(blockType);
+        this.animated = BlockRegistry.getInstance().isAnimated(blockType);
 
         if (useGridCoords) {
             this.gridX = gridX;
@@ -142,6 +152,16 @@ public class BlockEntity extends Entity {
         if (broken) return; // Don't draw broken blocks
 
         Graphics2D g2d = (Graphics2D) g;
+        drawTerrain(g2d);
+        drawMiningHighlight(g2d);
+    }
+
+    /**
+     * Draws the visible (unmined) portion of the texture and overlay.
+     * This is the part BlockChunkRenderer bakes into chunk images.
+     */
+    void drawTerrain(Graphics2D g2d) {
+        if (broken) return;
 
         // Calculate the visible portion of the block
         int leftOffset = damageLeft * LAYER_SIZE;
@@ -154,8 +174,11 @@ public class BlockEntity extends Entity {
 
         if (visibleWidth <= 0 || visibleHeight <= 0) return;
 
+        // Animated blocks show the registry's current frame (tinted ones stay static)
+        BufferedImage image = (animated && !hasTint) ? BlockRegistry.getInstance().getTexture(blockType) : texture;
+
         // Draw the visible portion of the texture
-        if (texture != null) {
+        if (image != null) {
             // Source rectangle (from texture)
             int srcX = leftOffset;
             int srcY = topOffset;
@@ -166,7 +189,7 @@ public class BlockEntity extends Entity {
             int destX = x + leftOffset;
             int destY = y + topOffset;
 
-            g2d.drawImage(texture,
+            g2d.drawImage(image,
                 destX, destY, destX + visibleWidth, destY + visibleHeight,  // destination
                 srcX, srcY, srcX + srcWidth, srcY + srcHeight,              // source
                 null);
@@ -180,16 +203,23 @@ public class BlockEntity extends Entity {
             }
         } else {
             // Fallback rendering
-            g.setColor(Color.MAGENTA);
-            g.fillRect(x + leftOffset, y + topOffset, visibleWidth, visibleHeight);
-            g.setColor(Color.BLACK);
-            g.drawRect(x + leftOffset, y + topOffset, visibleWidth - 1, visibleHeight - 1);
+            g2d.setColor(Color.MAGENTA);
+            g2d.fillRect(x + leftOffset, y + topOffset, visibleWidth, visibleHeight);
+            g2d.setColor(Color.BLACK);
+            g2d.drawRect(x + leftOffset, y + topOffset, visibleWidth - 1, visibleHeight - 1);
         }
+    }
 
+    /**
+     * Draws the red mining-progress highlight if the player is targeting this block,
+     * then clears the targeted flag (the player sets it again every frame).
+     * Baked blocks still call this each frame since it changes too often to bake.
+     */
+    public void drawMiningHighlight(Graphics2D g2d) {
         // Draw damage indicators only when block is currently targeted
         // Red overlay shows mining progress only on the actively targeted block
-        if (hasDamage() && targeted) {
-            g2d.setColor(new Color(255, 0, 0, 50));
+        if (hasDamage() && targeted && !broken) {
+            g2d.setColor(DAMAGE_HIGHLIGHT);
             // Show mined areas
             if (damageLeft > 0) {
                 g2d.fillRect(x, y, damageLeft * LAYER_SIZE, size);
@@ -209,6 +239,23 @@ public class BlockEntity extends Entity {
         targeted = false;
     }
 
+    /**
+     * Checks if this block is drawn from its grid's baked chunk layer rather than
+     * individually: indexed in a grid, inside the grid bounds, grid-aligned and not animated.
+     */
+    public boolean isStaticTerrain() {
+        return grid != null && !animated
+            && x == gridX * size && y == gridY * size
+            && grid.isInBounds(gridX, gridY);
+    }
+
+    /**
+     * Checks if this block's texture is animated (drawn every frame, never baked).
+     */
+    public boolean isAnimated() {
+        return animated;
+    }
+
     /**
      * Mines one layer from the specified direction.
      * If block has an overlay that blocks base mining, overlay is damaged first.
@@ -229,6 +276,7 @@ public class BlockEntity extends Entity {
                 overlay = BlockOverlay.NONE;
                 overlayTexture = null;
                 overlayDamage = 0;
+                notifyGrid();
             }
             return false; // Block not broken yet, only overlay was damaged
         }
@@ -247,6 +295,7 @@ public class BlockEntity extends Entity {
                 damageBottom = Math.min(MAX_LAYERS, damageBottom + 1);
                 break;
         }
+        notifyGrid();
 
         // Check if block is fully broken (any direction reached max)
         if (damageLeft >= MAX_LAYERS || damageRight >= MAX_LAYERS ||
@@ -290,6 +339,9 @@ public class BlockEntity extends Entity {
      */
     public void setTargeted(boolean targeted) {
         this.targeted = targeted;
+        if (targeted && grid != null) {
+            grid.onBlockTargeted(this);
+        }
     }
 
     /**
@@ -379,6 +431,7 @@ public class BlockEntity extends Entity {
         this.texture = BlockRegistry.getInstance().getTintedTexture(
             blockType, tintRed, tintGreen, tintBlue
         );
+        notifyGrid();
     }
 
     /**
@@ -390,6 +443,7 @@ public class BlockEntity extends Entity {
         this.tintGreen = 255;
         this.tintBlue = 255;
         this.texture = BlockRegistry.getInstance().getTexture(blockType);
+        notifyGrid();
     }
 
     /**
@@ -430,6 +484,7 @@ public class BlockEntity extends Entity {
         } else {
             this.overlayTexture = null;
         }
+        notifyGrid();
     }
 
     /**
@@ -455,6 +510,7 @@ public class BlockEntity extends Entity {
         this.overlay = BlockOverlay.NONE;
         this.overlayTexture = null;
         this.overlayDamage = 0;
+        notifyGrid();
     }
 
     /**
@@ -480,10 +536,41 @@ public class BlockEntity extends Entity {
      * @param newGridY New grid Y coordinate
      */
     public void setGridPosition(int newGridX, int newGridY) {
+        // Re-index so the grid never holds a block under its old cell
+        BlockGrid indexedIn = grid;
+        if (indexedIn != null) {
+            indexedIn.remove(this);
+        }
         this.gridX = newGridX;
         this.gridY = newGridY;
         this.x = newGridX * BlockRegistry.BLOCK_SIZE;
         this.y = newGridY * BlockRegistry.BLOCK_SIZE;
+        if (indexedIn != null) {
+            indexedIn.add(this);
+        }
+    }
+
+    /**
+     * Sets the grid this block is indexed in. Called by BlockGrid only.
+     */
+    void setGrid(BlockGrid grid) {
+        this.grid = grid;
+    }
+
+    /**
+     * Gets the grid this block is indexed in (null if it is not indexed).
+     */
+    public BlockGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Tells the owning grid (if any) that this block's shape or appearance changed.
+     */
+    private void notifyGrid() {
+        if (grid != null) {
+            grid.onBlockChanged(this);
+        }
     }
 
     /**
@@ -545,6 +632,7 @@ public class BlockEntity extends Entity {
         }
 
         broken = true;
+        notifyGrid();
         BlockAttributes attrs = getAttributes();
 
         // Play break sound
@@ -558,12 +646,23 @@ public class BlockEntity extends Entity {
             int dropX = x + size / 4;
             int dropY = y + size / 4;
 
-            ItemEntity drop = new ItemEntity(
-                dropX, dropY,
-                attrs.getDropSpritePath(),
-                attrs.getDropItemName(),
-                attrs.getDropItemType()
-            );
+            // Registry drops stack, so tunnel debris settles into piles
+            String registryId = findDropRegistryId(attrs.getDropItemName());
+            ItemEntity drop;
+            if (registryId != null) {
+                drop = EntityPools.getInstance().obtainItem(dropX, dropY, registryId);
+            } else {
+                drop = new ItemEntity(
+                    dropX, dropY,
+                    attrs.getDropSpritePath(),
+                    attrs.getDropItemName(),
+                    attrs.getDropItemType()
+                );
+            }
+
+            // Fall onto whatever is below (never past the bottom of the level)
+            int floorY = grid != null ? grid.getRows() * BlockRegistry.BLOCK_SIZE : y + size;
+            drop.enablePhysics(0, -2, floorY);
 
             System.out.println("Block " + blockType.name() + " broken at (" + gridX + "," + gridY +
                              ") - dropped " + attrs.getDropItemName());
@@ -574,6 +673,18 @@ public class BlockEntity extends Entity {
         return null;
     }
 
+    /**
+     * Finds the registry item for a block drop name ("Dirt" is the "Dirt Block" item).
+     * @return Registry ID, or null if the drop has no registry item
+     */
+    private static String findDropRegistryId(String dropName) {
+        String registryId = ItemRegistry.findIdByName(dropName);
+        if (registryId == null) {
+            registryId = ItemRegistry.findIdByName(dropName + " Block");
+        }
+        return registryId;
+    }
+
     /**
      * Called when this block is placed. Plays placement sound.
      *
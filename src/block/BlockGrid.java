@@ -0,0 +1,364 @@
+package block;
+
+import entity.SweptAABB;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grid index of the static blocks in a level.
+ *
+ * Cells inside the level bounds are stored in a dense array so lookups by grid
+ * position are O(1) without hashing; blocks outside the bounds (rare, e.g. hand
+ * placed off the edge) go into an overflow map. Moving blocks are never indexed.
+ *
+ * Blocks registered here notify the grid when they are mined, broken, tinted or
+ * re-overlaid, and the grid forwards that to its listeners (lighting, chunk
+ * caches) along with a per-chunk version number that changes on every edit.
+ *
+ * The grid also owns the per-tile light map that TileLightMap fills in.
+ */
+public class BlockGrid {
+
+    /** Chunk edge length in cells, used for change versioning and caching. */
+    public static final int CHUNK_SIZE = 8;
+
+    /**
+     * Notified whenever a cell's block is added, removed or changes appearance/shape.
+     */
+    public interface ChangeListener {
+        void onBlockChanged(int gridX, int gridY, BlockEntity block);
+    }
+
+    private final int cols;
+    private final int rows;
+    private final BlockEntity[] cells;
+    private final Map<Long, BlockEntity> overflow = new HashMap<>();
+    private int blockCount;
+    private boolean misaligned; // Some block sits off its cell's pixel origin
+
+    // Per-chunk edit counters (bumped on any change inside the chunk)
+    private final int chunkCols;
+    private final int chunkRows;
+    private final int[] chunkVersions;
+
+    // Per-tile light (see TileLightMap): level 0-255 and the index of the light that won the tile
+    private final byte[] lightLevels;
+    private final short[] lightSources;
+
+    private final List<ChangeListener> listeners = new ArrayList<>();
+
+    // Blocks targeted by the player since the last draw (baked blocks draw their highlight from here)
+    private final ArrayList<BlockEntity> targetedBlocks = new ArrayList<>();
+
+    /**
+     * Create a grid covering the level.
+     * @param cols Level width in blocks
+     * @param rows Level height in blocks
+     */
+    public BlockGrid(int cols, int rows) {
+        this.cols = Math.max(1, cols);
+        this.rows = Math.max(1, rows);
+        this.cells = new BlockEntity[this.cols * this.rows];
+        this.chunkCols = (this.cols + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        this.chunkRows = (this.rows + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        this.chunkVersions = new int[chunkCols * chunkRows];
+        this.lightLevels = new byte[this.cols * this.rows];
+        this.lightSources = new short[this.cols * this.rows];
+    }
+
+    /**
+     * Create a grid sized for a level in pixels.
+     */
+    public static BlockGrid forLevel(int levelWidth, int levelHeight) {
+        int size = BlockRegistry.BLOCK_SIZE;
+        return new BlockGrid((levelWidth + size - 1) / size, (levelHeight + size - 1) / size);
+    }
+
+    private static long key(int gridX, int gridY) {
+        return ((long) gridX << 32) | (gridY & 0xFFFFFFFFL);
+    }
+
+    // ==================== Indexing ====================
+
+    /**
+     * Add a block to the grid. Moving blocks are ignored.
+     * A block already in the cell is replaced.
+     */
+    public void add(BlockEntity block) {
+        if (block == null || block instanceof MovingBlockEntity) return;
+
+        int gx = block.getGridX();
+        int gy = block.getGridY();
+        BlockEntity previous;
+        if (isInBounds(gx, gy)) {
+            int index = gy * cols + gx;
+            previous = cells[index];
+            cells[index] = block;
+        } else {
+            previous = overflow.put(key(gx, gy), block);
+        }
+        if (previous == block) return;
+        if (previous != null) {
+            previous.setGrid(null);
+        } else {
+            blockCount++;
+        }
+        block.setGrid(this);
+        if (block.x != gx * BlockRegistry.BLOCK_SIZE || block.y != gy * BlockRegistry.BLOCK_SIZE) {
+            misaligned = true;
+        }
+        fireChanged(gx, gy, block);
+    }
+
+    /**
+     * Remove a block from the grid (no-op if another block owns its cell).
+     */
+    public void remove(BlockEntity block) {
+        if (block == null || block instanceof MovingBlockEntity) return;
+
+        int gx = block.getGridX();
+        int gy = block.getGridY();
+        boolean removed = false;
+        if (isInBounds(gx, gy)) {
+            int index = gy * cols + gx;
+            if (cells[index] == block) {
+                cells[index] = null;
+                removed = true;
+            }
+        } else if (overflow.get(key(gx, gy)) == block) {
+            overflow.remove(key(gx, gy));
+            removed = true;
+        }
+        if (!removed) return;
+
+        blockCount--;
+        block.setGrid(null);
+        fireChanged(gx, gy, null);
+    }
+
+    /**
+     * Remove every block.
+     */
+    public void clear() {
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i] != null) {
+                cells[i].setGrid(null);
+                cells[i] = null;
+            }
+        }
+        for (BlockEntity block : overflow.values()) {
+            block.setGrid(null);
+        }
+        overflow.clear();
+        targetedBlocks.clear();
+        blockCount = 0;
+        misaligned = false;
+        for (int i = 0; i < chunkVersions.length; i++) {
+            chunkVersions[i]++;
+        }
+    }
+
+    /**
+     * Called by an indexed block when its shape or appearance changes.
+     */
+    void onBlockChanged(BlockEntity block) {
+        fireChanged(block.getGridX(), block.getGridY(), block);
+    }
+
+    private void fireChanged(int gridX, int gridY, BlockEntity block) {
+        if (isInBounds(gridX, gridY)) {
+            chunkVersions[(gridY / CHUNK_SIZE) * chunkCols + gridX / CHUNK_SIZE]++;
+        }
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onBlockChanged(gridX, gridY, block);
+        }
+    }
+
+    /**
+     * Called by an indexed block when the player targets it.
+     */
+    void onBlockTargeted(BlockEntity block) {
+        if (!targetedBlocks.contains(block)) {
+            targetedBlocks.add(block);
+        }
+    }
+
+    /**
+     * Gets the blocks targeted since the last draw; the draw pass clears it.
+     */
+    public List<BlockEntity> getTargetedBlocks() {
+        return targetedBlocks;
+    }
+
+    public void addListener(ChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(ChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Get the block at a grid cell.
+     * @return The block, or null if the cell is empty
+     */
+    public BlockEntity getBlock(int gridX, int gridY) {
+        if (isInBounds(gridX, gridY)) {
+            return cells[gridY * cols + gridX];
+        }
+        return overflow.isEmpty() ? null : overflow.get(key(gridX, gridY));
+    }
+
+    /**
+     * Get the block covering a world pixel position.
+     */
+    public BlockEntity getBlockAtPixel(int worldX, int worldY) {
+        return getBlock(Math.floorDiv(worldX, BlockRegistry.BLOCK_SIZE),
+                        Math.floorDiv(worldY, BlockRegistry.BLOCK_SIZE));
+    }
+
+    /**
+     * Check whether a cell holds a solid, unbroken block.
+     */
+    public boolean isSolid(int gridX, int gridY) {
+        BlockEntity block = getBlock(gridX, gridY);
+        return block != null && block.isSolid();
+    }
+
+    /**
+     * Check whether a dense cell index (gridY * cols + gridX) holds a solid block.
+     */
+    public boolean isSolidIndex(int index) {
+        BlockEntity block = cells[index];
+        return block != null && block.isSolid();
+    }
+
+    public boolean isInBounds(int gridX, int gridY) {
+        return gridX >= 0 && gridY >= 0 && gridX < cols && gridY < rows;
+    }
+
+    /**
+     * Extra cells to search around an area so blocks placed off the grid
+     * (pixel-positioned level blocks) are still found: 1 if any exist, else 0.
+     */
+    public int getCellSlack() {
+        return misaligned ? 1 : 0;
+    }
+
+    public int getCols() { return cols; }
+    public int getRows() { return rows; }
+    public int getBlockCount() { return blockCount; }
+
+    // ==================== Sweeps ====================
+
+    /**
+     * Find the first solid block a moving box runs into.
+     *
+     * Walks the cells under the box center along the movement (Amanatides-Woo
+     * grid traversal) and sweeps the box against solid blocks within reach of
+     * each cell, so the cost follows the distance moved rather than the number
+     * of blocks. The walk stops once it passes the earliest hit found.
+     * @param x Box left at the start of the move
+     * @param y Box top at the start of the move
+     * @param w Box width
+     * @param h Box height
+     * @param dx Movement along X
+     * @param dy Movement along Y
+     * @param hit Receives the block and time of impact if earlier than its current hit
+     * @return True if a block was hit before the current hit
+     */
+    public boolean sweepBox(double x, double y, double w, double h, double dx, double dy, SweptAABB.Hit hit) {
+        int size = BlockRegistry.BLOCK_SIZE;
+        double startTime = hit.time;
+        double centerX = x + w / 2;
+        double centerY = y + h / 2;
+
+        // Cells around the center cell that the box can reach
+        int reachX = (int) Math.ceil(w / 2 / size) + getCellSlack();
+        int reachY = (int) Math.ceil(h / 2 / size) + getCellSlack();
+
+        int gx = (int) Math.floor(centerX / size);
+        int gy = (int) Math.floor(centerY / size);
+        int stepX = dx > 0 ? 1 : dx < 0 ? -1 : 0;
+        int stepY = dy > 0 ? 1 : dy < 0 ? -1 : 0;
+
+        // Times at which the center crosses the next vertical / horizontal cell edge
+        double nextX = stepX == 0 ? Double.POSITIVE_INFINITY
+                : ((stepX > 0 ? gx + 1 : gx) * (double) size - centerX) / dx;
+        double nextY = stepY == 0 ? Double.POSITIVE_INFINITY
+                : ((stepY > 0 ? gy + 1 : gy) * (double) size - centerY) / dy;
+        double deltaX = stepX == 0 ? Double.POSITIVE_INFINITY : size / Math.abs(dx);
+        double deltaY = stepY == 0 ? Double.POSITIVE_INFINITY : size / Math.abs(dy);
+
+        double cellTime = 0;
+        int maxSteps = 2 + (int) (Math.abs(dx) / size) + (int) (Math.abs(dy) / size);
+        for (int step = 0; step <= maxSteps; step++) {
+            // Any block reached from here on is hit no earlier than cellTime
+            if (cellTime > 1 || cellTime >= hit.time) break;
+
+            for (int cy = gy - reachY; cy <= gy + reachY; cy++) {
+                for (int cx = gx - reachX; cx <= gx + reachX; cx++) {
+                    BlockEntity block = getBlock(cx, cy);
+                    if (block == null || !block.isSolid()) continue;
+                    hit.offer(SweptAABB.sweep(x, y, w, h, dx, dy, block.getBounds()), block);
+                }
+            }
+
+            if (nextX < nextY) {
+                cellTime = nextX;
+                nextX += deltaX;
+                gx += stepX;
+            } else {
+                cellTime = nextY;
+                nextY += deltaY;
+                gy += stepY;
+            }
+        }
+        return hit.time < startTime;
+    }
+
+    // ==================== Chunks ====================
+
+    public int getChunkCols() { return chunkCols; }
+    public int getChunkRows() { return chunkRows; }
+
+    /**
+     * Get a chunk's edit counter. It changes whenever any block in the chunk is
+     * added, removed, mined, tinted or re-overlaid, so caches can compare it
+     * against the version they were built from.
+     */
+    public int getChunkVersion(int chunkX, int chunkY) {
+        if (chunkX < 0 || chunkY < 0 || chunkX >= chunkCols || chunkY >= chunkRows) return 0;
+        return chunkVersions[chunkY * chunkCols + chunkX];
+    }
+
+    // ==================== Light Map ====================
+
+    /**
+     * Per-tile light levels (0-255 as unsigned bytes), indexed gridY * cols + gridX.
+     * Shared with TileLightMap, which is the only writer.
+     */
+    public byte[] getLightLevels() {
+        return lightLevels;
+    }
+
+    /**
+     * Per-tile index of the light source that lit each tile (shared with TileLightMap).
+     */
+    public short[] getLightSources() {
+        return lightSources;
+    }
+
+    /**
+     * Get the light level of a cell (0 outside the grid).
+     */
+    public int getLight(int gridX, int gridY) {
+        if (!isInBounds(gridX, gridY)) return 0;
+        return lightLevels[gridY * cols + gridX] & 0xFF;
+    }
+}
@@ -89,7 +89,8 @@ public class BlockRegistry {
     /**
      * Gets the texture for a block type, loading it if necessary.
      * The returned texture is already scaled to BLOCK_SIZE.
-     * For animated blocks, returns the current frame.
+     * For animated blocks, returns the frame showing on the global AnimationClock
+     * (every block of a type shares one clip, so nothing needs updating per tick).
      *
      * @param type The block type
      * @return Scaled BufferedImage for the block
@@ -97,7 +98,7 @@ public class BlockRegistry {
     public BufferedImage getTexture(BlockType type) {
         // Check if this is an animated block
         if (animatedTextureCache.containsKey(type)) {
-            return animatedTextureCache.get(type).getCurrentFrame();
+            return animatedTextureCache.get(type).getClip().frameAt(AnimationClock.getTimeMs());
         }
 
         if (textureCache.containsKey(type)) {
@@ -133,18 +134,6 @@ public class BlockRegistry {
         return anim != null && anim.isAnimated();
     }
 
-    /**
-     * Updates all animated block textures.
-     * Call this every frame to advance GIF animations.
-     *
-     * @param deltaMs Time elapsed since last update in milliseconds
-     */
-    public void updateAnimations(long deltaMs) {
-        for (AnimatedTexture anim : animatedTextureCache.values()) {
-            anim.update(deltaMs);
-        }
-    }
-
     /**
      * Loads and caches a texture for a block type.
      * Handles both static and animated textures.
@@ -166,7 +155,7 @@ public class BlockRegistry {
             animatedTextureCache.put(type, scaledAnim);
             System.out.println("BlockRegistry: Loaded animated block texture: " + type.name() +
                               " (" + scaledAnim.getFrameCount() + " frames)");
-            return scaledAnim.getCurrentFrame();
+            return scaledAnim.getClip().frameAt(AnimationClock.getTimeMs());
         } else {
             // Static texture
             BufferedImage scaled = scaleTexture(asset.staticImage);
@@ -245,10 +234,9 @@ public class BlockRegistry {
             scaledFrames.add(scaleTexture(frame));
         }
 
-        // Copy delays from original (approximate - AnimatedTexture doesn't expose delays directly)
-        int avgDelay = source.getTotalDuration() / source.getFrameCount();
+        // Copy per-frame delays from the original clip
         for (int i = 0; i < source.getFrameCount(); i++) {
-            delays.add(avgDelay);
+            delays.add(source.getClip().getDelay(i));
         }
 
         return new AnimatedTexture(scaledFrames, delays);
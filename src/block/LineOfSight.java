@@ -0,0 +1,171 @@
+package block;
+
+import java.util.Arrays;
+
+/**
+ * Line-of-sight checks through the block grid.
+ *
+ * Rays walk the grid cell by cell (Amanatides-Woo) and stop at the first
+ * solid block, so a check costs the length of the ray in cells, not the
+ * number of blocks or entities in the level.
+ *
+ * Cell-to-cell checks are memoized until the next tick (or the next block
+ * change), so mobs sharing a cell, or checking the same target again while
+ * aiming, pay for one ray. canSeeAll checks a batch of viewers in one pass.
+ *
+ * Usage:
+ *   lineOfSight.beginTick();                                   // EntityManager, once per update
+ *   boolean visible = lineOfSight.canSee(eyeX, eyeY, targetX, targetY);
+ */
+public class LineOfSight implements BlockGrid.ChangeListener {
+
+    /** Cell-to-cell rays crossing more cells than this count as blocked. */
+    public static final int MAX_RAY_CELLS = 64;
+
+    private static final int MEMO_SIZE = 4096; // Power of two
+    private static final int MAX_PROBES = 8;
+    private static final byte VISIBLE = 1;
+    private static final byte BLOCKED = 2;
+
+    private final BlockGrid grid;
+
+    // Memo of cell pair -> result, cleared by bumping the stamp
+    private final long[] memoKeys = new long[MEMO_SIZE];
+    private final byte[] memoResults = new byte[MEMO_SIZE];
+    private final int[] memoStamps = new int[MEMO_SIZE];
+    private int stamp = 1;
+
+    // Stats for the debug overlay
+    private int queries, rays;
+    private int queriesLastTick, raysLastTick;
+
+    public LineOfSight(BlockGrid grid) {
+        this.grid = grid;
+        grid.addListener(this);
+    }
+
+    /**
+     * Starts a new tick: forgets the previous tick's results.
+     */
+    public void beginTick() {
+        queriesLastTick = queries;
+        raysLastTick = rays;
+        queries = 0;
+        rays = 0;
+        clearMemo();
+    }
+
+    @Override
+    public void onBlockChanged(int gridX, int gridY, BlockEntity block) {
+        clearMemo();
+    }
+
+    private void clearMemo() {
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(memoStamps, 0);
+            stamp = 1;
+        }
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Checks if the centers of two cells can see each other (blocks in the
+     * two cells themselves do not count).
+     */
+    public boolean canSee(int fromX, int fromY, int toX, int toY) {
+        queries++;
+        // Order the pair so A->B and B->A share one entry and one ray
+        if (fromX > toX || (fromX == toX && fromY > toY)) {
+            int t = fromX; fromX = toX; toX = t;
+            t = fromY; fromY = toY; toY = t;
+        }
+        long key = ((long) (fromX & 0xFFFF) << 48) | ((long) (fromY & 0xFFFF) << 32)
+                | ((long) (toX & 0xFFFF) << 16) | (toY & 0xFFFF);
+
+        int slot = (int) (key ^ (key >>> 29) ^ (key >>> 41)) & (MEMO_SIZE - 1);
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int i = (slot + probe) & (MEMO_SIZE - 1);
+            if (memoStamps[i] != stamp) {
+                boolean visible = traceCells(fromX, fromY, toX, toY);
+                memoStamps[i] = stamp;
+                memoKeys[i] = key;
+                memoResults[i] = visible ? VISIBLE : BLOCKED;
+                return visible;
+            }
+            if (memoKeys[i] == key) {
+                return memoResults[i] == VISIBLE;
+            }
+        }
+        return traceCells(fromX, fromY, toX, toY); // Memo crowded here: just trace
+    }
+
+    /**
+     * Checks if two world points can see each other, at cell resolution.
+     */
+    public boolean canSee(double x0, double y0, double x1, double y1) {
+        int size = BlockRegistry.BLOCK_SIZE;
+        return canSee((int) Math.floor(x0 / size), (int) Math.floor(y0 / size),
+                      (int) Math.floor(x1 / size), (int) Math.floor(y1 / size));
+    }
+
+    /**
+     * Checks a batch of viewer cells against one target cell.
+     * @param fromX Viewer cell columns
+     * @param fromY Viewer cell rows
+     * @param count Number of viewers
+     * @param toX Target cell column
+     * @param toY Target cell row
+     * @param out Receives whether each viewer can see the target
+     */
+    public void canSeeAll(int[] fromX, int[] fromY, int count, int toX, int toY, boolean[] out) {
+        for (int i = 0; i < count; i++) {
+            out[i] = canSee(fromX[i], fromY[i], toX, toY);
+        }
+    }
+
+    /**
+     * Walks the cells strictly between two cell centers.
+     */
+    private boolean traceCells(int fromX, int fromY, int toX, int toY) {
+        rays++;
+        int dx = toX - fromX;
+        int dy = toY - fromY;
+        int steps = Math.abs(dx) + Math.abs(dy);
+        if (steps > MAX_RAY_CELLS) return false;
+
+        int stepX = Integer.signum(dx);
+        int stepY = Integer.signum(dy);
+        // Crossing times in units of the whole ray, starting half a cell from the center
+        double deltaX = dx == 0 ? Double.POSITIVE_INFINITY : 1.0 / Math.abs(dx);
+        double deltaY = dy == 0 ? Double.POSITIVE_INFINITY : 1.0 / Math.abs(dy);
+        double nextX = deltaX / 2;
+        double nextY = deltaY / 2;
+
+        int gx = fromX;
+        int gy = fromY;
+        for (int i = 1; i < steps; i++) {
+            if (nextX < nextY) {
+                nextX += deltaX;
+                gx += stepX;
+            } else {
+                nextY += deltaY;
+                gy += stepY;
+            }
+            if (grid.isSolid(gx, gy)) return false;
+        }
+        return true;
+    }
+
+    // ==================== Stats ====================
+
+    /**
+     * Gets the sight checks asked for last tick.
+     */
+    public int getQueriesLastTick() { return queriesLastTick; }
+
+    /**
+     * Gets the rays actually walked last tick (checks minus memo hits).
+     */
+    public int getRaysLastTick() { return raysLastTick; }
+}
@@ -162,6 +162,9 @@ public class GamePanel extends JPanel implements Runnable {
         // Handle controller mouse events for UI/menu navigation
         handleControllerMouseEvents();
 
+        // One tick of shared animation time (see Playhead)
+        AnimationClock.advance(1000.0 / FPS);
+
         sceneManager.update(inputManager);
     }
 
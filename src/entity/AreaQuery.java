@@ -0,0 +1,125 @@
+package entity;
+
+import entity.mob.MobEntity;
+import entity.player.PlayerBase;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Area-of-effect queries: which damageable actors a circle (explosion), arc
+ * (melee swing) or rectangle touches.
+ *
+ * Candidates come from the tick's EntityGrid, so a query only looks at actors
+ * in nearby cells instead of every entity and block in the scene. Without a
+ * grid it scans the entity list. Distances are compared squared.
+ *
+ * Usage:
+ *   ArrayList<Entity> hits = new ArrayList<>();
+ *   AreaQuery.circle(actorGrid, entities, centerX, centerY, radius, AreaQuery.Faction.MOBS, hits);
+ */
+public final class AreaQuery {
+
+    /**
+     * Which actors a query returns.
+     */
+    public enum Faction {
+        PLAYERS,   // Players only (mob attacks)
+        MOBS,      // Living mobs only (player attacks)
+        ALL        // Both
+    }
+
+    // Reused between queries (the game updates on one thread; queries don't nest)
+    private static final ArrayList<Entity> candidates = new ArrayList<>();
+    private static final Rectangle arcArea = new Rectangle();
+
+    private AreaQuery() {}
+
+    /**
+     * Checks if an entity can be damaged by an attack aimed at a faction.
+     */
+    public static boolean isTarget(Entity e, Faction faction) {
+        if (e instanceof MobEntity) {
+            return faction != Faction.PLAYERS && ((MobEntity) e).getState() != MobEntity.AIState.DEAD;
+        }
+        if (e instanceof PlayerBase) {
+            return faction != Faction.MOBS;
+        }
+        return false;
+    }
+
+    /**
+     * Collects actors whose center lies within a circle.
+     * @param grid Actor grid for this tick (null to scan the entity list)
+     * @param entities Scene entities (used without a grid)
+     * @param centerX Circle center X
+     * @param centerY Circle center Y
+     * @param radius Circle radius
+     * @param faction Actors to return
+     * @param out Receives the actors (not cleared)
+     */
+    public static void circle(EntityGrid grid, List<Entity> entities, double centerX, double centerY,
+                              double radius, Faction faction, List<Entity> out) {
+        int r = (int) Math.ceil(radius);
+        gather(grid, entities, (int) Math.floor(centerX) - r, (int) Math.floor(centerY) - r, r * 2 + 1, r * 2 + 1);
+        double radiusSq = radius * radius;
+        for (int i = 0; i < candidates.size(); i++) {
+            Entity e = candidates.get(i);
+            if (!isTarget(e, faction)) continue;
+            Rectangle b = e.getBounds();
+            double dx = b.x + b.width / 2 - centerX;
+            double dy = b.y + b.height / 2 - centerY;
+            if (dx * dx + dy * dy <= radiusSq) {
+                out.add(e);
+            }
+        }
+        candidates.clear();
+    }
+
+    /**
+     * Collects actors a melee arc touches.
+     * @see MeleeAttackHitbox#intersects(Rectangle)
+     */
+    public static void arc(EntityGrid grid, List<Entity> entities, MeleeAttackHitbox hitbox,
+                           Faction faction, List<Entity> out) {
+        Rectangle area = hitbox.getBoundingBox(arcArea);
+        gather(grid, entities, area.x, area.y, area.width, area.height);
+        for (int i = 0; i < candidates.size(); i++) {
+            Entity e = candidates.get(i);
+            if (isTarget(e, faction) && hitbox.intersects(e.getBounds())) {
+                out.add(e);
+            }
+        }
+        candidates.clear();
+    }
+
+    /**
+     * Collects actors overlapping a rectangle.
+     */
+    public static void rect(EntityGrid grid, List<Entity> entities, Rectangle area,
+                            Faction faction, List<Entity> out) {
+        gather(grid, entities, area.x, area.y, area.width, area.height);
+        for (int i = 0; i < candidates.size(); i++) {
+            Entity e = candidates.get(i);
+            if (isTarget(e, faction) && area.intersects(e.getBounds())) {
+                out.add(e);
+            }
+        }
+        candidates.clear();
+    }
+
+    private static void gather(EntityGrid grid, List<Entity> entities, int x, int y, int width, int height) {
+        candidates.clear();
+        if (grid != null) {
+            grid.query(x, y, width, height, candidates);
+        } else if (entities != null) {
+            for (int i = 0; i < entities.size(); i++) {
+                Entity e = entities.get(i);
+                if (EntityGrid.isIndexed(e)) {
+                    candidates.add(e);
+                }
+            }
+        }
+    }
+}
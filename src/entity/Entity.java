@@ -11,11 +11,28 @@ public abstract class Entity {
 
     public int x, y;
 
+    // Block collision for this tick, set by EntityManager (null outside a managed scene)
+    protected TileCollider tileCollider;
+
+    // Last EntityGrid query that returned this entity (dedupes multi-cell entities)
+    int gridQueryStamp;
+
     public Entity(int x, int y) {
         this.x = x;
         this.y = y;
     }
 
+    public void setTileCollider(TileCollider collider) {
+        this.tileCollider = collider;
+    }
+
+    /**
+     * Gets the collider to move with, falling back to scanning the given entity list.
+     */
+    protected TileCollider getTileCollider(java.util.List<Entity> entities) {
+        return tileCollider != null ? tileCollider : TileCollider.forEntities(entities);
+    }
+
     public abstract Rectangle getBounds();
 
     public abstract void draw(Graphics g);
@@ -0,0 +1,120 @@
+package entity;
+
+import block.MovingBlockEntity;
+import entity.mob.MobEntity;
+import entity.player.PlayerBase;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spatial hash of the moving things projectiles and attacks can hit: mobs,
+ * players and moving blocks.
+ *
+ * EntityManager rebuilds it once per tick, so queries return candidates from
+ * nearby cells instead of scanning every entity. Entities may move a little
+ * after the rebuild; queries are padded by QUERY_MARGIN and callers test the
+ * candidates' current bounds.
+ */
+public class EntityGrid {
+
+    public static final int CELL_SIZE = 128;
+    public static final int QUERY_MARGIN = 32;
+    private static final int MAX_IDLE_CELLS = 4096;
+
+    // Stamp of the current query, shared by every grid so stamps never repeat
+    private static int queryStamp;
+
+    private final Map<Long, ArrayList<Entity>> cells = new HashMap<>();
+    private final ArrayList<ArrayList<Entity>> usedCells = new ArrayList<>();
+    private int entityCount;
+
+    private static long key(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Checks if an entity belongs in the grid.
+     */
+    public static boolean isIndexed(Entity e) {
+        return e instanceof MobEntity || e instanceof PlayerBase || e instanceof MovingBlockEntity;
+    }
+
+    /**
+     * Re-indexes every mob, player and moving block.
+     */
+    public void rebuild(List<Entity> entities) {
+        for (int i = 0; i < usedCells.size(); i++) {
+            usedCells.get(i).clear();
+        }
+        usedCells.clear();
+        if (cells.size() > MAX_IDLE_CELLS) {
+            cells.clear(); // Drop cells left behind by entities that moved away
+        }
+        entityCount = 0;
+
+        for (int i = 0; i < entities.size(); i++) {
+            Entity e = entities.get(i);
+            if (isIndexed(e)) {
+                insert(e);
+            }
+        }
+    }
+
+    private void insert(Entity e) {
+        Rectangle b = e.getBounds();
+        int minX = Math.floorDiv(b.x, CELL_SIZE);
+        int minY = Math.floorDiv(b.y, CELL_SIZE);
+        int maxX = Math.floorDiv(b.x + Math.max(0, b.width - 1), CELL_SIZE);
+        int maxY = Math.floorDiv(b.y + Math.max(0, b.height - 1), CELL_SIZE);
+        for (int cy = minY; cy <= maxY; cy++) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                ArrayList<Entity> cell = cells.computeIfAbsent(key(cx, cy), k -> new ArrayList<>());
+                if (cell.isEmpty()) {
+                    usedCells.add(cell);
+                }
+                cell.add(e);
+            }
+        }
+        entityCount++;
+    }
+
+    /**
+     * Collects indexed entities whose cells touch an area (each entity once).
+     * @param x Area left
+     * @param y Area top
+     * @param width Area width
+     * @param height Area height
+     * @param out Receives the candidates (not cleared)
+     */
+    public void query(int x, int y, int width, int height, List<Entity> out) {
+        int stamp = ++queryStamp;
+        int minX = Math.floorDiv(x - QUERY_MARGIN, CELL_SIZE);
+        int minY = Math.floorDiv(y - QUERY_MARGIN, CELL_SIZE);
+        int maxX = Math.floorDiv(x + width + QUERY_MARGIN, CELL_SIZE);
+        int maxY = Math.floorDiv(y + height + QUERY_MARGIN, CELL_SIZE);
+        for (int cy = minY; cy <= maxY; cy++) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                ArrayList<Entity> cell = cells.get(key(cx, cy));
+                if (cell == null) continue;
+                for (int i = 0; i < cell.size(); i++) {
+                    Entity e = cell.get(i);
+                    // Entities spanning several cells are listed in each of them
+                    if (e.gridQueryStamp == stamp) continue;
+                    e.gridQueryStamp = stamp;
+                    out.add(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of entities indexed by the last rebuild.
+     */
+    public int size() {
+        return entityCount;
+    }
+}
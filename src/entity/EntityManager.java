@@ -1,12 +1,22 @@
 package entity;
+import block.BlockChunkRenderer;
+import block.BlockEntity;
+import block.BlockGrid;
+import block.BlockRegistry;
+import block.LineOfSight;
+import entity.item.DroppedItemManager;
 import entity.item.ItemEntity;
 import entity.player.*;
 import entity.mob.*;
+import entity.mob.ai.AIScheduler;
+import entity.mob.ai.FlowFieldManager;
+import entity.mob.ai.PathFinder;
 import input.*;
 import graphics.*;
 
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -15,19 +25,203 @@ import java.util.List;
  */
 public class EntityManager {
 
-    private ArrayList<Entity> entities = new ArrayList<>();
+    private final EntityList entities = new EntityList();
     private long lastUpdateTime = System.nanoTime();
 
+    // Optional grid index of static blocks, kept in sync with the entity list
+    private BlockGrid blockGrid;
+    private BlockChunkRenderer blockLayer; // Baked static terrain for camera draws
+
+    // Entities drawn one by one (everything but baked terrain), rebuilt when the
+    // entity list or the grid changes; the baked layer is drawn at drawLayerIndex
+    private final ArrayList<Entity> drawList = new ArrayList<>();
+    private int drawLayerIndex = -1;
+    private int drawListModCount = -1;
+    private boolean drawListDirty = true;
+    private final BlockGrid.ChangeListener drawListInvalidator = (gridX, gridY, block) -> drawListDirty = true;
+
+    // Spatial hash of mobs, players and moving blocks, rebuilt at the start of each update
+    private final EntityGrid actorGrid = new EntityGrid();
+
+    // Block collision shared by every actor, refreshed at the start of each update
+    private final TileCollider tileCollider = new TileCollider();
+
+    // Mob navigation over the block grid (null without a grid): per-mob paths
+    // and flow fields toward the player shared by every chasing mob
+    private PathFinder pathFinder;
+    private FlowFieldManager flowFields;
+
+    // Spreads mob AI over ticks by distance to the player
+    private final AIScheduler aiScheduler = new AIScheduler();
+
+    // Sight checks through the block grid (null without a grid), and the batch pass's scratch
+    private LineOfSight lineOfSight;
+    private final ArrayList<MobEntity> sightMobs = new ArrayList<>();
+    private int[] sightCellX = new int[64];
+    private int[] sightCellY = new int[64];
+    private boolean[] sightResults = new boolean[64];
+
+    // Puts resting items to sleep and merges settled drops into piles
+    private final DroppedItemManager droppedItems = new DroppedItemManager();
+
     public void addEntity(Entity e) {
         entities.add(e);
+        if (blockGrid != null && e instanceof BlockEntity) {
+            blockGrid.add((BlockEntity) e);
+        }
     }
 
     public void removeEntity(Entity e) {
         entities.remove(e);
+        if (blockGrid != null && e instanceof BlockEntity) {
+            blockGrid.remove((BlockEntity) e);
+        } else if (e instanceof ItemEntity) {
+            droppedItems.remove((ItemEntity) e);
+            // Whoever removed it may keep it, so it is not reused
+            EntityPools.getInstance().forget(e);
+        }
     }
 
     public void clear() {
+        for (Entity e : entities) {
+            EntityPools.getInstance().release(e);
+        }
         entities.clear();
+        droppedItems.clear();
+        if (blockGrid != null) {
+            blockGrid.clear();
+        }
+    }
+
+    /**
+     * Attach a block grid. Blocks already in the entity list are indexed immediately.
+     */
+    public void setBlockGrid(BlockGrid grid) {
+        if (this.blockGrid != null) {
+            this.blockGrid.removeListener(drawListInvalidator);
+        }
+        this.blockGrid = grid;
+        drawListDirty = true;
+        this.blockLayer = grid != null ? new BlockChunkRenderer(grid) : null;
+        this.pathFinder = grid != null ? new PathFinder(grid) : null;
+        this.flowFields = pathFinder != null ? new FlowFieldManager(pathFinder) : null;
+        this.lineOfSight = grid != null ? new LineOfSight(grid) : null;
+        droppedItems.setBlockGrid(grid);
+        if (grid != null) {
+            grid.addListener(drawListInvalidator);
+            indexAppendedBlocks(0);
+        }
+    }
+
+    public BlockGrid getBlockGrid() {
+        return blockGrid;
+    }
+
+    public BlockChunkRenderer getBlockLayer() {
+        return blockLayer;
+    }
+
+    /**
+     * Gets the block collider shared by the scene's actors.
+     */
+    public TileCollider getTileCollider() {
+        return tileCollider;
+    }
+
+    /**
+     * Gets the mob pathfinder (null if no block grid is attached).
+     */
+    public PathFinder getPathFinder() {
+        return pathFinder;
+    }
+
+    /**
+     * Gets the shared flow fields toward the player (null if no block grid is attached).
+     */
+    public FlowFieldManager getFlowFields() {
+        return flowFields;
+    }
+
+    /**
+     * Gets the line-of-sight service (null if no block grid is attached).
+     */
+    public LineOfSight getLineOfSight() {
+        return lineOfSight;
+    }
+
+    /**
+     * Gets the mob AI scheduler.
+     */
+    public AIScheduler getAIScheduler() {
+        return aiScheduler;
+    }
+
+    /**
+     * Gets the sleep and merge manager for items lying in the scene.
+     */
+    public DroppedItemManager getDroppedItems() {
+        return droppedItems;
+    }
+
+    /**
+     * Gets the spatial hash of mobs, players and moving blocks (as of the start of this update).
+     */
+    public EntityGrid getActorGrid() {
+        return actorGrid;
+    }
+
+    /**
+     * Index blocks that were appended straight to the entity list (block placement
+     * and mining add to the list they are given rather than going through addEntity).
+     */
+    private void indexAppendedBlocks(int fromIndex) {
+        if (blockGrid == null) return;
+        for (int i = fromIndex; i < entities.size(); i++) {
+            Entity e = entities.get(i);
+            if (e instanceof BlockEntity) {
+                blockGrid.add((BlockEntity) e);
+            }
+        }
+    }
+
+    /**
+     * Raycasts from every mob within sight range to the player's center and
+     * tells each whether it can see the player. Mobs in the same cell share a ray.
+     */
+    private void updateMobSight(PlayerBase player) {
+        int size = BlockRegistry.BLOCK_SIZE;
+        Rectangle b = player.getBounds();
+        double targetX = b.getCenterX();
+        double targetY = b.getCenterY();
+
+        sightMobs.clear();
+        for (int i = 0; i < entities.size(); i++) {
+            Entity e = entities.get(i);
+            if (!(e instanceof MobEntity)) continue;
+            MobEntity mob = (MobEntity) e;
+            double dx = mob.getEyeX() - targetX;
+            double dy = mob.getEyeY() - targetY;
+            double range = mob.getSightRange();
+            if (dx * dx + dy * dy > range * range) {
+                mob.setTargetVisible(false); // Too far to matter
+                continue;
+            }
+            int n = sightMobs.size();
+            if (n == sightCellX.length) {
+                sightCellX = Arrays.copyOf(sightCellX, n * 2);
+                sightCellY = Arrays.copyOf(sightCellY, n * 2);
+                sightResults = new boolean[n * 2];
+            }
+            sightCellX[n] = (int) Math.floor(mob.getEyeX() / size);
+            sightCellY[n] = (int) Math.floor(mob.getEyeY() / size);
+            sightMobs.add(mob);
+        }
+
+        lineOfSight.canSeeAll(sightCellX, sightCellY, sightMobs.size(),
+                (int) Math.floor(targetX / size), (int) Math.floor(targetY / size), sightResults);
+        for (int i = 0; i < sightMobs.size(); i++) {
+            sightMobs.get(i).setTargetVisible(sightResults[i]);
+        }
     }
 
     public ArrayList<Entity> getEntities() {
@@ -45,19 +239,63 @@ public class EntityManager {
 
         PlayerBase player = null;
 
-        // Find the player (supports both PlayerEntity and PlayerBoneEntity)
+        // Index the actors and loose solids for this tick's collision queries
+        actorGrid.rebuild(entities);
+        tileCollider.rebuild(blockGrid, entities);
+        if (pathFinder != null) {
+            pathFinder.beginTick();
+        }
+
+        // Find the player (supports both PlayerEntity and PlayerBoneEntity) and
+        // hand projectiles and the player the grids they query
         for (Entity e : entities) {
+            e.setTileCollider(tileCollider);
             if (e instanceof PlayerBase) {
-                player = (PlayerBase) e;
-                break;
+                if (player == null) {
+                    player = (PlayerBase) e;
+                }
+                if (e instanceof SpritePlayerEntity) {
+                    ((SpritePlayerEntity) e).setActorGrid(actorGrid);
+                }
+            } else if (e instanceof ProjectileEntity) {
+                ((ProjectileEntity) e).setWorld(blockGrid, actorGrid);
+            } else if (e instanceof MobEntity) {
+                ((MobEntity) e).setLineOfSight(lineOfSight);
+                ((MobEntity) e).setActorGrid(actorGrid);
+                if (e instanceof SpriteMobEntity) {
+                    ((SpriteMobEntity) e).setNavigation(pathFinder, flowFields);
+                }
             }
         }
 
         // Update player with entity list for collisions
         if (player != null) {
+            int countBefore = entities.size();
             player.update(input, entities);
+            if (entities.size() > countBefore) {
+                indexAppendedBlocks(countBefore);
+            }
+        }
+
+        // Chasing mobs read flow fields toward where the player is now
+        if (flowFields != null) {
+            flowFields.beginTick(player);
+        }
+
+        // Pick which mobs run their AI this tick
+        aiScheduler.schedule(entities, player);
+
+        // Check which mobs can see the player, all in one pass
+        if (lineOfSight != null) {
+            lineOfSight.beginTick();
+            if (player != null) {
+                updateMobSight(player);
+            }
         }
 
+        // Wake the items the player can reach
+        droppedItems.beginTick(player);
+
         // Collect dead mobs for removal and items to add
         ArrayList<Entity> toRemove = new ArrayList<>();
         ArrayList<Entity> toAdd = new ArrayList<>();
@@ -94,12 +332,31 @@ public class EntityManager {
                 // Mark dead mobs for removal after their death animation
                 if (mob.isDead()) {
                     toRemove.add(e);
+                    // Nothing updates its projectiles anymore; retire them
+                    if (mob instanceof SpriteMobEntity) {
+                        List<ProjectileEntity> stranded = ((SpriteMobEntity) mob).getActiveProjectiles();
+                        for (ProjectileEntity proj : stranded) {
+                            proj.setActive(false);
+                        }
+                        stranded.clear();
+                    }
                 }
             } else if (e instanceof ItemEntity) {
-                // Set entity list for block collision detection on items
                 ItemEntity item = (ItemEntity) e;
-                item.setEntityList(entities);
-                item.update(input);
+                if (item.isCollected()) {
+                    // Picked up: the inventory holds it now
+                    droppedItems.remove(item);
+                    EntityPools.getInstance().forget(item);
+                    toRemove.add(e);
+                } else if (!item.isSleeping()) {
+                    // Set entity list for block collision detection on items
+                    item.setEntityList(entities);
+                    item.update(input);
+                    // Once it rests it merges into a nearby pile or goes to sleep
+                    if (droppedItems.settle(item)) {
+                        toRemove.add(e);
+                    }
+                }
             } else if (e instanceof ProjectileEntity) {
                 // Projectiles are updated by the mob/player that fired them
                 // Just check if they're inactive and need removal
@@ -126,9 +383,11 @@ public class EntityManager {
             entities.add(e);
         }
 
-        // Remove dead mobs and inactive projectiles
+        // Remove dead mobs, inactive projectiles and picked-up or merged items,
+        // returning pooled projectiles and merged drops for reuse
         for (Entity e : toRemove) {
             entities.remove(e);
+            EntityPools.getInstance().release(e);
         }
     }
 
@@ -152,20 +411,7 @@ public class EntityManager {
      */
     public void drawAll(Graphics g, Camera camera) {
         // Draw all entities (they draw at their world positions)
-        for (Entity e : entities) {
-            // Use visual bounds for mobs (skeletons are larger than hitboxes)
-            Rectangle bounds;
-            if (e instanceof MobEntity) {
-                bounds = ((MobEntity) e).getVisualBounds();
-            } else {
-                bounds = e.getBounds();
-            }
-
-            // Skip entities that are off-screen for performance
-            if (camera.isVisible(bounds)) {
-                e.draw(g);
-            }
-        }
+        drawVisible(g, camera, false);
     }
 
     /**
@@ -184,8 +430,26 @@ public class EntityManager {
         }
 
         // Draw all other entities
-        for (Entity e : entities) {
-            if (e instanceof BackgroundEntity) {
+        drawVisible(g, camera, true);
+    }
+
+    /**
+     * Draws the entities inside the camera view.
+     * Static terrain blocks come from the baked chunk layer, which is drawn at the
+     * first such block's place in the draw order, followed by the mining highlight
+     * of the targeted ones. Only the remaining entities are walked each frame.
+     */
+    private void drawVisible(Graphics g, Camera camera, boolean skipBackground) {
+        if (drawListDirty || drawListModCount != entities.getModCount()) {
+            rebuildDrawList();
+        }
+
+        for (int i = 0; i < drawList.size(); i++) {
+            if (i == drawLayerIndex) {
+                drawBlockLayer((Graphics2D) g, camera);
+            }
+            Entity e = drawList.get(i);
+            if (skipBackground && e instanceof BackgroundEntity) {
                 continue; // Skip background, already drawn
             }
 
@@ -202,6 +466,46 @@ public class EntityManager {
                 e.draw(g);
             }
         }
+        if (drawLayerIndex == drawList.size()) {
+            drawBlockLayer((Graphics2D) g, camera);
+        }
+    }
+
+    /**
+     * Draws the baked terrain and the highlight of targeted terrain blocks.
+     */
+    private void drawBlockLayer(Graphics2D g, Camera camera) {
+        blockLayer.draw(g, (int) camera.getX(), (int) camera.getY(),
+                camera.getViewportWidth(), camera.getViewportHeight());
+        List<BlockEntity> targeted = blockGrid.getTargetedBlocks();
+        for (int i = 0; i < targeted.size(); i++) {
+            BlockEntity block = targeted.get(i);
+            if (block.isStaticTerrain()) {
+                block.drawMiningHighlight(g);
+            }
+        }
+        targeted.clear();
+    }
+
+    /**
+     * Collects the entities drawn one by one, leaving out baked terrain blocks
+     * and remembering where in the order the baked layer goes.
+     */
+    private void rebuildDrawList() {
+        drawList.clear();
+        drawLayerIndex = -1;
+        for (int i = 0; i < entities.size(); i++) {
+            Entity e = entities.get(i);
+            if (blockLayer != null && e instanceof BlockEntity && ((BlockEntity) e).isStaticTerrain()) {
+                if (drawLayerIndex < 0) {
+                    drawLayerIndex = drawList.size();
+                }
+                continue;
+            }
+            drawList.add(e);
+        }
+        drawListModCount = entities.getModCount();
+        drawListDirty = false;
     }
 
     /**
@@ -237,4 +541,16 @@ public class EntityManager {
     public int size() {
         return entities.size();
     }
+
+    /**
+     * Entity list that exposes its structural change count, so the draw list
+     * notices additions and removals made through getEntities() too.
+     */
+    private static final class EntityList extends ArrayList<Entity> {
+        private static final long serialVersionUID = 1L;
+
+        int getModCount() {
+            return modCount;
+        }
+    }
 }
@@ -21,8 +21,13 @@ public class EntityPhysics {
     private static final double PUSH_FORCE = 0.8;
     private static final double VERTICAL_PUSH = 0.0;
 
+    // Persistent broadphase for separation pushes (actors stay sorted between ticks)
+    private static final SweepAndPrune broadphase = new SweepAndPrune();
+
     /**
-     * Processes all entity collisions and applies appropriate responses.
+     * Processes all entity collisions and applies appropriate responses:
+     * the player is pushed out of mobs, and overlapping mobs push apart.
+     * Overlaps come from one sort-and-sweep pass instead of testing every pair.
      *
      * @param entities List of all entities in the scene
      * @param player The player entity
@@ -31,53 +36,44 @@ public class EntityPhysics {
     public static void processCollisions(List<Entity> entities, PlayerBase player, double deltaTime) {
         if (player == null || entities == null) return;
 
-        Rectangle playerBounds = player.getBounds();
-
-        // Check player against all mobs
-        for (Entity entity : entities) {
-            if (entity instanceof MobEntity) {
-                MobEntity mob = (MobEntity) entity;
-
-                // Skip dead mobs
-                if (mob.getState() == MobEntity.AIState.DEAD) continue;
-
-                Rectangle mobBounds = mob.getBounds();
-
-                // Check for collision
-                if (playerBounds.intersects(mobBounds)) {
-                    // Calculate push direction
-                    double playerCenterX = playerBounds.x + playerBounds.width / 2.0;
-                    double playerCenterY = playerBounds.y + playerBounds.height / 2.0;
-                    double mobCenterX = mobBounds.x + mobBounds.width / 2.0;
-                    double mobCenterY = mobBounds.y + mobBounds.height / 2.0;
-
-                    double dx = playerCenterX - mobCenterX;
-                    double dy = playerCenterY - mobCenterY;
-
-                    // Normalize and apply push
-                    double dist = Math.sqrt(dx * dx + dy * dy);
-                    if (dist > 0) {
-                        double pushX = (dx / dist) * PUSH_FORCE;
-                        double pushY = (dy / dist) * VERTICAL_PUSH;
-
-                        // Apply push to player (via velocity if available)
-                        applyPushToPlayer(player, pushX, pushY);
-                    }
-                }
+        broadphase.sweep(entities, player, (a, boundsA, b, boundsB) -> {
+            if (a == player) {
+                pushPlayerFromMob(player, boundsA, boundsB);
+            } else if (b == player) {
+                pushPlayerFromMob(player, boundsB, boundsA);
+            } else {
+                separateMobs((MobEntity) a, boundsA, (MobEntity) b, boundsB);
             }
-        }
+        });
+    }
 
-        // Process mob-to-mob collisions
-        processMobCollisions(entities, deltaTime);
+    /**
+     * Gets the broadphase used for separation (for stats).
+     */
+    public static SweepAndPrune getBroadphase() {
+        return broadphase;
+    }
+
+    /**
+     * Pushes the player away from an overlapping mob.
+     */
+    private static void pushPlayerFromMob(PlayerBase player, Rectangle playerBounds, Rectangle mobBounds) {
+        // Calculate push direction
+        double dx = (playerBounds.x + playerBounds.width / 2.0) - (mobBounds.x + mobBounds.width / 2.0);
+        double dy = (playerBounds.y + playerBounds.height / 2.0) - (mobBounds.y + mobBounds.height / 2.0);
+
+        // Normalize and apply push
+        double distSq = dx * dx + dy * dy;
+        if (distSq > 0) {
+            double dist = Math.sqrt(distSq);
+            applyPushToPlayer(player, (dx / dist) * PUSH_FORCE, (dy / dist) * VERTICAL_PUSH);
+        }
     }
 
     /**
      * Applies push force to player.
      */
     private static void applyPushToPlayer(PlayerBase player, double pushX, double pushY) {
-        // Get player bounds and apply position offset
-        Rectangle bounds = player.getBounds();
-
         // We need to set velocity - check if player has velocity methods
         // For now, we'll apply direct position change via collision response
         if (player instanceof entity.player.SpritePlayerEntity) {
@@ -93,46 +89,21 @@ public class EntityPhysics {
     }
 
     /**
-     * Processes collisions between mobs.
+     * Pushes two overlapping mobs apart horizontally.
      */
-    private static void processMobCollisions(List<Entity> entities, double deltaTime) {
-        List<MobEntity> mobs = new ArrayList<>();
-
-        for (Entity e : entities) {
-            if (e instanceof MobEntity) {
-                MobEntity mob = (MobEntity) e;
-                if (mob.getState() != MobEntity.AIState.DEAD) {
-                    mobs.add(mob);
-                }
-            }
-        }
+    private static void separateMobs(MobEntity mob1, Rectangle bounds1, MobEntity mob2, Rectangle bounds2) {
+        double center1X = bounds1.x + bounds1.width / 2.0;
+        double center2X = bounds2.x + bounds2.width / 2.0;
 
-        // Check each pair of mobs
-        for (int i = 0; i < mobs.size(); i++) {
-            for (int j = i + 1; j < mobs.size(); j++) {
-                MobEntity mob1 = mobs.get(i);
-                MobEntity mob2 = mobs.get(j);
-
-                Rectangle bounds1 = mob1.getBounds();
-                Rectangle bounds2 = mob2.getBounds();
-
-                if (bounds1.intersects(bounds2)) {
-                    // Calculate separation
-                    double center1X = bounds1.x + bounds1.width / 2.0;
-                    double center2X = bounds2.x + bounds2.width / 2.0;
-
-                    double dx = center1X - center2X;
-                    double separation = PUSH_FORCE * 0.5;
-
-                    if (dx > 0) {
-                        mob1.applyPush(separation, 0);
-                        mob2.applyPush(-separation, 0);
-                    } else {
-                        mob1.applyPush(-separation, 0);
-                        mob2.applyPush(separation, 0);
-                    }
-                }
-            }
+        double dx = center1X - center2X;
+        double separation = PUSH_FORCE * 0.5;
+
+        if (dx > 0) {
+            mob1.applyPush(separation, 0);
+            mob2.applyPush(-separation, 0);
+        } else {
+            mob1.applyPush(-separation, 0);
+            mob2.applyPush(separation, 0);
         }
     }
 
@@ -150,6 +121,18 @@ public class EntityPhysics {
      */
     public static List<MobEntity> checkPlayerAttack(PlayerBase player, Rectangle attackBounds,
             int damage, double knockbackForce, List<Entity> entities) {
+        return checkPlayerAttack(player, attackBounds, damage, knockbackForce, entities, null);
+    }
+
+    /**
+     * Checks if a player attack hits any mobs, taking candidates from the
+     * actor grid instead of scanning every entity.
+     *
+     * @param actorGrid This tick's actor grid (null to scan the entity list)
+     * @see #checkPlayerAttack(PlayerBase, Rectangle, int, double, List)
+     */
+    public static List<MobEntity> checkPlayerAttack(PlayerBase player, Rectangle attackBounds,
+            int damage, double knockbackForce, List<Entity> entities, EntityGrid actorGrid) {
 
         List<MobEntity> hitMobs = new ArrayList<>();
 
@@ -177,34 +160,25 @@ public class EntityPhysics {
             return hitMobs;
         }
 
-        for (Entity entity : entities) {
-            if (entity instanceof MobEntity) {
-                MobEntity mob = (MobEntity) entity;
-
-                // Skip dead mobs
-                if (mob.getState() == MobEntity.AIState.DEAD) continue;
-
-                Rectangle mobBounds = mob.getBounds();
-                boolean hit = false;
-
-                // Use arc-based collision if available, otherwise fall back to rectangle
-                if (arcHitbox != null) {
-                    hit = arcHitbox.intersects(mobBounds);
-                } else if (attackBounds != null) {
-                    hit = attackBounds.intersects(mobBounds);
-                }
-
-                if (hit) {
-                    // Calculate knockback direction based on attack direction
-                    // Knockback is in the direction of the attack, with a slight upward component
-                    double knockbackX = attackDirX * knockbackForce;
-                    double knockbackY = attackDirY * knockbackForce * 0.8 - knockbackForce * 0.3;
-
-                    // Apply damage and knockback
-                    mob.takeDamage(damage, knockbackX, knockbackY);
-                    hitMobs.add(mob);
-                }
-            }
+        // Use arc-based collision if available, otherwise fall back to rectangle
+        List<Entity> struck = new ArrayList<>();
+        if (arcHitbox != null) {
+            AreaQuery.arc(actorGrid, entities, arcHitbox, AreaQuery.Faction.MOBS, struck);
+        } else {
+            AreaQuery.rect(actorGrid, entities, attackBounds, AreaQuery.Faction.MOBS, struck);
+        }
+
+        for (Entity entity : struck) {
+            MobEntity mob = (MobEntity) entity;
+
+            // Calculate knockback direction based on attack direction
+            // Knockback is in the direction of the attack, with a slight upward component
+            double knockbackX = attackDirX * knockbackForce;
+            double knockbackY = attackDirY * knockbackForce * 0.8 - knockbackForce * 0.3;
+
+            // Apply damage and knockback
+            mob.takeDamage(damage, knockbackX, knockbackY);
+            hitMobs.add(mob);
         }
 
         return hitMobs;
@@ -222,6 +196,18 @@ public class EntityPhysics {
      */
     public static List<MobEntity> checkPlayerMeleeAttack(SpritePlayerEntity player,
             int damage, double knockbackForce, List<Entity> entities) {
+        return checkPlayerMeleeAttack(player, damage, knockbackForce, entities, null);
+    }
+
+    /**
+     * Checks if a player's arc attack hits any mobs, taking candidates from
+     * the actor grid instead of scanning every entity.
+     *
+     * @param actorGrid This tick's actor grid (null to scan the entity list)
+     * @see #checkPlayerMeleeAttack(SpritePlayerEntity, int, double, List)
+     */
+    public static List<MobEntity> checkPlayerMeleeAttack(SpritePlayerEntity player,
+            int damage, double knockbackForce, List<Entity> entities, EntityGrid actorGrid) {
 
         List<MobEntity> hitMobs = new ArrayList<>();
 
@@ -237,25 +223,18 @@ public class EntityPhysics {
         double attackDirX = player.getAttackDirX();
         double attackDirY = player.getAttackDirY();
 
-        for (Entity entity : entities) {
-            if (entity instanceof MobEntity) {
-                MobEntity mob = (MobEntity) entity;
-
-                // Skip dead mobs
-                if (mob.getState() == MobEntity.AIState.DEAD) continue;
+        List<Entity> struck = new ArrayList<>();
+        AreaQuery.arc(actorGrid, entities, hitbox, AreaQuery.Faction.MOBS, struck);
+        for (Entity entity : struck) {
+            MobEntity mob = (MobEntity) entity;
 
-                Rectangle mobBounds = mob.getBounds();
+            // Calculate knockback direction based on attack direction
+            double knockbackX = attackDirX * knockbackForce;
+            double knockbackY = attackDirY * knockbackForce * 0.8 - knockbackForce * 0.3;
 
-                if (hitbox.intersects(mobBounds)) {
-                    // Calculate knockback direction based on attack direction
-                    double knockbackX = attackDirX * knockbackForce;
-                    double knockbackY = attackDirY * knockbackForce * 0.8 - knockbackForce * 0.3;
-
-                    // Apply damage and knockback
-                    mob.takeDamage(damage, knockbackX, knockbackY);
-                    hitMobs.add(mob);
-                }
-            }
+            // Apply damage and knockback
+            mob.takeDamage(damage, knockbackX, knockbackY);
+            hitMobs.add(mob);
         }
 
         return hitMobs;
@@ -0,0 +1,153 @@
+package entity;
+
+import entity.item.Item;
+import entity.item.ItemEntity;
+import entity.item.ItemRegistry;
+import entity.mob.SpriteMobEntity;
+
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pools of the short-lived entities combat creates: projectiles and dropped items.
+ *
+ * Firing and dropping code obtains instances here instead of constructing
+ * them; a recycled instance is reset with its reinit method. EntityManager
+ * returns them when they leave the scene (projectiles on deactivation, items
+ * when merged into a pile) and forgets items that go into an inventory.
+ * GameScene pre-warms the pools from the level's mob roster.
+ *
+ * Usage:
+ *   ProjectileEntity arrow = EntityPools.getInstance().obtainProjectile(x, y,
+ *       ProjectileEntity.ProjectileType.ARROW, damage, velX, velY, false);
+ */
+public final class EntityPools {
+
+    // Projectiles a ranged mob can have in flight at once (5 s lifetime, ~2 s cooldown)
+    private static final int PROJECTILES_PER_SHOOTER = 3;
+
+    private static EntityPools instance;
+
+    private final ObjectPool<ProjectileEntity> projectiles = new ObjectPool<>("Projectiles", 512);
+    private final ObjectPool<ItemEntity> items = new ObjectPool<>("Items", 512);
+
+    // Instances handed out and not yet returned
+    private final IdentityHashMap<Entity, Boolean> out = new IdentityHashMap<>();
+
+    private EntityPools() {}
+
+    public static EntityPools getInstance() {
+        if (instance == null) {
+            instance = new EntityPools();
+        }
+        return instance;
+    }
+
+    /**
+     * Gets a projectile in the state the type constructor gives it.
+     * @see ProjectileEntity#ProjectileEntity(int, int, ProjectileEntity.ProjectileType, int, double, double, boolean)
+     */
+    public ProjectileEntity obtainProjectile(int x, int y, ProjectileEntity.ProjectileType type, int damage,
+                                             double velX, double velY, boolean fromPlayer) {
+        ProjectileEntity projectile = projectiles.acquire();
+        if (projectile == null) {
+            projectile = new ProjectileEntity(x, y, type, damage, velX, velY, fromPlayer);
+        } else {
+            projectile.reinit(x, y, type, damage, velX, velY, fromPlayer);
+        }
+        out.put(projectile, Boolean.TRUE);
+        return projectile;
+    }
+
+    /**
+     * Gets an item in the state the registry constructor gives it.
+     * @see ItemEntity#ItemEntity(int, int, String)
+     */
+    public ItemEntity obtainItem(int x, int y, String itemId) {
+        ItemEntity item = items.acquire();
+        if (item == null) {
+            item = new ItemEntity(x, y, itemId);
+        } else {
+            item.reinit(x, y, itemId);
+        }
+        out.put(item, Boolean.TRUE);
+        return item;
+    }
+
+    /**
+     * Returns an entity that nothing refers to anymore. Entities that did not
+     * come from a pool are ignored.
+     */
+    public void release(Entity e) {
+        if (out.remove(e) == null) return;
+        if (e instanceof ProjectileEntity) {
+            projectiles.release((ProjectileEntity) e);
+        } else if (e instanceof ItemEntity) {
+            items.release((ItemEntity) e);
+        }
+    }
+
+    /**
+     * Stops tracking an entity that now lives elsewhere (an item picked up
+     * into an inventory). It is never reused.
+     */
+    public void forget(Entity e) {
+        if (out.remove(e) == null) return;
+        if (e instanceof ProjectileEntity) {
+            projectiles.discard();
+        } else if (e instanceof ItemEntity) {
+            items.discard();
+        }
+    }
+
+    /**
+     * Fills the pools for a level: projectiles for each ranged mob (of the type
+     * it fires) and one item per thing each mob drops on death. Creating them
+     * also caches their sprites and icons.
+     */
+    public void prewarm(List<Entity> entities) {
+        Map<ProjectileEntity.ProjectileType, Integer> shooters =
+                new EnumMap<>(ProjectileEntity.ProjectileType.class);
+        int projectileTarget = projectiles.getIdleCount();
+        int itemTarget = items.getIdleCount();
+
+        for (int i = 0; i < entities.size(); i++) {
+            Entity e = entities.get(i);
+            if (!(e instanceof SpriteMobEntity)) continue;
+            SpriteMobEntity mob = (SpriteMobEntity) e;
+
+            ProjectileEntity.ProjectileType type = mob.getRangedProjectileType();
+            if (type != null) {
+                shooters.merge(type, 1, Integer::sum);
+            }
+
+            itemTarget = prewarmDrop(mob.getEquippedWeapon(), itemTarget);
+            itemTarget = prewarmDrop(mob.getEquippedArmor(), itemTarget);
+            for (Item item : mob.getInventory()) {
+                itemTarget = prewarmDrop(item, itemTarget);
+            }
+        }
+
+        for (Map.Entry<ProjectileEntity.ProjectileType, Integer> entry : shooters.entrySet()) {
+            ProjectileEntity.ProjectileType type = entry.getKey();
+            projectileTarget += entry.getValue() * PROJECTILES_PER_SHOOTER;
+            projectiles.prewarm(projectileTarget, () -> new ProjectileEntity(0, 0, type, 0, 0, 0, false));
+        }
+    }
+
+    private int prewarmDrop(Item item, int itemTarget) {
+        if (item == null) return itemTarget;
+        String itemId = ItemRegistry.findIdByName(item.getName());
+        if (itemId == null) return itemTarget;
+        items.prewarm(itemTarget + 1, () -> new ItemEntity(0, 0, itemId));
+        return itemTarget + 1;
+    }
+
+    // ==================== Stats ====================
+
+    public ObjectPool<ProjectileEntity> getProjectilePool() { return projectiles; }
+
+    public ObjectPool<ItemEntity> getItemPool() { return items; }
+}
@@ -54,11 +54,7 @@ public class MeleeAttackHitbox {
      * @param arcWidth Angular width of the attack arc in radians
      */
     public MeleeAttackHitbox(int originX, int originY, double angle, int range, double arcWidth) {
-        this.originX = originX;
-        this.originY = originY;
-        this.angle = angle;
-        this.range = range;
-        this.arcWidth = Math.max(MIN_ARC_WIDTH, Math.min(MAX_ARC_WIDTH, arcWidth));
+        set(originX, originY, angle, range, arcWidth);
     }
 
     /**
@@ -80,6 +76,32 @@ public class MeleeAttackHitbox {
      */
     public static MeleeAttackHitbox fromWeaponSpeed(int originX, int originY, double angle,
                                                      int range, float attackSpeed) {
+        return new MeleeAttackHitbox(originX, originY, angle, range, arcWidthForSpeed(attackSpeed));
+    }
+
+    /**
+     * Re-aims this hitbox for a new attack, so an attacker can keep one
+     * instance instead of allocating a hitbox per swing.
+     *
+     * @param arcWidth Angular width of the attack arc in radians
+     */
+    public void set(int originX, int originY, double angle, int range, double arcWidth) {
+        this.originX = originX;
+        this.originY = originY;
+        this.angle = angle;
+        this.range = range;
+        this.arcWidth = Math.max(MIN_ARC_WIDTH, Math.min(MAX_ARC_WIDTH, arcWidth));
+    }
+
+    /**
+     * Re-aims this hitbox with the arc width for a weapon's attack speed.
+     * @see #fromWeaponSpeed(int, int, double, int, float)
+     */
+    public void setFromWeaponSpeed(int originX, int originY, double angle, int range, float attackSpeed) {
+        set(originX, originY, angle, range, arcWidthForSpeed(attackSpeed));
+    }
+
+    private static double arcWidthForSpeed(float attackSpeed) {
         // Map attack speed to arc width:
         // Fast weapons (2.0+ attacks/sec) = narrow arc (30-45 degrees)
         // Normal weapons (1.0 attacks/sec) = standard arc (90 degrees)
@@ -95,8 +117,7 @@ public class MeleeAttackHitbox {
             // Slow weapons: 90-120 degree arc
             arcWidth = Math.PI / 2 + (Math.PI / 6) * Math.min(1.0f, (1.0f - attackSpeed) / 0.5f);
         }
-
-        return new MeleeAttackHitbox(originX, originY, angle, range, arcWidth);
+        return arcWidth;
     }
 
     /**
@@ -107,13 +128,10 @@ public class MeleeAttackHitbox {
      * @return true if the point is within the attack arc
      */
     public boolean containsPoint(int px, int py) {
-        // Calculate distance from origin to point
+        // Check if within range (squared, no sqrt)
         double dx = px - originX;
         double dy = py - originY;
-        double distance = Math.sqrt(dx * dx + dy * dy);
-
-        // Check if within range
-        if (distance > range) {
+        if (dx * dx + dy * dy > (double) range * range) {
             return false;
         }
 
@@ -213,6 +231,14 @@ public class MeleeAttackHitbox {
      * @return Rectangle containing the attack arc
      */
     public Rectangle getBoundingBox() {
+        return getBoundingBox(new Rectangle());
+    }
+
+    /**
+     * Fills a rectangle with the bounds of the attack arc.
+     * @return The given rectangle
+     */
+    public Rectangle getBoundingBox(Rectangle out) {
         // Calculate the extreme points of the arc
         double leftAngle = angle - arcWidth / 2;
         double rightAngle = angle + arcWidth / 2;
@@ -235,7 +261,8 @@ public class MeleeAttackHitbox {
         if (isAngleInArc(Math.PI) || isAngleInArc(-Math.PI)) minX = Math.min(minX, originX - range);
         if (isAngleInArc(-Math.PI / 2)) minY = Math.min(minY, originY - range);
 
-        return new Rectangle(minX, minY, maxX - minX, maxY - minY);
+        out.setBounds(minX, minY, maxX - minX, maxY - minY);
+        return out;
     }
 
     /**
@@ -0,0 +1,110 @@
+package entity;
+
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Free list of reusable objects of one type.
+ *
+ * The pool only hands out and takes back instances: callers reinitialize a
+ * reused object, or construct a new one when the pool is empty (see
+ * EntityPools). It tracks how many objects are out at once, so levels can be
+ * pre-warmed to their real peak.
+ *
+ * Usage:
+ *   Foo foo = pool.acquire();
+ *   if (foo == null) foo = new Foo(args); else foo.reinit(args);
+ *   pool.release(foo);          // Exactly once, when nothing refers to it
+ */
+public class ObjectPool<T> {
+
+    private final String name;
+    private final int maxIdle;
+    private final ArrayList<T> idle = new ArrayList<>();
+
+    // Stats
+    private int inUse;
+    private int highWater;
+    private int created;
+    private int reused;
+
+    /**
+     * Creates a pool.
+     * @param name Name for the debug overlay
+     * @param maxIdle Most idle instances kept (the rest are left to the GC)
+     */
+    public ObjectPool(String name, int maxIdle) {
+        this.name = name;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Takes an idle instance.
+     * @return The instance, or null if none is idle (the caller then creates
+     *         one, which counts as taken from the pool)
+     */
+    public T acquire() {
+        inUse++;
+        if (inUse > highWater) {
+            highWater = inUse;
+        }
+        int last = idle.size() - 1;
+        if (last >= 0) {
+            reused++;
+            return idle.remove(last);
+        }
+        created++;
+        return null;
+    }
+
+    /**
+     * Returns an instance to the pool.
+     */
+    public void release(T obj) {
+        if (inUse > 0) {
+            inUse--;
+        }
+        if (idle.size() < maxIdle) {
+            idle.add(obj);
+        }
+    }
+
+    /**
+     * Records that a taken instance will not come back (something else now
+     * owns it), so it no longer counts as in use.
+     */
+    public void discard() {
+        if (inUse > 0) {
+            inUse--;
+        }
+    }
+
+    /**
+     * Creates instances until at least the given number are idle.
+     */
+    public void prewarm(int count, Supplier<T> factory) {
+        count = Math.min(count, maxIdle);
+        while (idle.size() < count) {
+            idle.add(factory.get());
+            created++;
+        }
+    }
+
+    // ==================== Stats ====================
+
+    public String getName() { return name; }
+    public int getIdleCount() { return idle.size(); }
+    public int getInUse() { return inUse; }
+
+    /**
+     * Gets the most instances that were out at the same time.
+     */
+    public int getHighWater() { return highWater; }
+
+    /**
+     * Gets the instances created for this pool (misses plus pre-warming).
+     */
+    public int getCreated() { return created; }
+
+    public int getReused() { return reused; }
+}
@@ -12,7 +12,11 @@ import animation.*;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * ProjectileEntity represents a fired or thrown projectile in the game world.
@@ -21,7 +25,7 @@ import java.util.List;
  * Features:
  * - GIF-based animated projectile sprites
  * - Velocity-based movement with optional gravity
- * - Collision detection with entities and blocks
+ * - Continuous (swept) collision with entities and blocks, so fast shots cannot tunnel
  * - Damage dealing on hit
  * - Optional effects on impact (explosion, piercing, etc.)
  * - Trail effects for visual polish
@@ -30,6 +34,10 @@ import java.util.List;
  *   ProjectileEntity arrow = new ProjectileEntity(x, y, "assets/projectiles/arrow.gif",
  *       10, 15.0, -2.0, true);
  *   arrow.setGravity(0.3);
+ *
+ * Combat code takes projectiles from EntityPools (obtainProjectile), which
+ * reinitializes a recycled instance; EntityManager returns them when they
+ * deactivate. Sprites are decoded or generated once per type and shared.
  */
 public class ProjectileEntity extends Entity {
 
@@ -56,6 +64,23 @@ public class ProjectileEntity extends Entity {
     private static final int SCALE = 2;
     private float scaleFactor = 1.0f;  // Additional scale for charged shots
 
+    // Sprites shared by every projectile of a type (or sprite path)
+    private static final Map<String, CachedSprite> spriteCache = new HashMap<>();
+
+    private static final class CachedSprite {
+        final AnimationClip clip;     // Null for static sprites
+        final BufferedImage image;
+        final int width;
+        final int height;
+
+        CachedSprite(AnimationClip clip, BufferedImage image, int width, int height) {
+            this.clip = clip;
+            this.image = image;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
     // Movement
     private double velX;
     private double velY;
@@ -109,6 +134,21 @@ public class ProjectileEntity extends Entity {
     private String sourceItemId = null;  // Registry ID for creating dropped items
     private entity.item.ItemEntity pendingDroppedItem = null;  // Item to drop on impact
 
+    // Collision context from EntityManager (null falls back to scanning the entity list)
+    private BlockGrid blockGrid;
+    private EntityGrid actorGrid;
+
+    // Swept collision scratch state, reused every tick
+    private final SweptAABB.Hit blockHit = new SweptAABB.Hit();
+    private final List<Entity> candidates = new ArrayList<>();
+    private final List<Entity> hitEntities = new ArrayList<>();
+    private double[] hitTimes = new double[8];
+    private List<Entity> piercedEntities;  // Mobs already pierced, so they are hit only once
+    private double impactTime = -1;
+
+    // Reused for the bounds at the start of each move
+    private final Rectangle moveStart = new Rectangle();
+
     // Timing
     private long lastUpdateTime;
 
@@ -153,25 +193,87 @@ public class ProjectileEntity extends Entity {
         configureForType(type);
     }
 
+    /**
+     * Resets a recycled projectile to the state the type constructor gives it.
+     * Keep in step with the field defaults above.
+     */
+    void reinit(int x, int y, ProjectileType type, int damage,
+                double velX, double velY, boolean fromPlayer) {
+        this.x = x;
+        this.y = y;
+        this.damage = damage;
+        this.velX = velX;
+        this.velY = velY;
+        this.fromPlayer = fromPlayer;
+        this.type = type;
+        this.lastUpdateTime = System.currentTimeMillis();
+
+        scaleFactor = 1.0f;
+        gravity = 0.0;
+        rotationAngle = 0;
+        rotateWithVelocity = true;
+        knockbackForce = 5.0;
+        source = null;
+        piercing = false;
+        pierceCount = 0;
+        maxPierceCount = 1;
+        explosive = false;
+        explosionRadius = 0;
+        active = true;
+        lifetime = 5.0;
+        lifeTimer = 0;
+        hasTrail = false;
+        trailColor = Color.WHITE;
+        trailPoints.clear();
+        maxTrailLength = 10;
+        statusEffect = StatusEffectType.NONE;
+        effectDuration = 0;
+        effectDamagePerTick = 0;
+        effectDamageMultiplier = 1.0f;
+        showExplosion = false;
+        explosionTimer = 0;
+        explosionDuration = 0.3;
+        explosionFrame = 0;
+        entitiesReference = null;
+        sourceItemId = null;
+        pendingDroppedItem = null;
+        blockGrid = null;
+        actorGrid = null;
+        candidates.clear();
+        hitEntities.clear();
+        if (piercedEntities != null) {
+            piercedEntities.clear();
+        }
+        impactTime = -1;
+        tileCollider = null;
+
+        configureForType(type);
+    }
+
     /**
      * Configures projectile behavior based on type.
      */
     private void configureForType(ProjectileType type) {
         String spritePath = "assets/projectiles/" + type.name().toLowerCase() + ".gif";
+        boolean cached = useCachedSprite(type.name());
+        if (!cached) {
+            animation = null;
+            staticSprite = null;
+        }
 
         switch (type) {
             case ARROW:
                 gravity = 0.3;
                 rotateWithVelocity = true;
                 hasTrail = false;
-                if (!tryLoadSprite(spritePath)) {
+                if (!cached && !tryLoadSprite(spritePath)) {
                     createArrowSprite(16, 4, new Color(139, 90, 43), new Color(100, 100, 100));
                 }
                 break;
             case BOLT:
                 gravity = 0.2;
                 rotateWithVelocity = true;
-                if (!tryLoadSprite(spritePath)) {
+                if (!cached && !tryLoadSprite(spritePath)) {
                     createBoltSprite(18, 4, new Color(100, 100, 100));
                 }
                 break;
@@ -180,7 +282,7 @@ public class ProjectileEntity extends Entity {
                 rotateWithVelocity = false;
                 hasTrail = true;
                 trailColor = new Color(100, 100, 255);
-                if (!tryLoadSprite(spritePath)) {
+                if (!cached && !tryLoadSprite(spritePath)) {
                     createMagicBoltSprite(12, 12, new Color(100, 150, 255));
                 }
                 break;
@@ -190,7 +292,7 @@ public class ProjectileEntity extends Entity {
                 trailColor = new Color(255, 100, 0);
                 explosive = true;
                 explosionRadius = 64;
-                if (!tryLoadSprite(spritePath)) {
+                if (!cached && !tryLoadSprite(spritePath)) {
                     createFireballSprite(16, 16);
                 }
                 break;
@@ -198,27 +300,27 @@ public class ProjectileEntity extends Entity {
                 gravity = 0.1;
                 hasTrail = true;
                 trailColor = new Color(150, 200, 255);
-                if (!tryLoadSprite(spritePath)) {
+                if (!cached && !tryLoadSprite(spritePath)) {
                     createIceballSprite(14, 14);
                 }
                 break;
             case THROWING_KNIFE:
                 gravity = 0.4;
                 rotateWithVelocity = true;
-                if (!tryLoadSprite(spritePath)) {
+                if (!cached && !tryLoadSprite(spritePath)) {
                     createKnifeSprite(14, 4, new Color(180, 180, 180));
                 }
                 break;
             case THROWING_AXE:
                 gravity = 0.5;
                 rotateWithVelocity = true;
-                if (!tryLoadSprite(spritePath)) {
+                if (!cached && !tryLoadSprite(spritePath)) {
                     createAxeSprite(16, 16);
                 }
                 break;
             case ROCK:
                 gravity = 0.6;
-                if (!tryLoadSprite(spritePath)) {
+                if (!cached && !tryLoadSprite(spritePath)) {
                     createRockSprite(10, 10, new Color(100, 100, 100));
                 }
                 break;
@@ -226,7 +328,7 @@ public class ProjectileEntity extends Entity {
                 gravity = 0.5;
                 explosive = true;
                 explosionRadius = 48;
-                if (!tryLoadSprite(spritePath)) {
+                if (!cached && !tryLoadSprite(spritePath)) {
                     createPotionSprite(10, 14, new Color(100, 200, 100));
                 }
                 break;
@@ -234,7 +336,7 @@ public class ProjectileEntity extends Entity {
                 gravity = 0.4;
                 explosive = true;
                 explosionRadius = 96;
-                if (!tryLoadSprite(spritePath)) {
+                if (!cached && !tryLoadSprite(spritePath)) {
                     createBombSprite(14, 14);
                 }
                 break;
@@ -243,11 +345,55 @@ public class ProjectileEntity extends Entity {
                 rotateWithVelocity = true;
                 hasTrail = true;
                 trailColor = new Color(100, 180, 255);  // Watery blue trail
-                if (!tryLoadSprite(spritePath)) {
+                if (!cached && !tryLoadSprite(spritePath)) {
                     createFishSprite(14, 8);
                 }
                 break;
         }
+
+        if (!cached) {
+            cacheSprite(type.name());
+        }
+    }
+
+    /**
+     * Takes the shared sprite for a key, if one was cached.
+     * @return true if the sprite was set
+     */
+    private boolean useCachedSprite(String key) {
+        CachedSprite cachedSprite;
+        synchronized (spriteCache) {
+            cachedSprite = spriteCache.get(key);
+        }
+        if (cachedSprite == null) return false;
+
+        width = cachedSprite.width;
+        height = cachedSprite.height;
+        if (cachedSprite.clip != null) {
+            // Frames are shared; playback state is per projectile
+            if (animation != null && animation.getClip() == cachedSprite.clip) {
+                animation.reset();
+                animation.pause();
+            } else {
+                animation = new AnimatedTexture(cachedSprite.clip);
+            }
+            staticSprite = null;
+        } else {
+            animation = null;
+            staticSprite = cachedSprite.image;
+        }
+        return true;
+    }
+
+    /**
+     * Shares the sprite this projectile just loaded or generated.
+     */
+    private void cacheSprite(String key) {
+        CachedSprite cachedSprite = new CachedSprite(
+                animation != null ? animation.getClip() : null, staticSprite, width, height);
+        synchronized (spriteCache) {
+            spriteCache.put(key, cachedSprite);
+        }
     }
 
     /**
@@ -625,6 +771,7 @@ public class ProjectileEntity extends Entity {
      * Loads the projectile sprite.
      */
     private void loadSprite(String spritePath) {
+        if (useCachedSprite(spritePath)) return;
         try {
             AssetLoader.ImageAsset asset = AssetLoader.load(spritePath);
             if (asset.animatedTexture != null) {
@@ -642,6 +789,7 @@ public class ProjectileEntity extends Entity {
             System.err.println("ProjectileEntity: Failed to load sprite: " + spritePath);
             createFallbackSprite();
         }
+        cacheSprite(spritePath);
     }
 
     /**
@@ -696,9 +844,12 @@ public class ProjectileEntity extends Entity {
             animation.update(elapsed);
         }
 
-        // Store previous position for trail
+        // Store previous position for trail (reusing the point that falls off the end)
         if (hasTrail) {
-            trailPoints.add(0, new Point(x + width/2, y + height/2));
+            Point point = trailPoints.size() >= maxTrailLength && !trailPoints.isEmpty()
+                    ? trailPoints.remove(trailPoints.size() - 1) : new Point();
+            point.setLocation(x + width/2, y + height/2);
+            trailPoints.add(0, point);
             while (trailPoints.size() > maxTrailLength) {
                 trailPoints.remove(trailPoints.size() - 1);
             }
@@ -707,9 +858,14 @@ public class ProjectileEntity extends Entity {
         // Apply gravity
         velY += gravity;
 
-        // Move projectile
-        x += (int)velX;
-        y += (int)velY;
+        // Move projectile, remembering where it started for the swept collision test
+        int startX = x;
+        int startY = y;
+        Rectangle startBounds = fillBounds(moveStart);
+        int moveX = (int)velX;
+        int moveY = (int)velY;
+        x += moveX;
+        y += moveY;
 
         // Update rotation based on velocity
         if (rotateWithVelocity && (velX != 0 || velY != 0)) {
@@ -717,74 +873,171 @@ public class ProjectileEntity extends Entity {
         }
 
         // Check collisions
-        checkCollisions(entities);
+        checkCollisions(entities, startX, startY, startBounds, moveX, moveY);
     }
 
     /**
-     * Checks for collisions with entities and blocks.
+     * Sets the block grid and actor grid used for collision queries.
+     * Called by EntityManager every tick; without them the projectile scans the entity list.
      */
-    private void checkCollisions(List<Entity> entities) {
+    public void setWorld(BlockGrid blockGrid, EntityGrid actorGrid) {
+        this.blockGrid = blockGrid;
+        this.actorGrid = actorGrid;
+    }
+
+    /**
+     * Checks for collisions along this tick's movement.
+     *
+     * The hitbox is swept from its start position over the move, so hits are
+     * found at any speed. Blocks come from a traversal of the block grid along
+     * the path plus the blocks the grid does not index (all of them in scenes
+     * without a grid), and actors from the actor grid around it. Hits are handled in
+     * order of time of impact: targets behind the first wall are not hit, and a
+     * piercing shot damages each mob in its path once.
+     */
+    private void checkCollisions(List<Entity> entities, int startX, int startY,
+                                 Rectangle start, int moveX, int moveY) {
         if (!active) return;
 
-        Rectangle bounds = getBounds();
+        // Earliest solid block along the path
+        blockHit.reset();
+        if (blockGrid != null) {
+            blockGrid.sweepBox(start.x, start.y, start.width, start.height, moveX, moveY, blockHit);
+        }
+        if (actorGrid != null) {
+            // Loose blocks the actor grid does not return either
+            List<Entity> loose = tileCollider != null ? tileCollider.getLooseSolids() : entities;
+            for (int i = 0; i < loose.size(); i++) {
+                Entity e = loose.get(i);
+                if (e instanceof BlockEntity && !EntityGrid.isIndexed(e)
+                        && (blockGrid == null || ((BlockEntity) e).getGrid() != blockGrid)) {
+                    BlockEntity block = (BlockEntity) e;
+                    if (block.isSolid()) {
+                        blockHit.offer(SweptAABB.sweep(start, moveX, moveY, block.getBounds()), block);
+                    }
+                }
+            }
+        }
+
+        // Nearby actors (and moving blocks); everything when there is no grid
+        candidates.clear();
+        if (actorGrid != null) {
+            actorGrid.query(start.x + Math.min(0, moveX), start.y + Math.min(0, moveY),
+                    start.width + Math.abs(moveX), start.height + Math.abs(moveY), candidates);
+        } else {
+            candidates.addAll(entities);
+        }
 
-        for (Entity entity : entities) {
+        // Sweep the candidates, keeping actor hits sorted by time of impact
+        hitEntities.clear();
+        for (int i = 0; i < candidates.size(); i++) {
+            Entity entity = candidates.get(i);
             if (entity == this || entity == source) continue;
 
-            // Skip if this projectile shouldn't hit this entity type
-            if (fromPlayer && entity instanceof PlayerBase) continue;
-            if (!fromPlayer && entity instanceof MobEntity) continue;
+            if (entity instanceof BlockEntity) {
+                BlockEntity block = (BlockEntity) entity;
+                if (block.isSolid()) {
+                    blockHit.offer(SweptAABB.sweep(start, moveX, moveY, block.getBounds()), block);
+                }
+                continue;
+            }
+            if (!canHit(entity)) continue;
 
-            // Check collision with mobs (if player projectile)
-            if (fromPlayer && entity instanceof MobEntity) {
+            double time = SweptAABB.sweep(start, moveX, moveY, entity.getBounds());
+            if (time != SweptAABB.NO_HIT) {
+                addHit(entity, time);
+            }
+        }
+
+        for (int i = 0; i < hitEntities.size(); i++) {
+            double time = hitTimes[i];
+            if (time > blockHit.time) break; // Behind the wall
+
+            Entity entity = hitEntities.get(i);
+            if (entity instanceof MobEntity) {
                 MobEntity mob = (MobEntity) entity;
-                if (bounds.intersects(mob.getBounds()) && mob.getCurrentHealth() > 0) {
-                    // Calculate damage with effect multiplier
-                    int finalDamage = (int)(damage * effectDamageMultiplier);
-
-                    // Deal damage
-                    double knockbackDir = velX > 0 ? 1 : -1;
-                    mob.takeDamage(finalDamage, knockbackDir * knockbackForce, -knockbackForce / 2);
-
-                    // Apply status effect if this projectile has one
-                    if (statusEffect != StatusEffectType.NONE && mob instanceof SpriteMobEntity) {
-                        SpriteMobEntity spriteMob = (SpriteMobEntity) mob;
-                        StatusEffect effect = convertToMobStatusEffect(statusEffect);
-                        spriteMob.applyStatusEffect(effect, effectDuration, effectDamagePerTick, effectDamageMultiplier);
-                    }
+                if (mob.getCurrentHealth() <= 0) continue; // Killed by an earlier projectile this tick
 
-                    // Handle piercing or deactivate
-                    if (piercing && pierceCount < maxPierceCount) {
-                        pierceCount++;
-                        damage = (int)(damage * 0.7); // Reduce damage on pierce
-                    } else {
-                        onImpact();
-                        return;
-                    }
-                }
-            }
+                // Calculate damage with effect multiplier
+                int finalDamage = (int)(damage * effectDamageMultiplier);
 
-            // Check collision with player (if mob projectile)
-            if (!fromPlayer && entity instanceof PlayerBase) {
-                PlayerBase player = (PlayerBase) entity;
-                if (bounds.intersects(player.getBounds()) && !player.isInvincible()) {
-                    // Deal damage
-                    double knockbackDir = velX > 0 ? 1 : -1;
-                    player.takeDamage(damage, knockbackDir * knockbackForce, -knockbackForce / 2);
-                    onImpact();
-                    return;
+                // Deal damage
+                double knockbackDir = velX > 0 ? 1 : -1;
+                mob.takeDamage(finalDamage, knockbackDir * knockbackForce, -knockbackForce / 2);
+
+                // Apply status effect if this projectile has one
+                if (statusEffect != StatusEffectType.NONE && mob instanceof SpriteMobEntity) {
+                    SpriteMobEntity spriteMob = (SpriteMobEntity) mob;
+                    StatusEffect effect = convertToMobStatusEffect(statusEffect);
+                    spriteMob.applyStatusEffect(effect, effectDuration, effectDamagePerTick, effectDamageMultiplier);
                 }
-            }
 
-            // Check collision with blocks
-            if (entity instanceof BlockEntity) {
-                BlockEntity block = (BlockEntity) entity;
-                if (block.isSolid() && !block.isBroken() && bounds.intersects(block.getBounds())) {
-                    onImpact();
+                // Handle piercing or deactivate
+                if (piercing && pierceCount < maxPierceCount) {
+                    pierceCount++;
+                    damage = (int)(damage * 0.7); // Reduce damage on pierce
+                    if (piercedEntities == null) {
+                        piercedEntities = new ArrayList<>();
+                    }
+                    piercedEntities.add(mob);
+                } else {
+                    impactAt(startX, startY, moveX, moveY, time);
                     return;
                 }
+            } else if (entity instanceof PlayerBase) {
+                PlayerBase player = (PlayerBase) entity;
+                if (player.isInvincible()) continue;
+
+                // Deal damage
+                double knockbackDir = velX > 0 ? 1 : -1;
+                player.takeDamage(damage, knockbackDir * knockbackForce, -knockbackForce / 2);
+                impactAt(startX, startY, moveX, moveY, time);
+                return;
             }
         }
+
+        if (blockHit.isHit()) {
+            impactAt(startX, startY, moveX, moveY, blockHit.time);
+        }
+    }
+
+    /**
+     * Checks if this projectile damages an actor (mobs for player shots, the player for mob shots).
+     */
+    private boolean canHit(Entity entity) {
+        if (fromPlayer) {
+            return entity instanceof MobEntity
+                    && ((MobEntity) entity).getCurrentHealth() > 0
+                    && (piercedEntities == null || !piercedEntities.contains(entity));
+        }
+        return entity instanceof PlayerBase && !((PlayerBase) entity).isInvincible();
+    }
+
+    /**
+     * Inserts an actor hit, keeping the list ordered by time of impact.
+     */
+    private void addHit(Entity entity, double time) {
+        int count = hitEntities.size();
+        if (count == hitTimes.length) {
+            hitTimes = Arrays.copyOf(hitTimes, count * 2);
+        }
+        int index = count;
+        while (index > 0 && hitTimes[index - 1] > time) {
+            hitTimes[index] = hitTimes[index - 1];
+            index--;
+        }
+        hitTimes[index] = time;
+        hitEntities.add(index, entity);
+    }
+
+    /**
+     * Moves back to the contact point of a hit and runs the impact.
+     */
+    private void impactAt(int startX, int startY, int moveX, int moveY, double time) {
+        x = startX + (int)(moveX * time);
+        y = startY + (int)(moveY * time);
+        impactTime = time;
+        onImpact();
     }
 
     /**
@@ -797,49 +1050,49 @@ public class ProjectileEntity extends Entity {
             explosionTimer = 0;
             explosionFrame = 0;
 
-            // Deal damage to all entities within explosion radius
-            if (entitiesReference != null) {
+            // Deal damage to all actors of the other side within explosion radius
+            if (entitiesReference != null || actorGrid != null) {
                 int centerX = x + width / 2;
                 int centerY = y + height / 2;
 
-                for (Entity entity : entitiesReference) {
-                    if (entity == this || entity == source) continue;
+                List<Entity> caught = new ArrayList<>();
+                AreaQuery.circle(actorGrid, entitiesReference, centerX, centerY, explosionRadius,
+                        fromPlayer ? AreaQuery.Faction.MOBS : AreaQuery.Faction.PLAYERS, caught);
+                for (Entity entity : caught) {
+                    if (entity == source) continue;
 
-                    // Calculate distance to entity center
+                    // Distance to entity center
                     Rectangle bounds = entity.getBounds();
                     int entityCenterX = bounds.x + bounds.width / 2;
                     int entityCenterY = bounds.y + bounds.height / 2;
-                    double distance = Math.sqrt(
-                        Math.pow(entityCenterX - centerX, 2) +
-                        Math.pow(entityCenterY - centerY, 2)
-                    );
-
-                    if (distance <= explosionRadius) {
-                        // Calculate damage falloff (100% at center, 25% at edge)
-                        double damageMultiplier = 1.0 - (distance / explosionRadius) * 0.75;
-                        int explosionDamage = (int)(damage * damageMultiplier);
-
-                        // Calculate knockback direction (away from explosion center)
-                        double knockbackX = 0;
-                        double knockbackY = 0;
-                        if (distance > 0) {
-                            knockbackX = ((entityCenterX - centerX) / distance) * knockbackForce * 1.5;
-                            knockbackY = ((entityCenterY - centerY) / distance) * knockbackForce - 3;  // Upward boost
-                        } else {
-                            knockbackY = -knockbackForce;  // Direct hit - knock upward
-                        }
+                    double ex = entityCenterX - centerX;
+                    double ey = entityCenterY - centerY;
+                    double distance = Math.sqrt(ex * ex + ey * ey);
+
+                    // Calculate damage falloff (100% at center, 25% at edge)
+                    double damageMultiplier = 1.0 - (distance / explosionRadius) * 0.75;
+                    int explosionDamage = (int)(damage * damageMultiplier);
+
+                    // Calculate knockback direction (away from explosion center)
+                    double knockbackX = 0;
+                    double knockbackY = 0;
+                    if (distance > 0) {
+                        knockbackX = ((entityCenterX - centerX) / distance) * knockbackForce * 1.5;
+                        knockbackY = ((entityCenterY - centerY) / distance) * knockbackForce - 3;  // Upward boost
+                    } else {
+                        knockbackY = -knockbackForce;  // Direct hit - knock upward
+                    }
 
-                        // Deal damage based on entity type
-                        if (fromPlayer && entity instanceof MobEntity) {
-                            MobEntity mob = (MobEntity) entity;
-                            if (mob.getCurrentHealth() > 0) {
-                                mob.takeDamage(explosionDamage, knockbackX, knockbackY);
-                            }
-                        } else if (!fromPlayer && entity instanceof PlayerBase) {
-                            PlayerBase player = (PlayerBase) entity;
-                            if (!player.isInvincible()) {
-                                player.takeDamage(explosionDamage, knockbackX, knockbackY);
-                            }
+                    // Deal damage based on entity type
+                    if (entity instanceof MobEntity) {
+                        MobEntity mob = (MobEntity) entity;
+                        if (mob.getCurrentHealth() > 0) {
+                            mob.takeDamage(explosionDamage, knockbackX, knockbackY);
+                        }
+                    } else if (entity instanceof PlayerBase) {
+                        PlayerBase player = (PlayerBase) entity;
+                        if (!player.isInvincible()) {
+                            player.takeDamage(explosionDamage, knockbackX, knockbackY);
                         }
                     }
                 }
@@ -991,6 +1244,14 @@ public class ProjectileEntity extends Entity {
 
     @Override
     public Rectangle getBounds() {
+        return fillBounds(new Rectangle());
+    }
+
+    /**
+     * Writes the hitbox into a rectangle.
+     * @return The rectangle
+     */
+    private Rectangle fillBounds(Rectangle out) {
         // Use scaled bounds for collision detection (includes charge scale)
         // Ensure minimum size of 1x1 for visibility checking
         int scaledWidth = (int)(width * scaleFactor);
@@ -998,16 +1259,25 @@ public class ProjectileEntity extends Entity {
         int hitboxPadding = Math.min(4, Math.min(scaledWidth, scaledHeight) / 4);
         int boundsWidth = Math.max(1, scaledWidth - hitboxPadding * 2);
         int boundsHeight = Math.max(1, scaledHeight - hitboxPadding * 2);
-        return new Rectangle(
+        out.setBounds(
             x + hitboxPadding,
             y + hitboxPadding,
             boundsWidth,
             boundsHeight
         );
+        return out;
     }
 
     // ==================== Getters and Setters ====================
 
+    /**
+     * Gets how far through its last move the projectile hit something
+     * (0 = start of the tick, 1 = end), or -1 if it has not hit anything.
+     */
+    public double getImpactTime() {
+        return impactTime;
+    }
+
     public boolean isActive() {
         return active || showExplosion;  // Keep active during explosion animation
     }
@@ -1218,7 +1488,7 @@ public class ProjectileEntity extends Entity {
         System.out.println("[PROJECTILE] " + type + " creating drop for: " + sourceItemId + " at (" + x + "," + y + ")");
 
         // Create the dropped item entity at impact location
-        ItemEntity dropped = new ItemEntity(x, y, sourceItemId);
+        ItemEntity dropped = EntityPools.getInstance().obtainItem(x, y, sourceItemId);
         dropped.setStackCount(1);  // Single item drop
         dropped.enablePhysics(0, -2, 720);  // Small upward bounce
         dropped.setShowLightBeam(true);
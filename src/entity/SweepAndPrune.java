@@ -0,0 +1,152 @@
+package entity;
+
+import entity.mob.MobEntity;
+import entity.player.PlayerBase;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Sort-and-sweep broadphase for overlapping actors (living mobs and the
+ * player), used for soft separation pushes.
+ *
+ * Actors are kept in a list sorted by the left edge of their bounds. The list
+ * persists between ticks and is re-sorted with insertion sort, which is close
+ * to linear because actors barely move from one tick to the next. The sweep
+ * then only compares each actor with the ones whose left edge falls before its
+ * right edge, instead of testing every pair.
+ *
+ * Usage:
+ *   broadphase.sweep(entities, player, (a, boundsA, b, boundsB) -> { ... });
+ */
+public class SweepAndPrune {
+
+    /**
+     * Receives each overlapping pair once.
+     */
+    public interface PairVisitor {
+        void overlap(Entity a, Rectangle boundsA, Entity b, Rectangle boundsB);
+    }
+
+    // Actors sorted by bounds.x, with their bounds for this tick
+    private Entity[] actors = new Entity[64];
+    private Rectangle[] bounds = new Rectangle[64];
+    private int count;
+
+    private final IdentityHashMap<Entity, Boolean> present = new IdentityHashMap<>();
+
+    // Stats
+    private int candidatesLastSweep;
+    private int overlapsLastSweep;
+
+    /**
+     * Checks if an entity takes part in separation.
+     */
+    private static boolean isActor(Entity e, PlayerBase player) {
+        if (e instanceof MobEntity) {
+            return ((MobEntity) e).getState() != MobEntity.AIState.DEAD;
+        }
+        return e == player;
+    }
+
+    /**
+     * Brings the sorted list up to date and reports every overlapping pair.
+     * @param entities Scene entities
+     * @param player The player (may be null)
+     * @param visitor Receives the overlapping pairs
+     */
+    public void sweep(List<Entity> entities, PlayerBase player, PairVisitor visitor) {
+        sync(entities, player);
+        sort();
+
+        candidatesLastSweep = 0;
+        overlapsLastSweep = 0;
+        for (int i = 0; i < count; i++) {
+            Rectangle a = bounds[i];
+            int right = a.x + a.width;
+            for (int j = i + 1; j < count; j++) {
+                Rectangle b = bounds[j];
+                if (b.x >= right) break; // Sorted: nothing further right can overlap
+                candidatesLastSweep++;
+                if (b.y < a.y + a.height && a.y < b.y + b.height && b.x + b.width > a.x) {
+                    overlapsLastSweep++;
+                    visitor.overlap(actors[i], a, actors[j], b);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops actors that left or died, appends new ones (keeping the previous
+     * order for the rest) and refreshes everyone's bounds.
+     */
+    private void sync(List<Entity> entities, PlayerBase player) {
+        present.clear();
+        for (int i = 0; i < entities.size(); i++) {
+            Entity e = entities.get(i);
+            if (isActor(e, player)) {
+                present.put(e, Boolean.TRUE);
+            }
+        }
+
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            // Removing as we keep leaves only the newcomers in the map
+            if (present.remove(actors[i]) != null) {
+                actors[kept++] = actors[i];
+            }
+        }
+        for (int i = kept; i < count; i++) {
+            actors[i] = null;
+        }
+        count = kept;
+
+        if (!present.isEmpty()) {
+            for (int i = 0; i < entities.size(); i++) {
+                Entity e = entities.get(i);
+                if (present.remove(e) != null) {
+                    if (count == actors.length) {
+                        actors = Arrays.copyOf(actors, count * 2);
+                        bounds = Arrays.copyOf(bounds, count * 2);
+                    }
+                    actors[count++] = e;
+                }
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            bounds[i] = actors[i].getBounds();
+        }
+    }
+
+    /**
+     * Insertion sort by left edge (nearly sorted already from last tick).
+     */
+    private void sort() {
+        for (int i = 1; i < count; i++) {
+            Entity actor = actors[i];
+            Rectangle b = bounds[i];
+            int j = i - 1;
+            while (j >= 0 && bounds[j].x > b.x) {
+                actors[j + 1] = actors[j];
+                bounds[j + 1] = bounds[j];
+                j--;
+            }
+            actors[j + 1] = actor;
+            bounds[j + 1] = b;
+        }
+    }
+
+    // ==================== Stats ====================
+
+    public int getActorCount() { return count; }
+
+    /**
+     * Gets the pairs whose X ranges overlapped last sweep (the narrow-phase tests).
+     */
+    public int getCandidatesLastSweep() { return candidatesLastSweep; }
+
+    public int getOverlapsLastSweep() { return overlapsLastSweep; }
+}
@@ -0,0 +1,94 @@
+package entity;
+
+import java.awt.Rectangle;
+
+/**
+ * Continuous (swept) box-versus-box intersection.
+ *
+ * Times are fractions of the move: 0 is the start position, 1 is the end.
+ * Touching edges do not count as a hit, matching Rectangle.intersects().
+ */
+public final class SweptAABB {
+
+    /** Returned when the boxes never overlap during the move. */
+    public static final double NO_HIT = Double.POSITIVE_INFINITY;
+
+    /**
+     * Result of a sweep against several candidates (the earliest hit wins).
+     */
+    public static class Hit {
+        public double time = NO_HIT;
+        public Entity entity;
+
+        public void reset() {
+            time = NO_HIT;
+            entity = null;
+        }
+
+        public boolean isHit() {
+            return time != NO_HIT;
+        }
+
+        /**
+         * Keeps a hit if it is earlier than the current one.
+         */
+        public void offer(double hitTime, Entity hitEntity) {
+            if (hitTime < time) {
+                time = hitTime;
+                entity = hitEntity;
+            }
+        }
+    }
+
+    private SweptAABB() {
+    }
+
+    /**
+     * Finds when a moving box first overlaps a static one.
+     * @param x Moving box left at the start of the move
+     * @param y Moving box top at the start of the move
+     * @param w Moving box width
+     * @param h Moving box height
+     * @param dx Movement along X over the move
+     * @param dy Movement along Y over the move
+     * @param target Static box
+     * @return Time of impact in [0, 1] (0 if already overlapping), or NO_HIT
+     */
+    public static double sweep(double x, double y, double w, double h, double dx, double dy, Rectangle target) {
+        double entry = 0;
+        double exit = 1;
+
+        // X slab: overlap while x + w > target.x and x < target.x + target.width
+        double left = target.x - (x + w);
+        double right = target.x + target.width - x;
+        if (dx == 0) {
+            if (left >= 0 || right <= 0) return NO_HIT;
+        } else {
+            double t0 = left / dx;
+            double t1 = right / dx;
+            entry = Math.max(entry, Math.min(t0, t1));
+            exit = Math.min(exit, Math.max(t0, t1));
+        }
+
+        // Y slab
+        double top = target.y - (y + h);
+        double bottom = target.y + target.height - y;
+        if (dy == 0) {
+            if (top >= 0 || bottom <= 0) return NO_HIT;
+        } else {
+            double t0 = top / dy;
+            double t1 = bottom / dy;
+            entry = Math.max(entry, Math.min(t0, t1));
+            exit = Math.min(exit, Math.max(t0, t1));
+        }
+
+        return entry < exit ? entry : NO_HIT;
+    }
+
+    /**
+     * Sweeps a Rectangle (see sweep(double, double, double, double, double, double, Rectangle)).
+     */
+    public static double sweep(Rectangle moving, double dx, double dy, Rectangle target) {
+        return sweep(moving.x, moving.y, moving.width, moving.height, dx, dy, target);
+    }
+}
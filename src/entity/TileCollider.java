@@ -0,0 +1,298 @@
+package entity;
+
+import block.BlockEntity;
+import block.BlockGrid;
+import block.BlockRegistry;
+import block.MovingBlockEntity;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared collision response against solid blocks and solid sprites, used by
+ * the players, mobs, dropped items and moving-block riders.
+ *
+ * Static blocks are looked up in the level's BlockGrid by sampling only the
+ * cells an area covers, so a query costs the same in a small room as in a huge
+ * level. Moving blocks and solid sprites (few per level) are kept in a short
+ * side list. Without a grid every query scans the entity list instead.
+ *
+ * Moves are resolved one axis at a time and stop flush against the first
+ * solid in the way. Edges up to STEP_HEIGHT tall (a block mined down from the
+ * top, or a row of them mined to different depths) are climbed like a slope
+ * rather than treated as walls.
+ *
+ * Usage:
+ *   Rectangle box = new Rectangle(x, y, width, height);
+ *   int contacts = collider.moveX(box, dx, this) | collider.moveY(box, dy, this);
+ *   x = box.x; y = box.y;
+ *   if ((contacts & TileCollider.GROUND) != 0) { ... }
+ */
+public class TileCollider {
+
+    // Contact flags returned by moves
+    public static final int GROUND = 1;
+    public static final int CEILING = 2;
+    public static final int WALL_LEFT = 4;
+    public static final int WALL_RIGHT = 8;
+    public static final int STEPPED = 16;
+
+    /** Tallest edge that is walked up instead of blocking (one mining layer). */
+    public static final int STEP_HEIGHT = BlockEntity.LAYER_SIZE;
+
+    // Overlaps this shallow are pushed out of when landing or hitting a ceiling
+    private static final int SNAP = 4;
+
+    private BlockGrid grid;
+    private List<Entity> solids;           // Moving blocks and sprites, or every entity without a grid
+    private final ArrayList<Entity> looseSolids = new ArrayList<>();
+    private final ArrayList<Entity> scratch = new ArrayList<>();
+    private Entity lastWall;
+
+    public TileCollider() {
+        this.solids = looseSolids;
+    }
+
+    /**
+     * Creates a collider that scans an entity list (for actors outside an EntityManager).
+     */
+    public static TileCollider forEntities(List<Entity> entities) {
+        TileCollider collider = new TileCollider();
+        collider.solids = entities;
+        return collider;
+    }
+
+    /**
+     * Points the collider at the level's grid and collects the solids the grid
+     * does not index. Called by EntityManager once per tick.
+     * @param grid Block grid (null to scan every block in the list)
+     * @param entities Scene entities
+     */
+    public void rebuild(BlockGrid grid, List<Entity> entities) {
+        this.grid = grid;
+        this.solids = looseSolids;
+        looseSolids.clear();
+        for (int i = 0; i < entities.size(); i++) {
+            Entity e = entities.get(i);
+            if (e instanceof BlockEntity) {
+                if (grid == null || e instanceof MovingBlockEntity || ((BlockEntity) e).getGrid() != grid) {
+                    looseSolids.add(e);
+                }
+            } else if (e instanceof SpriteEntity) {
+                looseSolids.add(e);
+            }
+        }
+    }
+
+    /**
+     * Gets the solids the grid does not index: moving blocks, blocks outside
+     * the grid and solid sprites (every block and sprite without a grid).
+     */
+    public List<Entity> getLooseSolids() {
+        return looseSolids;
+    }
+
+    /**
+     * Checks if an entity blocks movement.
+     */
+    public static boolean isSolid(Entity e) {
+        if (e instanceof BlockEntity) return ((BlockEntity) e).isSolid();
+        if (e instanceof SpriteEntity) return ((SpriteEntity) e).isSolid();
+        return false;
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Collects the solids overlapping an area (touching edges do not count).
+     * @param area Area to test
+     * @param ignore Entity to skip (e.g. the moving block being ridden), or null
+     * @param out Receives the solids (not cleared)
+     */
+    public void collectSolids(Rectangle area, Entity ignore, List<Entity> out) {
+        if (area.width <= 0 || area.height <= 0) return;
+
+        if (grid != null) {
+            int size = BlockRegistry.BLOCK_SIZE;
+            int slack = grid.getCellSlack();
+            int minX = Math.floorDiv(area.x, size) - slack;
+            int minY = Math.floorDiv(area.y, size) - slack;
+            int maxX = Math.floorDiv(area.x + area.width - 1, size) + slack;
+            int maxY = Math.floorDiv(area.y + area.height - 1, size) + slack;
+            for (int gy = minY; gy <= maxY; gy++) {
+                for (int gx = minX; gx <= maxX; gx++) {
+                    BlockEntity block = grid.getBlock(gx, gy);
+                    if (block != null && block != ignore && block.isSolid() && area.intersects(block.getBounds())) {
+                        out.add(block);
+                    }
+                }
+            }
+        }
+
+        for (int i = 0; i < solids.size(); i++) {
+            Entity e = solids.get(i);
+            if (e != ignore && isSolid(e) && area.intersects(e.getBounds())) {
+                out.add(e);
+            }
+        }
+    }
+
+    /**
+     * Checks if any solid overlaps an area.
+     */
+    public boolean overlapsSolid(Rectangle area, Entity ignore) {
+        scratch.clear();
+        collectSolids(area, ignore, scratch);
+        boolean found = !scratch.isEmpty();
+        scratch.clear();
+        return found;
+    }
+
+    /**
+     * Gets the solid that stopped the last horizontal move (null if it was not blocked).
+     */
+    public Entity getLastWall() {
+        return lastWall;
+    }
+
+    // ==================== Moves ====================
+
+    /**
+     * Moves a box horizontally, stopping flush against the first solid in the way.
+     * Low edges are climbed, which also moves the box up.
+     * @param box Box to move (updated in place)
+     * @param dx Distance to move
+     * @param ignore Entity to skip, or null
+     * @return WALL_LEFT / WALL_RIGHT if blocked, STEPPED if it climbed an edge, else 0
+     */
+    public int moveX(Rectangle box, int dx, Entity ignore) {
+        lastWall = null;
+        if (dx == 0) return 0;
+
+        Rectangle path = dx > 0
+                ? new Rectangle(box.x + box.width, box.y, dx, box.height)
+                : new Rectangle(box.x + dx, box.y, -dx, box.height);
+        scratch.clear();
+        collectSolids(path, ignore, scratch);
+
+        int bottom = box.y + box.height;
+        int allowed = clampX(box, dx, bottom - STEP_HEIGHT);
+
+        // Climb the low edges the box now reaches, if there is room above them
+        int stepTop = Integer.MAX_VALUE;
+        for (int i = 0; i < scratch.size(); i++) {
+            Rectangle b = scratch.get(i).getBounds();
+            if (b.y >= bottom - STEP_HEIGHT && reaches(box, allowed, b)) {
+                stepTop = Math.min(stepTop, b.y);
+            }
+        }
+        int flags = 0;
+        if (stepTop != Integer.MAX_VALUE) {
+            Rectangle raised = new Rectangle(box.x + allowed, stepTop - box.height, box.width, box.height);
+            scratch.clear();
+            collectSolids(raised, ignore, scratch);
+            if (scratch.isEmpty()) {
+                box.y = raised.y;
+                flags |= STEPPED;
+            } else {
+                // No headroom: the edges block like walls
+                scratch.clear();
+                collectSolids(path, ignore, scratch);
+                allowed = clampX(box, dx, Integer.MAX_VALUE);
+            }
+        }
+        scratch.clear();
+
+        box.x += allowed;
+        if (lastWall != null) {
+            flags |= dx > 0 ? WALL_RIGHT : WALL_LEFT;
+        }
+        return flags;
+    }
+
+    /**
+     * Limits a horizontal move by the solids in scratch whose top is above a height.
+     */
+    private int clampX(Rectangle box, int dx, int minTop) {
+        int allowed = dx;
+        lastWall = null;
+        for (int i = 0; i < scratch.size(); i++) {
+            Entity e = scratch.get(i);
+            Rectangle b = e.getBounds();
+            if (b.y >= minTop) continue;
+
+            // Already overlapping from this side: can't go deeper, can still back out
+            int limit = dx > 0
+                    ? Math.max(0, b.x - (box.x + box.width))
+                    : Math.min(0, b.x + b.width - box.x);
+            if (dx > 0 ? limit < allowed : limit > allowed) {
+                allowed = limit;
+                lastWall = e;
+            }
+        }
+        return allowed;
+    }
+
+    private static boolean reaches(Rectangle box, int dx, Rectangle b) {
+        return dx > 0 ? b.x < box.x + box.width + dx : b.x + b.width > box.x + dx;
+    }
+
+    /**
+     * Moves a box vertically, landing on or bumping into the first solid in the way.
+     * Also reports GROUND when the box ends up resting on a solid.
+     * @param box Box to move (updated in place)
+     * @param dy Distance to move (positive is down)
+     * @param ignore Entity to skip, or null
+     * @return GROUND and/or CEILING contact flags
+     */
+    public int moveY(Rectangle box, int dy, Entity ignore) {
+        int flags = 0;
+        if (dy != 0) {
+            int bottom = box.y + box.height;
+            Rectangle path = dy > 0
+                    ? new Rectangle(box.x, bottom - SNAP, box.width, dy + SNAP)
+                    : new Rectangle(box.x, box.y + dy, box.width, SNAP - dy);
+            scratch.clear();
+            collectSolids(path, ignore, scratch);
+
+            int allowed = dy;
+            for (int i = 0; i < scratch.size(); i++) {
+                Rectangle b = scratch.get(i).getBounds();
+                if (dy > 0) {
+                    // Only surfaces at or just above the feet, not walls we are beside
+                    if (b.y >= bottom - SNAP && b.y - bottom < allowed) {
+                        allowed = b.y - bottom;
+                        flags = GROUND;
+                    }
+                } else {
+                    int bBottom = b.y + b.height;
+                    if (bBottom <= box.y + SNAP && bBottom - box.y > allowed) {
+                        allowed = bBottom - box.y;
+                        flags = CEILING;
+                    }
+                }
+            }
+            scratch.clear();
+            box.y += allowed;
+        }
+
+        if (dy >= 0 && flags == 0
+                && overlapsSolid(new Rectangle(box.x, box.y + box.height, box.width, 1), ignore)) {
+            flags |= GROUND;
+        }
+        return flags;
+    }
+
+    /**
+     * Moves a box horizontally and then vertically (see moveX and moveY).
+     * @return Combined contact flags
+     */
+    public int move(Rectangle box, int dx, int dy, Entity ignore) {
+        int flags = moveX(box, dx, ignore);
+        Entity wall = lastWall;
+        flags |= moveY(box, dy, ignore);
+        lastWall = wall;
+        return flags;
+    }
+}
@@ -0,0 +1,221 @@
+package entity.item;
+
+import block.BlockEntity;
+import block.BlockGrid;
+import block.BlockRegistry;
+import entity.player.PlayerBase;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Puts item entities that have stopped moving to sleep, and merges settled
+ * drops into nearby piles of the same item.
+ *
+ * A sleeping item is skipped by EntityManager's update (it still draws, and
+ * its bob and light beam follow the clock). Sleepers are indexed by block
+ * cell, so waking them is a lookup rather than a scan:
+ *   - a block changes in or next to their cell (the ground may be gone)
+ *   - a player comes within reach (pickup checks use live bounds)
+ *
+ * When a dropped item settles next to a sleeping pile it can stack with
+ * (same registry ID, room left in the stack), it is added to that pile's
+ * count and removed from the scene.
+ *
+ * Usage (EntityManager):
+ *   droppedItems.beginTick(player);
+ *   if (!item.isSleeping()) { item.update(input); if (droppedItems.settle(item)) remove item; }
+ */
+public class DroppedItemManager implements BlockGrid.ChangeListener {
+
+    /** Distance between item centers within which settled drops merge (two blocks, so mined rows pile up). */
+    public static final int MERGE_RADIUS = 2 * BlockRegistry.BLOCK_SIZE;
+
+    /** Margin around the player inside which items stay awake. */
+    public static final int WAKE_REACH = 96;
+
+    private static final int CELL_SIZE = BlockRegistry.BLOCK_SIZE;
+    private static final int MERGE_CELLS = (MERGE_RADIUS + CELL_SIZE - 1) / CELL_SIZE;
+
+    // Sleeping items by block cell
+    private final HashMap<Long, ArrayList<ItemEntity>> sleepers = new HashMap<>();
+    private int sleepingCount;
+
+    private BlockGrid grid;
+    private final Rectangle reach = new Rectangle();
+    private boolean hasReach;
+
+    // Stats
+    private int updates, updatesLastTick;
+    private int merges;
+
+    /**
+     * Attaches the block grid whose changes wake sleepers (null to detach).
+     */
+    public void setBlockGrid(BlockGrid grid) {
+        if (this.grid != null) {
+            this.grid.removeListener(this);
+        }
+        this.grid = grid;
+        if (grid != null) {
+            grid.addListener(this);
+        }
+    }
+
+    /**
+     * Starts a tick: wakes the sleepers within reach of the player.
+     */
+    public void beginTick(PlayerBase player) {
+        updatesLastTick = updates;
+        updates = 0;
+
+        hasReach = player != null;
+        if (!hasReach) return;
+        Rectangle b = player.getBounds();
+        reach.setBounds(b.x - WAKE_REACH, b.y - WAKE_REACH,
+                b.width + WAKE_REACH * 2, b.height + WAKE_REACH * 2);
+        if (sleepingCount == 0) return;
+
+        int minX = Math.floorDiv(reach.x, CELL_SIZE);
+        int minY = Math.floorDiv(reach.y, CELL_SIZE);
+        int maxX = Math.floorDiv(reach.x + reach.width, CELL_SIZE);
+        int maxY = Math.floorDiv(reach.y + reach.height, CELL_SIZE);
+        for (int cy = minY; cy <= maxY; cy++) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                ArrayList<ItemEntity> list = sleepers.get(cellKey(cx, cy));
+                if (list == null) continue;
+                for (int i = list.size() - 1; i >= 0; i--) {
+                    ItemEntity item = list.get(i);
+                    if (reach.intersects(item.getBounds())) {
+                        unindex(item);
+                        item.setSleeping(false);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Handles an awake item after its update: once it rests it either merges
+     * into a nearby pile or falls asleep.
+     * @return true if the item was merged away and should be removed
+     */
+    public boolean settle(ItemEntity item) {
+        updates++;
+        if (!item.isResting()) return false;
+        Rectangle b = item.getBounds();
+        if (hasReach && reach.intersects(b)) return false; // Player nearby: stay awake
+
+        int centerX = b.x + b.width / 2;
+        int centerY = b.y + b.height / 2;
+        if (item.isDropped() && item.isStackable()) {
+            ItemEntity pile = findPile(item, centerX, centerY);
+            if (pile != null && pile.addToStack(item) == 0) {
+                merges++;
+                return true;
+            }
+        }
+
+        item.sleepCell = cellKey(Math.floorDiv(centerX, CELL_SIZE), Math.floorDiv(centerY, CELL_SIZE));
+        sleepers.computeIfAbsent(item.sleepCell, k -> new ArrayList<>()).add(item);
+        sleepingCount++;
+        item.setSleeping(true);
+        return false;
+    }
+
+    /**
+     * Finds a sleeping drop within merge range that the item can stack onto.
+     */
+    private ItemEntity findPile(ItemEntity item, int centerX, int centerY) {
+        int cellX = Math.floorDiv(centerX, CELL_SIZE);
+        int cellY = Math.floorDiv(centerY, CELL_SIZE);
+        int radiusSq = MERGE_RADIUS * MERGE_RADIUS;
+        for (int cy = cellY - MERGE_CELLS; cy <= cellY + MERGE_CELLS; cy++) {
+            for (int cx = cellX - MERGE_CELLS; cx <= cellX + MERGE_CELLS; cx++) {
+                ArrayList<ItemEntity> list = sleepers.get(cellKey(cx, cy));
+                if (list == null) continue;
+                for (int i = 0; i < list.size(); i++) {
+                    ItemEntity pile = list.get(i);
+                    if (!pile.isDropped() || !pile.canStackWith(item)) continue;
+                    Rectangle p = pile.getBounds();
+                    int dx = p.x + p.width / 2 - centerX;
+                    int dy = p.y + p.height / 2 - centerY;
+                    if (dx * dx + dy * dy <= radiusSq) {
+                        return pile;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Forgets an item leaving the scene (picked up or removed) and wakes it,
+     * so it updates normally if it is dropped again.
+     */
+    public void remove(ItemEntity item) {
+        if (item.isSleeping()) {
+            unindex(item);
+            item.setSleeping(false);
+        }
+    }
+
+    /**
+     * Wakes and forgets every sleeper (the scene's entities were cleared).
+     */
+    public void clear() {
+        for (ArrayList<ItemEntity> list : sleepers.values()) {
+            for (int i = 0; i < list.size(); i++) {
+                list.get(i).setSleeping(false);
+            }
+        }
+        sleepers.clear();
+        sleepingCount = 0;
+    }
+
+    @Override
+    public void onBlockChanged(int gridX, int gridY, BlockEntity block) {
+        if (sleepingCount == 0) return;
+        for (int cy = gridY - 1; cy <= gridY + 1; cy++) {
+            for (int cx = gridX - 1; cx <= gridX + 1; cx++) {
+                ArrayList<ItemEntity> list = sleepers.remove(cellKey(cx, cy));
+                if (list == null) continue;
+                sleepingCount -= list.size();
+                for (int i = 0; i < list.size(); i++) {
+                    ItemEntity item = list.get(i);
+                    item.setSleeping(false);
+                    item.unsettle();
+                }
+            }
+        }
+    }
+
+    private void unindex(ItemEntity item) {
+        ArrayList<ItemEntity> list = sleepers.get(item.sleepCell);
+        if (list != null && list.remove(item)) {
+            sleepingCount--;
+            if (list.isEmpty()) {
+                sleepers.remove(item.sleepCell);
+            }
+        }
+    }
+
+    private static long cellKey(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    // ==================== Stats ====================
+
+    public int getSleepingCount() { return sleepingCount; }
+
+    /**
+     * Gets the items that ran their update last tick.
+     */
+    public int getUpdatesLastTick() { return updatesLastTick; }
+
+    /**
+     * Gets the drops merged into piles so far.
+     */
+    public int getMerges() { return merges; }
+}
@@ -2,6 +2,7 @@ package entity.item;
 
 import animation.*;
 import animation.ItemAnimationState;
+import entity.EntityPools;
 import entity.ProjectileEntity;
 import graphics.*;
 
@@ -641,7 +642,7 @@ public class Item {
         double velX = dirX * projectileSpeed;
         double velY = dirY * projectileSpeed;
 
-        ProjectileEntity projectile = new ProjectileEntity(
+        ProjectileEntity projectile = EntityPools.getInstance().obtainProjectile(
             x, y, projectileType, projectileDamage, velX, velY, fromPlayer
         );
 
@@ -1,13 +1,16 @@
 package entity.item;
 import block.*;
 import entity.Entity;
+import entity.TileCollider;
 import input.*;
 import graphics.*;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import javax.imageio.ImageIO;
 import javax.imageio.ImageReader;
@@ -46,13 +49,17 @@ public class ItemEntity extends Entity {
     private int bounceCount = 0;
     private int maxBounces = 3;
 
+    // Resting items are put to sleep by DroppedItemManager and skip update()
+    // until a block next to them changes or a player comes within reach
+    private boolean sleeping = false;
+    long sleepCell; // DroppedItemManager index key while asleep
+
     // Reference to entity list for block collision detection
     private java.util.List<Entity> entityList = null;
 
     // Rarity light beam properties (Borderlands style)
     private boolean showLightBeam = false;
-    private float lightBeamPhase = 0;
-    private float lightBeamSpeed = 0.03f;
+    private float lightBeamSpeed = 0.03f; // Radians per tick at 60 FPS (the phase follows the clock)
     private static final Random random = new Random();
 
     // Color mask fields for tinting items
@@ -68,12 +75,12 @@ public class ItemEntity extends Entity {
     private int maxStackSize = 16;
 
     // Animation support for GIFs (full 32-bit color with per-frame timing)
-    private List<BufferedImage> animationFrames;
-    private List<Integer> frameDelays; // Per-frame delays in milliseconds
-    private int currentFrame = 0;
-    private long lastFrameTime = 0;
-    private int defaultFrameDelay = 100; // Default if not specified in GIF
-    private boolean isAnimated = false;
+    // Decoded clips are shared by every item entity with the same GIF
+    private static final Map<String, AnimationClip> gifClips = new HashMap<>();
+    // PNG or generated icons for registry items without a GIF, shared the same way
+    private static final Map<String, BufferedImage> staticIcons = new HashMap<>();
+    private static final int DEFAULT_FRAME_DELAY = 100; // Default if not specified in GIF
+    private Playhead playhead; // Only set for multi-frame GIFs
 
     public static final int SCALE = 3;
     private static final int BASE_ICON_SIZE = 16;  // Reference icon size for scaling
@@ -116,6 +123,44 @@ public class ItemEntity extends Entity {
      */
     public ItemEntity(int x, int y, String itemId) {
         super(x, y);
+        initFromRegistry(itemId);
+    }
+
+    /**
+     * Resets a recycled item to the state the registry constructor gives it.
+     * Keep in step with the field defaults above.
+     */
+    public void reinit(int x, int y, String itemId) {
+        this.x = x;
+        this.y = y;
+        velocityX = 0;
+        velocityY = 0;
+        gravity = 0.5;
+        hasPhysics = false;
+        isGrounded = false;
+        groundY = 720;
+        bounceMultiplier = 0.6;
+        bounceCount = 0;
+        maxBounces = 3;
+        sleeping = false;
+        entityList = null;
+        showLightBeam = false;
+        lightBeamSpeed = 0.03f;
+        maskRed = 255;
+        maskGreen = 255;
+        maskBlue = 255;
+        hasColorMask = false;
+        tintedSprite = null;
+        stackCount = 1;
+        maxStackSize = 16;
+        playhead = null;
+        textureWidth = BASE_ICON_SIZE;
+        textureHeight = BASE_ICON_SIZE;
+        tileCollider = null;
+        initFromRegistry(itemId);
+    }
+
+    private void initFromRegistry(String itemId) {
         this.itemId = itemId;
         this.collected = false;
         this.bobOffset = 0;
@@ -165,21 +210,29 @@ public class ItemEntity extends Entity {
             // Try GIF files first (with animation support)
             for (String path : gifPaths) {
                 try {
-                    java.io.File file = new java.io.File(path);
-                    if (file.exists()) {
-                        List<BufferedImage> frames = loadGifFrames(file);
-                        if (frames != null && !frames.isEmpty()) {
-                            this.animationFrames = frames;
-                            this.isAnimated = frames.size() > 1;
-                            this.lastFrameTime = System.currentTimeMillis();
-                            return frames.get(0);
-                        }
+                    AnimationClip clip = getGifClip(path);
+                    if (clip != null) {
+                        // Preserve original texture dimensions from the first frame
+                        this.textureWidth = clip.getWidth();
+                        this.textureHeight = clip.getHeight();
+                        // Each drop starts its animation when it spawns
+                        this.playhead = clip.isAnimated() ? new Playhead(clip) : null;
+                        return clip.getFrame(0);
                     }
                 } catch (Exception e) {
                     // Continue to next path
                 }
             }
 
+            synchronized (staticIcons) {
+                BufferedImage icon = staticIcons.get(itemId);
+                if (icon != null) {
+                    this.textureWidth = icon.getWidth();
+                    this.textureHeight = icon.getHeight();
+                    return icon;
+                }
+            }
+
             // Try PNG files as static fallback (for backgrounds/static items only)
             String[] pngPaths = {
                 "assets/items/" + itemId + "/idle.png",
@@ -196,6 +249,9 @@ public class ItemEntity extends Entity {
                             // Preserve original texture dimensions for PNG files too
                             this.textureWidth = loaded.getWidth();
                             this.textureHeight = loaded.getHeight();
+                            synchronized (staticIcons) {
+                                staticIcons.put(itemId, loaded);
+                            }
                             return loaded;
                         }
                     }
@@ -208,7 +264,32 @@ public class ItemEntity extends Entity {
         // Fall back to procedural generation (always BASE_ICON_SIZE)
         this.textureWidth = BASE_ICON_SIZE;
         this.textureHeight = BASE_ICON_SIZE;
-        return generateItemIcon(type, name);
+        BufferedImage icon = generateItemIcon(type, name);
+        if (itemId != null && !itemId.isEmpty()) {
+            synchronized (staticIcons) {
+                staticIcons.put(itemId, icon);
+            }
+        }
+        return icon;
+    }
+
+    /**
+     * Gets the shared clip for a GIF, decoding it on first use (missing files
+     * are remembered too, so later drops skip the disk check).
+     * @return The clip, or null if the file is missing or unreadable
+     */
+    private static AnimationClip getGifClip(String path) {
+        synchronized (gifClips) {
+            if (gifClips.containsKey(path)) {
+                return gifClips.get(path);
+            }
+        }
+        java.io.File file = new java.io.File(path);
+        AnimationClip clip = file.exists() ? loadGifClip(file) : null;
+        synchronized (gifClips) {
+            gifClips.put(path, clip);
+        }
+        return clip;
     }
 
     /**
@@ -216,7 +297,7 @@ public class ItemEntity extends Entity {
      * Reads frame timing from GIF metadata for accurate playback.
      * Properly composites frames to handle transparency and disposal methods.
      */
-    private List<BufferedImage> loadGifFrames(java.io.File file) {
+    private static AnimationClip loadGifClip(java.io.File file) {
         List<BufferedImage> frames = new ArrayList<>();
         List<Integer> delays = new ArrayList<>();
 
@@ -248,7 +329,7 @@ public class ItemEntity extends Entity {
 
                 // Read frame metadata for timing and positioning
                 IIOMetadata metadata = reader.getImageMetadata(i);
-                int frameDelay = defaultFrameDelay;
+                int frameDelay = DEFAULT_FRAME_DELAY;
                 int frameX = 0, frameY = 0;
                 String disposalMethod = "none";
 
@@ -320,21 +401,12 @@ public class ItemEntity extends Entity {
             reader.dispose();
             stream.close();
 
-            // Store the frame delays
-            this.frameDelays = delays;
-
-            // Store original texture dimensions from the first frame
-            if (!frames.isEmpty()) {
-                this.textureWidth = frames.get(0).getWidth();
-                this.textureHeight = frames.get(0).getHeight();
-            }
-
         } catch (Exception e) {
             // Return whatever frames we got, use default timing
             if (frames.isEmpty()) return null;
         }
 
-        return frames;
+        return frames.isEmpty() ? null : new AnimationClip(frames, delays);
     }
 
     /**
@@ -358,20 +430,8 @@ public class ItemEntity extends Entity {
      * Uses per-frame timing from the GIF metadata for accurate playback.
      */
     public void updateAnimation() {
-        if (!isAnimated || animationFrames == null || animationFrames.size() <= 1) return;
-
-        long currentTime = System.currentTimeMillis();
-
-        // Get the delay for the current frame (use default if not available)
-        int currentDelay = defaultFrameDelay;
-        if (frameDelays != null && currentFrame < frameDelays.size()) {
-            currentDelay = frameDelays.get(currentFrame);
-        }
-
-        if (currentTime - lastFrameTime >= currentDelay) {
-            currentFrame = (currentFrame + 1) % animationFrames.size();
-            sprite = animationFrames.get(currentFrame);
-            lastFrameTime = currentTime;
+        if (playhead != null) {
+            sprite = playhead.getFrame();
         }
     }
 
@@ -889,12 +949,6 @@ public class ItemEntity extends Entity {
     @Override
     public void update(InputManager input) {
         if (!collected) {
-            // Update light beam animation
-            lightBeamPhase += lightBeamSpeed;
-            if (lightBeamPhase > Math.PI * 2) {
-                lightBeamPhase -= Math.PI * 2;
-            }
-
             // Physics update for loot drops
             if (hasPhysics && !isGrounded) {
                 // Apply gravity
@@ -908,32 +962,13 @@ public class ItemEntity extends Entity {
                 int landingY = groundY; // Default to world ground level
                 boolean hitBlock = false;
 
-                if (entityList != null) {
-                    // Check for solid blocks beneath the item
-                    Rectangle futureYBounds = new Rectangle(x, newY, width, height);
-                    int itemBottom = y + height;
-
-                    for (Entity e : entityList) {
-                        if (e instanceof BlockEntity) {
-                            BlockEntity block = (BlockEntity) e;
-                            if (block.isSolid() && !block.isBroken()) {
-                                Rectangle blockBounds = block.getBounds();
-
-                                // Check if we would intersect this block
-                                if (futureYBounds.intersects(blockBounds)) {
-                                    int blockTop = blockBounds.y;
-
-                                    // Only collide with blocks we're falling onto (top of block is below our current bottom)
-                                    if (velocityY > 0 && blockTop >= itemBottom - 4) {
-                                        hitBlock = true;
-                                        // Find the highest block we can land on
-                                        if (blockTop < landingY) {
-                                            landingY = blockTop;
-                                        }
-                                    }
-                                }
-                            }
-                        }
+                if (entityList != null && velocityY > 0) {
+                    // Land on the first solid surface below the item
+                    Rectangle box = new Rectangle(x, y, width, height);
+                    int contacts = getTileCollider(entityList).moveY(box, newY - y, null);
+                    if ((contacts & TileCollider.GROUND) != 0) {
+                        hitBlock = true;
+                        landingY = Math.min(landingY, box.y + height);
                     }
                 }
 
@@ -960,11 +995,18 @@ public class ItemEntity extends Entity {
                 bobOffset = 0;
             } else {
                 // Bobbing animation - use milliseconds for smooth animation
-                bobOffset = (float)(Math.sin(System.currentTimeMillis() * 0.003) * 8);
+                bobOffset = clockBob();
             }
         }
     }
 
+    /**
+     * Gets the bobbing offset for the current time.
+     */
+    private static float clockBob() {
+        return (float)(Math.sin(System.currentTimeMillis() * 0.003) * 8);
+    }
+
     // ==================== Physics Methods ====================
 
     /**
@@ -1012,6 +1054,50 @@ public class ItemEntity extends Entity {
         this.entityList = entities;
     }
 
+    // ==================== Sleep Methods ====================
+
+    /**
+     * Checks if the item has stopped moving (settled after a drop, or never had physics).
+     */
+    public boolean isResting() {
+        return !collected && (!hasPhysics || isGrounded);
+    }
+
+    /**
+     * Checks if the item was dropped with physics (mob, chest and throwable
+     * drops), as opposed to placed by the level.
+     */
+    public boolean isDropped() {
+        return hasPhysics;
+    }
+
+    /**
+     * Checks if the item is asleep (its update is skipped).
+     */
+    public boolean isSleeping() {
+        return sleeping;
+    }
+
+    void setSleeping(boolean sleeping) {
+        this.sleeping = sleeping;
+        if (sleeping) {
+            bobOffset = 0; // Bounds rest in place; draw() still bobs from the clock
+        }
+    }
+
+    /**
+     * Lets a settled drop fall again (the ground under it may be gone).
+     * It lands without bouncing.
+     */
+    void unsettle() {
+        if (hasPhysics && isGrounded) {
+            isGrounded = false;
+            velocityX = 0;
+            velocityY = 0;
+            bounceCount = maxBounces - 1;
+        }
+    }
+
     // ==================== Light Beam Methods ====================
 
     /**
@@ -1037,18 +1123,19 @@ public class ItemEntity extends Entity {
      * Draws the Borderlands-style rarity light beam.
      * The beam fluctuates and glows based on rarity.
      */
-    private void drawLightBeam(Graphics2D g2d) {
+    private void drawLightBeam(Graphics2D g2d, int bob) {
         if (!showLightBeam || collected) return;
 
         Color rarityColor = getRarityColor();
         int beamHeight = height * 3; // Beam extends to about 3x item height
 
-        // Calculate beam fluctuation
+        // Calculate beam fluctuation (from the clock, so sleeping items keep shimmering)
+        double lightBeamPhase = (System.currentTimeMillis() * lightBeamSpeed * 0.06) % (Math.PI * 2);
         float fluctuation = (float)(Math.sin(lightBeamPhase) * 0.3 + 0.7); // 0.4 to 1.0
         float glowPulse = (float)(Math.sin(lightBeamPhase * 2) * 0.5 + 0.5); // Secondary pulse
 
         int centerX = x + width / 2;
-        int beamBottom = y + (int)bobOffset + height;
+        int beamBottom = y + bob + height;
         int beamTop = beamBottom - beamHeight;
 
         // Draw multiple layers for glow effect
@@ -1149,10 +1236,11 @@ public class ItemEntity extends Entity {
             updateAnimation();
 
             Graphics2D g2d = (Graphics2D) g;
+            int bob = sleeping ? (int) clockBob() : (int) bobOffset;
 
             // Draw rarity light beam (Borderlands style) - behind item
             if (showLightBeam) {
-                drawLightBeam(g2d);
+                drawLightBeam(g2d, bob);
             }
 
             // Draw glow effect (use rarity color if light beam is enabled)
@@ -1164,7 +1252,7 @@ public class ItemEntity extends Entity {
                 glowColor = new Color(255, 255, 100, 100);
             }
             g2d.setColor(glowColor);
-            g2d.fillOval(x - 5, y + (int)bobOffset - 5, width + 10, height + 10);
+            g2d.fillOval(x - 5, y + bob - 5, width + 10, height + 10);
 
             // Draw sprite (use tinted version if color mask is applied)
             // Use nearest-neighbor interpolation to preserve pixel art quality
@@ -1175,11 +1263,23 @@ public class ItemEntity extends Entity {
 
             Image spriteToDraw = (hasColorMask && tintedSprite != null) ? tintedSprite : sprite;
             if (spriteToDraw != null) {
-                g2d.drawImage(spriteToDraw, x, y + (int)bobOffset, width, height, null);
+                g2d.drawImage(spriteToDraw, x, y + bob, width, height, null);
             } else {
                 // Fallback
                 g.setColor(Color.YELLOW);
-                g.fillRect(x, y + (int)bobOffset, width, height);
+                g.fillRect(x, y + bob, width, height);
+            }
+
+            // Draw pile count (merged drops)
+            if (stackCount > 1) {
+                g.setFont(new Font("Arial", Font.BOLD, 14));
+                String countStr = String.valueOf(stackCount);
+                int countX = x + width - g.getFontMetrics().stringWidth(countStr);
+                int countY = y + bob + height - 2;
+                g.setColor(Color.BLACK);
+                g.drawString(countStr, countX + 1, countY + 1);
+                g.setColor(Color.WHITE);
+                g.drawString(countStr, countX, countY);
             }
 
             // Draw item name below (with rarity color if available)
@@ -1194,11 +1294,11 @@ public class ItemEntity extends Entity {
 
             // Draw text shadow
             g.setColor(Color.BLACK);
-            g.drawString(itemName, textX + 1, y + height + (int)bobOffset + 16);
+            g.drawString(itemName, textX + 1, y + height + bob + 16);
 
             // Draw text
             g.setColor(textColor);
-            g.drawString(itemName, textX, y + height + (int)bobOffset + 15);
+            g.drawString(itemName, textX, y + height + bob + 15);
 
             // Draw rarity label if showing light beam
             if (showLightBeam && linkedItem != null) {
@@ -1207,9 +1307,9 @@ public class ItemEntity extends Entity {
                 fm = g.getFontMetrics();
                 int rarityX = x + (width - fm.stringWidth(rarityName)) / 2;
                 g.setColor(new Color(0, 0, 0, 150));
-                g.drawString(rarityName, rarityX + 1, y + height + (int)bobOffset + 28);
+                g.drawString(rarityName, rarityX + 1, y + height + bob + 28);
                 g.setColor(linkedItem.getRarity().getColor());
-                g.drawString(rarityName, rarityX, y + height + (int)bobOffset + 27);
+                g.drawString(rarityName, rarityX, y + height + bob + 27);
             }
         }
     }
@@ -1236,6 +1336,13 @@ public class ItemEntity extends Entity {
         return sprite;
     }
 
+    /**
+     * Checks if this item's sprite is a multi-frame animation.
+     */
+    public boolean isAnimated() {
+        return playhead != null;
+    }
+
     /**
      * Gets the original texture width (before any display scaling).
      * This allows textures to be any multiple of 16 (16, 32, 48, etc.)
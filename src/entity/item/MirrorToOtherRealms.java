@@ -1,5 +1,6 @@
 package entity.item;
 
+import entity.EntityPools;
 import entity.ProjectileEntity;
 import entity.ProjectileEntity.ProjectileType;
 import java.util.ArrayList;
@@ -212,7 +213,7 @@ public class MirrorToOtherRealms extends Item {
             double velX = dirX * speed;
             double velY = dirY * speed;
 
-            ProjectileEntity projectile = new ProjectileEntity(x, y, type, damage, velX, velY, fromPlayer);
+            ProjectileEntity projectile = EntityPools.getInstance().obtainProjectile(x, y, type, damage, velX, velY, fromPlayer);
 
             // Apply realm-specific effects
             applyRealmEffects(projectile);
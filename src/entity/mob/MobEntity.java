@@ -102,11 +102,25 @@ public abstract class MobEntity extends Entity {
     protected double jumpStrength = -10.0;          // Jump velocity
     protected static final double OBSTACLE_JUMP_COOLDOWN = 0.3; // Time between jump attempts
 
+    // AI scheduling (physics and animation run every tick; the AI only on ticks AIScheduler grants)
+    private boolean thinkThisTick = true;
+    private double thinkElapsed;   // Time since the AI last ran, before this tick
+
     // Target tracking
     protected PlayerBase target;
     protected double targetLastX;
     protected double targetLastY;
 
+    // Sight (set by EntityManager from LineOfSight; always visible without a block grid)
+    protected LineOfSight lineOfSight;
+    protected boolean targetVisible = true;
+    protected double timeSinceTargetSeen;
+    protected static final double LOSE_SIGHT_TIME = 3.0; // Chasing gives up after this long unseen
+
+    // Mob-to-mob blocking (actor grid set by EntityManager each tick; null scans the entity list)
+    private EntityGrid actorGrid;
+    private final List<Entity> nearbyMobs = new ArrayList<>();
+
     // Animation
     protected Skeleton skeleton;
     protected double animationScale = 1.0;
@@ -241,6 +255,7 @@ public abstract class MobEntity extends Entity {
         invincibilityTimer = Math.max(0, invincibilityTimer - deltaTime);
         obstacleJumpCooldown = Math.max(0, obstacleJumpCooldown - deltaTime);
         stateTimer += deltaTime;
+        timeSinceTargetSeen = targetVisible ? 0 : timeSinceTargetSeen + deltaTime;
 
         // Don't process AI if dead
         if (currentState == AIState.DEAD) {
@@ -248,13 +263,17 @@ public abstract class MobEntity extends Entity {
             return;
         }
 
-        // Find target (player)
-        if (entities != null) {
-            findTarget(entities);
+        // Find target and update AI state (covering the time since the last think)
+        if (thinkThisTick) {
+            if (entities != null) {
+                findTarget(entities);
+            }
+            updateAI(getThinkDelta(deltaTime));
+            thinkElapsed = 0;
+        } else {
+            thinkElapsed += deltaTime;
         }
-
-        // Update AI state
-        updateAI(deltaTime);
+        thinkThisTick = true; // Think every tick unless the scheduler says otherwise
 
         // Apply physics
         applyPhysics(deltaTime, entities);
@@ -371,8 +390,8 @@ public abstract class MobEntity extends Entity {
 
         double distanceToTarget = getDistanceToTarget();
 
-        // Check for chase trigger
-        if (target != null && distanceToTarget < detectionRange) {
+        // Check for chase trigger (the target must be in sight, not behind a wall)
+        if (target != null && distanceToTarget < detectionRange && targetVisible) {
             if (currentState != AIState.CHASE && currentState != AIState.ATTACK) {
                 changeState(AIState.CHASE);
             }
@@ -386,7 +405,8 @@ public abstract class MobEntity extends Entity {
         }
 
         // Check for losing target
-        if (currentState == AIState.CHASE && distanceToTarget > loseTargetRange) {
+        if (currentState == AIState.CHASE
+                && (distanceToTarget > loseTargetRange || timeSinceTargetSeen > LOSE_SIGHT_TIME)) {
             changeState(AIState.WANDER);
         }
     }
@@ -542,6 +562,8 @@ public abstract class MobEntity extends Entity {
     // ==================== Physics ====================
 
     protected void applyPhysics(double deltaTime, List<Entity> entities) {
+        TileCollider collider = entities != null ? getTileCollider(entities) : null;
+
         // IMPORTANT: Check if still on ground each frame by checking for blocks/ground below
         // This ensures mobs fall when blocks beneath them are broken
         if (onGround) {
@@ -553,23 +575,14 @@ public abstract class MobEntity extends Entity {
             }
 
             // Check for solid blocks beneath feet
-            if (!stillOnGround && entities != null) {
+            if (!stillOnGround && collider != null) {
                 Rectangle feetCheck = new Rectangle(
                     (int)posX + hitboxOffsetX + 2,
                     (int)posY + hitboxOffsetY + hitboxHeight,  // Just below feet
                     hitboxWidth - 4,
                     4  // Small check area
                 );
-
-                for (Entity e : entities) {
-                    if (e instanceof BlockEntity) {
-                        BlockEntity block = (BlockEntity) e;
-                        if (block.isSolid() && !block.isBroken() && feetCheck.intersects(block.getBounds())) {
-                            stillOnGround = true;
-                            break;
-                        }
-                    }
-                }
+                stillOnGround = collider.overlapsSolid(feetCheck, this);
             }
 
             onGround = stillOnGround;
@@ -589,106 +602,47 @@ public abstract class MobEntity extends Entity {
         double moveX = velocityX * deltaTime;
         double moveY = velocityY;  // Frame-based for gravity, not multiplied by deltaTime
 
-        // Step-based movement to prevent phasing through blocks
-        // Move in smaller increments for better collision detection
+        // Step-based movement so mob-to-mob checks see small increments
+        // (block collision itself is resolved over the whole step by the TileCollider)
         int steps = Math.max(1, (int)(Math.max(Math.abs(moveX), Math.abs(moveY)) / 8));
         double stepX = moveX / steps;
         double stepY = moveY / steps;
 
+        // Gather the mobs this move could bump into once, not on every step
+        nearbyMobs.clear();
+        if (collider != null && moveX != 0) {
+            collectNearbyMobs(entities, moveX, moveY);
+        }
+
         for (int step = 0; step < steps; step++) {
             double newX = posX + stepX;
             double newY = posY + stepY;
 
-            // Check horizontal collision with solid blocks and obstacle entities
-            if (entities != null && stepX != 0) {
-                // Use a smaller margin to properly detect side collisions
-                // We exclude only a small area at the feet to avoid getting stuck on block edges we're standing on
-                int topMargin = 4;    // Small margin at top to avoid head catching on ceilings
-                int bottomMargin = 8; // Margin at bottom to avoid catching on blocks we're standing on
-
-                Rectangle futureXBounds = new Rectangle(
-                    (int)newX + hitboxOffsetX,
-                    (int)posY + hitboxOffsetY + topMargin,
-                    hitboxWidth,
-                    Math.max(hitboxHeight - topMargin - bottomMargin, 1)
-                );
-
-                boolean xCollision = false;
-                boolean isBlockCollision = false;
-
-                for (Entity e : entities) {
-                    // Check collision with solid blocks
-                    if (e instanceof BlockEntity) {
-                        BlockEntity block = (BlockEntity) e;
-                        if (block.isSolid() && !block.isBroken() && futureXBounds.intersects(block.getBounds())) {
-                            Rectangle blockBounds = block.getBounds();
-                            int mobBottom = (int)posY + hitboxOffsetY + hitboxHeight;
-                            int mobTop = (int)posY + hitboxOffsetY;
-                            int blockTop = blockBounds.y;
-                            int blockBottom = blockBounds.y + blockBounds.height;
-
-                            // True side collision - verify the mob overlaps vertically with the block
-                            // The mob is beside the block (not on top or below) if there's vertical overlap
-                            boolean verticalOverlap = mobBottom > blockTop + bottomMargin && mobTop < blockBottom - topMargin;
-                            if (verticalOverlap) {
-                                xCollision = true;
-                                isBlockCollision = true;
-                                break;
-                            }
-                        }
-                    }
-                    // Check collision with other mobs (soft collision - no snap, no jumping)
-                    // EntityPhysics handles mob-to-mob separation with push forces
-                    else if (e instanceof MobEntity && e != this) {
-                        MobEntity otherMob = (MobEntity) e;
-                        // Don't collide with dead mobs
-                        if (otherMob.getState() == AIState.DEAD) continue;
-
-                        Rectangle otherBounds = otherMob.getBounds();
-                        if (futureXBounds.intersects(otherBounds)) {
-                            int mobBottom = (int)posY + hitboxOffsetY + hitboxHeight;
-                            int mobTop = (int)posY + hitboxOffsetY;
-                            int otherTop = otherBounds.y;
-                            int otherBottom = otherBounds.y + otherBounds.height;
-
-                            // True side collision - verify vertical overlap
-                            boolean verticalOverlap = mobBottom > otherTop + bottomMargin && mobTop < otherBottom - topMargin;
-                            if (verticalOverlap) {
-                                // Check if we're moving TOWARD or AWAY from the other mob
-                                double otherCenterX = otherBounds.x + otherBounds.width / 2.0;
-                                double ourCenterX = posX;
-                                boolean movingToward = (stepX > 0 && otherCenterX > ourCenterX) ||
-                                                       (stepX < 0 && otherCenterX < ourCenterX);
-
-                                // Only block if moving toward the other mob
-                                // Allow moving away so overlapping mobs can separate
-                                if (movingToward) {
-                                    xCollision = true;
-                                    // Don't set isBlockCollision - we don't want to trigger jumping
-                                    break;
-                                }
-                            }
-                        }
-                    }
-                }
-
-                if (!xCollision) {
-                    posX = newX;
+            // Check horizontal collision with solid blocks and other mobs
+            if (collider != null && stepX != 0) {
+                if (isBlockedByMob(newX, stepX)) {
+                    // Mob-to-mob collision: skip this step's movement but don't zero velocity
+                    // AI will keep trying to move, EntityPhysics handles separation
+                    stepX = 0;
                 } else {
-                    // Only trigger jump behavior for block collisions
-                    if (isBlockCollision) {
+                    Rectangle box = getHitboxAt(posX, posY);
+                    int contacts = collider.moveX(box, (int)newX - (int)posX, this);
+                    if ((contacts & (TileCollider.WALL_LEFT | TileCollider.WALL_RIGHT)) != 0) {
                         // Notify subclasses of block collision (sets blockedByObstacle flag)
-                        onHorizontalCollision(null);
+                        Entity wall = collider.getLastWall();
+                        onHorizontalCollision(wall instanceof BlockEntity ? (BlockEntity) wall : null);
 
-                        // Stop movement but don't snap position (snapping can cause teleportation)
+                        // Stop flush against the wall
+                        posX = box.x - hitboxOffsetX;
                         velocityX = 0;
                         stepX = 0;
-                        // Stay at current position - no snap to avoid teleporting through blocks
                     } else {
-                        // Mob-to-mob collision: skip this step's movement but don't zero velocity
-                        // AI will keep trying to move, EntityPhysics handles separation
-                        stepX = 0;
-                        // Don't change position or velocity - mobs should keep trying to move
+                        posX = newX;
+                    }
+                    if ((contacts & TileCollider.STEPPED) != 0) {
+                        // Walked up a mined edge
+                        posY = box.y - hitboxOffsetY;
+                        newY = posY + stepY;
                     }
                 }
             } else if (stepX != 0) {
@@ -696,55 +650,21 @@ public abstract class MobEntity extends Entity {
             }
 
             // Check vertical collision with solid blocks
-            if (entities != null && stepY != 0) {
-                Rectangle futureYBounds = new Rectangle(
-                    (int)posX + hitboxOffsetX,
-                    (int)newY + hitboxOffsetY,
-                    hitboxWidth,
-                    hitboxHeight
-                );
-
-                boolean yCollision = false;
-                double landingY = groundY;
-                int mobCurrentBottom = (int)posY + hitboxOffsetY + hitboxHeight;
-                int mobCurrentTop = (int)posY + hitboxOffsetY;
-
-                for (Entity e : entities) {
-                    if (e instanceof BlockEntity) {
-                        BlockEntity block = (BlockEntity) e;
-                        if (block.isSolid() && !block.isBroken() && futureYBounds.intersects(block.getBounds())) {
-                            Rectangle blockBounds = block.getBounds();
-                            int blockTop = blockBounds.y;
-                            int blockBottom = blockBounds.y + blockBounds.height;
-
-                            if (velocityY > 0) {
-                                // Falling down - only land on blocks whose top is below our current bottom
-                                // (blocks we're falling onto, not blocks we're inside of)
-                                if (blockTop >= mobCurrentBottom - 4) {
-                                    yCollision = true;
-                                    landingY = Math.min(landingY, blockTop);
-                                }
-                            } else if (velocityY < 0) {
-                                // Jumping up - only hit head on blocks whose bottom is above our current top
-                                // (actual ceilings, not the block we're standing on)
-                                if (blockBottom <= mobCurrentTop + 4) {
-                                    yCollision = true;
-                                    // Stop upward movement at the ceiling
-                                    newY = blockBottom - hitboxOffsetY;
-                                    velocityY = 0;
-                                    stepY = 0;
-                                }
-                            }
-                        }
-                    }
-                }
+            if (collider != null && stepY != 0) {
+                Rectangle box = getHitboxAt(posX, posY);
+                int contacts = collider.moveY(box, (int)newY - (int)posY, this);
 
-                if (yCollision && velocityY > 0) {
+                if ((contacts & TileCollider.GROUND) != 0 && velocityY > 0) {
                     // Land on the block
-                    posY = landingY;
+                    posY = box.y - hitboxOffsetY;
                     velocityY = 0;
                     stepY = 0;
                     onGround = true;
+                } else if ((contacts & TileCollider.CEILING) != 0) {
+                    // Stop upward movement at the ceiling
+                    posY = box.y - hitboxOffsetY;
+                    velocityY = 0;
+                    stepY = 0;
                 } else {
                     posY = newY;
                     // Check if on ground
@@ -786,6 +706,70 @@ public abstract class MobEntity extends Entity {
         }
     }
 
+    /**
+     * Gets the block-collision hitbox for a position.
+     */
+    private Rectangle getHitboxAt(double x, double y) {
+        return new Rectangle((int)x + hitboxOffsetX, (int)y + hitboxOffsetY, hitboxWidth, hitboxHeight);
+    }
+
+    /**
+     * Collects the other mobs near the area swept by this tick's move into nearbyMobs.
+     */
+    private void collectNearbyMobs(List<Entity> entities, double moveX, double moveY) {
+        if (actorGrid != null) {
+            int left = (int)Math.min(posX, posX + moveX) + hitboxOffsetX;
+            int top = (int)Math.min(posY, posY + moveY) + hitboxOffsetY;
+            actorGrid.query(left, top, (int)Math.ceil(Math.abs(moveX)) + hitboxWidth,
+                    (int)Math.ceil(Math.abs(moveY)) + hitboxHeight, nearbyMobs);
+        } else {
+            for (Entity e : entities) {
+                if (e instanceof MobEntity) nearbyMobs.add(e);
+            }
+        }
+    }
+
+    /**
+     * Checks if moving to newX would push into another living mob (soft collision:
+     * only blocks moving toward it, so overlapping mobs can still separate).
+     */
+    private boolean isBlockedByMob(double newX, double stepX) {
+        // Small margins so mobs standing on or under each other don't block sideways
+        int topMargin = 4;
+        int bottomMargin = 8;
+        int mobTop = (int)posY + hitboxOffsetY;
+        int mobBottom = mobTop + hitboxHeight;
+        Rectangle futureXBounds = new Rectangle(
+            (int)newX + hitboxOffsetX,
+            mobTop + topMargin,
+            hitboxWidth,
+            Math.max(hitboxHeight - topMargin - bottomMargin, 1)
+        );
+
+        for (int i = 0; i < nearbyMobs.size(); i++) {
+            Entity e = nearbyMobs.get(i);
+            if (!(e instanceof MobEntity) || e == this) continue;
+            MobEntity otherMob = (MobEntity) e;
+            // Don't collide with dead mobs
+            if (otherMob.getState() == AIState.DEAD) continue;
+
+            Rectangle otherBounds = otherMob.getBounds();
+            if (!futureXBounds.intersects(otherBounds)) continue;
+
+            // True side collision - verify vertical overlap
+            boolean verticalOverlap = mobBottom > otherBounds.y + bottomMargin
+                    && mobTop < otherBounds.y + otherBounds.height - topMargin;
+            if (!verticalOverlap) continue;
+
+            // Only block if moving toward the other mob
+            double otherCenterX = otherBounds.x + otherBounds.width / 2.0;
+            if ((stepX > 0 && otherCenterX > posX) || (stepX < 0 && otherCenterX < posX)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Called when the mob collides horizontally with a block.
      * Override in subclasses to implement obstacle jumping behavior.
@@ -973,6 +957,54 @@ public abstract class MobEntity extends Entity {
     public int getMaxHealth() { return maxHealth; }
     public int getAttackDamage() { return attackDamage; }
     public AIState getState() { return currentState; }
+
+    /**
+     * Sets the line-of-sight service (null: targets are always visible).
+     */
+    public void setLineOfSight(LineOfSight lineOfSight) {
+        this.lineOfSight = lineOfSight;
+        if (lineOfSight == null) targetVisible = true;
+    }
+
+    /**
+     * Sets the actor grid used to find nearby mobs when moving (null: scan the entity list).
+     */
+    public void setActorGrid(EntityGrid actorGrid) {
+        this.actorGrid = actorGrid;
+    }
+
+    /**
+     * Sets whether the target is in sight. Called by EntityManager's batch sight pass.
+     */
+    public void setTargetVisible(boolean visible) { this.targetVisible = visible; }
+
+    public boolean isTargetVisible() { return targetVisible; }
+
+    /**
+     * Gets the point sight is checked from (near the top of the hitbox).
+     */
+    public double getEyeX() { return posX; }
+    public double getEyeY() { return posY - hitboxHeight * 0.8; }
+
+    /**
+     * Gets the farthest distance at which sight matters (acquiring or keeping a target).
+     */
+    public double getSightRange() { return Math.max(detectionRange, loseTargetRange); }
+
+    /**
+     * Sets whether the AI runs on the next update. Called by AIScheduler each tick.
+     */
+    public void setThinkThisTick(boolean think) { this.thinkThisTick = think; }
+
+    /**
+     * Checks if the AI runs on this update.
+     */
+    protected boolean isThinkTick() { return thinkThisTick; }
+
+    /**
+     * Gets the time the AI should cover on a think tick (this tick plus any skipped ones).
+     */
+    protected double getThinkDelta(double deltaTime) { return thinkElapsed + deltaTime; }
     public boolean isFacingRight() { return facingRight; }
 
     public void setWanderBounds(double minX, double maxX) {
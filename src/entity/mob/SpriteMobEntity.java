@@ -3,6 +3,11 @@ import entity.*;
 import entity.item.Item;
 import entity.item.ItemEntity;
 import entity.item.ItemRegistry;
+import entity.mob.ai.FlowField;
+import entity.mob.ai.FlowFieldManager;
+import entity.mob.ai.MovementProfile;
+import entity.mob.ai.NavPath;
+import entity.mob.ai.PathFinder;
 import block.*;
 import animation.*;
 import graphics.*;
@@ -70,6 +75,21 @@ public class SpriteMobEntity extends MobEntity {
     protected boolean isJumping = false;
     protected boolean isFalling = false;
 
+    // Pathfinding (chasing around terrain; falls back to a straight chase without a grid)
+    protected PathFinder pathFinder;
+    protected FlowFieldManager flowFields;
+    private MovementProfile movementProfile;
+    private PathFinder.Request pathRequest;
+    private NavPath navPath;
+    private int navIndex;
+    private double repathTimer;
+    private static final double REPATH_INTERVAL = 0.5;
+
+    // Current step along the route (kept while airborne)
+    private boolean hasStep;
+    private int stepFromX, stepNextX, stepNextY;
+    private byte stepMove;
+
     // Sprint system
     protected boolean isSprinting = false;
     protected double sprintSpeed = 0;      // Set by subclasses
@@ -804,7 +824,7 @@ public class SpriteMobEntity extends MobEntity {
         double dy = aim[1];
 
         // Create projectile
-        ProjectileEntity projectile = new ProjectileEntity(
+        ProjectileEntity projectile = EntityPools.getInstance().obtainProjectile(
             projX, projY, projectileType, projectileDamage,
             dx * projectileSpeed, dy * projectileSpeed, false
         );
@@ -832,12 +852,27 @@ public class SpriteMobEntity extends MobEntity {
         this.attackRange = range;
     }
 
+    /**
+     * Gets the projectile this mob fires, from its ranged attack or the ranged
+     * weapon it holds (null if it has neither).
+     */
+    public ProjectileEntity.ProjectileType getRangedProjectileType() {
+        if (canFireProjectiles) {
+            return projectileType;
+        }
+        if (equippedWeapon != null && equippedWeapon.isRangedWeapon()) {
+            return equippedWeapon.getProjectileType();
+        }
+        return null;
+    }
+
     /**
      * Sets the maximum number of jumps for this mob.
      */
     public void setMaxJumps(int jumps) {
         this.maxJumps = Math.max(1, Math.min(3, jumps));
         this.jumpsRemaining = this.maxJumps;
+        this.movementProfile = null;
     }
 
     /**
@@ -855,29 +890,199 @@ public class SpriteMobEntity extends MobEntity {
     protected void tryObstacleJump() {
         // Can jump if blocked, on ground (or have remaining air jumps), and cooldown expired
         if (blockedByObstacle && obstacleJumpCooldown <= 0) {
+            performJump();
+        }
+        // Reset blocked flag each frame (will be set again if still blocked)
+        blockedByObstacle = false;
+    }
+
+    /**
+     * Jumps from the ground, or air-jumps if jumps remain.
+     * @return true if a jump was made
+     */
+    protected boolean performJump() {
+        if (onGround) {
+            // First jump from ground
+            velocityY = jumpStrength;
+            onGround = false;
+            currentJumpNumber = 1;
+            jumpsRemaining = maxJumps - 1;
+        } else if (jumpsRemaining > 0 && maxJumps > 1) {
+            // Air jump (double/triple jump)
+            currentJumpNumber++;
+            jumpsRemaining--;
+
+            // Use appropriate jump strength for multi-jumps
+            if (currentJumpNumber == 2) {
+                velocityY = doubleJumpStrength;
+            } else if (currentJumpNumber >= 3) {
+                velocityY = tripleJumpStrength;
+            }
+        } else {
+            return false;
+        }
+        obstacleJumpCooldown = OBSTACLE_JUMP_COOLDOWN;
+        return true;
+    }
+
+    // ==================== Pathfinding ====================
+
+    /**
+     * Sets the pathfinder and shared flow fields used to chase around terrain
+     * (null chases in a straight line). Called by EntityManager every tick.
+     */
+    public void setNavigation(PathFinder pathFinder, FlowFieldManager flowFields) {
+        this.pathFinder = pathFinder;
+        this.flowFields = flowFields;
+    }
+
+    /**
+     * Gets what this mob can traverse (size, jump height with all its jumps, gap and drop).
+     */
+    protected MovementProfile getMovementProfile() {
+        if (movementProfile == null) {
+            double[] jumps = new double[maxJumps];
+            jumps[0] = jumpStrength;
+            if (maxJumps > 1) jumps[1] = doubleJumpStrength;
+            if (maxJumps > 2) jumps[2] = tripleJumpStrength;
+            movementProfile = MovementProfile.fromPhysics(hitboxHeight, jumps, GRAVITY, chaseSpeed);
+        }
+        return movementProfile;
+    }
+
+    @Override
+    protected void updateChaseState(double deltaTime) {
+        if (target == null || pathFinder == null || !followPath(deltaTime)) {
+            super.updateChaseState(deltaTime);
+        }
+    }
+
+    /**
+     * Steers along a route to the target. Routes to the player come from the
+     * shared flow field; other targets (or cells outside the field) use a
+     * path of this mob's own, re-requested when the target moves, the terrain
+     * changes or the mob falls off it.
+     * @return false if there is no usable route (the caller chases directly)
+     */
+    private boolean followPath(double deltaTime) {
+        int size = BlockRegistry.BLOCK_SIZE;
+        repathTimer -= deltaTime;
+
+        // Pick the next step while standing; keep it through jumps and falls
+        if (onGround) {
+            hasStep = false;
+            MovementProfile profile = getMovementProfile();
+            int cellX = Math.floorDiv((int) posX, size);
+            int standY = pathFinder.findStandable(cellX, Math.floorDiv((int) posY - 1, size), profile);
+            if (standY == Integer.MIN_VALUE) return false;
+            if (!stepFromFlowField(cellX, standY, profile)) {
+                stepFromPath(cellX, standY, profile);
+            }
+        }
+        if (!hasStep) return false;
+
+        double dx = (stepNextX + 0.5) * size - posX;
+        facingRight = dx > 0;
+        velocityX = facingRight ? chaseSpeed : -chaseSpeed;
+
+        if (stepMove == NavPath.JUMP) {
             if (onGround) {
-                // First jump from ground
-                velocityY = jumpStrength;
-                onGround = false;
-                currentJumpNumber = 1;
-                jumpsRemaining = maxJumps - 1;
-                obstacleJumpCooldown = OBSTACLE_JUMP_COOLDOWN;
-            } else if (jumpsRemaining > 0 && maxJumps > 1) {
-                // Air jump (double/triple jump)
-                currentJumpNumber++;
-                jumpsRemaining--;
-
-                // Use appropriate jump strength for multi-jumps
-                if (currentJumpNumber == 2) {
-                    velocityY = doubleJumpStrength;
-                } else if (currentJumpNumber >= 3) {
-                    velocityY = tripleJumpStrength;
+                // Ledges are jumped from beside them; gaps from the edge of the current cell
+                boolean gap = Math.abs(stepNextX - stepFromX) > 1;
+                double edge = (stepFromX + (facingRight ? 1 : 0)) * (double) size;
+                if (!gap || Math.abs(edge - posX) < size * 0.35) {
+                    performJump();
                 }
-                obstacleJumpCooldown = OBSTACLE_JUMP_COOLDOWN;
+            } else if (velocityY >= 0 && posY > (stepNextY + 1) * size && obstacleJumpCooldown <= 0) {
+                // Past the top of the jump but still below the ledge: air jump
+                performJump();
             }
+            blockedByObstacle = false;
+        } else {
+            // The route expects no jump here; only hop if something unexpected is in the way
+            tryObstacleJump();
         }
-        // Reset blocked flag each frame (will be set again if still blocked)
-        blockedByObstacle = false;
+        return true;
+    }
+
+    /**
+     * Reads the next step from the shared flow field toward the player.
+     * @return true if the field covers this cell (hasStep is false at the goal)
+     */
+    private boolean stepFromFlowField(int cellX, int standY, MovementProfile profile) {
+        if (flowFields == null || flowFields.getGoal() != target) return false;
+        FlowField field = flowFields.getField(profile);
+        if (field == null) return false;
+        if (field.isGoal(cellX, standY)) return true; // Same cell: close in directly
+
+        int next = field.getNext(cellX, standY);
+        if (next == FlowField.NONE) return false;
+        setStep(cellX, field.getNodeX(next), field.getNodeY(next), field.getMove(cellX, standY));
+        return true;
+    }
+
+    /**
+     * Takes the next step from this mob's own path, requesting one if needed.
+     */
+    private void stepFromPath(int cellX, int standY, MovementProfile profile) {
+        int size = BlockRegistry.BLOCK_SIZE;
+        Rectangle targetBounds = target.getBounds();
+        int goalX = Math.floorDiv(targetBounds.x + targetBounds.width / 2, size);
+        int goalFeetY = Math.floorDiv(targetBounds.y + targetBounds.height - 1, size);
+
+        // Pick up a finished search
+        if (pathRequest != null && pathRequest.isDone()) {
+            navPath = pathRequest.getPath();
+            navIndex = 0;
+            pathRequest = null;
+        }
+        if (navPath != null && !pathFinder.isValid(navPath)) {
+            navPath = null; // Terrain on the route changed
+        }
+
+        if (pathRequest == null && (navPath == null || repathTimer <= 0) && needsPath(goalX, goalFeetY)) {
+            int goalY = pathFinder.findStandable(goalX, goalFeetY, profile);
+            if (goalY != Integer.MIN_VALUE) {
+                pathRequest = pathFinder.request(cellX, standY, goalX, goalY, profile);
+                repathTimer = REPATH_INTERVAL;
+                if (pathRequest.isDone()) {
+                    navPath = pathRequest.getPath();
+                    navIndex = 0;
+                    pathRequest = null;
+                }
+            }
+        }
+        if (navPath == null || !navPath.isFound()) return;
+
+        // Find where the mob is on the route
+        int index = navPath.indexOf(cellX, standY, navIndex, 4);
+        if (index < 0) {
+            navPath = null; // Off the route
+            repathTimer = 0;
+            return;
+        }
+        navIndex = index;
+        if (navIndex >= navPath.length() - 1) return; // In the target's cell: close in directly
+
+        setStep(navPath.getCellX(navIndex), navPath.getCellX(navIndex + 1),
+                navPath.getCellY(navIndex + 1), navPath.getMove(navIndex + 1));
+    }
+
+    private void setStep(int fromX, int nextX, int nextY, byte move) {
+        hasStep = true;
+        stepFromX = fromX;
+        stepNextX = nextX;
+        stepNextY = nextY;
+        stepMove = move;
+    }
+
+    /**
+     * Checks if the current route no longer leads to the target's cell.
+     */
+    private boolean needsPath(int goalX, int goalFeetY) {
+        if (navPath == null || !navPath.isFound()) return true;
+        int last = navPath.length() - 1;
+        return Math.abs(navPath.getCellX(last) - goalX) > 1 || Math.abs(navPath.getCellY(last) - goalFeetY) > 1;
     }
 
     // ==================== Inventory and Equipment ====================
@@ -1036,15 +1241,20 @@ public class SpriteMobEntity extends MobEntity {
         // Random scatter offset
         int scatterX = (int)(Math.random() * 60 - 30);  // -30 to +30 pixels
         int dropX = (int)posX + scatterX;
-        int dropY = (int)posY - 20;  // Slightly above ground
+        int dropY = (int)posY - 16 * ItemEntity.SCALE;  // Resting on the mob's ground
 
+        ItemEntity dropped;
         if (registryId != null) {
-            return new ItemEntity(dropX, dropY, registryId);
+            dropped = EntityPools.getInstance().obtainItem(dropX, dropY, registryId);
         } else {
             // Fallback: create with name and type
-            return new ItemEntity(dropX, dropY, null, item.getName(),
+            dropped = new ItemEntity(dropX, dropY, null, item.getName(),
                 item.getCategory().name().toLowerCase());
         }
+
+        // Small hop outward; once it settles it can merge with matching drops nearby
+        dropped.enablePhysics(scatterX * 0.1, -4, (int) groundY);
+        return dropped;
     }
 
     /**
@@ -1646,6 +1856,18 @@ public class SpriteMobEntity extends MobEntity {
     protected void fireProjectileFromWeapon(Item weapon) {
         if (weapon == null || target == null || !weapon.isRangedWeapon()) return;
 
+        Rectangle targetBounds = target.getBounds();
+        double targetCenterX = targetBounds.x + targetBounds.width / 2;
+        double targetCenterY = targetBounds.y + targetBounds.height / 2;
+
+        int projX = (int)posX;
+        int projY = (int)(posY - spriteHeight / 2);
+
+        // Don't waste ammo shooting into a wall
+        if (lineOfSight != null && !lineOfSight.canSee(projX, projY, targetCenterX, targetCenterY)) {
+            return;
+        }
+
         // Check for and consume ammo if weapon requires it
         String ammoType = weapon.getAmmoItemName();
         Item consumedAmmo = null;
@@ -1660,13 +1882,6 @@ public class SpriteMobEntity extends MobEntity {
             ammoRegistryId = consumedAmmo.getRegistryId();
         }
 
-        Rectangle targetBounds = target.getBounds();
-        double targetCenterX = targetBounds.x + targetBounds.width / 2;
-        double targetCenterY = targetBounds.y + targetBounds.height / 2;
-
-        int projX = (int)posX;
-        int projY = (int)(posY - spriteHeight / 2);
-
         // Calculate gravity-compensated aim direction
         double gravity = getProjectileGravity(weapon.getProjectileType());
         double speed = weapon.getProjectileSpeed();
@@ -2012,8 +2227,11 @@ public class SpriteMobEntity extends MobEntity {
         // Update sprite animation
         spriteAnimation.update(elapsed);
 
-        // Update status effects (burning, frozen, etc.)
-        updateStatusEffect(deltaTime);
+        // Update status effects (burning, frozen, etc.) on AI ticks
+        boolean thinking = isThinkTick();
+        if (thinking) {
+            updateStatusEffect(getThinkDelta(deltaTime));
+        }
 
         // Call parent update for AI and physics
         super.update(deltaTime, entities);
@@ -2045,7 +2263,7 @@ public class SpriteMobEntity extends MobEntity {
 
         // Check for nearby items to pick up (humanoid mobs only, not when dead)
         // Dead mobs should not re-collect dropped items
-        if (isHumanoid && entities != null && currentState != AIState.DEAD) {
+        if (thinking && isHumanoid && entities != null && currentState != AIState.DEAD) {
             checkForItemPickup(entities);
         }
 
@@ -2073,6 +2291,10 @@ public class SpriteMobEntity extends MobEntity {
                 if (!item.isCollected() && pickupRange.intersects(item.getBounds())) {
                     // Try to pick up the item
                     Item linkedItem = item.getLinkedItem();
+                    if (linkedItem != null && item.getStackCount() > 1) {
+                        // One of a merged pile, not the pile's own item
+                        linkedItem = ItemRegistry.create(item.getItemId());
+                    }
                     if (linkedItem == null) {
                         // Create a basic item from the entity
                         linkedItem = createItemFromEntity(item);
@@ -2081,7 +2303,12 @@ public class SpriteMobEntity extends MobEntity {
                     if (linkedItem != null && canEquipItem(linkedItem)) {
                         // Add to inventory or equip
                         if (addToInventory(linkedItem)) {
-                            item.collect();
+                            // Take one from a merged pile, or the whole item
+                            if (item.getStackCount() > 1) {
+                                item.decrementStack();
+                            } else {
+                                item.collect();
+                            }
 
                             // Auto-equip if slot is empty
                             if (linkedItem.getCategory() == Item.ItemCategory.WEAPON ||
@@ -0,0 +1,159 @@
+package entity.mob.ai;
+
+import entity.Entity;
+import entity.mob.MobEntity;
+import entity.player.PlayerBase;
+
+import java.awt.Rectangle;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Decides which ticks each mob runs its AI on (target search, state machine,
+ * weapon choice, item pickup, status effects). Physics and animation still
+ * run every tick.
+ *
+ * Mobs near the player think every tick; farther ones think every few ticks,
+ * covering the skipped time when they do. Each mob's think ticks are offset
+ * by a per-mob phase, so a level full of distant mobs spreads its AI evenly
+ * across ticks instead of all thinking on the same one.
+ *
+ * Distant mobs share a budget of FAR_BUDGET_PER_TICK thinks per tick. Mobs
+ * that are due but over budget wait in a queue and go first next tick.
+ * Mobs near the player, or hurt or attacking, are never held back.
+ */
+public class AIScheduler {
+
+    public static final int FAR_BUDGET_PER_TICK = 32;
+
+    // Think interval (ticks) by distance to the player
+    private static final double[] TIER_DISTANCES = {1000, 2000, 4000};
+    private static final int[] TIER_INTERVALS = {1, 3, 6, 12};
+
+    private IdentityHashMap<MobEntity, Boolean> waiting = new IdentityHashMap<>();
+    private IdentityHashMap<MobEntity, Boolean> nextWaiting = new IdentityHashMap<>();
+    private long tick;
+
+    // Stats for the debug overlay
+    private int mobCount;
+    private int thinksLastTick;
+    private int farThinksLastTick;
+
+    /**
+     * Marks which mobs think this tick. Called by EntityManager before updating them.
+     * @param entities Scene entities
+     * @param player Player distances are measured from (null: every mob thinks)
+     */
+    public void schedule(List<Entity> entities, PlayerBase player) {
+        tick++;
+        mobCount = 0;
+        thinksLastTick = 0;
+        farThinksLastTick = 0;
+        nextWaiting.clear();
+
+        double px = 0, py = 0;
+        if (player != null) {
+            Rectangle b = player.getBounds();
+            px = b.getCenterX();
+            py = b.getCenterY();
+        }
+
+        // Mobs left waiting last tick go first
+        for (int i = 0; i < entities.size(); i++) {
+            Entity e = entities.get(i);
+            if (!(e instanceof MobEntity)) continue;
+            MobEntity mob = (MobEntity) e;
+            mobCount++;
+
+            int interval = player != null ? getInterval(mob, px, py) : 1;
+            boolean think;
+            if (interval == 1) {
+                think = true;
+            } else if (waiting.containsKey(mob)) {
+                think = farThinksLastTick < FAR_BUDGET_PER_TICK;
+                if (think) farThinksLastTick++;
+                else nextWaiting.put(mob, Boolean.TRUE);
+            } else {
+                mob.setThinkThisTick(false);
+                continue; // Decided in the second pass
+            }
+            mob.setThinkThisTick(think);
+            if (think) thinksLastTick++;
+        }
+
+        // Then distant mobs whose phase comes up this tick
+        if (player != null) {
+            for (int i = 0; i < entities.size(); i++) {
+                Entity e = entities.get(i);
+                if (!(e instanceof MobEntity)) continue;
+                MobEntity mob = (MobEntity) e;
+                int interval = getInterval(mob, px, py);
+                if (interval == 1 || waiting.containsKey(mob)) continue;
+                if ((tick + phase(mob)) % interval != 0) continue;
+
+                if (farThinksLastTick < FAR_BUDGET_PER_TICK) {
+                    mob.setThinkThisTick(true);
+                    farThinksLastTick++;
+                    thinksLastTick++;
+                } else {
+                    nextWaiting.put(mob, Boolean.TRUE);
+                }
+            }
+        }
+
+        IdentityHashMap<MobEntity, Boolean> swap = waiting;
+        waiting = nextWaiting;
+        nextWaiting = swap;
+    }
+
+    /**
+     * Gets how many ticks apart a mob thinks.
+     */
+    private static int getInterval(MobEntity mob, double px, double py) {
+        MobEntity.AIState state = mob.getState();
+        if (state == MobEntity.AIState.HURT || state == MobEntity.AIState.ATTACK
+                || state == MobEntity.AIState.DEAD) {
+            return 1;
+        }
+        Rectangle b = mob.getBounds();
+        double dx = b.getCenterX() - px;
+        double dy = b.getCenterY() - py;
+        double distSq = dx * dx + dy * dy;
+        for (int i = 0; i < TIER_DISTANCES.length; i++) {
+            if (distSq < TIER_DISTANCES[i] * TIER_DISTANCES[i]) return TIER_INTERVALS[i];
+        }
+        return TIER_INTERVALS[TIER_INTERVALS.length - 1];
+    }
+
+    /**
+     * Spreads mobs evenly over think ticks (stable per mob).
+     */
+    private static int phase(MobEntity mob) {
+        int h = System.identityHashCode(mob) * 0x9E3779B9;
+        return (h >>> 16) & 0xFFFF;
+    }
+
+    // ==================== Stats ====================
+
+    /**
+     * Gets how many mobs ran their AI last tick.
+     */
+    public int getThinksLastTick() { return thinksLastTick; }
+
+    /**
+     * Gets how many of those were distant mobs counted against the budget.
+     */
+    public int getFarThinksLastTick() { return farThinksLastTick; }
+
+    /**
+     * Gets the per-tick think budget for distant mobs.
+     */
+    public int getBudget() { return FAR_BUDGET_PER_TICK; }
+
+    /**
+     * Gets how many mobs are due to think but waiting for budget.
+     */
+    public int getQueueDepth() { return waiting.size(); }
+
+    public int getMobCount() { return mobCount; }
+}
@@ -0,0 +1,285 @@
+package entity.mob.ai;
+
+import block.BlockGrid;
+
+import java.util.Arrays;
+
+/**
+ * Distances to one goal cell from every standable cell in an area, for one
+ * MovementProfile, with the first move toward the goal from each cell.
+ *
+ * Built with Dijkstra outward from the goal over the reversed move graph, so
+ * any number of mobs chasing the same target read their next step in O(1)
+ * instead of each searching.
+ *
+ * The move graph of the area is cached: a goal that changes cells only re-runs
+ * Dijkstra, while the graph itself is rebuilt only when the area moves or a
+ * block changes in (or next to) it.
+ */
+public final class FlowField {
+
+    public static final int NONE = -1;
+
+    private final NavGrid nav;
+    private final MovementProfile profile;
+
+    // Area in cells (whole chunks) and the chunk versions the graph was built from
+    private int winX, winY, winCols, winRows;
+    private int chunkMinX, chunkMinY, chunkMaxX, chunkMaxY;
+    private int[] chunkVersions = new int[0];
+    private boolean built;
+
+    // Reversed move graph: the edges into node v are inStart[v] .. inStart[v + 1] - 1
+    private int[] inStart = new int[0];
+    private int[] inFrom = new int[0];
+    private byte[] inMove = new byte[0];
+    private float[] inCost = new float[0];
+
+    // Edges as collected, before grouping by target
+    private int edgeCount;
+    private int[] edgeFrom = new int[1024];
+    private int[] edgeTo = new int[1024];
+    private byte[] edgeMove = new byte[1024];
+    private float[] edgeCost = new float[1024];
+    private final NavGrid.EdgeVisitor collector = this::collectEdge;
+    private int collectFrom;
+
+    // Dijkstra results
+    private float[] cost = new float[0];
+    private int[] next = new int[0];
+    private byte[] nextMove = new byte[0];
+    private boolean[] settled = new boolean[0];
+    private final NodeHeap open = new NodeHeap();
+    private int goalX, goalY;
+    private boolean hasGoal;
+
+    // Bookkeeping for FlowFieldManager
+    long updatedTick = -1;
+    long usedTick;
+    int graphBuilds;
+    int solves;
+
+    FlowField(NavGrid nav, MovementProfile profile) {
+        this.nav = nav;
+        this.profile = profile;
+    }
+
+    public MovementProfile getProfile() {
+        return profile;
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Gets the node of a cell, or NONE if it is outside the area.
+     */
+    public int nodeAt(int x, int y) {
+        if (x < winX || y < winY || x >= winX + winCols || y >= winY + winRows) return NONE;
+        return (y - winY) * winCols + (x - winX);
+    }
+
+    public int getNodeX(int node) { return winX + node % winCols; }
+    public int getNodeY(int node) { return winY + node / winCols; }
+
+    /**
+     * Checks if a cell is the goal.
+     */
+    public boolean isGoal(int x, int y) {
+        return hasGoal && x == goalX && y == goalY;
+    }
+
+    /**
+     * Gets the node to move to next from a standable cell.
+     * @return Next node, or NONE (outside the area, at the goal, or no route)
+     */
+    public int getNext(int x, int y) {
+        int node = nodeAt(x, y);
+        return node == NONE ? NONE : next[node];
+    }
+
+    /**
+     * Gets how the next node is reached from a cell (NavPath.WALK, JUMP or DROP).
+     */
+    public byte getMove(int x, int y) {
+        int node = nodeAt(x, y);
+        return node == NONE ? NavPath.START : nextMove[node];
+    }
+
+    /**
+     * Gets the route cost from a cell to the goal (infinite if there is no route).
+     */
+    public float getCost(int x, int y) {
+        int node = nodeAt(x, y);
+        return node == NONE ? Float.POSITIVE_INFINITY : cost[node];
+    }
+
+    // ==================== Updates ====================
+
+    /**
+     * Brings the field up to date for an area and goal, rebuilding only what changed.
+     * @param areaX Area left cell
+     * @param areaY Area top cell
+     * @param areaCols Area width in cells
+     * @param areaRows Area height in cells
+     * @param goalCellX Goal column
+     * @param goalFeetY Row the goal's feet are in
+     */
+    void update(int areaX, int areaY, int areaCols, int areaRows, int goalCellX, int goalFeetY) {
+        BlockGrid grid = nav.grid;
+        int size = BlockGrid.CHUNK_SIZE;
+        int minX = Math.max(0, Math.floorDiv(areaX, size));
+        int minY = Math.max(0, Math.floorDiv(areaY, size));
+        int maxX = Math.min(grid.getChunkCols() - 1, Math.floorDiv(areaX + areaCols - 1, size));
+        int maxY = Math.min(grid.getChunkRows() - 1, Math.floorDiv(areaY + areaRows - 1, size));
+
+        boolean graphStale = !built || minX != chunkMinX || minY != chunkMinY
+                || maxX != chunkMaxX || maxY != chunkMaxY || chunksChanged();
+        if (graphStale) {
+            chunkMinX = minX;
+            chunkMinY = minY;
+            chunkMaxX = maxX;
+            chunkMaxY = maxY;
+            buildGraph();
+        }
+
+        int standY = nav.findStandable(goalCellX, goalFeetY, profile);
+        boolean goalInArea = standY != Integer.MIN_VALUE && nodeAt(goalCellX, standY) != NONE;
+        if (graphStale || goalInArea != hasGoal || (goalInArea && (goalCellX != goalX || standY != goalY))) {
+            hasGoal = goalInArea;
+            goalX = goalCellX;
+            goalY = standY;
+            solve();
+        }
+    }
+
+    /**
+     * Checks the versions of the area's chunks and the ring around them
+     * (moves near the border look one chunk past it).
+     */
+    private boolean chunksChanged() {
+        int i = 0;
+        BlockGrid grid = nav.grid;
+        for (int cy = ringMinY(); cy <= ringMaxY(); cy++) {
+            for (int cx = ringMinX(); cx <= ringMaxX(); cx++) {
+                if (grid.getChunkVersion(cx, cy) != chunkVersions[i++]) return true;
+            }
+        }
+        return false;
+    }
+
+    private int ringMinX() { return Math.max(0, chunkMinX - 1); }
+    private int ringMinY() { return Math.max(0, chunkMinY - 1); }
+    private int ringMaxX() { return Math.min(nav.grid.getChunkCols() - 1, chunkMaxX + 1); }
+    private int ringMaxY() { return Math.min(nav.grid.getChunkRows() - 1, chunkMaxY + 1); }
+
+    private void buildGraph() {
+        BlockGrid grid = nav.grid;
+        int size = BlockGrid.CHUNK_SIZE;
+        winX = chunkMinX * size;
+        winY = chunkMinY * size;
+        winCols = Math.max(0, Math.min(grid.getCols(), (chunkMaxX + 1) * size) - winX);
+        winRows = Math.max(0, Math.min(grid.getRows(), (chunkMaxY + 1) * size) - winY);
+        int nodes = winCols * winRows;
+
+        int ringCount = (ringMaxX() - ringMinX() + 1) * (ringMaxY() - ringMinY() + 1);
+        if (chunkVersions.length != ringCount) chunkVersions = new int[ringCount];
+        int i = 0;
+        for (int cy = ringMinY(); cy <= ringMaxY(); cy++) {
+            for (int cx = ringMinX(); cx <= ringMaxX(); cx++) {
+                chunkVersions[i++] = grid.getChunkVersion(cx, cy);
+            }
+        }
+
+        // Collect every move between standable cells of the area
+        edgeCount = 0;
+        int h = profile.heightCells;
+        for (int node = 0; node < nodes; node++) {
+            int x = winX + node % winCols;
+            int y = winY + node / winCols;
+            if (nav.isStandable(x, y, h)) {
+                collectFrom = node;
+                nav.forEachEdge(x, y, profile, collector);
+            }
+        }
+
+        // Group them by target (counting sort)
+        if (inStart.length < nodes + 1) {
+            inStart = new int[nodes + 1];
+            cost = new float[nodes];
+            next = new int[nodes];
+            nextMove = new byte[nodes];
+            settled = new boolean[nodes];
+        }
+        Arrays.fill(inStart, 0, nodes + 1, 0);
+        for (int e = 0; e < edgeCount; e++) inStart[edgeTo[e] + 1]++;
+        for (int v = 0; v < nodes; v++) inStart[v + 1] += inStart[v];
+        if (inFrom.length < edgeCount) {
+            inFrom = new int[edgeFrom.length];
+            inMove = new byte[edgeFrom.length];
+            inCost = new float[edgeFrom.length];
+        }
+        for (int e = 0; e < edgeCount; e++) {
+            int slot = inStart[edgeTo[e]]++;
+            inFrom[slot] = edgeFrom[e];
+            inMove[slot] = edgeMove[e];
+            inCost[slot] = edgeCost[e];
+        }
+        // Filling advanced each start to the next node's start; shift back
+        for (int v = nodes; v > 0; v--) inStart[v] = inStart[v - 1];
+        inStart[0] = 0;
+
+        built = true;
+        graphBuilds++;
+    }
+
+    private void collectEdge(int x, int y, byte move, float edgeCostValue) {
+        int to = nodeAt(x, y);
+        if (to == NONE) return;
+        if (edgeCount == edgeFrom.length) {
+            int capacity = edgeCount * 2;
+            edgeFrom = Arrays.copyOf(edgeFrom, capacity);
+            edgeTo = Arrays.copyOf(edgeTo, capacity);
+            edgeMove = Arrays.copyOf(edgeMove, capacity);
+            edgeCost = Arrays.copyOf(edgeCost, capacity);
+        }
+        edgeFrom[edgeCount] = collectFrom;
+        edgeTo[edgeCount] = to;
+        edgeMove[edgeCount] = move;
+        edgeCost[edgeCount] = edgeCostValue;
+        edgeCount++;
+    }
+
+    /**
+     * Runs Dijkstra outward from the goal along reversed edges.
+     */
+    private void solve() {
+        int nodes = winCols * winRows;
+        Arrays.fill(cost, 0, nodes, Float.POSITIVE_INFINITY);
+        Arrays.fill(next, 0, nodes, NONE);
+        Arrays.fill(nextMove, 0, nodes, NavPath.START);
+        Arrays.fill(settled, 0, nodes, false);
+        solves++;
+        if (!hasGoal) return;
+
+        int goal = nodeAt(goalX, goalY);
+        cost[goal] = 0;
+        open.clear();
+        open.push(goal, 0);
+        while (!open.isEmpty()) {
+            int v = open.pop();
+            if (settled[v]) continue;
+            settled[v] = true;
+            float base = cost[v];
+            for (int e = inStart[v]; e < inStart[v + 1]; e++) {
+                int u = inFrom[e];
+                float c = base + inCost[e];
+                if (c < cost[u]) {
+                    cost[u] = c;
+                    next[u] = v;
+                    nextMove[u] = inMove[e];
+                    open.push(u, c);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package entity.mob.ai;
+
+import block.BlockRegistry;
+import entity.player.PlayerBase;
+
+import java.awt.Rectangle;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Shared flow fields toward the player, one per MovementProfile in use.
+ *
+ * Every mob chasing the player reads its next step from the field for its
+ * profile instead of searching for its own path. Fields cover the camera view
+ * plus a margin (or a fixed radius around the player without one), are only
+ * brought up to date the first time they are read in a tick, and are dropped
+ * when no mob has read them for a while.
+ *
+ * Usage:
+ *   flowFields.beginTick(player);            // EntityManager, once per update
+ *   FlowField field = flowFields.getField(profile);
+ *   int next = field != null ? field.getNext(cellX, cellY) : FlowField.NONE;
+ */
+public class FlowFieldManager {
+
+    private static final int VIEW_MARGIN_CELLS = 8;
+    private static final int RADIUS_X_CELLS = 32;
+    private static final int RADIUS_Y_CELLS = 16;
+    private static final int MAX_AREA_COLS = 128;
+    private static final int MAX_AREA_ROWS = 64;
+    private static final int IDLE_TICKS = 300;
+
+    private final NavGrid nav;
+    private final HashMap<MovementProfile, FlowField> fields = new HashMap<>();
+
+    private final Rectangle view = new Rectangle();
+    private boolean hasView;
+    private PlayerBase goal;
+    private int goalCellX, goalFeetY;
+    private long tick;
+
+    /**
+     * Creates flow fields over the same terrain (and ground line) as a path finder.
+     */
+    public FlowFieldManager(PathFinder pathFinder) {
+        this.nav = pathFinder.nav;
+    }
+
+    /**
+     * Sets the visible world area (pixels) fields should cover.
+     * Called by GameScene from the camera each update.
+     */
+    public void setView(int x, int y, int width, int height) {
+        view.setBounds(x, y, width, height);
+        hasView = true;
+    }
+
+    /**
+     * Covers a fixed radius around the player instead of a view.
+     */
+    public void clearView() {
+        hasView = false;
+    }
+
+    /**
+     * Starts a tick with the player fields lead to (null disables them).
+     * Called by EntityManager once per update.
+     */
+    public void beginTick(PlayerBase player) {
+        tick++;
+        goal = player;
+        if (player != null) {
+            int size = BlockRegistry.BLOCK_SIZE;
+            Rectangle b = player.getBounds();
+            goalCellX = Math.floorDiv(b.x + b.width / 2, size);
+            goalFeetY = Math.floorDiv(b.y + b.height - 1, size);
+        }
+
+        Iterator<Map.Entry<MovementProfile, FlowField>> it = fields.entrySet().iterator();
+        while (it.hasNext()) {
+            if (tick - it.next().getValue().usedTick > IDLE_TICKS) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Gets the player the fields lead to.
+     */
+    public PlayerBase getGoal() {
+        return goal;
+    }
+
+    /**
+     * Gets the up-to-date field for a profile (null if there is no player).
+     */
+    public FlowField getField(MovementProfile profile) {
+        if (goal == null) return null;
+        FlowField field = fields.computeIfAbsent(profile, p -> new FlowField(nav, p));
+        field.usedTick = tick;
+        if (field.updatedTick != tick) {
+            field.updatedTick = tick;
+            updateField(field);
+        }
+        return field;
+    }
+
+    private void updateField(FlowField field) {
+        int minX, minY, maxX, maxY;
+        if (hasView) {
+            int size = BlockRegistry.BLOCK_SIZE;
+            minX = Math.floorDiv(view.x, size) - VIEW_MARGIN_CELLS;
+            minY = Math.floorDiv(view.y, size) - VIEW_MARGIN_CELLS;
+            maxX = Math.floorDiv(view.x + view.width - 1, size) + VIEW_MARGIN_CELLS;
+            maxY = Math.floorDiv(view.y + view.height - 1, size) + VIEW_MARGIN_CELLS;
+        } else {
+            minX = goalCellX - RADIUS_X_CELLS;
+            maxX = goalCellX + RADIUS_X_CELLS;
+            minY = goalFeetY - RADIUS_Y_CELLS;
+            maxY = goalFeetY + RADIUS_Y_CELLS;
+        }
+        // Keep the area bounded, centred on the player if the view is too large
+        if (maxX - minX + 1 > MAX_AREA_COLS) {
+            minX = goalCellX - MAX_AREA_COLS / 2;
+            maxX = minX + MAX_AREA_COLS - 1;
+        }
+        if (maxY - minY + 1 > MAX_AREA_ROWS) {
+            minY = goalFeetY - MAX_AREA_ROWS / 2;
+            maxY = minY + MAX_AREA_ROWS - 1;
+        }
+        field.update(minX, minY, maxX - minX + 1, maxY - minY + 1, goalCellX, goalFeetY);
+    }
+
+    // ==================== Stats ====================
+
+    public int getFieldCount() {
+        return fields.size();
+    }
+
+    /**
+     * Gets how many times fields have rebuilt their move graph (block or area changes).
+     */
+    public int getGraphBuilds() {
+        int total = 0;
+        for (FlowField field : fields.values()) total += field.graphBuilds;
+        return total;
+    }
+
+    /**
+     * Gets how many times fields have re-run Dijkstra (goal changes included).
+     */
+    public int getSolves() {
+        int total = 0;
+        for (FlowField field : fields.values()) total += field.solves;
+        return total;
+    }
+}
@@ -0,0 +1,76 @@
+package entity.mob.ai;
+
+import block.BlockRegistry;
+
+/**
+ * What a mob can traverse, in block cells: how tall it is, how high it can
+ * jump (all of its jumps together), how wide a gap it can clear and how far
+ * it is willing to drop.
+ *
+ * Profiles are values; mobs with equal profiles share cached paths.
+ */
+public final class MovementProfile {
+
+    public static final int MAX_DROP_CELLS = 6;
+
+    public final int heightCells;
+    public final int jumpCells;
+    public final int gapCells;
+    public final int dropCells;
+
+    public MovementProfile(int heightCells, int jumpCells, int gapCells, int dropCells) {
+        this.heightCells = Math.max(1, heightCells);
+        this.jumpCells = Math.max(0, jumpCells);
+        this.gapCells = Math.max(0, gapCells);
+        this.dropCells = Math.max(0, dropCells);
+    }
+
+    /**
+     * Derives a profile from a mob's physics.
+     * @param hitboxHeight Hitbox height in pixels
+     * @param jumpVelocities Launch velocity of each jump (first, double, triple), negative is up
+     * @param gravity Gravity per frame
+     * @param runSpeed Horizontal speed in pixels per second
+     */
+    public static MovementProfile fromPhysics(int hitboxHeight, double[] jumpVelocities,
+                                              double gravity, double runSpeed) {
+        int size = BlockRegistry.BLOCK_SIZE;
+
+        // Each jump adds v^2 / 2g of height (air jumps are used near the apex)
+        double rise = 0;
+        double airFrames = 0;
+        for (double v : jumpVelocities) {
+            rise += v * v / (2 * gravity);
+            airFrames += Math.abs(v) / gravity;
+        }
+        // Time to come back down from the top of the last jump
+        airFrames += Math.sqrt(2 * rise / gravity);
+        double reach = runSpeed * airFrames / 60.0;
+
+        return new MovementProfile(
+                (hitboxHeight + size - 1) / size,
+                (int) (rise / size),
+                Math.max(0, (int) (reach / size) - 1),
+                MAX_DROP_CELLS);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MovementProfile)) return false;
+        MovementProfile p = (MovementProfile) o;
+        return heightCells == p.heightCells && jumpCells == p.jumpCells
+                && gapCells == p.gapCells && dropCells == p.dropCells;
+    }
+
+    @Override
+    public int hashCode() {
+        return ((heightCells * 31 + jumpCells) * 31 + gapCells) * 31 + dropCells;
+    }
+
+    @Override
+    public String toString() {
+        return "MovementProfile[h=" + heightCells + ", jump=" + jumpCells
+                + ", gap=" + gapCells + ", drop=" + dropCells + "]";
+    }
+}
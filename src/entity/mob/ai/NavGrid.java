@@ -0,0 +1,93 @@
+package entity.mob.ai;
+
+import block.BlockGrid;
+import block.BlockRegistry;
+
+/**
+ * Terrain rules shared by the path finder and flow fields: which cells are
+ * solid, where a mob can stand, and which moves lead from a standable cell.
+ */
+final class NavGrid {
+
+    /**
+     * Receives the moves out of a cell.
+     */
+    interface EdgeVisitor {
+        void edge(int x, int y, byte move, float cost);
+    }
+
+    final BlockGrid grid;
+    int groundY = Integer.MAX_VALUE;
+
+    NavGrid(BlockGrid grid) {
+        this.grid = grid;
+    }
+
+    /**
+     * Checks if a cell blocks movement (a solid block or below the ground line).
+     */
+    boolean isSolidCell(int x, int y) {
+        if ((long) y * BlockRegistry.BLOCK_SIZE >= groundY) return true;
+        return grid.isSolid(x, y);
+    }
+
+    boolean isClear(int x, int y, int height) {
+        for (int k = 0; k < height; k++) {
+            if (isSolidCell(x, y - k)) return false;
+        }
+        return true;
+    }
+
+    boolean isStandable(int x, int y, int height) {
+        return x >= 0 && x < grid.getCols() && isClear(x, y, height) && isSolidCell(x, y + 1);
+    }
+
+    int findStandable(int x, int y, MovementProfile profile) {
+        if (isStandable(x, y, profile.heightCells)) return y;
+        if (isStandable(x, y - 1, profile.heightCells)) return y - 1;
+        for (int d = 1; d <= profile.dropCells; d++) {
+            if (isSolidCell(x, y + d)) break;
+            if (isStandable(x, y + d, profile.heightCells)) return y + d;
+        }
+        return Integer.MIN_VALUE;
+    }
+
+    /**
+     * Lists the moves out of a standable cell: walk to the next cell, walk off
+     * an edge and drop, jump a gap, or jump up onto a ledge.
+     */
+    void forEachEdge(int x, int y, MovementProfile p, EdgeVisitor visitor) {
+        int h = p.heightCells;
+        for (int dir = -1; dir <= 1; dir += 2) {
+            int nx = x + dir;
+            if (isStandable(nx, y, h)) {
+                visitor.edge(nx, y, NavPath.WALK, 1);
+            } else if (isClear(nx, y, h)) {
+                // Walk off the edge and fall to the first floor
+                for (int d = 1; d <= p.dropCells; d++) {
+                    if (isSolidCell(nx, y + d)) break;
+                    if (isStandable(nx, y + d, h)) {
+                        visitor.edge(nx, y + d, NavPath.DROP, 1 + d * 0.5f);
+                        break;
+                    }
+                }
+                // Jump across a gap to floor at the same height
+                for (int gap = 2; gap <= p.gapCells + 1; gap++) {
+                    int tx = x + dir * gap;
+                    if (!isClear(tx, y, h)) break;
+                    if (isStandable(tx, y, h)) {
+                        visitor.edge(tx, y, NavPath.JUMP, gap + 1);
+                        break;
+                    }
+                }
+            }
+            // Jump up onto a ledge, as long as nothing is overhead
+            for (int d = 1; d <= p.jumpCells; d++) {
+                if (isSolidCell(x, y - h + 1 - d)) break;
+                if (isStandable(nx, y - d, h)) {
+                    visitor.edge(nx, y - d, NavPath.JUMP, 1 + d);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package entity.mob.ai;
+
+import block.BlockGrid;
+
+/**
+ * A computed route through standable cells, or a record that no route exists.
+ *
+ * Cell i is where the mob stands (its feet in the cell, a solid cell under
+ * it). getMove(i) tells how cell i is reached from cell i - 1.
+ *
+ * A path remembers the edit versions of the BlockGrid chunks around it (its
+ * corridor), so it stops being valid as soon as a block there is placed or
+ * mined.
+ */
+public final class NavPath {
+
+    // How a step is taken
+    public static final byte START = 0;
+    public static final byte WALK = 1;
+    public static final byte JUMP = 2;
+    public static final byte DROP = 3;
+
+    private final int[] cellX;
+    private final int[] cellY;
+    private final byte[] moves;
+    private final int[] corridorChunks;
+    private final int[] corridorVersions;
+
+    NavPath(int[] cellX, int[] cellY, byte[] moves, int[] corridorChunks, int[] corridorVersions) {
+        this.cellX = cellX;
+        this.cellY = cellY;
+        this.moves = moves;
+        this.corridorChunks = corridorChunks;
+        this.corridorVersions = corridorVersions;
+    }
+
+    /**
+     * Checks if a route was found (false records an unreachable goal).
+     */
+    public boolean isFound() {
+        return cellX.length > 0;
+    }
+
+    public int length() { return cellX.length; }
+    public int getCellX(int i) { return cellX[i]; }
+    public int getCellY(int i) { return cellY[i]; }
+    public byte getMove(int i) { return moves[i]; }
+
+    /**
+     * Finds a cell in the path, looking from an index onward.
+     * @return Index of the last matching cell within the window, or -1
+     */
+    public int indexOf(int x, int y, int from, int window) {
+        int found = -1;
+        int end = Math.min(cellX.length, from + window);
+        for (int i = Math.max(0, from); i < end; i++) {
+            if (cellX[i] == x && cellY[i] == y) found = i;
+        }
+        return found;
+    }
+
+    /**
+     * Checks that no block in the path's corridor changed since it was computed.
+     */
+    public boolean isValid(BlockGrid grid) {
+        int chunkCols = grid.getChunkCols();
+        for (int i = 0; i < corridorChunks.length; i++) {
+            int chunk = corridorChunks[i];
+            if (grid.getChunkVersion(chunk % chunkCols, chunk / chunkCols) != corridorVersions[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
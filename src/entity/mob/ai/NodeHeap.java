@@ -0,0 +1,58 @@
+package entity.mob.ai;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of node indices keyed by score. Decrease-key is done by
+ * pushing again; callers skip stale entries when they pop them.
+ */
+final class NodeHeap {
+
+    private int[] nodes = new int[256];
+    private float[] scores = new float[256];
+    private int size;
+
+    void clear() {
+        size = 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void push(int node, float score) {
+        if (size == nodes.length) {
+            nodes = Arrays.copyOf(nodes, size * 2);
+            scores = Arrays.copyOf(scores, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int up = (i - 1) / 2;
+            if (scores[up] <= score) break;
+            nodes[i] = nodes[up];
+            scores[i] = scores[up];
+            i = up;
+        }
+        nodes[i] = node;
+        scores[i] = score;
+    }
+
+    int pop() {
+        int top = nodes[0];
+        int lastNode = nodes[--size];
+        float lastScore = scores[size];
+        int i = 0;
+        while (true) {
+            int child = i * 2 + 1;
+            if (child >= size) break;
+            if (child + 1 < size && scores[child + 1] < scores[child]) child++;
+            if (scores[child] >= lastScore) break;
+            nodes[i] = nodes[child];
+            scores[i] = scores[child];
+            i = child;
+        }
+        nodes[i] = lastNode;
+        scores[i] = lastScore;
+        return top;
+    }
+}
@@ -0,0 +1,414 @@
+package entity.mob.ai;
+
+import block.BlockGrid;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A* pathfinding for walking, jumping mobs over the block grid.
+ *
+ * Nodes are cells a mob can stand in: enough clear cells for its height and a
+ * solid cell (or the level ground) underneath. Edges follow the mob's
+ * MovementProfile: walk to the next cell, jump up onto a ledge as high as all
+ * its jumps allow, jump a gap, or walk off an edge and drop.
+ *
+ * Searches are time-sliced. request() returns a Request that completes on a
+ * later tick if needed; all searches together expand at most
+ * NODE_BUDGET_PER_TICK nodes per tick, so a crowd of mobs starting to chase
+ * at once cannot spike a frame. Results (including "unreachable") are cached
+ * by start cell, goal cell and profile, and dropped when a block in the
+ * corridor around them changes (tracked with BlockGrid chunk versions).
+ *
+ * Usage:
+ *   PathFinder.Request request = pathFinder.request(startX, startY, goalX, goalY, profile);
+ *   ...
+ *   if (request.isDone() && request.getPath() != null && request.getPath().isFound()) { follow it }
+ */
+public class PathFinder {
+
+    public static final int NODE_BUDGET_PER_TICK = 2000;
+    public static final int MAX_NODES_PER_SEARCH = 4000;
+    public static final int MAX_CACHED_PATHS = 256;
+    private static final int MAX_QUEUED = 64;
+
+    // Search area around the start and goal cells
+    private static final int WINDOW_MARGIN_X = 24;
+    private static final int WINDOW_MARGIN_Y = 12;
+    private static final int MAX_WINDOW_COLS = 256;
+    private static final int MAX_WINDOW_ROWS = 128;
+
+    /**
+     * A queued or finished path search.
+     */
+    public static final class Request {
+        private final Key key;
+        private NavPath path;
+        private boolean done;
+
+        private Request(Key key) {
+            this.key = key;
+        }
+
+        public boolean isDone() {
+            return done;
+        }
+
+        /**
+         * Gets the result once done (null if the search could not run, e.g. the queue was full).
+         */
+        public NavPath getPath() {
+            return path;
+        }
+    }
+
+    private static final class Key {
+        final int startX, startY, goalX, goalY;
+        final MovementProfile profile;
+
+        Key(int startX, int startY, int goalX, int goalY, MovementProfile profile) {
+            this.startX = startX;
+            this.startY = startY;
+            this.goalX = goalX;
+            this.goalY = goalY;
+            this.profile = profile;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key k = (Key) o;
+            return startX == k.startX && startY == k.startY && goalX == k.goalX && goalY == k.goalY
+                    && profile.equals(k.profile);
+        }
+
+        @Override
+        public int hashCode() {
+            return (((startX * 31 + startY) * 31 + goalX) * 31 + goalY) * 31 + profile.hashCode();
+        }
+    }
+
+    private final BlockGrid grid;
+    final NavGrid nav;
+
+    private final LinkedHashMap<Key, NavPath> cache = new LinkedHashMap<>(64, 0.75f, true);
+    private final ArrayDeque<Request> queue = new ArrayDeque<>();
+    private final HashMap<Key, Request> pending = new HashMap<>();
+    private int budget = NODE_BUDGET_PER_TICK;
+
+    // Active search (one at a time, resumed across ticks), in window-local cell indices
+    private Request active;
+    private int winX, winY, winCols, winRows;
+    private int expanded;
+    private int exploredMinX, exploredMinY, exploredMaxX, exploredMaxY;
+    private final int windowSize = MAX_WINDOW_COLS * MAX_WINDOW_ROWS;
+    private final float[] gScore = new float[windowSize];
+    private final int[] parent = new int[windowSize];
+    private final byte[] parentMove = new byte[windowSize];
+    private final int[] visitStamp = new int[windowSize];
+    private final int[] closedStamp = new int[windowSize];
+    private int stamp;
+
+    // Open set on f score, and the node being expanded
+    private final NodeHeap open = new NodeHeap();
+    private final NavGrid.EdgeVisitor relaxer = this::relax;
+    private int expandNode;
+    private float expandG;
+
+    // Stats for the debug overlay
+    private int nodesLastTick;
+    private int cacheHits;
+
+    public PathFinder(BlockGrid grid) {
+        this.grid = grid;
+        this.nav = new NavGrid(grid);
+    }
+
+    /**
+     * Sets the level's ground line (pixels); cells at or below it count as solid.
+     */
+    public void setGroundY(int groundY) {
+        nav.groundY = groundY;
+    }
+
+    /**
+     * Starts a new tick's node budget and continues queued searches.
+     * Called by EntityManager once per update.
+     */
+    public void beginTick() {
+        nodesLastTick = NODE_BUDGET_PER_TICK - budget;
+        budget = NODE_BUDGET_PER_TICK;
+        pump();
+    }
+
+    /**
+     * Asks for a path between two standable cells (see findStandable).
+     * Cached results come back done; otherwise the search runs within this and
+     * later ticks' budgets. Requests for the same key share one search.
+     */
+    public Request request(int startX, int startY, int goalX, int goalY, MovementProfile profile) {
+        Key key = new Key(startX, startY, goalX, goalY, profile);
+
+        NavPath cached = cache.get(key);
+        if (cached != null) {
+            if (cached.isValid(grid)) {
+                cacheHits++;
+                Request done = new Request(key);
+                done.path = cached;
+                done.done = true;
+                return done;
+            }
+            cache.remove(key);
+        }
+
+        Request request = pending.get(key);
+        if (request == null) {
+            request = new Request(key);
+            if (queue.size() >= MAX_QUEUED) {
+                request.done = true; // Too busy; the caller retries later
+                return request;
+            }
+            queue.add(request);
+            pending.put(key, request);
+        }
+        pump();
+        return request;
+    }
+
+    /**
+     * Checks that no block around a path changed since it was found.
+     */
+    public boolean isValid(NavPath path) {
+        return path.isValid(grid);
+    }
+
+    // ==================== Cells ====================
+
+    /**
+     * Checks if a cell blocks movement (a solid block or below the ground line).
+     */
+    public boolean isSolidCell(int x, int y) {
+        return nav.isSolidCell(x, y);
+    }
+
+    /**
+     * Checks if a mob of the given height can stand with its feet in a cell.
+     */
+    public boolean isStandable(int x, int y, int height) {
+        return nav.isStandable(x, y, height);
+    }
+
+    /**
+     * Finds the standable cell for something whose feet are in a cell: the
+     * cell itself, the one above (feet on a partly mined block), or the first
+     * one below within the drop distance (airborne).
+     * @return Cell row, or Integer.MIN_VALUE if there is none
+     */
+    public int findStandable(int x, int y, MovementProfile profile) {
+        return nav.findStandable(x, y, profile);
+    }
+
+    // ==================== Search ====================
+
+    private void pump() {
+        while (budget > 0) {
+            if (active == null) {
+                active = queue.poll();
+                if (active == null) return;
+                startSearch(active);
+            }
+            while (budget > 0 && !active.done) {
+                expandNext();
+                budget--;
+            }
+            if (active.done) {
+                active = null;
+            }
+        }
+    }
+
+    private void startSearch(Request request) {
+        Key k = request.key;
+        MovementProfile p = k.profile;
+        int minX = Math.max(0, Math.min(k.startX, k.goalX) - WINDOW_MARGIN_X);
+        int maxX = Math.min(grid.getCols() - 1, Math.max(k.startX, k.goalX) + WINDOW_MARGIN_X);
+        int minY = Math.max(0, Math.min(k.startY, k.goalY) - WINDOW_MARGIN_Y - p.heightCells);
+        int maxY = Math.min(grid.getRows() - 1, Math.max(k.startY, k.goalY) + WINDOW_MARGIN_Y);
+        winX = minX;
+        winY = minY;
+        winCols = maxX - minX + 1;
+        winRows = maxY - minY + 1;
+
+        if (winCols > MAX_WINDOW_COLS || winRows > MAX_WINDOW_ROWS || winCols <= 0 || winRows <= 0
+                || !inWindow(k.startX, k.startY) || !inWindow(k.goalX, k.goalY)) {
+            // Too far apart to search: not cached, the caller falls back to direct chasing
+            complete(request, null, false);
+            return;
+        }
+
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(visitStamp, 0);
+            Arrays.fill(closedStamp, 0);
+            stamp = 1;
+        }
+        open.clear();
+        expanded = 0;
+        exploredMinX = exploredMaxX = k.startX;
+        exploredMinY = exploredMaxY = k.startY;
+
+        if (!isStandable(k.startX, k.startY, p.heightCells) || !isStandable(k.goalX, k.goalY, p.heightCells)) {
+            complete(request, null, true);
+            return;
+        }
+
+        int start = localIndex(k.startX, k.startY);
+        visitStamp[start] = stamp;
+        gScore[start] = 0;
+        parent[start] = -1;
+        parentMove[start] = NavPath.START;
+        open.push(start, heuristic(k.startX, k.startY, k));
+    }
+
+    private void expandNext() {
+        Key k = active.key;
+        if (open.isEmpty() || expanded >= MAX_NODES_PER_SEARCH) {
+            complete(active, null, true);
+            return;
+        }
+
+        int node = open.pop();
+        if (closedStamp[node] == stamp) return;
+        closedStamp[node] = stamp;
+        expanded++;
+
+        int x = winX + node % winCols;
+        int y = winY + node / winCols;
+        exploredMinX = Math.min(exploredMinX, x);
+        exploredMaxX = Math.max(exploredMaxX, x);
+        exploredMinY = Math.min(exploredMinY, y);
+        exploredMaxY = Math.max(exploredMaxY, y);
+
+        if (x == k.goalX && y == k.goalY) {
+            complete(active, node, true);
+            return;
+        }
+
+        expandNode = node;
+        expandG = gScore[node];
+        nav.forEachEdge(x, y, k.profile, relaxer);
+    }
+
+    private void relax(int x, int y, byte move, float cost) {
+        if (!inWindow(x, y)) return;
+        int from = expandNode;
+        float g = expandG;
+        int node = localIndex(x, y);
+        if (closedStamp[node] == stamp) return;
+        float ng = g + cost;
+        if (visitStamp[node] == stamp && ng >= gScore[node]) return;
+        visitStamp[node] = stamp;
+        gScore[node] = ng;
+        parent[node] = from;
+        parentMove[node] = move;
+        open.push(node, ng + heuristic(x, y, active.key));
+    }
+
+    private static float heuristic(int x, int y, Key k) {
+        // Admissible: every column costs at least 1, every row at least 0.5 (dropping)
+        return Math.abs(k.goalX - x) + 0.5f * Math.abs(k.goalY - y);
+    }
+
+    private boolean inWindow(int x, int y) {
+        return x >= winX && y >= winY && x < winX + winCols && y < winY + winRows;
+    }
+
+    private int localIndex(int x, int y) {
+        return (y - winY) * winCols + (x - winX);
+    }
+
+    /**
+     * Finishes a search, caching the result if it depends only on the grid.
+     * @param goalNode Window index of the reached goal, or null if unreachable
+     */
+    private void complete(Request request, Integer goalNode, boolean cacheable) {
+        NavPath path = null;
+        if (cacheable) {
+            path = goalNode != null ? buildPath(goalNode, request.key.profile)
+                                    : emptyPath(request.key.profile);
+            cache.put(request.key, path);
+            if (cache.size() > MAX_CACHED_PATHS) {
+                Iterator<Map.Entry<Key, NavPath>> it = cache.entrySet().iterator();
+                it.next();
+                it.remove(); // Least recently used
+            }
+        }
+        request.path = path;
+        request.done = true;
+        pending.remove(request.key);
+    }
+
+    private NavPath buildPath(int goalNode, MovementProfile profile) {
+        int count = 0;
+        for (int n = goalNode; n != -1; n = parent[n]) count++;
+
+        int[] xs = new int[count];
+        int[] ys = new int[count];
+        byte[] moves = new byte[count];
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        int i = count - 1;
+        for (int n = goalNode; n != -1; n = parent[n], i--) {
+            xs[i] = winX + n % winCols;
+            ys[i] = winY + n / winCols;
+            moves[i] = parentMove[n];
+            minX = Math.min(minX, xs[i]);
+            maxX = Math.max(maxX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+        return withCorridor(xs, ys, moves, minX, minY, maxX, maxY, profile);
+    }
+
+    private NavPath emptyPath(MovementProfile profile) {
+        // Unreachable: any change in the explored area might open a route
+        return withCorridor(new int[0], new int[0], new byte[0],
+                exploredMinX, exploredMinY, exploredMaxX, exploredMaxY, profile);
+    }
+
+    /**
+     * Attaches the versions of the chunks around a cell range (padded by the
+     * mob's body and jump height, and the floor underneath).
+     */
+    private NavPath withCorridor(int[] xs, int[] ys, byte[] moves,
+                                 int minX, int minY, int maxX, int maxY, MovementProfile profile) {
+        int size = BlockGrid.CHUNK_SIZE;
+        int chunkMinX = Math.max(0, (minX - 1) / size);
+        int chunkMaxX = Math.min(grid.getChunkCols() - 1, (maxX + 1) / size);
+        int chunkMinY = Math.max(0, (minY - profile.heightCells - profile.jumpCells) / size);
+        int chunkMaxY = Math.min(grid.getChunkRows() - 1, (maxY + 1) / size);
+
+        int count = Math.max(0, chunkMaxX - chunkMinX + 1) * Math.max(0, chunkMaxY - chunkMinY + 1);
+        int[] chunks = new int[count];
+        int[] versions = new int[count];
+        int i = 0;
+        for (int cy = chunkMinY; cy <= chunkMaxY; cy++) {
+            for (int cx = chunkMinX; cx <= chunkMaxX; cx++) {
+                chunks[i] = cy * grid.getChunkCols() + cx;
+                versions[i] = grid.getChunkVersion(cx, cy);
+                i++;
+            }
+        }
+        return new NavPath(xs, ys, moves, chunks, versions);
+    }
+
+    // ==================== Stats ====================
+
+    public int getCachedPathCount() { return cache.size(); }
+    public int getQueuedCount() { return queue.size() + (active != null ? 1 : 0); }
+    public int getNodesLastTick() { return nodesLastTick; }
+    public int getCacheHits() { return cacheHits; }
+}
@@ -180,6 +180,8 @@ public class HumanoidMobEntity extends MobEntity {
             skeleton.addAnimation(createHurtAnimation());
             skeleton.addAnimation(createDeathAnimation());
 
+            // Every mob of this variant and texture set shares baked animation frames
+            skeleton.setBakeKey("humanoid/" + variantType + "/" + (useTextures ? textureDir : "default"));
             skeleton.playAnimation("idle");
         }
     }
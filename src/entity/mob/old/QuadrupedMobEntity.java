@@ -275,6 +275,9 @@ public class QuadrupedMobEntity extends MobEntity {
     protected void setupAnimations() {
         if (skeleton != null) {
             QuadrupedAnimation.addAllAnimations(skeleton);
+
+            // Every mob of this animal type and texture set shares baked animation frames
+            skeleton.setBakeKey("quadruped/" + animalType + "/" + (useTextures ? textureDir : "default"));
             skeleton.playAnimation("idle");
         }
     }
@@ -292,28 +292,11 @@ public class PlayerBoneEntity extends Entity implements PlayerBase {
         }
 
         // Horizontal collision check
-        Rectangle futureXBounds = new Rectangle(newX, y, width, height);
-        boolean xCollision = false;
-
-        for (Entity e : entities) {
-            if (e == this) continue;
-
-            boolean isSolid = false;
-            if (e instanceof SpriteEntity && ((SpriteEntity) e).isSolid()) {
-                isSolid = true;
-            } else if (e instanceof BlockEntity && ((BlockEntity) e).isSolid()) {
-                isSolid = true;
-            }
-
-            if (isSolid && futureXBounds.intersects(e.getBounds())) {
-                xCollision = true;
-                break;
-            }
-        }
-
-        if (!xCollision) {
-            x = newX;
-        }
+        TileCollider collider = getTileCollider(entities);
+        Rectangle box = new Rectangle(x, y, width, height);
+        collider.moveX(box, newX - x, this);
+        x = box.x;
+        y = box.y;
 
         // Soft push collision with mobs (gentle push, doesn't block movement)
         Rectangle currentBounds = new Rectangle(x, y, width, height);
@@ -389,34 +372,17 @@ public class PlayerBoneEntity extends Entity implements PlayerBase {
         int newY = y + (int) velY;
 
         // Vertical collision
-        Rectangle futureYBounds = new Rectangle(x, newY, width, height);
+        box.setLocation(x, y);
+        int contacts = collider.moveY(box, newY - y, this);
+        newY = box.y;
         boolean foundPlatform = false;
 
-        for (Entity e : entities) {
-            if (e == this) continue;
-
-            boolean isSolid = false;
-            if (e instanceof SpriteEntity && ((SpriteEntity) e).isSolid()) {
-                isSolid = true;
-            } else if (e instanceof BlockEntity && ((BlockEntity) e).isSolid()) {
-                isSolid = true;
-            }
-
-            if (isSolid) {
-                Rectangle platformBounds = e.getBounds();
-                if (futureYBounds.intersects(platformBounds)) {
-                    if (velY > 0) {
-                        newY = platformBounds.y - height;
-                        velY = 0;
-                        onGround = true;
-                        foundPlatform = true;
-                    } else if (velY < 0) {
-                        newY = platformBounds.y + platformBounds.height;
-                        velY = 0;
-                    }
-                    break;
-                }
-            }
+        if ((contacts & TileCollider.GROUND) != 0 && velY >= 0) {
+            velY = 0;
+            onGround = true;
+            foundPlatform = true;
+        } else if ((contacts & TileCollider.CEILING) != 0) {
+            velY = 0;
         }
 
         // Ground collision
@@ -135,29 +135,11 @@ public class PlayerEntity extends SpriteEntity implements PlayerBase {
         }
 
         // Check horizontal collision with obstacles (SpriteEntity and BlockEntity)
-        Rectangle futureXBounds = new Rectangle(newX, y, width, height);
-        boolean xCollision = false;
-
-        for (Entity e : entities) {
-            if (e == this) continue;
-
-            boolean isSolid = false;
-            if (e instanceof SpriteEntity && ((SpriteEntity) e).isSolid()) {
-                isSolid = true;
-            } else if (e instanceof BlockEntity && ((BlockEntity) e).isSolid()) {
-                isSolid = true;
-            }
-
-            if (isSolid && futureXBounds.intersects(e.getBounds())) {
-                xCollision = true;
-                break;
-            }
-        }
-
-        // Only apply horizontal movement if no collision
-        if (!xCollision) {
-            x = newX;
-        }
+        TileCollider collider = getTileCollider(entities);
+        Rectangle box = new Rectangle(x, y, width, height);
+        collider.moveX(box, newX - x, this);
+        x = box.x;
+        y = box.y;
 
         // Check for item collection
         Rectangle playerBounds = new Rectangle(x, y, width, height);
@@ -196,37 +178,17 @@ public class PlayerEntity extends SpriteEntity implements PlayerBase {
         newY = y + (int)velY;
 
         // Check vertical collision with obstacles (SpriteEntity and BlockEntity)
-        Rectangle futureYBounds = new Rectangle(x, newY, width, height);
+        box.setLocation(x, y);
+        int contacts = collider.moveY(box, newY - y, this);
+        newY = box.y;
         boolean foundPlatform = false;
 
-        for (Entity e : entities) {
-            if (e == this) continue;
-
-            boolean isSolid = false;
-            if (e instanceof SpriteEntity && ((SpriteEntity) e).isSolid()) {
-                isSolid = true;
-            } else if (e instanceof BlockEntity && ((BlockEntity) e).isSolid()) {
-                isSolid = true;
-            }
-
-            if (isSolid) {
-                Rectangle platformBounds = e.getBounds();
-
-                if (futureYBounds.intersects(platformBounds)) {
-                    if (velY > 0) {
-                        // Falling down - land on top of platform
-                        newY = platformBounds.y - height;
-                        velY = 0;
-                        onGround = true;
-                        foundPlatform = true;
-                    } else if (velY < 0) {
-                        // Jumping up - hit head on bottom of platform
-                        newY = platformBounds.y + platformBounds.height;
-                        velY = 0;
-                    }
-                    break;
-                }
-            }
+        if ((contacts & TileCollider.GROUND) != 0 && velY >= 0) {
+            velY = 0;
+            onGround = true;
+            foundPlatform = true;
+        } else if ((contacts & TileCollider.CEILING) != 0) {
+            velY = 0;
         }
 
         // Check ground collision
@@ -97,6 +97,7 @@ public class SpritePlayerEntity extends Entity implements PlayerBase,
 
     // Aim system for mouse-directed projectiles
     private Camera camera;               // Reference for screen-to-world conversion
+    private EntityGrid actorGrid;        // Spatial hash for melee hit queries (set by EntityManager)
     private double aimAngle = 0;         // Current aim angle in radians
     private double aimDirX = 1.0;        // Normalized aim direction X
     private double aimDirY = 0;          // Normalized aim direction Y
@@ -138,6 +139,7 @@ public class SpritePlayerEntity extends Entity implements PlayerBase,
     private double attackDirY = 0;        // Attack direction Y (set when attack starts)
     private double attackAngle = 0;       // Attack angle in radians (set when attack starts)
     private MeleeAttackHitbox currentAttackHitbox = null;  // Arc-based attack hitbox
+    private final MeleeAttackHitbox attackHitbox = new MeleeAttackHitbox(0, 0, 0, 0);  // Re-aimed each swing
     private boolean showMeleeAimIndicator = false;  // Toggle for melee aim indicator (debug feature)
 
     // Dimensions
@@ -401,6 +403,13 @@ public class SpritePlayerEntity extends Entity implements PlayerBase,
         this.camera = camera;
     }
 
+    /**
+     * Sets the actor grid melee attacks take their targets from (null scans every entity).
+     */
+    public void setActorGrid(EntityGrid actorGrid) {
+        this.actorGrid = actorGrid;
+    }
+
     /**
      * Updates the aim direction based on mouse position.
      * Calculates angle from player center to mouse cursor in world coordinates.
@@ -621,7 +630,7 @@ public class SpritePlayerEntity extends Entity implements PlayerBase,
             if (!actionTaken && attack()) {
                 Rectangle attackBounds = getAttackBounds();
                 if (attackBounds != null) {
-                    EntityPhysics.checkPlayerAttack(this, attackBounds, getAttackDamage(), 8.0, entities);
+                    EntityPhysics.checkPlayerAttack(this, attackBounds, getAttackDamage(), 8.0, entities, actorGrid);
                     if (audioManager != null) {
                         audioManager.playSound("attack");
                     }
@@ -638,7 +647,7 @@ public class SpritePlayerEntity extends Entity implements PlayerBase,
             } else if (attack()) {
                 Rectangle attackBounds = getAttackBounds();
                 if (attackBounds != null) {
-                    EntityPhysics.checkPlayerAttack(this, attackBounds, getAttackDamage(), 8.0, entities);
+                    EntityPhysics.checkPlayerAttack(this, attackBounds, getAttackDamage(), 8.0, entities, actorGrid);
                     if (audioManager != null) {
                         audioManager.playSound("attack");
                     }
@@ -680,51 +689,18 @@ public class SpritePlayerEntity extends Entity implements PlayerBase,
             isMoving = true;
         }
 
-        // Check horizontal collision
-        Rectangle futureXBounds = new Rectangle(newX, y, width, height);
-        boolean xCollision = false;
-
-        for (Entity e : entities) {
-            if (e == this) continue;
-
-            boolean isSolid = false;
-            if (e instanceof SpriteEntity && ((SpriteEntity) e).isSolid()) {
-                isSolid = true;
-            } else if (e instanceof BlockEntity && ((BlockEntity) e).isSolid()) {
-                isSolid = true;
-            }
-
-            if (isSolid && futureXBounds.intersects(e.getBounds())) {
-                xCollision = true;
-                break;
-            }
-        }
-
-        if (!xCollision) {
-            x = newX;
-        }
+        // Move horizontally, stopping at walls and stepping up mined edges
+        TileCollider collider = getTileCollider(entities);
+        Rectangle box = new Rectangle(x, y, width, height);
+        collider.moveX(box, newX - x, this);
+        x = box.x;
+        y = box.y;
 
-        // Apply push forces (with collision check to prevent being pushed into blocks)
+        // Apply push forces (the collider stops the push at walls)
         if (Math.abs(pushX) > 0.1) {
-            int pushAmount = (int) pushX;
-            Rectangle pushedBounds = new Rectangle(x + pushAmount, y, width, height);
-            boolean pushBlocked = false;
-
-            // Check if push would put us inside a solid block
-            for (Entity e : entities) {
-                if (e == this) continue;
-                if (e instanceof BlockEntity) {
-                    BlockEntity block = (BlockEntity) e;
-                    if (block.isSolid() && !block.isBroken() && pushedBounds.intersects(block.getBounds())) {
-                        pushBlocked = true;
-                        break;
-                    }
-                }
-            }
-
-            if (!pushBlocked) {
-                x += pushAmount;
-            }
+            collider.moveX(box, (int) pushX, this);
+            x = box.x;
+            y = box.y;
             pushX *= 0.8; // Decay push force
         } else {
             pushX = 0;
@@ -754,38 +730,20 @@ public class SpritePlayerEntity extends Entity implements PlayerBase,
         newY = y + (int)velY;
 
         // Check vertical collision
-        Rectangle futureYBounds = new Rectangle(x, newY, width, height);
+        box.setLocation(x, y);
+        int contacts = collider.moveY(box, newY - y, this);
+        newY = box.y;
         boolean foundPlatform = false;
 
-        for (Entity e : entities) {
-            if (e == this) continue;
-
-            boolean isSolid = false;
-            if (e instanceof SpriteEntity && ((SpriteEntity) e).isSolid()) {
-                isSolid = true;
-            } else if (e instanceof BlockEntity && ((BlockEntity) e).isSolid()) {
-                isSolid = true;
-            }
-
-            if (isSolid) {
-                Rectangle platformBounds = e.getBounds();
-
-                if (futureYBounds.intersects(platformBounds)) {
-                    if (velY > 0) {
-                        newY = platformBounds.y - height;
-                        velY = 0;
-                        onGround = true;
-                        foundPlatform = true;
-                        // Reset jumps on landing
-                        jumpsRemaining = maxJumps;
-                        currentJumpNumber = 0;
-                    } else if (velY < 0) {
-                        newY = platformBounds.y + platformBounds.height;
-                        velY = 0;
-                    }
-                    break;
-                }
-            }
+        if ((contacts & TileCollider.GROUND) != 0 && velY >= 0) {
+            velY = 0;
+            onGround = true;
+            foundPlatform = true;
+            // Reset jumps on landing
+            jumpsRemaining = maxJumps;
+            currentJumpNumber = 0;
+        } else if ((contacts & TileCollider.CEILING) != 0) {
+            velY = 0;
         }
 
         // Check ground collision
@@ -1289,7 +1247,7 @@ public class SpritePlayerEntity extends Entity implements PlayerBase,
         double velY = aimDirY * chargedSpeed;
 
         // Create the projectile directly with modified stats
-        ProjectileEntity projectile = new ProjectileEntity(
+        ProjectileEntity projectile = EntityPools.getInstance().obtainProjectile(
             projX, projY,
             heldItem.getProjectileType(),
             (int)(heldItem.getProjectileDamage() * damageMultiplier),
@@ -1346,8 +1304,9 @@ public class SpritePlayerEntity extends Entity implements PlayerBase,
             proj.update(deltaSeconds, entities);
 
             if (!proj.isActive()) {
+                // EntityManager removes it from the scene (collecting any
+                // recoverable throwable) and returns it to its pool
                 iterator.remove();
-                entities.remove(proj);
             }
         }
     }
@@ -2052,10 +2011,11 @@ public class SpritePlayerEntity extends Entity implements PlayerBase,
             int attackOriginX = x + width / 2 + (int)(attackDirX * width / 4);
             int attackOriginY = y + height / 2 + (int)(attackDirY * height / 4);
 
-            currentAttackHitbox = MeleeAttackHitbox.fromWeaponSpeed(
+            attackHitbox.setFromWeaponSpeed(
                 attackOriginX, attackOriginY,
                 attackAngle, effectiveRange, weaponAttackSpeed
             );
+            currentAttackHitbox = attackHitbox;
 
             // Controller vibration for melee attack
             ControllerManager controller = ControllerManager.getInstance();
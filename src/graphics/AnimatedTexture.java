@@ -2,7 +2,6 @@ package graphics;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.HashMap;
 import java.util.Map;
@@ -22,12 +21,15 @@ import java.util.Map;
  *   AnimatedTexture texture = new AnimatedTexture(frames, delays);
  *   texture.update(deltaTimeMs);  // Call each frame
  *   BufferedImage currentFrame = texture.getCurrentFrame();
+ *
+ * The frames themselves live in an immutable AnimationClip (see getClip()).
+ * Ambient looping animations that need no per-instance control should share
+ * the clip through a Playhead instead of copying and updating textures.
  */
 public class AnimatedTexture {
 
-    // Animation frames
-    private final List<BufferedImage> frames;
-    private final List<Integer> frameDelays;  // Delay per frame in milliseconds
+    // Animation frames and per-frame delays (shared, immutable)
+    private final AnimationClip clip;
 
     // Current animation state
     private int currentFrameIndex;
@@ -54,40 +56,23 @@ public class AnimatedTexture {
      * @param frameDelays List of delays per frame in milliseconds (can be null for default timing)
      */
     public AnimatedTexture(List<BufferedImage> frames, List<Integer> frameDelays) {
-        if (frames == null || frames.isEmpty()) {
-            throw new IllegalArgumentException("AnimatedTexture requires at least one frame");
-        }
-
-        this.frames = new ArrayList<>(frames);
-        this.frameDelays = new ArrayList<>();
-
-        // Set up frame delays
-        if (frameDelays != null && !frameDelays.isEmpty()) {
-            for (int i = 0; i < frames.size(); i++) {
-                if (i < frameDelays.size() && frameDelays.get(i) != null && frameDelays.get(i) > 0) {
-                    this.frameDelays.add(frameDelays.get(i));
-                } else {
-                    this.frameDelays.add(DEFAULT_FRAME_DELAY);
-                }
-            }
-        } else {
-            // Use default delay for all frames
-            for (int i = 0; i < frames.size(); i++) {
-                this.frameDelays.add(DEFAULT_FRAME_DELAY);
-            }
-        }
+        this(new AnimationClip(frames, frameDelays));
+    }
 
+    /**
+     * Creates an animated texture that plays a shared clip with its own playback state.
+     *
+     * @param clip The clip to play
+     */
+    public AnimatedTexture(AnimationClip clip) {
+        this.clip = clip;
         this.currentFrameIndex = 0;
         this.elapsedTime = 0;
         this.paused = true;  // Start paused by default
         this.looping = true;
         this.playDirection = 1;  // Forward by default
-
-        // Get dimensions from first frame
-        BufferedImage firstFrame = frames.get(0);
-        this.width = firstFrame.getWidth();
-        this.height = firstFrame.getHeight();
-
+        this.width = clip.getWidth();
+        this.height = clip.getHeight();
         this.tintedFrameCache = new HashMap<>();
         this.currentTintColor = null;
     }
@@ -110,12 +95,12 @@ public class AnimatedTexture {
      * @param deltaMs Time elapsed since last update in milliseconds
      */
     public void update(long deltaMs) {
-        if (paused || frames.size() <= 1) {
+        if (paused || clip.getFrameCount() <= 1) {
             return;
         }
 
         elapsedTime += deltaMs;
-        int currentDelay = frameDelays.get(currentFrameIndex);
+        int currentDelay = clip.getDelay(currentFrameIndex);
 
         // Advance frames if enough time has passed
         while (elapsedTime >= currentDelay) {
@@ -123,19 +108,19 @@ public class AnimatedTexture {
             currentFrameIndex += playDirection;
 
             // Handle boundary conditions
-            if (playDirection > 0 && currentFrameIndex >= frames.size()) {
+            if (playDirection > 0 && currentFrameIndex >= clip.getFrameCount()) {
                 // Forward playback reached end
                 if (looping) {
                     currentFrameIndex = 0;
                 } else {
-                    currentFrameIndex = frames.size() - 1;
+                    currentFrameIndex = clip.getFrameCount() - 1;
                     paused = true;
                     break;
                 }
             } else if (playDirection < 0 && currentFrameIndex < 0) {
                 // Reverse playback reached start
                 if (looping) {
-                    currentFrameIndex = frames.size() - 1;
+                    currentFrameIndex = clip.getFrameCount() - 1;
                 } else {
                     currentFrameIndex = 0;
                     paused = true;
@@ -143,7 +128,7 @@ public class AnimatedTexture {
                 }
             }
 
-            currentDelay = frameDelays.get(currentFrameIndex);
+            currentDelay = clip.getDelay(currentFrameIndex);
         }
     }
 
@@ -153,7 +138,7 @@ public class AnimatedTexture {
      * @return The current BufferedImage frame
      */
     public BufferedImage getCurrentFrame() {
-        return frames.get(currentFrameIndex);
+        return clip.getFrame(currentFrameIndex);
     }
 
     /**
@@ -182,7 +167,7 @@ public class AnimatedTexture {
         }
 
         // Create tinted frame
-        BufferedImage tinted = createTintedFrame(frames.get(currentFrameIndex), tintColor);
+        BufferedImage tinted = createTintedFrame(clip.getFrame(currentFrameIndex), tintColor);
         tintedFrameCache.put(cacheKey, tinted);
         return tinted;
     }
@@ -194,7 +179,7 @@ public class AnimatedTexture {
      * @param tintColor The tint color
      * @return Tinted frame image
      */
-    private BufferedImage createTintedFrame(BufferedImage frame, Color tintColor) {
+    public static BufferedImage createTintedFrame(BufferedImage frame, Color tintColor) {
         BufferedImage tinted = new BufferedImage(
             frame.getWidth(), frame.getHeight(), BufferedImage.TYPE_INT_ARGB);
 
@@ -234,10 +219,10 @@ public class AnimatedTexture {
      * @return The frame at that index
      */
     public BufferedImage getFrame(int index) {
-        if (index < 0 || index >= frames.size()) {
-            return frames.get(0);
+        if (index < 0 || index >= clip.getFrameCount()) {
+            return clip.getFrame(0);
         }
-        return frames.get(index);
+        return clip.getFrame(index);
     }
 
     /**
@@ -285,7 +270,7 @@ public class AnimatedTexture {
      * Useful for showing the "open" state of a chest animation.
      */
     public void goToEnd() {
-        currentFrameIndex = frames.size() - 1;
+        currentFrameIndex = clip.getFrameCount() - 1;
         elapsedTime = 0;
         paused = true;
     }
@@ -303,7 +288,7 @@ public class AnimatedTexture {
      * @return true if at last frame
      */
     public boolean isAtEnd() {
-        return currentFrameIndex == frames.size() - 1;
+        return currentFrameIndex == clip.getFrameCount() - 1;
     }
 
     /**
@@ -357,7 +342,7 @@ public class AnimatedTexture {
      * @return true if animated
      */
     public boolean isAnimated() {
-        return frames.size() > 1;
+        return clip.getFrameCount() > 1;
     }
 
     /**
@@ -365,7 +350,7 @@ public class AnimatedTexture {
      * @return Frame count
      */
     public int getFrameCount() {
-        return frames.size();
+        return clip.getFrameCount();
     }
 
     /**
@@ -381,7 +366,7 @@ public class AnimatedTexture {
      * @param index Frame index to set
      */
     public void setCurrentFrameIndex(int index) {
-        if (index >= 0 && index < frames.size()) {
+        if (index >= 0 && index < clip.getFrameCount()) {
             currentFrameIndex = index;
             elapsedTime = 0;
         }
@@ -408,11 +393,15 @@ public class AnimatedTexture {
      * @return Total duration
      */
     public int getTotalDuration() {
-        int total = 0;
-        for (int delay : frameDelays) {
-            total += delay;
-        }
-        return total;
+        return (int) clip.getTotalDuration();
+    }
+
+    /**
+     * Gets the immutable frames and delays behind this texture.
+     * @return The animation clip
+     */
+    public AnimationClip getClip() {
+        return clip;
     }
 
     /**
@@ -429,7 +418,7 @@ public class AnimatedTexture {
      * @return First frame
      */
     public BufferedImage getStaticImage() {
-        return frames.get(0);
+        return clip.getFrame(0);
     }
 
     /**
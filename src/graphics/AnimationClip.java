@@ -0,0 +1,88 @@
+package graphics;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+/**
+ * Immutable frames and per-frame delays of an animation.
+ *
+ * A clip holds no playback state, so one clip can be shared by every entity
+ * that shows the same animation. Which frame is showing is a pure function of
+ * time (see frameIndexAt), usually driven by a Playhead reading AnimationClock.
+ */
+public class AnimationClip {
+
+    private final BufferedImage[] frames;
+    private final int[] delays;       // Delay per frame in milliseconds
+    private final long[] frameEnds;   // Cumulative end time of each frame
+    private final long totalDuration;
+
+    /**
+     * Creates a clip.
+     * @param frames Frames in order (at least one)
+     * @param frameDelays Delay per frame in milliseconds (null or missing entries use the default)
+     */
+    public AnimationClip(List<BufferedImage> frames, List<Integer> frameDelays) {
+        if (frames == null || frames.isEmpty()) {
+            throw new IllegalArgumentException("AnimationClip requires at least one frame");
+        }
+        int count = frames.size();
+        this.frames = frames.toArray(new BufferedImage[0]);
+        this.delays = new int[count];
+        this.frameEnds = new long[count];
+
+        long end = 0;
+        for (int i = 0; i < count; i++) {
+            Integer delay = (frameDelays != null && i < frameDelays.size()) ? frameDelays.get(i) : null;
+            delays[i] = (delay != null && delay > 0) ? delay : AnimatedTexture.DEFAULT_FRAME_DELAY;
+            end += delays[i];
+            frameEnds[i] = end;
+        }
+        this.totalDuration = end;
+    }
+
+    /**
+     * Gets the frame showing at a time since the clip started.
+     * @param timeMs Milliseconds since frame 0 started
+     * @param looping Wrap around (otherwise hold the last frame)
+     * @return Frame index
+     */
+    public int frameIndexAt(long timeMs, boolean looping) {
+        if (frames.length == 1 || timeMs <= 0) {
+            return 0;
+        }
+        if (looping) {
+            timeMs %= totalDuration;
+        } else if (timeMs >= totalDuration) {
+            return frames.length - 1;
+        }
+
+        // First frame whose end is after the time
+        int lo = 0;
+        int hi = frames.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (frameEnds[mid] <= timeMs) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Gets the looping frame showing at a time since the clip started.
+     */
+    public BufferedImage frameAt(long timeMs) {
+        return frames[frameIndexAt(timeMs, true)];
+    }
+
+    public BufferedImage getFrame(int index) { return frames[index]; }
+    public int getDelay(int index) { return delays[index]; }
+    public int getFrameCount() { return frames.length; }
+    public long getTotalDuration() { return totalDuration; }
+    public int getWidth() { return frames[0].getWidth(); }
+    public int getHeight() { return frames[0].getHeight(); }
+    public boolean isAnimated() { return frames.length > 1; }
+}
@@ -0,0 +1,31 @@
+package graphics;
+
+/**
+ * Global animation time shared by every Playhead.
+ *
+ * Advanced once per game tick by GamePanel, so clip-based animations need no
+ * per-instance update and pause along with the game loop.
+ */
+public final class AnimationClock {
+
+    private static volatile double timeMs = 0;
+
+    private AnimationClock() {
+    }
+
+    /**
+     * Advances the clock. Called once per game tick.
+     * @param deltaMs Milliseconds elapsed
+     */
+    public static void advance(double deltaMs) {
+        timeMs += deltaMs;
+    }
+
+    /**
+     * Gets the current animation time.
+     * @return Milliseconds since the game started
+     */
+    public static long getTimeMs() {
+        return (long) timeMs;
+    }
+}
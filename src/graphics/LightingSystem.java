@@ -4,12 +4,30 @@ import block.*;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Manages the day/night cycle and lighting effects.
  * Renders a darkness overlay with light sources cutting through it.
+ *
+ * Lights are composited directly on the overlay's int[] raster:
+ * - Each light stamps a precomputed falloff table (cached per radius bucket),
+ *   scaled by its flickered intensity
+ * - Lights multiply into a visibility map (how much darkness is removed) and add
+ *   their color into a tint map; both are combined with the darkness per pixel
+ * - The buffer is split into row bands that are composited on separate cores
+ *
+ * Block levels can attach a TileLightMap instead: lights are then flood-filled per
+ * tile (occluded by solid blocks) and the buffer bilinearly samples that map.
  */
 public class LightingSystem {
 
@@ -36,6 +54,69 @@ public class LightingSystem {
     private int screenWidth;
     private int screenHeight;
 
+    // Raster compositing state (all at light buffer resolution)
+    private final int[] pixels;       // Light buffer raster (premultiplied ARGB)
+    private final int[] visibility;   // 256 = untouched darkness, 0 = fully lit
+    private final int[] tintRed, tintGreen, tintBlue; // Additive light color
+    private double tintStrength = 0.35; // How strongly light color shows (0.0 = white light only)
+
+    // Lights visible this frame, flattened for the band workers
+    private int visibleCount;
+    private int[] lightX = new int[16], lightY = new int[16], lightScale = new int[16];
+    private int[] lightRed = new int[16], lightGreen = new int[16], lightBlue = new int[16];
+    private LightStamp[] lightStamp = new LightStamp[16];
+
+    // Falloff stamps keyed by (outer radius, inner ratio) bucket
+    private final Map<Integer, LightStamp> stampCache = new HashMap<>();
+    private static final int MAX_CACHED_STAMPS = 256;
+    private static final int INNER_RATIO_STEPS = 16;
+
+    // Row bands composited in parallel; the render thread takes the last band itself
+    private static final int BAND_COUNT = Math.max(1, Math.min(8, Runtime.getRuntime().availableProcessors()));
+    private static final int MIN_LIGHTS_FOR_PARALLEL = 4;
+    private static ExecutorService bandExecutor;
+    private final Runnable[] bandTasks;
+    private final Future<?>[] bandFutures;
+
+    // Per-tile light map (block levels) - replaces the circle stamps when set
+    private TileLightMap tileLightMap;
+    private int tileX0, tileY0, tileCols, tileRows;   // Tile window sampled this frame
+    private int[] tileAlpha = new int[0], tileRed = new int[0], tileGreen = new int[0], tileBlue = new int[0];
+    private int[] sourceScale = new int[16], sourceRed = new int[16], sourceGreen = new int[16], sourceBlue = new int[16];
+    private final int[] columnTile, columnWeight; // Per buffer column: left tile and blend weight (0-256)
+    private final int[] rowTile, rowWeight;       // Per buffer row: upper tile and blend weight (0-256)
+
+    /**
+     * Precomputed falloff for one radius bucket: alpha (0-255) for each pixel of a
+     * (2 * radius + 1) square centered on the light.
+     */
+    private static class LightStamp {
+        final int radius;
+        final int size;
+        final int[] alpha;
+
+        LightStamp(int radius, double innerRatio) {
+            this.radius = radius;
+            this.size = radius * 2 + 1;
+            this.alpha = new int[size * size];
+            for (int dy = -radius; dy <= radius; dy++) {
+                for (int dx = -radius; dx <= radius; dx++) {
+                    double d = Math.sqrt(dx * dx + dy * dy) / radius;
+                    int a;
+                    if (d >= 1.0) {
+                        a = 0;
+                    } else if (d <= innerRatio) {
+                        a = 255;
+                    } else {
+                        // Linear fade from the inner radius to the outer radius
+                        a = (int) (255 * (1.0 - d) / (1.0 - innerRatio));
+                    }
+                    alpha[(dy + radius) * size + (dx + radius)] = a;
+                }
+            }
+        }
+    }
+
     /**
      * Create a new lighting system.
      * @param screenWidth Width of the game screen
@@ -55,7 +136,39 @@ public class LightingSystem {
         // Create the light buffer at reduced resolution
         this.bufferWidth = screenWidth / renderScale;
         this.bufferHeight = screenHeight / renderScale;
-        this.lightBuffer = new BufferedImage(bufferWidth, bufferHeight, BufferedImage.TYPE_INT_ARGB);
+        this.lightBuffer = new BufferedImage(bufferWidth, bufferHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+        this.pixels = ((DataBufferInt) lightBuffer.getRaster().getDataBuffer()).getData();
+
+        int bufferSize = bufferWidth * bufferHeight;
+        this.visibility = new int[bufferSize];
+        this.tintRed = new int[bufferSize];
+        this.tintGreen = new int[bufferSize];
+        this.tintBlue = new int[bufferSize];
+        this.columnTile = new int[bufferWidth];
+        this.columnWeight = new int[bufferWidth];
+        this.rowTile = new int[bufferHeight];
+        this.rowWeight = new int[bufferHeight];
+
+        // One reusable task per row band
+        this.bandTasks = new Runnable[BAND_COUNT];
+        this.bandFutures = new Future<?>[BAND_COUNT];
+        int rowsPerBand = (bufferHeight + BAND_COUNT - 1) / BAND_COUNT;
+        for (int i = 0; i < BAND_COUNT; i++) {
+            int startRow = Math.min(bufferHeight, i * rowsPerBand);
+            int endRow = Math.min(bufferHeight, startRow + rowsPerBand);
+            bandTasks[i] = () -> compositeRows(startRow, endRow);
+        }
+    }
+
+    private static synchronized ExecutorService getBandExecutor() {
+        if (bandExecutor == null) {
+            bandExecutor = Executors.newFixedThreadPool(Math.max(1, BAND_COUNT - 1), r -> {
+                Thread t = new Thread(r, "LightingSystem-Band");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return bandExecutor;
     }
 
     /**
@@ -64,6 +177,27 @@ public class LightingSystem {
      */
     public void update(double deltaTime) {
         gameTime += deltaTime;
+
+        if (tileLightMap != null) {
+            tileLightMap.sync(lightSources);
+            tileLightMap.update();
+        }
+    }
+
+    /**
+     * Light a block level per tile instead of with free circles.
+     * The map is rebuilt from the current light sources immediately.
+     * @param map The level's tile light map, or null to go back to circle lights
+     */
+    public void setTileLightMap(TileLightMap map) {
+        this.tileLightMap = map;
+        if (map != null) {
+            map.rebuild(lightSources);
+        }
+    }
+
+    public TileLightMap getTileLightMap() {
+        return tileLightMap;
     }
 
     /**
@@ -138,6 +272,17 @@ public class LightingSystem {
         this.ambientColor = color;
     }
 
+    /**
+     * Set how strongly light colors tint the scene (0.0 = lights only remove darkness).
+     */
+    public void setTintStrength(double strength) {
+        this.tintStrength = Math.max(0, Math.min(1, strength));
+    }
+
+    public double getTintStrength() {
+        return tintStrength;
+    }
+
     /**
      * Render the lighting overlay.
      * Call this after drawing all game entities but before UI.
@@ -150,96 +295,302 @@ public class LightingSystem {
             return; // No lighting needed during the day
         }
 
-        // Clear the light buffer with the darkness color
-        Graphics2D bufferG = lightBuffer.createGraphics();
+        // Collect the lights that touch the buffer this frame
+        visibleCount = 0;
+        if (tileLightMap != null) {
+            prepareTileSamples(cameraX, cameraY);
+        } else {
+            for (LightSource light : lightSources) {
+                if (!light.isEnabled()) continue;
+
+                // Convert world coordinates to buffer coordinates
+                double screenX = (light.getX() - cameraX) / renderScale;
+                double screenY = (light.getY() - cameraY) / renderScale;
+
+                // Calculate scaled radii
+                double innerRadius = light.getRadius() / renderScale;
+                double outerRadius = light.getFalloffRadius() / renderScale;
+
+                // Ensure outerRadius is always at least as large as innerRadius
+                if (outerRadius < innerRadius) {
+                    outerRadius = innerRadius * 2.0;
+                }
+
+                // Skip if completely off screen
+                if (screenX + outerRadius < 0 || screenX - outerRadius > bufferWidth ||
+                    screenY + outerRadius < 0 || screenY - outerRadius > bufferHeight) {
+                    continue;
+                }
+
+                // Flicker only scales the stamp, so it never invalidates the cache
+                double effectiveIntensity = Math.max(0, Math.min(1, light.getEffectiveIntensity(gameTime)));
+                int scale = (int) (effectiveIntensity * 256);
+                if (scale <= 0 || outerRadius < 0.5) continue;
+
+                LightStamp stamp = getStamp(outerRadius, outerRadius > 0 ? innerRadius / outerRadius : 0);
+                ensureLightCapacity(visibleCount + 1);
+                Color color = light.getColor();
+                int i = visibleCount++;
+                lightX[i] = (int) Math.round(screenX);
+                lightY[i] = (int) Math.round(screenY);
+                lightScale[i] = scale;
+                lightStamp[i] = stamp;
+                lightRed[i] = color != null ? color.getRed() : 255;
+                lightGreen[i] = color != null ? color.getGreen() : 255;
+                lightBlue[i] = color != null ? color.getBlue() : 255;
+            }
+        }
+
+        // Composite every row band
+        if (BAND_COUNT > 1 && (visibleCount >= MIN_LIGHTS_FOR_PARALLEL || tileLightMap != null)) {
+            ExecutorService executor = getBandExecutor();
+            for (int i = 0; i < BAND_COUNT - 1; i++) {
+                bandFutures[i] = executor.submit(bandTasks[i]);
+            }
+            bandTasks[BAND_COUNT - 1].run();
+            for (int i = 0; i < BAND_COUNT - 1; i++) {
+                try {
+                    bandFutures[i].get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    System.err.println("LightingSystem: Error compositing light band: " + e.getCause());
+                    e.printStackTrace();
+                }
+                bandFutures[i] = null;
+            }
+        } else {
+            for (Runnable task : bandTasks) {
+                task.run();
+            }
+        }
 
-        // Set up rendering hints for smooth gradients
-        bufferG.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        bufferG.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED);
+        // Draw the light buffer scaled up to screen size
+        g.drawImage(lightBuffer, 0, 0, screenWidth, screenHeight, null);
+    }
 
-        // First, clear the buffer to fully transparent using Src composite
-        // This ensures proper alpha blending when the buffer is drawn to screen
-        bufferG.setComposite(AlphaComposite.Src);
-        bufferG.setColor(new Color(0, 0, 0, 0));
-        bufferG.fillRect(0, 0, bufferWidth, bufferHeight);
+    /**
+     * Composite all visible lights into rows [startRow, endRow) of the light buffer.
+     * Bands never share rows, so they can run concurrently.
+     */
+    private void compositeRows(int startRow, int endRow) {
+        if (startRow >= endRow) return;
+
+        int start = startRow * bufferWidth;
+        int end = endRow * bufferWidth;
+        if (tileLightMap != null) {
+            sampleTileRows(startRow, endRow);
+        } else {
+            Arrays.fill(visibility, start, end, 256);
+            Arrays.fill(tintRed, start, end, 0);
+            Arrays.fill(tintGreen, start, end, 0);
+            Arrays.fill(tintBlue, start, end, 0);
+        }
 
-        // Reset to SrcOver for normal drawing
-        bufferG.setComposite(AlphaComposite.SrcOver);
+        // Stamp each light: multiply visibility, add color
+        for (int l = 0; l < visibleCount; l++) {
+            LightStamp stamp = lightStamp[l];
+            int r = stamp.radius;
+            int cx = lightX[l];
+            int cy = lightY[l];
+            int minY = Math.max(startRow, cy - r);
+            int maxY = Math.min(endRow - 1, cy + r);
+            int minX = Math.max(0, cx - r);
+            int maxX = Math.min(bufferWidth - 1, cx + r);
+            if (minY > maxY || minX > maxX) continue;
+
+            int scale = lightScale[l];
+            int red = lightRed[l], green = lightGreen[l], blue = lightBlue[l];
+            int[] alphaTable = stamp.alpha;
+
+            for (int y = minY; y <= maxY; y++) {
+                int stampRow = (y - cy + r) * stamp.size + (minX - cx + r);
+                int p = y * bufferWidth + minX;
+                for (int x = minX; x <= maxX; x++, p++, stampRow++) {
+                    int a = (alphaTable[stampRow] * scale) >> 8;
+                    if (a == 0) continue;
+                    visibility[p] = (visibility[p] * (256 - a)) >> 8;
+                    tintRed[p] += (red * a) >> 8;
+                    tintGreen[p] += (green * a) >> 8;
+                    tintBlue[p] += (blue * a) >> 8;
+                }
+            }
+        }
 
-        // Calculate the alpha for the darkness overlay
-        // Adjusted by ambient level so it's never completely dark
+        // Combine darkness, visibility and tint into premultiplied ARGB
         int darknessAlpha = (int) ((nightDarkness * (1.0 - ambientLevel)) * 255);
-        Color darkColor = new Color(ambientColor.getRed(), ambientColor.getGreen(),
-                                    ambientColor.getBlue(), darknessAlpha);
-
-        // Fill with darkness
-        bufferG.setColor(darkColor);
-        bufferG.fillRect(0, 0, bufferWidth, bufferHeight);
+        int ambR = ambientColor.getRed(), ambG = ambientColor.getGreen(), ambB = ambientColor.getBlue();
+        int tint = (int) (tintStrength * 256);
+        int darkPixel = (darknessAlpha << 24) | ((ambR * darknessAlpha / 255) << 16) |
+                        ((ambG * darknessAlpha / 255) << 8) | (ambB * darknessAlpha / 255);
+
+        for (int p = start; p < end; p++) {
+            int v = visibility[p];
+            if (v == 256) {
+                pixels[p] = darkPixel;
+                continue;
+            }
+            int dark = (darknessAlpha * v) >> 8;
+            int inv = 255 - dark;
+            int tr = (Math.min(255, tintRed[p]) * tint) >> 8;
+            int tg = (Math.min(255, tintGreen[p]) * tint) >> 8;
+            int tb = (Math.min(255, tintBlue[p]) * tint) >> 8;
+            int ta = Math.max(tr, Math.max(tg, tb));
+
+            // Tint sits under the remaining darkness (premultiplied "over")
+            int alpha = dark + ta * inv / 255;
+            int outR = (ambR * dark + tr * inv) / 255;
+            int outG = (ambG * dark + tg * inv) / 255;
+            int outB = (ambB * dark + tb * inv) / 255;
+            pixels[p] = (alpha << 24) | (outR << 16) | (outG << 8) | outB;
+        }
+    }
 
-        // Now "subtract" light from the darkness using DST_OUT composite
-        // This will cut holes in the darkness where lights are
-        bufferG.setComposite(AlphaComposite.DstOut);
+    /**
+     * Resolve the on-screen window of the tile light map into light alpha and tint per
+     * tile (applying each light's flicker and color), and precompute the bilinear
+     * lookup for every buffer row and column.
+     */
+    private void prepareTileSamples(double cameraX, double cameraY) {
+        TileLightMap map = tileLightMap;
+        int size = BlockRegistry.BLOCK_SIZE;
+        tileX0 = (int) Math.floor(cameraX / size) - 1;
+        tileY0 = (int) Math.floor(cameraY / size) - 1;
+        tileCols = screenWidth / size + 4;
+        tileRows = screenHeight / size + 4;
+        int count = tileCols * tileRows;
+        if (tileAlpha.length < count) {
+            tileAlpha = new int[count];
+            tileRed = new int[count];
+            tileGreen = new int[count];
+            tileBlue = new int[count];
+        }
 
-        // Render each light source
-        for (LightSource light : lightSources) {
-            if (!light.isEnabled()) continue;
+        // Flicker and color once per light, not per tile
+        int slots = map.getSourceSlotCount();
+        if (sourceScale.length < slots) {
+            int grown = Math.max(slots, sourceScale.length * 2);
+            sourceScale = new int[grown];
+            sourceRed = new int[grown];
+            sourceGreen = new int[grown];
+            sourceBlue = new int[grown];
+        }
+        for (int s = 0; s < slots; s++) {
+            LightSource light = map.getSourceLight(s);
+            if (light == null) {
+                sourceScale[s] = 0;
+                continue;
+            }
+            sourceScale[s] = (int) (Math.max(0, Math.min(1, light.getEffectiveIntensity(gameTime))) * 256);
+            Color color = light.getColor();
+            sourceRed[s] = color != null ? color.getRed() : 255;
+            sourceGreen[s] = color != null ? color.getGreen() : 255;
+            sourceBlue[s] = color != null ? color.getBlue() : 255;
+        }
 
-            // Convert world coordinates to screen coordinates
-            double screenX = (light.getX() - cameraX) / renderScale;
-            double screenY = (light.getY() - cameraY) / renderScale;
+        // Tiles outside the level repeat the nearest edge tile
+        BlockGrid grid = map.getGrid();
+        int maxX = grid.getCols() - 1;
+        int maxY = grid.getRows() - 1;
+        int i = 0;
+        for (int ty = 0; ty < tileRows; ty++) {
+            int gy = Math.max(0, Math.min(maxY, tileY0 + ty));
+            for (int tx = 0; tx < tileCols; tx++, i++) {
+                int gx = Math.max(0, Math.min(maxX, tileX0 + tx));
+                int a = Math.min(255, map.getLevel(gx, gy) * 255 / TileLightMap.FULL_BRIGHT_LEVEL);
+                int src = map.getSource(gx, gy);
+                if (src >= 0 && src < slots) {
+                    a = (a * sourceScale[src]) >> 8;
+                    tileRed[i] = (sourceRed[src] * a) >> 8;
+                    tileGreen[i] = (sourceGreen[src] * a) >> 8;
+                    tileBlue[i] = (sourceBlue[src] * a) >> 8;
+                } else {
+                    // Sky light is untinted
+                    tileRed[i] = tileGreen[i] = tileBlue[i] = 0;
+                }
+                tileAlpha[i] = a;
+            }
+        }
 
-            // Calculate scaled radii
-            double innerRadius = light.getRadius() / renderScale;
-            double outerRadius = light.getFalloffRadius() / renderScale;
+        // Sample between tile centers
+        for (int x = 0; x < bufferWidth; x++) {
+            double u = (cameraX + (x + 0.5) * renderScale - size / 2.0) / size - tileX0;
+            int t = (int) Math.floor(u);
+            columnTile[x] = t;
+            columnWeight[x] = (int) ((u - t) * 256);
+        }
+        for (int y = 0; y < bufferHeight; y++) {
+            double v = (cameraY + (y + 0.5) * renderScale - size / 2.0) / size - tileY0;
+            int t = (int) Math.floor(v);
+            rowTile[y] = t;
+            rowWeight[y] = (int) ((v - t) * 256);
+        }
+    }
 
-            // Ensure outerRadius is always at least as large as innerRadius
-            if (outerRadius < innerRadius) {
-                outerRadius = innerRadius * 2.0;
+    /**
+     * Fill visibility and tint for rows [startRow, endRow) by bilinearly sampling the
+     * tile window built in prepareTileSamples().
+     */
+    private void sampleTileRows(int startRow, int endRow) {
+        for (int y = startRow; y < endRow; y++) {
+            int top = rowTile[y] * tileCols;
+            int bottom = top + tileCols;
+            int wy = rowWeight[y];
+            int iy = 256 - wy;
+            int p = y * bufferWidth;
+            for (int x = 0; x < bufferWidth; x++, p++) {
+                int i00 = top + columnTile[x];
+                int i10 = bottom + columnTile[x];
+                int wx = columnWeight[x];
+                int ix = 256 - wx;
+                int w00 = ix * iy, w01 = wx * iy, w10 = ix * wy, w11 = wx * wy;
+
+                int a = (tileAlpha[i00] * w00 + tileAlpha[i00 + 1] * w01 +
+                         tileAlpha[i10] * w10 + tileAlpha[i10 + 1] * w11) >> 16;
+                visibility[p] = 256 - a;
+                if (a == 0) {
+                    tintRed[p] = tintGreen[p] = tintBlue[p] = 0;
+                    continue;
+                }
+                tintRed[p] = (tileRed[i00] * w00 + tileRed[i00 + 1] * w01 +
+                              tileRed[i10] * w10 + tileRed[i10 + 1] * w11) >> 16;
+                tintGreen[p] = (tileGreen[i00] * w00 + tileGreen[i00 + 1] * w01 +
+                                tileGreen[i10] * w10 + tileGreen[i10 + 1] * w11) >> 16;
+                tintBlue[p] = (tileBlue[i00] * w00 + tileBlue[i00 + 1] * w01 +
+                               tileBlue[i10] * w10 + tileBlue[i10 + 1] * w11) >> 16;
             }
+        }
+    }
 
-            // Skip if completely off screen
-            if (screenX + outerRadius < 0 || screenX - outerRadius > bufferWidth ||
-                screenY + outerRadius < 0 || screenY - outerRadius > bufferHeight) {
-                continue;
+    /**
+     * Get (or build) the falloff stamp for a light's buffer-space radii.
+     */
+    private LightStamp getStamp(double outerRadius, double innerRatio) {
+        int radius = Math.max(1, (int) Math.round(outerRadius));
+        int ratioStep = (int) Math.round(Math.max(0, Math.min(1, innerRatio)) * INNER_RATIO_STEPS);
+        int key = radius * (INNER_RATIO_STEPS + 1) + ratioStep;
+
+        LightStamp stamp = stampCache.get(key);
+        if (stamp == null) {
+            if (stampCache.size() >= MAX_CACHED_STAMPS) {
+                stampCache.clear();
             }
-
-            // Get light properties
-            double effectiveIntensity = light.getEffectiveIntensity(gameTime);
-            Color lightColor = light.getColor();
-
-            // Create a radial gradient for the light
-            // The gradient goes from full intensity at center to zero at the edge
-            float[] fractions = {0.0f, (float)(innerRadius / outerRadius), 1.0f};
-
-            // For DST_OUT, white = full removal of darkness, black = no removal
-            int centerAlpha = (int) (effectiveIntensity * 255);
-            Color[] colors = {
-                new Color(255, 255, 255, centerAlpha),  // Full light at center
-                new Color(255, 255, 255, centerAlpha),  // Full light up to inner radius
-                new Color(255, 255, 255, 0)             // No light at outer radius
-            };
-
-            // Create the gradient paint
-            RadialGradientPaint gradient = new RadialGradientPaint(
-                (float) screenX, (float) screenY,
-                (float) outerRadius,
-                fractions, colors,
-                MultipleGradientPaint.CycleMethod.NO_CYCLE
-            );
-
-            bufferG.setPaint(gradient);
-            bufferG.fillOval(
-                (int) (screenX - outerRadius),
-                (int) (screenY - outerRadius),
-                (int) (outerRadius * 2),
-                (int) (outerRadius * 2)
-            );
+            stamp = new LightStamp(radius, Math.min(0.99, (double) ratioStep / INNER_RATIO_STEPS));
+            stampCache.put(key, stamp);
         }
+        return stamp;
+    }
 
-        bufferG.dispose();
-
-        // Draw the light buffer scaled up to screen size
-        g.drawImage(lightBuffer, 0, 0, screenWidth, screenHeight, null);
+    private void ensureLightCapacity(int count) {
+        if (count <= lightX.length) return;
+        int size = Math.max(count, lightX.length * 2);
+        lightX = Arrays.copyOf(lightX, size);
+        lightY = Arrays.copyOf(lightY, size);
+        lightScale = Arrays.copyOf(lightScale, size);
+        lightRed = Arrays.copyOf(lightRed, size);
+        lightGreen = Arrays.copyOf(lightGreen, size);
+        lightBlue = Arrays.copyOf(lightBlue, size);
+        lightStamp = Arrays.copyOf(lightStamp, size);
     }
 
     /**
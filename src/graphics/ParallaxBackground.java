@@ -199,13 +199,7 @@ public class ParallaxBackground {
      * @param camera Camera for viewport information
      */
     public void drawBackground(Graphics2D g, Camera camera) {
-        sortLayers();
-
-        for (ParallaxLayer layer : layers) {
-            if (layer.getZOrder() < 0) {
-                layer.draw(g, camera);
-            }
-        }
+        drawLayersInRange(g, camera, Integer.MIN_VALUE, -1);
     }
 
     /**
@@ -216,13 +210,7 @@ public class ParallaxBackground {
      * @param camera Camera for viewport information
      */
     public void drawMiddleground(Graphics2D g, Camera camera) {
-        sortLayers();
-
-        for (ParallaxLayer layer : layers) {
-            if (layer.getZOrder() == 0) {
-                layer.draw(g, camera);
-            }
-        }
+        drawLayersInRange(g, camera, 0, 0);
     }
 
     /**
@@ -233,13 +221,7 @@ public class ParallaxBackground {
      * @param camera Camera for viewport information
      */
     public void drawForeground(Graphics2D g, Camera camera) {
-        sortLayers();
-
-        for (ParallaxLayer layer : layers) {
-            if (layer.getZOrder() > 0) {
-                layer.draw(g, camera);
-            }
-        }
+        drawLayersInRange(g, camera, 1, Integer.MAX_VALUE);
     }
 
     /**
@@ -250,15 +232,12 @@ public class ParallaxBackground {
      * @param camera Camera for viewport information
      */
     public void drawAll(Graphics2D g, Camera camera) {
-        sortLayers();
-
-        for (ParallaxLayer layer : layers) {
-            layer.draw(g, camera);
-        }
+        drawLayersInRange(g, camera, Integer.MIN_VALUE, Integer.MAX_VALUE);
     }
 
     /**
      * Draw layers within a specific z-order range.
+     * Layers hidden behind an opaque layer that covers the whole view are skipped.
      *
      * @param g        Graphics context
      * @param camera   Camera for viewport information
@@ -268,7 +247,19 @@ public class ParallaxBackground {
     public void drawLayersInRange(Graphics2D g, Camera camera, int minZ, int maxZ) {
         sortLayers();
 
-        for (ParallaxLayer layer : layers) {
+        // Start from the front-most layer in range that hides everything behind it
+        int first = 0;
+        for (int i = layers.size() - 1; i >= 0; i--) {
+            ParallaxLayer layer = layers.get(i);
+            int z = layer.getZOrder();
+            if (z >= minZ && z <= maxZ && layer.coversViewport(camera)) {
+                first = i;
+                break;
+            }
+        }
+
+        for (int i = first; i < layers.size(); i++) {
+            ParallaxLayer layer = layers.get(i);
             int z = layer.getZOrder();
             if (z >= minZ && z <= maxZ) {
                 layer.draw(g, camera);
@@ -15,6 +15,10 @@ import java.awt.image.BufferedImage;
  * - 0.5 = Moves at half camera speed (distant background)
  * - 1.0 = Moves with camera (same as world entities)
  * - > 1.0 = Moves faster than camera (foreground elements)
+ *
+ * The image is pre-scaled once (with opacity baked in) into a screen-compatible
+ * image, and each GIF frame is pre-scaled the first time it is shown, so drawing
+ * is a plain unscaled blit. Layers too large to cache fall back to scaled draws.
  */
 public class ParallaxLayer {
 
@@ -24,6 +28,7 @@ public class ParallaxLayer {
     // Image data - supports both static and animated images
     private Image image;           // Current frame to display
     private AnimatedTexture animatedTexture;  // For animated GIF backgrounds
+    private Playhead playhead;                // Current frame of the animated GIF
     private int imageWidth;
     private int imageHeight;
 
@@ -56,6 +61,14 @@ public class ParallaxLayer {
     // Visibility flag
     private boolean visible;
 
+    // Pre-scaled frames with opacity baked in (index = animation frame, built lazily)
+    private BufferedImage[] scaledFrames;
+    private int cachedWidth = -1;
+    private int cachedHeight = -1;
+    private float cachedOpacity = -1;
+    private Boolean sourceOpaque; // Every source pixel fully opaque (null = not checked yet)
+    private static final long MAX_CACHE_BYTES = 64L * 1024 * 1024; // Per layer, all frames
+
     /**
      * Creates a new parallax layer.
      *
@@ -108,7 +121,7 @@ public class ParallaxLayer {
 
             // Auto-start animation for animated GIFs in parallax backgrounds
             if (animatedTexture != null && animatedTexture.isAnimated()) {
-                animatedTexture.playForward();
+                playhead = new Playhead(animatedTexture.getClip());
             }
 
             String animInfo = (animatedTexture != null && animatedTexture.isAnimated())
@@ -121,15 +134,13 @@ public class ParallaxLayer {
     }
 
     /**
-     * Updates the animated texture if present.
-     * Call this every frame to advance GIF animation.
-     * @param deltaMs Time elapsed since last update in milliseconds
+     * Refreshes the current frame of an animated layer.
+     * The frame follows the global AnimationClock, so this only updates the image reference.
+     * @param deltaMs Time elapsed since last update in milliseconds (unused)
      */
     public void update(long deltaMs) {
-        if (animatedTexture != null && animatedTexture.isAnimated()) {
-            animatedTexture.update(deltaMs);
-            // Update the image reference to current frame
-            image = animatedTexture.getCurrentFrame();
+        if (playhead != null) {
+            image = playhead.getFrame();
         }
     }
 
@@ -174,43 +185,26 @@ public class ParallaxLayer {
     public void draw(Graphics2D g, Camera camera) {
         if (!visible || image == null) return;
 
-        // Save old composite for opacity
-        Composite oldComposite = g.getComposite();
-        if (opacity < 1.0f) {
-            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, opacity));
-        }
-
-        int viewportWidth = camera.getViewportWidth();
-        int viewportHeight = camera.getViewportHeight();
-        double cameraX = camera.getX();
-        double cameraY = camera.getY();
-
         // Calculate the scaled image dimensions
         int scaledWidth = (int) (imageWidth * scale);
         int scaledHeight = (int) (imageHeight * scale);
 
-        // Calculate parallax offset
-        // The layer position moves at a fraction of the camera movement
-        double parallaxX = cameraX * scrollSpeedX;
-        double parallaxY = cameraY * scrollSpeedY;
+        // Use the pre-scaled frame when it fits the cache (opacity already applied)
+        Image frame = getScaledFrame(scaledWidth, scaledHeight);
 
-        // Calculate base Y position
-        // If anchorBottom is true, position the image so its bottom edge aligns
-        // with (viewportHeight + offsetY) in screen space
-        double baseOffsetY = offsetY;
-        if (anchorBottom) {
-            // Anchor from bottom: offsetY=0 means image bottom at viewport bottom
-            // offsetY=-100 means image bottom is 100px above viewport bottom
-            baseOffsetY = viewportHeight - scaledHeight + offsetY;
+        // Save old composite for opacity
+        Composite oldComposite = g.getComposite();
+        if (frame == null && opacity < 1.0f) {
+            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, opacity));
         }
 
-        // Base draw position (in screen space)
-        // We draw relative to camera position, adjusted by parallax
-        double drawX = offsetX - parallaxX + cameraX;
-        double drawY = baseOffsetY - parallaxY + cameraY;
+        double drawX = getDrawX(camera);
+        double drawY = getDrawY(camera, scaledHeight);
 
         if (tileHorizontal || tileVertical) {
-            drawTiled(g, camera, drawX, drawY, scaledWidth, scaledHeight);
+            drawTiled(g, camera, frame, scaledWidth, scaledHeight);
+        } else if (frame != null) {
+            g.drawImage(frame, (int) drawX, (int) drawY, null);
         } else {
             // Single image draw
             g.drawImage(image, (int) drawX, (int) drawY, scaledWidth, scaledHeight, null);
@@ -220,11 +214,34 @@ public class ParallaxLayer {
         g.setComposite(oldComposite);
     }
 
+    /**
+     * Base draw X in world space (the layer moves at a fraction of the camera movement).
+     */
+    private double getDrawX(Camera camera) {
+        double cameraX = camera.getX();
+        return offsetX - cameraX * scrollSpeedX + cameraX;
+    }
+
+    /**
+     * Base draw Y in world space.
+     * If anchorBottom is true, the image bottom aligns with (viewportHeight + offsetY).
+     */
+    private double getDrawY(Camera camera, int scaledHeight) {
+        double cameraY = camera.getY();
+        double baseOffsetY = offsetY;
+        if (anchorBottom) {
+            // Anchor from bottom: offsetY=0 means image bottom at viewport bottom
+            // offsetY=-100 means image bottom is 100px above viewport bottom
+            baseOffsetY = camera.getViewportHeight() - scaledHeight + offsetY;
+        }
+        return baseOffsetY - cameraY * scrollSpeedY + cameraY;
+    }
+
     /**
      * Draw the layer with tiling.
+     * @param frame Pre-scaled frame, or null to scale the image on every draw
      */
-    private void drawTiled(Graphics2D g, Camera camera, double baseX, double baseY,
-                           int scaledWidth, int scaledHeight) {
+    private void drawTiled(Graphics2D g, Camera camera, Image frame, int scaledWidth, int scaledHeight) {
         int viewportWidth = camera.getViewportWidth();
         int viewportHeight = camera.getViewportHeight();
         double cameraX = camera.getX();
@@ -265,11 +282,139 @@ public class ParallaxLayer {
                 double tileDrawX = tileX * scaledWidth + offsetX - (cameraX * scrollSpeedX) + cameraX;
                 double tileDrawY = tileY * scaledHeight + baseOffsetY - (cameraY * scrollSpeedY) + cameraY;
 
-                g.drawImage(image, (int) tileDrawX, (int) tileDrawY, scaledWidth, scaledHeight, null);
+                if (frame != null) {
+                    g.drawImage(frame, (int) tileDrawX, (int) tileDrawY, null);
+                } else {
+                    g.drawImage(image, (int) tileDrawX, (int) tileDrawY, scaledWidth, scaledHeight, null);
+                }
             }
         }
     }
 
+    // ========== Pre-scaled Frame Cache ==========
+
+    /**
+     * Get the current frame pre-scaled to the given size with opacity applied.
+     * Built on first use and rebuilt when the scale or opacity changes.
+     * @return The scaled frame, or null if the layer is too large to cache
+     */
+    private Image getScaledFrame(int scaledWidth, int scaledHeight) {
+        if (scaledWidth <= 0 || scaledHeight <= 0) return null;
+
+        boolean animated = isAnimated();
+        int frameCount = animated ? animatedTexture.getFrameCount() : 1;
+        if ((long) scaledWidth * scaledHeight * 4 * frameCount > MAX_CACHE_BYTES) {
+            return null;
+        }
+
+        if (scaledFrames == null || scaledFrames.length != frameCount ||
+            scaledWidth != cachedWidth || scaledHeight != cachedHeight || opacity != cachedOpacity) {
+            scaledFrames = new BufferedImage[frameCount];
+            cachedWidth = scaledWidth;
+            cachedHeight = scaledHeight;
+            cachedOpacity = opacity;
+        }
+
+        int index = (animated && playhead != null) ? playhead.getFrameIndex() : 0;
+        BufferedImage frame = scaledFrames[index];
+        if (frame == null) {
+            Image source = animated ? animatedTexture.getFrame(index) : image;
+            frame = prescale(source, scaledWidth, scaledHeight);
+            scaledFrames[index] = frame;
+        }
+        return frame;
+    }
+
+    /**
+     * Scale one source frame (nearest-neighbor, like the direct draw) into a
+     * screen-compatible image, baking in the layer opacity.
+     */
+    private BufferedImage prescale(Image source, int scaledWidth, int scaledHeight) {
+        int transparency = (isOpaque() && opacity >= 1.0f) ? Transparency.OPAQUE : Transparency.TRANSLUCENT;
+        BufferedImage scaled = null;
+        if (!GraphicsEnvironment.isHeadless()) {
+            try {
+                scaled = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                        .getDefaultConfiguration().createCompatibleImage(scaledWidth, scaledHeight, transparency);
+            } catch (Exception e) {
+                System.err.println("ParallaxLayer: Falling back to ARGB frame cache for '" + name + "': " + e.getMessage());
+            }
+        }
+        if (scaled == null) {
+            scaled = new BufferedImage(scaledWidth, scaledHeight,
+                    transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        }
+
+        Graphics2D g = scaled.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        if (opacity < 1.0f) {
+            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, opacity));
+        }
+        g.drawImage(source, 0, 0, scaledWidth, scaledHeight, null);
+        g.dispose();
+        return scaled;
+    }
+
+    /**
+     * Checks if every pixel of the layer (all frames for GIFs) is fully opaque.
+     * Computed once from the source images.
+     */
+    public boolean isOpaque() {
+        if (sourceOpaque == null) {
+            boolean opaque;
+            if (isAnimated()) {
+                opaque = true;
+                for (int i = 0; i < animatedTexture.getFrameCount() && opaque; i++) {
+                    opaque = isOpaque(animatedTexture.getFrame(i));
+                }
+            } else {
+                opaque = isOpaque(image);
+            }
+            sourceOpaque = opaque;
+        }
+        return sourceOpaque;
+    }
+
+    private static boolean isOpaque(Image source) {
+        if (!(source instanceof BufferedImage)) return false;
+        BufferedImage img = (BufferedImage) source;
+        if (img.getTransparency() == Transparency.OPAQUE) return true;
+
+        int[] row = new int[img.getWidth()];
+        for (int y = 0; y < img.getHeight(); y++) {
+            img.getRGB(0, y, row.length, 1, row, 0, row.length);
+            for (int argb : row) {
+                if ((argb >>> 24) != 0xFF) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if this layer fully hides the camera view this frame (opaque, full
+     * opacity and covering the whole viewport), so layers behind it can be skipped.
+     */
+    public boolean coversViewport(Camera camera) {
+        if (!visible || image == null || opacity < 1.0f) return false;
+
+        int scaledWidth = (int) (imageWidth * scale);
+        int scaledHeight = (int) (imageHeight * scale);
+        if (scaledWidth <= 0 || scaledHeight <= 0 || !isOpaque()) return false;
+
+        // Same pixel positions as draw() (camera transform truncates to int)
+        int viewX = (int) camera.getX();
+        int viewY = (int) camera.getY();
+        if (!tileHorizontal) {
+            int x = (int) getDrawX(camera);
+            if (x > viewX || x + scaledWidth < viewX + camera.getViewportWidth()) return false;
+        }
+        if (!tileVertical) {
+            int y = (int) getDrawY(camera, scaledHeight);
+            if (y > viewY || y + scaledHeight < viewY + camera.getViewportHeight()) return false;
+        }
+        return true;
+    }
+
     // ========== Getters and Setters ==========
 
     public String getName() {
@@ -0,0 +1,63 @@
+package graphics;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Per-instance position in a shared AnimationClip.
+ *
+ * A playhead only stores when its clip started on the AnimationClock (its
+ * phase) and whether it loops. The current frame is computed on demand, so
+ * nothing has to be updated each tick.
+ *
+ * Usage:
+ *   Playhead playhead = new Playhead(clip);   // Starts now
+ *   BufferedImage frame = playhead.getFrame();
+ */
+public class Playhead {
+
+    private final AnimationClip clip;
+    private long startTimeMs;
+    private boolean looping = true;
+
+    /**
+     * Creates a playhead that starts at frame 0 now.
+     */
+    public Playhead(AnimationClip clip) {
+        this(clip, AnimationClock.getTimeMs());
+    }
+
+    /**
+     * Creates a playhead with an explicit phase.
+     * @param clip Shared clip
+     * @param startTimeMs Clock time at which frame 0 starts (0 keeps all instances in sync)
+     */
+    public Playhead(AnimationClip clip, long startTimeMs) {
+        this.clip = clip;
+        this.startTimeMs = startTimeMs;
+    }
+
+    /**
+     * Gets the current frame index.
+     */
+    public int getFrameIndex() {
+        return clip.frameIndexAt(AnimationClock.getTimeMs() - startTimeMs, looping);
+    }
+
+    /**
+     * Gets the current frame.
+     */
+    public BufferedImage getFrame() {
+        return clip.getFrame(getFrameIndex());
+    }
+
+    /**
+     * Restarts from frame 0 now.
+     */
+    public void restart() {
+        startTimeMs = AnimationClock.getTimeMs();
+    }
+
+    public void setLooping(boolean looping) { this.looping = looping; }
+    public boolean isLooping() { return looping; }
+    public AnimationClip getClip() { return clip; }
+}
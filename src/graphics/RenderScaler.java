@@ -0,0 +1,162 @@
+package graphics;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Renders the game world at a reduced internal resolution.
+ *
+ * All art is 16px pixel art drawn at 4x, so the world can be drawn into an
+ * off-screen buffer at 1/2 or 1/4 of the screen size and scaled back up with
+ * nearest-neighbor once per frame. At 1/4 (480x270, the art's native
+ * resolution) this cuts fill cost by up to 16x with no visible change to the
+ * pixel art. UI is drawn afterwards at full resolution.
+ *
+ * Usage in a scene's draw():
+ *   Graphics2D world = RenderScaler.getInstance().beginWorld(g2d, width, height);
+ *   ... draw world with "world" ...
+ *   RenderScaler.getInstance().endWorld(g2d);
+ *   ... draw UI with g2d ...
+ */
+public class RenderScaler {
+
+    /**
+     * Internal world resolution relative to the screen.
+     */
+    public enum Mode {
+        FULL(1, "Full"),
+        HALF(2, "Half"),
+        PIXEL(4, "Pixel");
+
+        private final int divisor;
+        private final String displayName;
+
+        Mode(int divisor, String displayName) {
+            this.divisor = divisor;
+            this.displayName = displayName;
+        }
+
+        public int getDivisor() { return divisor; }
+        public String getDisplayName() { return displayName; }
+
+        /**
+         * Next mode in the settings cycle (Full -> Half -> Pixel -> Full).
+         */
+        public Mode next() {
+            Mode[] modes = values();
+            return modes[(ordinal() + 1) % modes.length];
+        }
+    }
+
+    private static RenderScaler instance;
+
+    private Mode mode = Mode.FULL;
+
+    // Off-screen world buffer (recreated when the mode or screen size changes)
+    private BufferedImage buffer;
+    private Graphics2D worldGraphics;
+    private int screenWidth, screenHeight;
+
+    private RenderScaler() {
+    }
+
+    public static RenderScaler getInstance() {
+        if (instance == null) {
+            instance = new RenderScaler();
+        }
+        return instance;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        if (mode == null || mode == this.mode) return;
+        this.mode = mode;
+        buffer = null; // Resized on next beginWorld()
+        System.out.println("RenderScaler: World resolution set to " + mode.getDisplayName());
+    }
+
+    /**
+     * Switch to the next mode (for the settings toggle).
+     */
+    public void cycleMode() {
+        setMode(mode.next());
+    }
+
+    /**
+     * Get the internal world resolution for the current mode, e.g. "480x270".
+     */
+    public String getResolutionText(int screenWidth, int screenHeight) {
+        return (screenWidth / mode.divisor) + "x" + (screenHeight / mode.divisor);
+    }
+
+    /**
+     * Start drawing the world.
+     * @param screen Screen graphics context
+     * @param screenWidth Logical screen width
+     * @param screenHeight Logical screen height
+     * @return Graphics to draw the world with, in screen coordinates. This is the screen
+     *         itself in FULL mode, otherwise the scaled-down buffer.
+     */
+    public Graphics2D beginWorld(Graphics2D screen, int screenWidth, int screenHeight) {
+        if (mode == Mode.FULL) {
+            return screen;
+        }
+
+        int d = mode.divisor;
+        int width = Math.max(1, screenWidth / d);
+        int height = Math.max(1, screenHeight / d);
+        if (buffer == null || buffer.getWidth() != width || buffer.getHeight() != height) {
+            buffer = createBuffer(screen, width, height);
+        }
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+
+        Graphics2D g = buffer.createGraphics();
+        Color clear = screen.getBackground();
+        g.setColor(clear != null ? clear : Color.BLACK);
+        g.fillRect(0, 0, width, height);
+
+        // Same coordinates as the screen; everything lands on the coarser pixel grid
+        g.scale(1.0 / d, 1.0 / d);
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED);
+        g.setFont(screen.getFont());
+        worldGraphics = g;
+        return g;
+    }
+
+    /**
+     * Finish drawing the world: upscale the buffer onto the screen (nearest-neighbor).
+     * Does nothing in FULL mode.
+     */
+    public void endWorld(Graphics2D screen) {
+        if (worldGraphics == null) return;
+        worldGraphics.dispose();
+        worldGraphics = null;
+
+        Object oldInterpolation = screen.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+        screen.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        screen.drawImage(buffer, 0, 0, screenWidth, screenHeight, null);
+        if (oldInterpolation != null) {
+            screen.setRenderingHint(RenderingHints.KEY_INTERPOLATION, oldInterpolation);
+        }
+    }
+
+    /**
+     * Create an opaque buffer in the screen's native format so the upscale stays accelerated.
+     */
+    private static BufferedImage createBuffer(Graphics2D screen, int width, int height) {
+        GraphicsConfiguration config = screen.getDeviceConfiguration();
+        if (config != null) {
+            try {
+                return config.createCompatibleImage(width, height, Transparency.OPAQUE);
+            } catch (Exception e) {
+                System.err.println("RenderScaler: Falling back to RGB buffer: " + e.getMessage());
+            }
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    }
+}
@@ -0,0 +1,476 @@
+package graphics;
+
+import block.BlockEntity;
+import block.BlockGrid;
+import block.BlockRegistry;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Terraria-style per-tile light for block levels.
+ *
+ * Light levels (0-255) live in the BlockGrid and are flood-filled from the level's
+ * LightSources and from sky exposure (every open cell above the first solid block
+ * of its column). Each step through open air costs AIR_ATTENUATION; each step out
+ * of a solid block costs SOLID_ATTENUATION, so block faces get lit but light does
+ * not pass through walls.
+ *
+ * Updates are incremental. Mining or placing a block, or a light moving to another
+ * tile, clears only the light that flowed through the affected tile (removal BFS)
+ * and re-spreads from the edges of the cleared area (add BFS). Both queues are
+ * processed with a bounded amount of work per tick.
+ *
+ * Each tile also records which light won it, so LightingSystem can apply that
+ * light's color and flicker when it samples the map.
+ */
+public class TileLightMap implements BlockGrid.ChangeListener {
+
+    public static final int MAX_LEVEL = 240;
+    public static final int AIR_ATTENUATION = 16;     // Per tile through open air (~15 tiles max reach)
+    public static final int SOLID_ATTENUATION = 96;   // Per tile out of a solid block
+    public static final int FULL_BRIGHT_LEVEL = 96;   // Levels at or above this are fully lit
+    public static final int DEFAULT_WORK_BUDGET = 20000; // Tile visits per tick
+
+    /** Source index stored for tiles lit by the sky. */
+    public static final short SKY_SOURCE = -1;
+
+    private final BlockGrid grid;
+    private final int cols;
+    private final int rows;
+    private final byte[] light;
+    private final short[] source;
+
+    // Sky exposure: first solid row of each column (rows if none)
+    private final int[] skyDepth;
+    private int skyLevel = 0;
+
+    // Solidity the light map was last computed with, to skip cosmetic block changes
+    private final BitSet solid;
+
+    // BFS queues (removal entries are cell/level pairs)
+    private final IntQueue addQueue = new IntQueue();
+    private final IntQueue removeQueue = new IntQueue();
+    private int workBudget = DEFAULT_WORK_BUDGET;
+    private int lastTickWork;
+
+    // Light source slots (index stored per tile)
+    private final Map<LightSource, Integer> slotOf = new IdentityHashMap<>();
+    private LightSource[] slotLight = new LightSource[16];
+    private int[] slotCell = new int[16];
+    private int[] slotLevel = new int[16];
+    private int[] slotSeen = new int[16];
+    private int slotCount;
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<Integer, Integer> emitterAt = new HashMap<>(); // cell -> brightest slot there
+    private int syncStamp;
+
+    /**
+     * Growable ring buffer of ints.
+     */
+    private static class IntQueue {
+        private int[] data = new int[1024];
+        private int head, size;
+
+        void add(int value) {
+            if (size == data.length) {
+                int[] grown = new int[data.length * 2];
+                for (int i = 0; i < size; i++) {
+                    grown[i] = data[(head + i) % data.length];
+                }
+                data = grown;
+                head = 0;
+            }
+            data[(head + size) % data.length] = value;
+            size++;
+        }
+
+        int poll() {
+            int value = data[head];
+            head = (head + 1) % data.length;
+            size--;
+            return value;
+        }
+
+        boolean isEmpty() { return size == 0; }
+        int size() { return size; }
+        void clear() { head = 0; size = 0; }
+    }
+
+    /**
+     * Create a light map over a block grid and start listening for block changes.
+     * Call rebuild() before first use.
+     */
+    public TileLightMap(BlockGrid grid) {
+        this.grid = grid;
+        this.cols = grid.getCols();
+        this.rows = grid.getRows();
+        this.light = grid.getLightLevels();
+        this.source = grid.getLightSources();
+        this.skyDepth = new int[cols];
+        this.solid = new BitSet(cols * rows);
+        grid.addListener(this);
+    }
+
+    /**
+     * Stop listening to the grid.
+     */
+    public void dispose() {
+        grid.removeListener(this);
+    }
+
+    /**
+     * Set the light level of sky-exposed tiles (0.0 - 1.0 of MAX_LEVEL).
+     * Takes effect on the next rebuild().
+     */
+    public void setSkyLight(double fraction) {
+        this.skyLevel = (int) Math.round(Math.max(0, Math.min(1, fraction)) * MAX_LEVEL);
+    }
+
+    public void setWorkBudget(int budget) {
+        this.workBudget = Math.max(1, budget);
+    }
+
+    // ==================== Full Rebuild ====================
+
+    /**
+     * Recompute the whole map from scratch (level load). Not budgeted.
+     */
+    public void rebuild(List<LightSource> lights) {
+        Arrays.fill(light, (byte) 0);
+        Arrays.fill(source, SKY_SOURCE);
+        addQueue.clear();
+        removeQueue.clear();
+        slotOf.clear();
+        emitterAt.clear();
+        freeSlots.clear();
+        Arrays.fill(slotLight, null);
+        slotCount = 0;
+
+        solid.clear();
+        for (int i = 0; i < cols * rows; i++) {
+            if (grid.isSolidIndex(i)) solid.set(i);
+        }
+
+        for (int x = 0; x < cols; x++) {
+            skyDepth[x] = findSkyDepth(x);
+            if (skyLevel > 0) {
+                for (int y = 0; y < skyDepth[x]; y++) {
+                    addLight(y * cols + x, skyLevel, SKY_SOURCE);
+                }
+            }
+        }
+
+        sync(lights);
+        propagate(Integer.MAX_VALUE);
+    }
+
+    // ==================== Light Sources ====================
+
+    /**
+     * Match the map to the current light sources: registers new ones, moves ones that
+     * changed tile or strength and removes ones that are gone or disabled.
+     */
+    public void sync(List<LightSource> lights) {
+        syncStamp++;
+        for (int i = 0; i < lights.size(); i++) {
+            LightSource l = lights.get(i);
+            Integer slot = slotOf.get(l);
+
+            int cell = -1;
+            int level = 0;
+            if (l.isEnabled()) {
+                int gx = (int) Math.floor(l.getX() / BlockRegistry.BLOCK_SIZE);
+                int gy = (int) Math.floor(l.getY() / BlockRegistry.BLOCK_SIZE);
+                if (grid.isInBounds(gx, gy)) {
+                    cell = gy * cols + gx;
+                    level = levelFor(l);
+                }
+            }
+
+            if (cell < 0 || level <= 0) {
+                if (slot != null) unregister(slot);
+                continue;
+            }
+
+            if (slot == null) {
+                slot = register(l, cell, level);
+                if (slot < 0) continue;
+            } else if (slotCell[slot] != cell || slotLevel[slot] != level) {
+                int oldCell = slotCell[slot];
+                clearEmitter(slot, oldCell);
+                slotCell[slot] = cell;
+                slotLevel[slot] = level;
+                removeLight(oldCell);
+                setEmitter(slot, cell);
+                addLight(cell, level, (short) (int) slot);
+            }
+            slotSeen[slot] = syncStamp;
+        }
+
+        // Anything not seen this pass was removed from the lighting system
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slotLight[slot] != null && slotSeen[slot] != syncStamp) {
+                unregister(slot);
+            }
+        }
+    }
+
+    /**
+     * Light level a source emits at its own tile: enough to reach its falloff radius.
+     */
+    private static int levelFor(LightSource l) {
+        double reachTiles = Math.max(l.getRadius(), l.getFalloffRadius()) / BlockRegistry.BLOCK_SIZE;
+        return (int) Math.min(MAX_LEVEL, Math.round((reachTiles + 1) * AIR_ATTENUATION));
+    }
+
+    private int register(LightSource l, int cell, int level) {
+        int slot;
+        if (!freeSlots.isEmpty()) {
+            slot = freeSlots.poll();
+        } else {
+            if (slotCount >= Short.MAX_VALUE) return -1;
+            slot = slotCount++;
+            if (slot >= slotLight.length) {
+                int size = slotLight.length * 2;
+                slotLight = Arrays.copyOf(slotLight, size);
+                slotCell = Arrays.copyOf(slotCell, size);
+                slotLevel = Arrays.copyOf(slotLevel, size);
+                slotSeen = Arrays.copyOf(slotSeen, size);
+            }
+        }
+        slotLight[slot] = l;
+        slotCell[slot] = cell;
+        slotLevel[slot] = level;
+        slotOf.put(l, slot);
+        setEmitter(slot, cell);
+        addLight(cell, level, (short) slot);
+        return slot;
+    }
+
+    private void unregister(int slot) {
+        int cell = slotCell[slot];
+        slotOf.remove(slotLight[slot]);
+        slotLight[slot] = null;
+        slotLevel[slot] = 0;
+        clearEmitter(slot, cell);
+        freeSlots.add(slot);
+        removeLight(cell);
+    }
+
+    private void setEmitter(int slot, int cell) {
+        Integer current = emitterAt.get(cell);
+        if (current == null || slotLevel[current] < slotLevel[slot]) {
+            emitterAt.put(cell, slot);
+        }
+    }
+
+    private void clearEmitter(int slot, int cell) {
+        Integer current = emitterAt.get(cell);
+        if (current == null || current != slot) return;
+        emitterAt.remove(cell);
+        // Another light may share the tile
+        for (int other = 0; other < slotCount; other++) {
+            if (other != slot && slotLight[other] != null && slotCell[other] == cell) {
+                setEmitter(other, cell);
+            }
+        }
+    }
+
+    /**
+     * Get the light source that owns a source index (null for the sky or a freed index).
+     */
+    public LightSource getSourceLight(int sourceIndex) {
+        if (sourceIndex < 0 || sourceIndex >= slotCount) return null;
+        return slotLight[sourceIndex];
+    }
+
+    public int getSourceSlotCount() {
+        return slotCount;
+    }
+
+    // ==================== Block Changes ====================
+
+    @Override
+    public void onBlockChanged(int gridX, int gridY, BlockEntity block) {
+        if (!grid.isInBounds(gridX, gridY)) return;
+
+        int cell = gridY * cols + gridX;
+        boolean nowSolid = grid.isSolidIndex(cell);
+        if (nowSolid == solid.get(cell)) return; // Tint, overlay or partial mining - light unaffected
+        solid.set(cell, nowSolid);
+
+        updateSkyColumn(gridX, gridY, nowSolid);
+
+        // Clear light that flowed through this tile, then let neighbors spread back in
+        removeLight(cell);
+        reseed(cell);
+        if (gridX > 0) requeue(cell - 1);
+        if (gridX < cols - 1) requeue(cell + 1);
+        if (gridY > 0) requeue(cell - cols);
+        if (gridY < rows - 1) requeue(cell + cols);
+    }
+
+    private void requeue(int cell) {
+        if (light[cell] != 0) addQueue.add(cell);
+    }
+
+    private void updateSkyColumn(int x, int changedRow, boolean nowSolid) {
+        int oldDepth = skyDepth[x];
+        int newDepth;
+        if (nowSolid) {
+            newDepth = Math.min(oldDepth, changedRow);
+        } else if (changedRow == oldDepth) {
+            newDepth = findSkyDepth(x);
+        } else {
+            return; // Opened below the sky line - column exposure unchanged
+        }
+        if (newDepth == oldDepth) return;
+        skyDepth[x] = newDepth;
+        if (skyLevel <= 0) return;
+
+        if (newDepth > oldDepth) {
+            for (int y = oldDepth; y < newDepth; y++) {
+                addLight(y * cols + x, skyLevel, SKY_SOURCE);
+            }
+        } else {
+            for (int y = newDepth; y < oldDepth; y++) {
+                removeLight(y * cols + x);
+            }
+        }
+    }
+
+    private int findSkyDepth(int x) {
+        for (int y = 0; y < rows; y++) {
+            if (grid.isSolidIndex(y * cols + x)) return y;
+        }
+        return rows;
+    }
+
+    // ==================== Propagation ====================
+
+    private void addLight(int cell, int level, short src) {
+        if (level > (light[cell] & 0xFF)) {
+            light[cell] = (byte) level;
+            source[cell] = src;
+            addQueue.add(cell);
+        }
+    }
+
+    private void removeLight(int cell) {
+        int old = light[cell] & 0xFF;
+        if (old == 0) return;
+        light[cell] = 0;
+        removeQueue.add(cell);
+        removeQueue.add(old);
+        reseed(cell);
+    }
+
+    /**
+     * Re-emit whatever light originates in a tile (sky or a source) after it was cleared.
+     */
+    private void reseed(int cell) {
+        if (skyLevel > 0 && cell / cols < skyDepth[cell % cols]) {
+            addLight(cell, skyLevel, SKY_SOURCE);
+        }
+        Integer slot = emitterAt.get(cell);
+        if (slot != null) {
+            addLight(cell, slotLevel[slot], (short) (int) slot);
+        }
+    }
+
+    /**
+     * Process queued light changes.
+     * @param budget Maximum tiles to visit this call
+     * @return Tiles visited
+     */
+    public int propagate(int budget) {
+        int work = 0;
+
+        // Removal first - adds must not spread into light that is about to be cleared
+        while (!removeQueue.isEmpty() && work < budget) {
+            int cell = removeQueue.poll();
+            int level = removeQueue.poll();
+            work++;
+            int x = cell % cols;
+            if (x > 0) removeNeighbor(cell - 1, level);
+            if (x < cols - 1) removeNeighbor(cell + 1, level);
+            if (cell >= cols) removeNeighbor(cell - cols, level);
+            if (cell + cols < light.length) removeNeighbor(cell + cols, level);
+        }
+        if (!removeQueue.isEmpty()) {
+            lastTickWork = work;
+            return work;
+        }
+
+        while (!addQueue.isEmpty() && work < budget) {
+            int cell = addQueue.poll();
+            int level = light[cell] & 0xFF;
+            if (level == 0) continue;
+            work++;
+            int next = level - (solid.get(cell) ? SOLID_ATTENUATION : AIR_ATTENUATION);
+            if (next <= 0) continue;
+            short src = source[cell];
+            int x = cell % cols;
+            if (x > 0) spread(cell - 1, next, src);
+            if (x < cols - 1) spread(cell + 1, next, src);
+            if (cell >= cols) spread(cell - cols, next, src);
+            if (cell + cols < light.length) spread(cell + cols, next, src);
+        }
+
+        lastTickWork = work;
+        return work;
+    }
+
+    /**
+     * Process queued changes within the configured per-tick budget.
+     */
+    public int update() {
+        return propagate(workBudget);
+    }
+
+    private void removeNeighbor(int cell, int fromLevel) {
+        int level = light[cell] & 0xFF;
+        if (level == 0) return;
+        if (level < fromLevel) {
+            // May have been lit through the removed tile - clear and keep walking
+            light[cell] = 0;
+            removeQueue.add(cell);
+            removeQueue.add(level);
+            reseed(cell);
+        } else {
+            // Lit by something else at least as bright - it will refill the gap
+            addQueue.add(cell);
+        }
+    }
+
+    private void spread(int cell, int level, short src) {
+        if (level > (light[cell] & 0xFF)) {
+            light[cell] = (byte) level;
+            source[cell] = src;
+            addQueue.add(cell);
+        }
+    }
+
+    // ==================== Queries ====================
+
+    public int getLevel(int gridX, int gridY) {
+        if (!grid.isInBounds(gridX, gridY)) return 0;
+        return light[gridY * cols + gridX] & 0xFF;
+    }
+
+    public short getSource(int gridX, int gridY) {
+        if (!grid.isInBounds(gridX, gridY)) return SKY_SOURCE;
+        return source[gridY * cols + gridX];
+    }
+
+    public BlockGrid getGrid() { return grid; }
+    public int getSkyLevel() { return skyLevel; }
+    public int getPendingWork() { return addQueue.size() + removeQueue.size() / 2; }
+    public int getLastTickWork() { return lastTickWork; }
+}
@@ -56,6 +56,7 @@ public class LevelData {
     public boolean nightMode = false;           // If true, level starts in night/darkness mode
     public double nightDarkness = 0.80;         // How dark the night is (0.0 - 1.0)
     public double ambientLight = 0.12;          // Minimum ambient light level (0.0 - 1.0)
+    public double skyLight = 0.0;               // Light on sky-exposed tiles of block levels (0.0 - 1.0)
     public boolean playerLightEnabled = false;  // Whether player starts with a light
     public double playerLightRadius = 100;      // Player light inner radius
     public double playerLightFalloff = 200;     // Player light falloff radius
@@ -80,6 +81,9 @@ public class LevelData {
     // Next level (for level progression)
     public String nextLevel;
 
+    // Creative edit journal generation folded into this file (see CreativeEditJournal)
+    public int journalGeneration = 0;
+
     public LevelData() {
         platforms = new ArrayList<>();
         items = new ArrayList<>();
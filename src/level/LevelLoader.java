@@ -8,6 +8,7 @@ import graphics.*;
 import animation.*;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.*;
 
@@ -144,6 +145,7 @@ public class LevelLoader {
             if (root.containsKey("backgroundPath")) data.backgroundPath = (String) root.get("backgroundPath");
             if (root.containsKey("musicPath")) data.musicPath = (String) root.get("musicPath");
             if (root.containsKey("nextLevel")) data.nextLevel = (String) root.get("nextLevel");
+            if (root.containsKey("journalGeneration")) data.journalGeneration = toInt(root.get("journalGeneration"));
 
             // Parse player spawn
             if (root.containsKey("playerSpawnX")) data.playerSpawnX = toInt(root.get("playerSpawnX"));
@@ -174,6 +176,7 @@ public class LevelLoader {
             if (root.containsKey("nightMode")) data.nightMode = toBool(root.get("nightMode"));
             if (root.containsKey("nightDarkness")) data.nightDarkness = toDouble(root.get("nightDarkness"));
             if (root.containsKey("ambientLight")) data.ambientLight = toDouble(root.get("ambientLight"));
+            if (root.containsKey("skyLight")) data.skyLight = toDouble(root.get("skyLight"));
             if (root.containsKey("playerLightEnabled")) data.playerLightEnabled = toBool(root.get("playerLightEnabled"));
             if (root.containsKey("playerLightRadius")) data.playerLightRadius = toDouble(root.get("playerLightRadius"));
             if (root.containsKey("playerLightFalloff")) data.playerLightFalloff = toDouble(root.get("playerLightFalloff"));
@@ -446,6 +449,8 @@ public class LevelLoader {
                     if (mb.containsKey("tintRed")) movingBlock.tintRed = toInt(mb.get("tintRed"));
                     if (mb.containsKey("tintGreen")) movingBlock.tintGreen = toInt(mb.get("tintGreen"));
                     if (mb.containsKey("tintBlue")) movingBlock.tintBlue = toInt(mb.get("tintBlue"));
+                    // Parse optional overlay (GRASS, SNOW, ICE, MOSS, VINES)
+                    if (mb.containsKey("overlay")) movingBlock.overlay = (String) mb.get("overlay");
 
                     data.movingBlocks.add(movingBlock);
                 }
@@ -596,7 +601,7 @@ public class LevelLoader {
                 i = objEnd + 1;
             } else if (c == 't' || c == 'f') {
                 // Boolean
-                if (json.substring(i).startsWith("true")) {
+                if (json.startsWith("true", i)) {
                     value = true;
                     i += 4;
                 } else {
@@ -676,7 +681,7 @@ public class LevelLoader {
                 i = valueEnd + 1;
             } else if (c == 't' || c == 'f') {
                 // Boolean
-                if (json.substring(i).startsWith("true")) {
+                if (json.startsWith("true", i)) {
                     value = true;
                     i += 4;
                 } else {
@@ -770,9 +775,9 @@ public class LevelLoader {
      * @param path The file path to save to
      */
     public static void save(LevelData data, String path) {
-        try {
-            String json = toJson(data);
-            Files.write(Paths.get(path), json.getBytes());
+        // Stream to disk so very large generated levels never exist as one String
+        try (Writer out = Files.newBufferedWriter(Paths.get(path), StandardCharsets.UTF_8)) {
+            writeJson(data, out);
             System.out.println("LevelLoader: Saved level to " + path);
         } catch (IOException e) {
             System.err.println("LevelLoader: Failed to save level to " + path);
@@ -784,6 +789,21 @@ public class LevelLoader {
      * Convert LevelData to JSON string.
      */
     public static String toJson(LevelData data) {
+        StringWriter out = new StringWriter();
+        try {
+            writeJson(data, out);
+        } catch (IOException e) {
+            // StringWriter never throws
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Write LevelData as JSON. Output is flushed to the writer in chunks while the
+     * entity arrays are written, so memory use does not grow with level size.
+     */
+    public static void writeJson(LevelData data, Writer out) throws IOException {
         StringBuilder sb = new StringBuilder();
         sb.append("{\n");
         sb.append("  \"name\": \"").append(escape(data.name)).append("\",\n");
@@ -803,10 +823,24 @@ public class LevelLoader {
         sb.append("  \"scrollingEnabled\": ").append(data.scrollingEnabled).append(",\n");
         sb.append("  \"tileBackgroundHorizontal\": ").append(data.tileBackgroundHorizontal).append(",\n");
         sb.append("  \"tileBackgroundVertical\": ").append(data.tileBackgroundVertical).append(",\n");
+        sb.append("  \"verticalScrollEnabled\": ").append(data.verticalScrollEnabled).append(",\n");
+        sb.append("  \"verticalMargin\": ").append(data.verticalMargin).append(",\n");
+
+        // Lighting settings
+        sb.append("  \"nightMode\": ").append(data.nightMode).append(",\n");
+        sb.append("  \"nightDarkness\": ").append(data.nightDarkness).append(",\n");
+        sb.append("  \"ambientLight\": ").append(data.ambientLight).append(",\n");
+        sb.append("  \"skyLight\": ").append(data.skyLight).append(",\n");
+        sb.append("  \"playerLightEnabled\": ").append(data.playerLightEnabled).append(",\n");
+        sb.append("  \"playerLightRadius\": ").append(data.playerLightRadius).append(",\n");
+        sb.append("  \"playerLightFalloff\": ").append(data.playerLightFalloff).append(",\n");
 
         if (data.nextLevel != null) {
             sb.append("  \"nextLevel\": \"").append(escape(data.nextLevel)).append("\",\n");
         }
+        if (data.journalGeneration > 0) {
+            sb.append("  \"journalGeneration\": ").append(data.journalGeneration).append(",\n");
+        }
 
         // Parallax settings
         sb.append("  \"parallaxEnabled\": ").append(data.parallaxEnabled).append(",\n");
@@ -892,6 +926,9 @@ public class LevelLoader {
             sb.append(", \"y\": ").append(b.y);
             sb.append(", \"blockType\": \"").append(escape(b.blockType)).append("\"");
             sb.append(", \"useGridCoords\": ").append(b.useGridCoords);
+            if (b.hasOverlay()) {
+                sb.append(", \"overlay\": \"").append(escape(b.overlay)).append("\"");
+            }
             // Include tint if set
             if (b.hasTint()) {
                 sb.append(", \"tintRed\": ").append(b.tintRed);
@@ -901,6 +938,63 @@ public class LevelLoader {
             sb.append(" }");
             if (i < data.blocks.size() - 1) sb.append(",");
             sb.append("\n");
+            flushIfLarge(sb, out);
+        }
+        sb.append("  ],\n");
+
+        // Light sources
+        sb.append("  \"lightSources\": [\n");
+        for (int i = 0; i < data.lightSources.size(); i++) {
+            LevelData.LightSourceData l = data.lightSources.get(i);
+            sb.append("    { \"x\": ").append(l.x);
+            sb.append(", \"y\": ").append(l.y);
+            sb.append(", \"lightType\": \"").append(escape(l.lightType)).append("\"");
+            sb.append(", \"radius\": ").append(l.radius);
+            sb.append(", \"falloffRadius\": ").append(l.falloffRadius);
+            sb.append(", \"colorRed\": ").append(l.colorRed);
+            sb.append(", \"colorGreen\": ").append(l.colorGreen);
+            sb.append(", \"colorBlue\": ").append(l.colorBlue);
+            sb.append(", \"intensity\": ").append(l.intensity);
+            sb.append(", \"flicker\": ").append(l.flicker);
+            if (l.flicker) {
+                sb.append(", \"flickerAmount\": ").append(l.flickerAmount);
+                sb.append(", \"flickerSpeed\": ").append(l.flickerSpeed);
+            }
+            sb.append(" }");
+            if (i < data.lightSources.size() - 1) sb.append(",");
+            sb.append("\n");
+            flushIfLarge(sb, out);
+        }
+        sb.append("  ],\n");
+
+        // Mobs
+        sb.append("  \"mobs\": [\n");
+        for (int i = 0; i < data.mobs.size(); i++) {
+            LevelData.MobData m = data.mobs.get(i);
+            sb.append("    { \"x\": ").append(m.x);
+            sb.append(", \"y\": ").append(m.y);
+            sb.append(", \"mobType\": \"").append(escape(m.mobType)).append("\"");
+            if (m.subType != null) {
+                sb.append(", \"subType\": \"").append(escape(m.subType)).append("\"");
+            }
+            sb.append(", \"behavior\": \"").append(escape(m.behavior)).append("\"");
+            if (m.textureDir != null) {
+                sb.append(", \"textureDir\": \"").append(escape(m.textureDir)).append("\"");
+            }
+            if (m.spriteDir != null) {
+                sb.append(", \"spriteDir\": \"").append(escape(m.spriteDir)).append("\"");
+            }
+            if (m.wanderMinX >= 0 || m.wanderMaxX >= 0) {
+                sb.append(", \"wanderMinX\": ").append(m.wanderMinX);
+                sb.append(", \"wanderMaxX\": ").append(m.wanderMaxX);
+            }
+            if (m.debugDraw) {
+                sb.append(", \"debugDraw\": true");
+            }
+            sb.append(" }");
+            if (i < data.mobs.size() - 1) sb.append(",");
+            sb.append("\n");
+            flushIfLarge(sb, out);
         }
         sb.append("  ],\n");
 
@@ -923,6 +1017,9 @@ public class LevelLoader {
             if (mb.hasWaypoints()) {
                 sb.append(", \"waypoints\": \"").append(escape(mb.waypoints)).append("\"");
             }
+            if (mb.hasOverlay()) {
+                sb.append(", \"overlay\": \"").append(escape(mb.overlay)).append("\"");
+            }
             // Include tint if set
             if (mb.hasTint()) {
                 sb.append(", \"tintRed\": ").append(mb.tintRed);
@@ -932,6 +1029,7 @@ public class LevelLoader {
             sb.append(" }");
             if (i < data.movingBlocks.size() - 1) sb.append(",");
             sb.append("\n");
+            flushIfLarge(sb, out);
         }
         sb.append("  ],\n");
 
@@ -960,7 +1058,18 @@ public class LevelLoader {
         sb.append("  ]\n");
 
         sb.append("}");
-        return sb.toString();
+        out.write(sb.toString());
+        out.flush();
+    }
+
+    /**
+     * Hand the buffered part of a JSON document to the writer once it gets big.
+     */
+    private static void flushIfLarge(StringBuilder sb, Writer out) throws IOException {
+        if (sb.length() >= 64 * 1024) {
+            out.write(sb.toString());
+            sb.setLength(0);
+        }
     }
 
     /**
@@ -0,0 +1,405 @@
+package level;
+
+import block.BlockOverlay;
+import block.BlockRegistry;
+import entity.mob.MobRegistry;
+
+import java.io.File;
+import java.util.*;
+
+/**
+ * Procedural generator for very large levels used to stress test the engine.
+ *
+ * The bundled levels are small hand-made demos. This generator builds a
+ * Terraria-style world of any size (10,000 x 1,000 blocks by default) with
+ * terrain, caves, ores, overlays, mobs, lights and moving blocks, so
+ * performance work can be measured at the scale players reach in creative mode.
+ *
+ * Output is fully determined by the config (including the seed), so the same
+ * config always produces the same level.
+ *
+ * Usage (in code - feed straight into a scene without touching disk):
+ *   LevelData data = StressLevelGenerator.generate(
+ *       new StressLevelGenerator.Config().size(2000, 400).seed(42).mobsPerType(5));
+ *   GameScene scene = new GameScene(data);
+ *
+ * Usage (command line - writes level JSON):
+ *   java level.StressLevelGenerator [width]x[depth] [seed] [output.json]
+ *   java level.StressLevelGenerator 10000x1000 1 levels/stress/stress_10000x1000.json
+ *
+ * A full 10k x 1k world has several million blocks; give the JVM a large heap
+ * (e.g. -Xmx4g) when generating or loading it.
+ */
+public class StressLevelGenerator {
+
+    public static final String DEFAULT_OUTPUT_DIR = "levels/stress";
+
+    private static final String[] LIGHT_TYPES = {"torch", "lantern", "campfire", "magic", "crystal"};
+
+    /**
+     * Generation parameters. All setters return this for chaining.
+     */
+    public static class Config {
+        public int widthBlocks = 10000;       // World width in blocks
+        public int depthBlocks = 1000;        // World height in blocks (sky + ground)
+        public int skyBlocks = 24;            // Average rows of open air above the surface
+        public int surfaceVariation = 8;      // Max surface height change from skyBlocks
+        public double caveDensity = 0.35;     // 0.0 = solid ground, 1.0 = mostly caves
+        public double oreDensity = 0.03;      // Chance a stone block becomes ore
+        public BlockOverlay surfaceOverlay = BlockOverlay.GRASS;
+        public BlockOverlay caveFloorOverlay = BlockOverlay.MOSS;
+        public BlockOverlay caveCeilingOverlay = BlockOverlay.VINES;
+        public double caveOverlayChance = 0.4; // Chance an exposed cave floor/ceiling gets an overlay
+        public Map<String, Integer> mobCounts = new LinkedHashMap<>(); // MobRegistry id -> count
+        public int lightCount = 500;
+        public int movingBlockCount = 200;
+        public boolean nightMode = true;
+        public long seed = 1;
+
+        public Config size(int widthBlocks, int depthBlocks) {
+            this.widthBlocks = Math.max(16, widthBlocks);
+            this.depthBlocks = Math.max(skyBlocks + surfaceVariation + 8, depthBlocks);
+            return this;
+        }
+
+        public Config caveDensity(double density) {
+            this.caveDensity = Math.max(0.0, Math.min(1.0, density));
+            return this;
+        }
+
+        public Config oreDensity(double density) {
+            this.oreDensity = Math.max(0.0, Math.min(1.0, density));
+            return this;
+        }
+
+        public Config overlays(BlockOverlay surface, BlockOverlay caveFloor, BlockOverlay caveCeiling,
+                               double caveOverlayChance) {
+            this.surfaceOverlay = surface;
+            this.caveFloorOverlay = caveFloor;
+            this.caveCeilingOverlay = caveCeiling;
+            this.caveOverlayChance = caveOverlayChance;
+            return this;
+        }
+
+        /**
+         * Set how many of one mob type to spawn. Unknown types are ignored.
+         */
+        public Config mobs(String mobType, int count) {
+            if (!MobRegistry.isRegistered(mobType)) {
+                System.err.println("StressLevelGenerator: Unknown mob type '" + mobType + "', skipping");
+                return this;
+            }
+            mobCounts.put(mobType, Math.max(0, count));
+            return this;
+        }
+
+        /**
+         * Spawn the same number of every registered mob type.
+         */
+        public Config mobsPerType(int count) {
+            for (MobRegistry.MobInfo info : MobRegistry.getAllMobInfos()) {
+                mobCounts.put(info.id, Math.max(0, count));
+            }
+            return this;
+        }
+
+        public Config lights(int count) {
+            this.lightCount = Math.max(0, count);
+            return this;
+        }
+
+        public Config movingBlocks(int count) {
+            this.movingBlockCount = Math.max(0, count);
+            return this;
+        }
+
+        public Config nightMode(boolean enabled) {
+            this.nightMode = enabled;
+            return this;
+        }
+
+        public Config seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+    }
+
+    /**
+     * Generate a level from the given config.
+     */
+    public static LevelData generate(Config config) {
+        long startTime = System.currentTimeMillis();
+        int width = config.widthBlocks;
+        int depth = config.depthBlocks;
+        int size = BlockRegistry.BLOCK_SIZE;
+        Random random = new Random(config.seed);
+
+        LevelData data = new LevelData();
+        data.name = "Stress Test " + width + "x" + depth + " (seed " + config.seed + ")";
+        data.description = "Procedurally generated stress test level";
+        data.backgroundPath = "assets/background.png";
+        data.musicPath = "sounds/music.wav";
+        data.playerSpritePath = "assets/player.png";
+        data.levelWidth = width * size;
+        data.levelHeight = depth * size;
+        data.groundY = data.levelHeight;
+        data.scrollingEnabled = true;
+        data.verticalScrollEnabled = true;
+        data.tileBackgroundHorizontal = true;
+        data.tileBackgroundVertical = true;
+        data.nightMode = config.nightMode;
+        data.playerLightEnabled = config.nightMode;
+        data.skyLight = 0.35;
+
+        // Surface height map (random walk, kept near skyBlocks)
+        int[] surface = new int[width];
+        int minSurface = Math.max(2, config.skyBlocks - config.surfaceVariation);
+        int maxSurface = config.skyBlocks + config.surfaceVariation;
+        int height = config.skyBlocks;
+        for (int x = 0; x < width; x++) {
+            if (random.nextInt(3) == 0) {
+                height += random.nextInt(3) - 1;
+                height = Math.max(minSurface, Math.min(maxSurface, height));
+            }
+            surface[x] = height;
+        }
+
+        // Solid cells - one bit per block, so even 10M blocks only take ~1.2MB
+        BitSet solid = new BitSet(width * depth);
+        for (int x = 0; x < width; x++) {
+            for (int y = surface[x]; y < depth; y++) {
+                if (!isCave(config, x, y, surface[x], depth)) {
+                    solid.set(index(x, y, width));
+                }
+            }
+        }
+
+        // Blocks
+        data.blocks = new ArrayList<>(solid.cardinality());
+        for (int y = 0; y < depth; y++) {
+            for (int x = 0; x < width; x++) {
+                if (!solid.get(index(x, y, width))) continue;
+
+                LevelData.BlockData block = new LevelData.BlockData(x, y,
+                        chooseBlockType(config, x, y, surface[x], depth), true);
+
+                boolean airAbove = y == 0 || !solid.get(index(x, y - 1, width));
+                boolean airBelow = y < depth - 1 && !solid.get(index(x, y + 1, width));
+                if (y == surface[x]) {
+                    block.overlay = overlayName(config.surfaceOverlay);
+                } else if (airAbove && chance(config.seed, x, y, 3) < config.caveOverlayChance) {
+                    block.overlay = overlayName(config.caveFloorOverlay);
+                } else if (airBelow && chance(config.seed, x, y, 4) < config.caveOverlayChance) {
+                    block.overlay = overlayName(config.caveCeilingOverlay);
+                }
+                data.blocks.add(block);
+            }
+        }
+
+        // Player spawns on the surface near the left edge
+        int spawnColumn = Math.min(4, width - 1);
+        data.playerSpawnX = spawnColumn * size;
+        data.playerSpawnY = (surface[spawnColumn] - 2) * size;
+
+        // Mobs - alternate between the surface and cave floors across the whole width
+        for (Map.Entry<String, Integer> entry : config.mobCounts.entrySet()) {
+            MobRegistry.MobInfo info = MobRegistry.getMobInfo(entry.getKey());
+            if (info == null) continue;
+            for (int i = 0; i < entry.getValue(); i++) {
+                int[] cell = (i % 2 == 0) ? findCaveFloor(random, solid, surface, width, depth)
+                                          : null;
+                if (cell == null) {
+                    int x = random.nextInt(width);
+                    cell = new int[] {x, surface[x] - 1};
+                }
+                LevelData.MobData mob = new LevelData.MobData(cell[0] * size, (cell[1] - 1) * size,
+                        info.id, info.id, info.getBehaviorString());
+                mob.spriteDir = info.spriteDir;
+                data.mobs.add(mob);
+            }
+        }
+
+        // Light sources - mostly in caves where they matter in night mode
+        for (int i = 0; i < config.lightCount; i++) {
+            int[] cell = findCaveFloor(random, solid, surface, width, depth);
+            if (cell == null) {
+                int x = random.nextInt(width);
+                cell = new int[] {x, surface[x] - 1};
+            }
+            String type = LIGHT_TYPES[random.nextInt(LIGHT_TYPES.length)];
+            data.lightSources.add(new LevelData.LightSourceData(
+                    cell[0] * size + size / 2, cell[1] * size + size / 2, type));
+        }
+
+        // Moving blocks - floating platforms in the sky band above the surface
+        String[] patterns = {"HORIZONTAL", "VERTICAL", "CIRCULAR"};
+        for (int i = 0; i < config.movingBlockCount; i++) {
+            int x = random.nextInt(width);
+            int y = Math.max(1, surface[x] - 4 - random.nextInt(Math.max(1, minSurface - 2)));
+            String pattern = patterns[random.nextInt(patterns.length)];
+            LevelData.MovingBlockData mb = new LevelData.MovingBlockData();
+            mb.x = x;
+            mb.y = y;
+            mb.blockType = random.nextBoolean() ? "STONE" : "WOOD";
+            mb.useGridCoords = true;
+            mb.movementPattern = pattern;
+            mb.speed = 1.0 + random.nextDouble() * 2.0;
+            if (pattern.equals("HORIZONTAL")) {
+                mb.endX = Math.min(width - 1, x + 3 + random.nextInt(6));
+                mb.endY = y;
+            } else if (pattern.equals("VERTICAL")) {
+                mb.endX = x;
+                mb.endY = Math.max(0, y - 2 - random.nextInt(3));
+            } else {
+                mb.endX = x;
+                mb.endY = y;
+                mb.radius = size + random.nextInt(size * 2);
+            }
+            data.movingBlocks.add(mb);
+        }
+
+        System.out.println("StressLevelGenerator: Generated " + data.blocks.size() + " blocks, " +
+                data.mobs.size() + " mobs, " + data.lightSources.size() + " lights, " +
+                data.movingBlocks.size() + " moving blocks in " +
+                (System.currentTimeMillis() - startTime) + "ms");
+        return data;
+    }
+
+    /**
+     * Generate a level and write it as level JSON.
+     */
+    public static void generateToFile(Config config, String path) {
+        LevelData data = generate(config);
+        File parent = new File(path).getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        LevelLoader.save(data, path);
+    }
+
+    // ==================== Terrain ====================
+
+    private static int index(int x, int y, int width) {
+        return y * width + x;
+    }
+
+    /**
+     * Caves are carved where two octaves of value noise fall below the density
+     * threshold. The crust under the surface and the bottom row are never carved.
+     */
+    private static boolean isCave(Config config, int x, int y, int surfaceY, int depth) {
+        if (config.caveDensity <= 0 || y < surfaceY + 4 || y >= depth - 1) {
+            return false;
+        }
+        double noise = valueNoise(config.seed, x, y, 24) * 0.65
+                     + valueNoise(config.seed + 1, x, y, 7) * 0.35;
+        // Value noise clusters around 0.5, so stretch the threshold to keep density intuitive
+        return noise < 0.25 + config.caveDensity * 0.35;
+    }
+
+    private static String chooseBlockType(Config config, int x, int y, int surfaceY, int depth) {
+        int below = y - surfaceY;
+        if (below < 4) {
+            return "DIRT";
+        }
+        double depthFraction = (double) y / depth;
+        if (chance(config.seed, x, y, 2) < config.oreDensity) {
+            double roll = chance(config.seed, x, y, 5);
+            if (depthFraction > 0.6 && roll < 0.25) return "GOLD_ORE";
+            if (depthFraction > 0.3 && roll < 0.55) return "IRON_ORE";
+            return "COAL_ORE";
+        }
+        return depthFraction > 0.75 ? "COBBLESTONE" : "STONE";
+    }
+
+    private static String overlayName(BlockOverlay overlay) {
+        return (overlay == null || overlay == BlockOverlay.NONE) ? null : overlay.name();
+    }
+
+    /**
+     * Pick a random open cave cell that has solid ground beneath it.
+     * @return {x, y} grid cell, or null if none was found in a few tries
+     */
+    private static int[] findCaveFloor(Random random, BitSet solid, int[] surface, int width, int depth) {
+        for (int attempt = 0; attempt < 32; attempt++) {
+            int x = random.nextInt(width);
+            int y = surface[x] + 4 + random.nextInt(Math.max(1, depth - surface[x] - 6));
+            if (y + 1 >= depth) continue;
+            if (!solid.get(index(x, y, width)) && solid.get(index(x, y + 1, width))) {
+                return new int[] {x, y};
+            }
+        }
+        return null;
+    }
+
+    // ==================== Noise ====================
+
+    /**
+     * Smoothly interpolated lattice noise in [0, 1]. Lattice values come from a
+     * hash, so nothing is stored and any cell can be evaluated independently.
+     */
+    private static double valueNoise(long seed, int x, int y, int scale) {
+        int cellX = Math.floorDiv(x, scale);
+        int cellY = Math.floorDiv(y, scale);
+        double fx = smooth((x - cellX * scale) / (double) scale);
+        double fy = smooth((y - cellY * scale) / (double) scale);
+
+        double v00 = chance(seed, cellX, cellY, 1);
+        double v10 = chance(seed, cellX + 1, cellY, 1);
+        double v01 = chance(seed, cellX, cellY + 1, 1);
+        double v11 = chance(seed, cellX + 1, cellY + 1, 1);
+
+        double top = v00 + (v10 - v00) * fx;
+        double bottom = v01 + (v11 - v01) * fx;
+        return top + (bottom - top) * fy;
+    }
+
+    private static double smooth(double t) {
+        return t * t * (3 - 2 * t);
+    }
+
+    /**
+     * Deterministic per-cell random value in [0, 1) (SplitMix64 finalizer).
+     */
+    private static double chance(long seed, int x, int y, int salt) {
+        long h = seed * 0x9E3779B97F4A7C15L + ((long) x << 32 ^ (y & 0xFFFFFFFFL)) + salt * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        h = h ^ (h >>> 31);
+        return (h >>> 11) * 0x1.0p-53;
+    }
+
+    // ==================== Command Line ====================
+
+    public static void main(String[] args) {
+        Config config = new Config();
+        if (args.length > 0) {
+            String[] dims = args[0].toLowerCase().split("x");
+            try {
+                config.size(Integer.parseInt(dims[0]),
+                        dims.length > 1 ? Integer.parseInt(dims[1]) : config.depthBlocks);
+            } catch (NumberFormatException e) {
+                System.err.println("StressLevelGenerator: Invalid size '" + args[0] + "', expected WIDTHxDEPTH");
+                return;
+            }
+        }
+        if (args.length > 1) {
+            try {
+                config.seed(Long.parseLong(args[1]));
+            } catch (NumberFormatException e) {
+                System.err.println("StressLevelGenerator: Invalid seed '" + args[1] + "'");
+                return;
+            }
+        }
+
+        // Scale the entity counts with world width (defaults are tuned for 10k blocks)
+        double scale = config.widthBlocks / 10000.0;
+        config.mobsPerType(Math.max(1, (int) Math.round(20 * scale)))
+              .lights(Math.max(1, (int) Math.round(500 * scale)))
+              .movingBlocks(Math.max(1, (int) Math.round(200 * scale)));
+
+        String output = args.length > 2 ? args[2] : DEFAULT_OUTPUT_DIR + "/stress_" +
+                config.widthBlocks + "x" + config.depthBlocks + "_seed" + config.seed + ".json";
+        generateToFile(config, output);
+    }
+}
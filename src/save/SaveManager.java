@@ -6,6 +6,9 @@ import entity.item.ItemRegistry;
 import java.io.*;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * SaveManager handles persistent game data storage using JSON.
@@ -15,6 +18,12 @@ import java.util.*;
  * - The vault stores up to 10,000 items persistently
  * - Items stack up to 16 duplicates before taking another slot
  * - Items are automatically transferred from player inventory to vault when leaving loot game
+ *
+ * Persistence:
+ * - save() only marks the data dirty; a background thread writes the file once
+ *   mutations have been quiet for SAVE_QUIET_PERIOD_MS (or after SAVE_MAX_DELAY_MS)
+ * - Pending changes are flushed at shutdown, or immediately via flush()
+ * - The file is written to a temp file and atomically moved over player_data.json
  */
 public class SaveManager {
 
@@ -26,6 +35,11 @@ public class SaveManager {
     // Save data
     private List<SavedItem> inventory;
     private List<SavedItem> vaultItems;  // Vault can hold up to 10,000 items
+
+    // Vault index - kept in sync by every vault mutator so nothing scans all slots
+    private final Map<String, LinkedHashSet<SavedItem>> vaultPartialStacks = new HashMap<>(); // itemId -> stacks below STACK_SIZE
+    private final Map<String, Integer> vaultItemTotals = new HashMap<>(); // itemId -> items across all slots
+    private int vaultTotalItems;
     private long dailyChestLastOpened;
     private long monthlyChestLastOpened;
     private int totalItemsCollected;
@@ -41,6 +55,24 @@ public class SaveManager {
     public static final int VAULT_MAX_SLOTS = 10000;
     public static final int STACK_SIZE = 16;  // Maximum stack size for duplicate items
 
+    // Write-behind persistence
+    private static final long SAVE_QUIET_PERIOD_MS = 500;  // Flush once mutations stop for this long
+    private static final long SAVE_MAX_DELAY_MS = 5000;    // ...but never hold changes longer than this
+
+    private final ScheduledExecutorService saveExecutor;
+    private final Object writeLock = new Object();  // Serializes file writes
+    private boolean dirty;
+    private boolean flushScheduled;
+    private long dirtySinceNanos;      // First unsaved mutation
+    private long lastMutationNanos;    // Most recent unsaved mutation
+
+    // Flush metrics
+    private volatile long lastFlushLatencyMs;  // First unsaved change -> on disk
+    private volatile long maxFlushLatencyMs;
+    private volatile long lastWriteDurationMs; // Time spent building and writing the file
+    private volatile int flushCount;
+    private volatile int coalescedSaveCount;   // save() calls merged into an already pending flush
+
     /**
      * Represents a saved item with its properties
      */
@@ -63,6 +95,15 @@ public class SaveManager {
         legendaryItemsFound = 0;
         mythicItemsFound = 0;
         developerMode = false;
+
+        saveExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "SaveManager-Writer");
+            t.setDaemon(true);
+            return t;
+        });
+
+        // Write anything still pending when the game exits
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "SaveManager-Shutdown"));
     }
 
     public static SaveManager getInstance() {
@@ -110,7 +151,7 @@ public class SaveManager {
     /**
      * Marks the daily chest as opened
      */
-    public void markDailyChestOpened() {
+    public synchronized void markDailyChestOpened() {
         dailyChestLastOpened = System.currentTimeMillis();
         save();
     }
@@ -118,7 +159,7 @@ public class SaveManager {
     /**
      * Marks the monthly chest as opened
      */
-    public void markMonthlyChestOpened() {
+    public synchronized void markMonthlyChestOpened() {
         monthlyChestLastOpened = System.currentTimeMillis();
         save();
     }
@@ -126,7 +167,7 @@ public class SaveManager {
     /**
      * Adds an item to the saved inventory
      */
-    public void addItem(String itemId, int count) {
+    public synchronized void addItem(String itemId, int count) {
         // Check if item already exists in inventory
         for (SavedItem saved : inventory) {
             if (saved.itemId.equals(itemId)) {
@@ -155,7 +196,7 @@ public class SaveManager {
     /**
      * Gets all saved items
      */
-    public List<SavedItem> getInventory() {
+    public synchronized List<SavedItem> getInventory() {
         return new ArrayList<>(inventory);
     }
 
@@ -169,30 +210,40 @@ public class SaveManager {
      * @param count Number of items to add
      * @return Number of items that couldn't be added (overflow)
      */
-    public int addItemToVault(String itemId, int count) {
+    public synchronized int addItemToVault(String itemId, int count) {
         if (itemId == null || itemId.isEmpty() || count <= 0) return count;
 
         int remaining = count;
 
-        // First, try to stack with existing items
-        for (SavedItem saved : vaultItems) {
-            if (saved.itemId.equals(itemId) && saved.stackCount < STACK_SIZE) {
-                int spaceAvailable = STACK_SIZE - saved.stackCount;
-                int toAdd = Math.min(spaceAvailable, remaining);
+        // First, try to stack with existing partial stacks of this item
+        LinkedHashSet<SavedItem> partials = vaultPartialStacks.get(itemId);
+        if (partials != null) {
+            Iterator<SavedItem> it = partials.iterator();
+            while (remaining > 0 && it.hasNext()) {
+                SavedItem saved = it.next();
+                int toAdd = Math.min(STACK_SIZE - saved.stackCount, remaining);
                 saved.stackCount += toAdd;
                 remaining -= toAdd;
-
-                if (remaining == 0) {
-                    save();
-                    return 0;
+                addToVaultTotals(itemId, toAdd);
+                if (saved.stackCount >= STACK_SIZE) {
+                    it.remove();
                 }
             }
+            if (partials.isEmpty()) {
+                vaultPartialStacks.remove(itemId);
+            }
+            if (remaining == 0) {
+                save();
+                return 0;
+            }
         }
 
         // Add new stacks for remaining items
         while (remaining > 0 && vaultItems.size() < VAULT_MAX_SLOTS) {
             int stackSize = Math.min(STACK_SIZE, remaining);
-            vaultItems.add(new SavedItem(itemId, stackSize));
+            SavedItem saved = new SavedItem(itemId, stackSize);
+            vaultItems.add(saved);
+            indexVaultSlot(saved);
             remaining -= stackSize;
             totalItemsCollected += stackSize;
 
@@ -218,60 +269,126 @@ public class SaveManager {
      * @param count Number of items to remove (or -1 for entire stack)
      * @return The removed SavedItem with the actual count removed, or null if invalid
      */
-    public SavedItem removeItemFromVault(int slotIndex, int count) {
+    public synchronized SavedItem removeItemFromVault(int slotIndex, int count) {
         if (slotIndex < 0 || slotIndex >= vaultItems.size()) return null;
 
         SavedItem item = vaultItems.get(slotIndex);
         if (count < 0 || count >= item.stackCount) {
             // Remove entire stack
             vaultItems.remove(slotIndex);
+            unindexVaultSlot(item);
             save();
             return item;
         } else {
             // Remove partial stack
             item.stackCount -= count;
+            addToVaultTotals(item.itemId, -count);
+            if (item.stackCount < STACK_SIZE) {
+                vaultPartialStacks.computeIfAbsent(item.itemId, k -> new LinkedHashSet<>()).add(item);
+            }
             save();
             return new SavedItem(item.itemId, count);
         }
     }
 
     /**
-     * Gets all vault items.
+     * Replaces the vault contents with the given slots, in the given order.
+     * Used to persist a sorted vault; item statistics are not affected.
+     *
+     * @param items Slots in display order (empty slots are skipped)
      */
-    public List<SavedItem> getVaultItems() {
+    public synchronized void setVaultOrder(List<SavedItem> items) {
+        vaultItems.clear();
+        for (SavedItem item : items) {
+            if (item.itemId == null || item.itemId.isEmpty() || item.stackCount <= 0) continue;
+            if (vaultItems.size() >= VAULT_MAX_SLOTS) break;
+            vaultItems.add(new SavedItem(item.itemId, item.stackCount));
+        }
+        rebuildVaultIndex();
+        save();
+    }
+
+    // ==================== Vault Index ====================
+
+    private void indexVaultSlot(SavedItem item) {
+        addToVaultTotals(item.itemId, item.stackCount);
+        if (item.stackCount < STACK_SIZE) {
+            vaultPartialStacks.computeIfAbsent(item.itemId, k -> new LinkedHashSet<>()).add(item);
+        }
+    }
+
+    private void unindexVaultSlot(SavedItem item) {
+        addToVaultTotals(item.itemId, -item.stackCount);
+        LinkedHashSet<SavedItem> partials = vaultPartialStacks.get(item.itemId);
+        if (partials != null && partials.remove(item) && partials.isEmpty()) {
+            vaultPartialStacks.remove(item.itemId);
+        }
+    }
+
+    private void addToVaultTotals(String itemId, int delta) {
+        vaultTotalItems += delta;
+        int total = vaultItemTotals.getOrDefault(itemId, 0) + delta;
+        if (total > 0) {
+            vaultItemTotals.put(itemId, total);
+        } else {
+            vaultItemTotals.remove(itemId);
+        }
+    }
+
+    /**
+     * Rebuilds the vault index from the slot list (after load, clear or reorder).
+     */
+    private void rebuildVaultIndex() {
+        vaultPartialStacks.clear();
+        vaultItemTotals.clear();
+        vaultTotalItems = 0;
+        for (SavedItem item : vaultItems) {
+            indexVaultSlot(item);
+        }
+    }
+
+    /**
+     * Gets all vault items in slot order.
+     * The list is a copy, but the items are shared with the vault index - do not modify them.
+     */
+    public synchronized List<SavedItem> getVaultItems() {
         return new ArrayList<>(vaultItems);
     }
 
     /**
      * Gets the number of used vault slots.
      */
-    public int getVaultSlotCount() {
+    public synchronized int getVaultSlotCount() {
         return vaultItems.size();
     }
 
     /**
      * Gets the total number of items in the vault (including stacks).
      */
-    public int getVaultTotalItems() {
-        int total = 0;
-        for (SavedItem item : vaultItems) {
-            total += item.stackCount;
-        }
-        return total;
+    public synchronized int getVaultTotalItems() {
+        return vaultTotalItems;
+    }
+
+    /**
+     * Gets how many of an item are stored in the vault across all slots.
+     */
+    public synchronized int getVaultItemTotal(String itemId) {
+        return vaultItemTotals.getOrDefault(itemId, 0);
     }
 
     /**
      * Checks if the vault has room for more items.
      */
-    public boolean isVaultFull() {
+    public synchronized boolean isVaultFull() {
         return vaultItems.size() >= VAULT_MAX_SLOTS;
     }
 
     /**
      * Clears all vault items (for testing/reset).
      */
-    public void clearVault() {
+    public synchronized void clearVault() {
         vaultItems.clear();
+        rebuildVaultIndex();
         save();
         System.out.println("SaveManager: Vault cleared");
     }
@@ -283,7 +400,7 @@ public class SaveManager {
      * @param items List of SavedItem to transfer
      * @return Number of items that couldn't be stored (overflow)
      */
-    public int transferToVault(List<SavedItem> items) {
+    public synchronized int transferToVault(List<SavedItem> items) {
         int overflow = 0;
         for (SavedItem item : items) {
             overflow += addItemToVault(item.itemId, item.stackCount);
@@ -324,7 +441,7 @@ public class SaveManager {
      * Sets developer mode.
      * When enabled, chest cooldowns are reset on each game launch.
      */
-    public void setDeveloperMode(boolean enabled) {
+    public synchronized void setDeveloperMode(boolean enabled) {
         this.developerMode = enabled;
         save();
         System.out.println("SaveManager: Developer mode " + (enabled ? "ENABLED" : "DISABLED"));
@@ -360,67 +477,183 @@ public class SaveManager {
     }
 
     /**
-     * Saves game data to JSON file
+     * Requests a save. Changes are coalesced and written by a background thread
+     * after a quiet period, so calling this after every mutation is cheap.
      */
-    public void save() {
-        try {
-            // Ensure save directory exists
-            File dir = new File(SAVE_DIR);
-            if (!dir.exists()) {
-                dir.mkdirs();
+    public synchronized void save() {
+        long now = System.nanoTime();
+        if (dirty) {
+            coalescedSaveCount++;
+        } else {
+            dirty = true;
+            dirtySinceNanos = now;
+        }
+        lastMutationNanos = now;
+
+        if (!flushScheduled) {
+            flushScheduled = true;
+            saveExecutor.schedule(this::flushWhenQuiet, SAVE_QUIET_PERIOD_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writer-thread tick: flush if mutations have settled (or waited too long),
+     * otherwise check again when the quiet period would end.
+     */
+    private void flushWhenQuiet() {
+        synchronized (this) {
+            if (!dirty) {
+                flushScheduled = false;
+                return;
+            }
+            long now = System.nanoTime();
+            long quietMs = (now - lastMutationNanos) / 1_000_000;
+            long dirtyMs = (now - dirtySinceNanos) / 1_000_000;
+            if (quietMs < SAVE_QUIET_PERIOD_MS && dirtyMs < SAVE_MAX_DELAY_MS) {
+                long delay = Math.min(SAVE_QUIET_PERIOD_MS - quietMs, SAVE_MAX_DELAY_MS - dirtyMs);
+                saveExecutor.schedule(this::flushWhenQuiet, delay, TimeUnit.MILLISECONDS);
+                return;
             }
+            flushScheduled = false;
+        }
+        flush();
+    }
 
-            StringBuilder json = new StringBuilder();
-            json.append("{\n");
-            json.append("  \"developerMode\": ").append(developerMode).append(",\n");
-            json.append("  \"dailyChestLastOpened\": ").append(dailyChestLastOpened).append(",\n");
-            json.append("  \"monthlyChestLastOpened\": ").append(monthlyChestLastOpened).append(",\n");
-            json.append("  \"totalItemsCollected\": ").append(totalItemsCollected).append(",\n");
-            json.append("  \"legendaryItemsFound\": ").append(legendaryItemsFound).append(",\n");
-            json.append("  \"mythicItemsFound\": ").append(mythicItemsFound).append(",\n");
-            json.append("  \"inventory\": [\n");
-
-            for (int i = 0; i < inventory.size(); i++) {
-                SavedItem item = inventory.get(i);
-                json.append("    {\"itemId\": \"").append(escapeJson(item.itemId))
-                    .append("\", \"stackCount\": ").append(item.stackCount).append("}");
-                if (i < inventory.size() - 1) {
-                    json.append(",");
+    /**
+     * Writes pending changes to disk immediately. Safe to call from any thread;
+     * does nothing if there is nothing unsaved.
+     */
+    public void flush() {
+        synchronized (writeLock) {
+            long start = System.nanoTime();
+            String json;
+            long dirtySince;
+            int slots;
+            synchronized (this) {
+                if (!dirty) return;
+                json = buildJson();
+                dirtySince = dirtySinceNanos;
+                slots = vaultItems.size();
+                dirty = false;
+            }
+
+            try {
+                writeAtomically(json);
+            } catch (IOException e) {
+                System.err.println("SaveManager: Error saving game data: " + e.getMessage());
+                e.printStackTrace();
+                // Keep the data dirty so the next save() or shutdown retries
+                synchronized (this) {
+                    if (!dirty) {
+                        dirty = true;
+                        dirtySinceNanos = dirtySince;
+                        lastMutationNanos = System.nanoTime();
+                    }
                 }
-                json.append("\n");
+                return;
+            }
+
+            long end = System.nanoTime();
+            lastWriteDurationMs = (end - start) / 1_000_000;
+            lastFlushLatencyMs = (end - dirtySince) / 1_000_000;
+            maxFlushLatencyMs = Math.max(maxFlushLatencyMs, lastFlushLatencyMs);
+            flushCount++;
+            System.out.println("SaveManager: Game data saved successfully (vault: " + slots +
+                    " slots, latency " + lastFlushLatencyMs + "ms, write " + lastWriteDurationMs + "ms)");
+        }
+    }
+
+    /**
+     * Builds the save file contents. Caller must hold this object's lock.
+     */
+    private String buildJson() {
+        StringBuilder json = new StringBuilder(256 + (inventory.size() + vaultItems.size()) * 48);
+        json.append("{\n");
+        json.append("  \"developerMode\": ").append(developerMode).append(",\n");
+        json.append("  \"dailyChestLastOpened\": ").append(dailyChestLastOpened).append(",\n");
+        json.append("  \"monthlyChestLastOpened\": ").append(monthlyChestLastOpened).append(",\n");
+        json.append("  \"totalItemsCollected\": ").append(totalItemsCollected).append(",\n");
+        json.append("  \"legendaryItemsFound\": ").append(legendaryItemsFound).append(",\n");
+        json.append("  \"mythicItemsFound\": ").append(mythicItemsFound).append(",\n");
+        json.append("  \"inventory\": [\n");
+
+        for (int i = 0; i < inventory.size(); i++) {
+            SavedItem item = inventory.get(i);
+            json.append("    {\"itemId\": \"").append(escapeJson(item.itemId))
+                .append("\", \"stackCount\": ").append(item.stackCount).append("}");
+            if (i < inventory.size() - 1) {
+                json.append(",");
             }
+            json.append("\n");
+        }
 
-            json.append("  ],\n");
+        json.append("  ],\n");
 
-            // Save vault items
-            json.append("  \"vaultItems\": [\n");
+        // Save vault items
+        json.append("  \"vaultItems\": [\n");
 
-            for (int i = 0; i < vaultItems.size(); i++) {
-                SavedItem item = vaultItems.get(i);
-                json.append("    {\"itemId\": \"").append(escapeJson(item.itemId))
-                    .append("\", \"stackCount\": ").append(item.stackCount).append("}");
-                if (i < vaultItems.size() - 1) {
-                    json.append(",");
-                }
-                json.append("\n");
+        for (int i = 0; i < vaultItems.size(); i++) {
+            SavedItem item = vaultItems.get(i);
+            json.append("    {\"itemId\": \"").append(escapeJson(item.itemId))
+                .append("\", \"stackCount\": ").append(item.stackCount).append("}");
+            if (i < vaultItems.size() - 1) {
+                json.append(",");
             }
+            json.append("\n");
+        }
 
-            json.append("  ]\n");
-            json.append("}\n");
+        json.append("  ]\n");
+        json.append("}\n");
+        return json.toString();
+    }
 
-            Files.write(Paths.get(SAVE_DIR, SAVE_FILE), json.toString().getBytes());
-            System.out.println("SaveManager: Game data saved successfully (vault: " + vaultItems.size() + " slots)");
+    /**
+     * Writes the save file via a temp file and atomic rename, so a crash mid-write
+     * leaves the previous save intact.
+     */
+    private void writeAtomically(String json) throws IOException {
+        File dir = new File(SAVE_DIR);
+        if (!dir.exists()) {
+            dir.mkdirs();
+        }
 
-        } catch (IOException e) {
-            System.err.println("SaveManager: Error saving game data: " + e.getMessage());
-            e.printStackTrace();
+        Path target = Paths.get(SAVE_DIR, SAVE_FILE);
+        Path temp = Paths.get(SAVE_DIR, SAVE_FILE + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(temp.toFile())) {
+            out.write(json.getBytes());
+            out.getFD().sync();
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
         }
     }
 
+    // ==================== Save Metrics ====================
+
+    /** Time from the first unsaved change to it being on disk, for the most recent flush. */
+    public long getLastFlushLatencyMs() { return lastFlushLatencyMs; }
+
+    /** Worst flush latency this session. */
+    public long getMaxFlushLatencyMs() { return maxFlushLatencyMs; }
+
+    /** Time the most recent flush spent building and writing the file. */
+    public long getLastWriteDurationMs() { return lastWriteDurationMs; }
+
+    /** Number of file writes this session. */
+    public int getFlushCount() { return flushCount; }
+
+    /** Number of save() calls that were merged into an already pending write. */
+    public int getCoalescedSaveCount() { return coalescedSaveCount; }
+
+    /** True if there are changes that have not been written yet. */
+    public synchronized boolean hasUnsavedChanges() { return dirty; }
+
     /**
      * Loads game data from JSON file
      */
-    public void load() {
+    public synchronized void load() {
         try {
             Path path = Paths.get(SAVE_DIR, SAVE_FILE);
             if (!Files.exists(path)) {
@@ -487,6 +720,7 @@ public class SaveManager {
             }
         }
 
+        rebuildVaultIndex();
         System.out.println("SaveManager: Loaded " + inventory.size() + " inventory items, " + vaultItems.size() + " vault items");
     }
 
@@ -619,7 +853,7 @@ public class SaveManager {
     /**
      * Resets all save data (for testing)
      */
-    public void resetAllData() {
+    public synchronized void resetAllData() {
         inventory.clear();
         dailyChestLastOpened = 0;
         monthlyChestLastOpened = 0;
@@ -633,7 +867,7 @@ public class SaveManager {
     /**
      * Resets chest cooldowns only (not inventory or stats)
      */
-    public void resetChestCooldowns() {
+    public synchronized void resetChestCooldowns() {
         dailyChestLastOpened = 0;
         monthlyChestLastOpened = 0;
         save();
@@ -647,7 +881,7 @@ public class SaveManager {
      *
      * @return Number of items transferred
      */
-    public int transferInventoryToVault() {
+    public synchronized int transferInventoryToVault() {
         if (inventory.isEmpty()) {
             return 0;
         }
@@ -677,7 +911,7 @@ public class SaveManager {
     /**
      * Checks if there are items in the saved inventory that haven't been transferred to vault.
      */
-    public boolean hasInventoryItems() {
+    public synchronized boolean hasInventoryItems() {
         return !inventory.isEmpty();
     }
 }
@@ -8,10 +8,12 @@ import block.*;
 import graphics.*;
 import level.*;
 import input.*;
+import scene.creative.CreativeEditJournal;
 import scene.creative.CreativePaletteManager;
 import scene.creative.CreativePaletteManager.PaletteCategory;
 import scene.creative.CreativePaletteManager.ItemSortMode;
 import scene.creative.CreativePaletteManager.PaletteItem;
+import scene.creative.SpatialGrid;
 
 import javax.swing.*;
 import java.awt.*;
@@ -30,6 +32,8 @@ import java.util.List;
  * - Free placement for items and mobs
  * - Play/Edit mode toggle for testing
  * - Save levels to JSON files
+ * - Journaled autosave with crash recovery (see CreativeEditJournal)
+ * - Grid-hash spatial index with rectangle select, flood fill, copy/paste and undo/redo
  * - Level properties configuration
  *
  * Controls (Edit Mode):
@@ -38,6 +42,11 @@ import java.util.List;
  * - WASD/Arrow keys: Pan camera
  * - P: Toggle play mode
  * - Ctrl+S: Save level
+ * - Shift+drag: Rectangle select
+ * - Ctrl+C / Ctrl+X / Ctrl+V: Copy / cut / paste selection at cursor
+ * - Delete: Delete selection
+ * - F: Flood fill with selected block
+ * - Ctrl+Z / Ctrl+Y: Undo / redo
  * - Tab: Cycle palette categories
  * - W: Configure door (near door)
  * - E: Configure button (near button)
@@ -135,6 +144,27 @@ public class CreativeScene implements Scene {
     // Parallax layers currently in use
     private List<ParallaxLayerEntry> parallaxLayers;
 
+    // Append-only edit journal (background autosave + crash recovery)
+    private CreativeEditJournal editJournal;
+    private boolean replayingJournal = false;
+
+    // Grid-hash index over every placed entity (O(1) lookup by cell)
+    private SpatialGrid<PlacedEntity> spatialIndex;
+
+    // Undo/redo history of place/remove/overlay batches
+    private static final int MAX_UNDO_STEPS = 50;
+    private Deque<EditBatch> undoStack;
+    private Deque<EditBatch> redoStack;
+    private EditBatch openBatch = null;
+
+    // Rectangle selection and clipboard
+    private static final int MAX_FLOOD_FILL_CELLS = 100000;
+    private boolean isSelecting = false;
+    private int selectionStartX, selectionStartY;
+    private Rectangle selectionRect = null;
+    private List<PlacedEntity> selectedEntities;
+    private List<ClipboardEntry> clipboard;
+
     /**
      * Represents an entity placed in the level
      */
@@ -156,8 +186,14 @@ public class CreativeScene implements Scene {
         }
 
         Rectangle getBounds() {
-            int size = type.equals("block") ? GRID_SIZE : 32;
-            return new Rectangle(x, y, size, size);
+            switch (type) {
+                case "door": return new Rectangle(x, y, 64, 128);
+                case "button": return new Rectangle(x, y, 32, 16);
+                case "vault": return new Rectangle(x, y, 64, 64);
+                default:
+                    int size = type.equals("block") ? GRID_SIZE : 32;
+                    return new Rectangle(x, y, size, size);
+            }
         }
 
         boolean hasOverlay() {
@@ -165,6 +201,69 @@ public class CreativeScene implements Scene {
         }
     }
 
+    /**
+     * A group of edits that is undone/redone as one step (a paint stroke, a paste, a fill...)
+     */
+    private static class EditBatch {
+        final String label;
+        final List<PlacedEntity> added = new ArrayList<>();
+        final List<PlacedEntity> removed = new ArrayList<>();
+        final List<OverlayChange> overlayChanges = new ArrayList<>();
+
+        EditBatch(String label) {
+            this.label = label;
+        }
+
+        boolean isEmpty() {
+            return added.isEmpty() && removed.isEmpty() && overlayChanges.isEmpty();
+        }
+    }
+
+    /**
+     * Overlay change on an existing block, for undo/redo
+     */
+    private static class OverlayChange {
+        final PlacedEntity entity;
+        final String before;
+        final String after;
+
+        OverlayChange(PlacedEntity entity, String before, String after) {
+            this.entity = entity;
+            this.before = before;
+            this.after = after;
+        }
+    }
+
+    /**
+     * A copied entity, stored relative to the copied region's top-left cell
+     */
+    private static class ClipboardEntry {
+        final String type;
+        final int offsetX, offsetY;
+        final Object data;
+        final BufferedImage icon;
+        final String overlay;
+
+        ClipboardEntry(PlacedEntity source, int originX, int originY) {
+            this.type = source.type;
+            this.offsetX = source.x - originX;
+            this.offsetY = source.y - originY;
+            this.data = copyEntityData(source.data);
+            this.icon = source.icon;
+            this.overlay = source.overlay;
+        }
+    }
+
+    /**
+     * Copy type-specific entity data so copies don't share mutable maps
+     */
+    private static Object copyEntityData(Object data) {
+        if (data instanceof Map) {
+            return new HashMap<>((Map<?, ?>) data);
+        }
+        return data;
+    }
+
     /**
      * Represents a parallax layer in the level with editable placement properties
      */
@@ -226,6 +325,11 @@ public class CreativeScene implements Scene {
         placedVaults = new ArrayList<>();
         placedMovingBlocks = new ArrayList<>();
         parallaxLayers = new ArrayList<>();
+        spatialIndex = new SpatialGrid<>(GRID_SIZE);
+        undoStack = new ArrayDeque<>();
+        redoStack = new ArrayDeque<>();
+        selectedEntities = new ArrayList<>();
+        clipboard = new ArrayList<>();
 
         // Initialize palette manager (handles all palette-related functionality)
         paletteManager = new CreativePaletteManager();
@@ -253,6 +357,9 @@ public class CreativeScene implements Scene {
         camera.setLevelBounds(levelData.levelWidth, levelData.levelHeight);
         camera.setSmoothSpeed(1.0); // Instant response for editing
 
+        // Start journaling edits against the autosave level until the level is saved or loaded
+        editJournal = new CreativeEditJournal(null, 0);
+
         initialized = true;
 
         // Show startup dialog to choose New Level or Load Level
@@ -394,7 +501,11 @@ public class CreativeScene implements Scene {
 
         // Escape to return to menu (show confirmation dialog)
         if (input.isKeyJustPressed(KeyEvent.VK_ESCAPE)) {
-            if (modalState == ModalState.NONE) {
+            if (modalState == ModalState.NONE && selectionRect != null) {
+                // Escape clears an active selection before offering to exit
+                clearSelection();
+                setStatus("Selection cleared");
+            } else if (modalState == ModalState.NONE) {
                 modalState = ModalState.CONFIRM_EXIT;
             } else {
                 // Escape closes any open modal
@@ -413,19 +524,37 @@ public class CreativeScene implements Scene {
         worldMouseX = (int) (cameraX + mouseX / zoomLevel);
         worldMouseY = (int) (cameraY + mouseY / zoomLevel);
 
+        // Bulk edit shortcuts (selection, clipboard, fill, undo/redo)
+        handleEditShortcuts(input);
+
         // Right-click to delete entity at cursor
         if (input.isRightMouseJustPressed() && mouseX >= CreativePaletteManager.PALETTE_WIDTH) {
+            beginBatch("Remove");
             removeEntityAt(worldMouseX, worldMouseY);
+            endBatch();
+        }
+
+        // Shift+drag to rectangle-select instead of placing
+        if (isSelecting) {
+            updateSelectionDrag(input.isLeftMousePressed());
+        } else if (input.isKeyPressed(KeyEvent.VK_SHIFT) && input.isLeftMouseJustPressed() &&
+                   mouseX >= CreativePaletteManager.PALETTE_WIDTH) {
+            isSelecting = true;
+            selectionStartX = worldMouseX;
+            selectionStartY = worldMouseY;
+            updateSelectionDrag(true);
         }
 
         // Left-click to place - supports painting for blocks and overlays
-        if (mouseX >= CreativePaletteManager.PALETTE_WIDTH) {
+        if (!isSelecting && mouseX >= CreativePaletteManager.PALETTE_WIDTH) {
             PaletteCategory category = paletteManager.getCurrentCategory();
             boolean isPaintableCategory = (category == PaletteCategory.BLOCKS ||
                                            category == PaletteCategory.OVERLAYS);
 
             if (input.isLeftMouseJustPressed()) {
                 // Initial click - place entity and reset paint tracking
+                // (the whole paint stroke is one undo step)
+                beginBatch("Place");
                 placeEntity();
                 lastPaintGridX = worldMouseX / GRID_SIZE;
                 lastPaintGridY = worldMouseY / GRID_SIZE;
@@ -445,10 +574,16 @@ public class CreativeScene implements Scene {
         if (!input.isLeftMousePressed()) {
             lastPaintGridX = -1;
             lastPaintGridY = -1;
+            endBatch();
         }
 
         // Update hovered entity
         updateHoveredEntity();
+
+        // Periodically fold the journal back into the level file
+        if (editJournal != null && editJournal.shouldCompact()) {
+            compactJournal();
+        }
     }
 
     /**
@@ -457,16 +592,21 @@ public class CreativeScene implements Scene {
     private void handleModalInput(InputManager input) {
         switch (modalState) {
             case STARTUP:
-                // N = New Level, L = Load Level, Escape = Use defaults and start
+                // N = New Level, L = Load Level, R = Recover, Escape = Use defaults and start
                 if (input.isKeyJustPressed(KeyEvent.VK_N)) {
                     modalState = ModalState.NONE;
+                    CreativeEditJournal.clearAutosave();
                     showNewLevelDialog();
                 } else if (input.isKeyJustPressed(KeyEvent.VK_L)) {
                     modalState = ModalState.NONE;
                     openLoadDialog();
+                } else if (input.isKeyJustPressed(KeyEvent.VK_R) && CreativeEditJournal.hasRecoverableAutosave()) {
+                    modalState = ModalState.NONE;
+                    recoverAutosave();
                 } else if (input.isKeyJustPressed(KeyEvent.VK_ESCAPE)) {
                     // Start with default level settings
                     modalState = ModalState.NONE;
+                    CreativeEditJournal.clearAutosave();
                     setStatus("Using default level (60x17 blocks) - Press N for New Level or L to Load");
                 }
                 break;
@@ -481,6 +621,9 @@ public class CreativeScene implements Scene {
                     modalInputText = "";
                 } else if (input.isKeyJustPressed(KeyEvent.VK_N)) {
                     modalState = ModalState.NONE;
+                    if (editJournal != null) {
+                        editJournal.discard();
+                    }
                     SceneManager.getInstance().setScene("mainMenu", SceneManager.TRANSITION_FADE);
                 }
                 // Escape already handled above, closes the modal
@@ -569,6 +712,8 @@ public class CreativeScene implements Scene {
                         Map<String, Object> doorData = (Map<String, Object>) entityBeingConfigured.data;
                         doorData.put("actionType", "level_transition");
                         doorData.put("actionTarget", levelPath);
+                        recordConfigure(entityBeingConfigured, "actionType", "level_transition",
+                            "actionTarget", levelPath);
                         setStatus("Door configured to load: " + levelPath);
                     }
                     modalState = ModalState.NONE;
@@ -593,6 +738,8 @@ public class CreativeScene implements Scene {
                         Map<String, Object> buttonData = (Map<String, Object>) entityBeingConfigured.data;
                         buttonData.put("actionType", "spawn_entity");
                         buttonData.put("actionTarget", actionTarget);
+                        recordConfigure(entityBeingConfigured, "actionType", "spawn_entity",
+                            "actionTarget", actionTarget);
                         setStatus("Button configured to spawn: " + actionTarget);
                     }
                     modalState = ModalState.NONE;
@@ -727,63 +874,8 @@ public class CreativeScene implements Scene {
         // Don't check if over palette
         if (mouseX < CreativePaletteManager.PALETTE_WIDTH) return;
 
-        // Check blocks
-        for (PlacedEntity entity : placedBlocks) {
-            if (entity.getBounds().contains(worldMouseX, worldMouseY)) {
-                hoveredEntity = entity;
-                return;
-            }
-        }
-
-        // Check moving blocks
-        for (PlacedEntity entity : placedMovingBlocks) {
-            if (entity.getBounds().contains(worldMouseX, worldMouseY)) {
-                hoveredEntity = entity;
-                return;
-            }
-        }
-
-        // Check items
-        for (PlacedEntity entity : placedItems) {
-            if (entity.getBounds().contains(worldMouseX, worldMouseY)) {
-                hoveredEntity = entity;
-                return;
-            }
-        }
-
-        // Check mobs
-        for (PlacedEntity entity : placedMobs) {
-            if (entity.getBounds().contains(worldMouseX, worldMouseY)) {
-                hoveredEntity = entity;
-                return;
-            }
-        }
-
-        // Check lights
-        for (PlacedEntity entity : placedLights) {
-            if (entity.getBounds().contains(worldMouseX, worldMouseY)) {
-                hoveredEntity = entity;
-                return;
-            }
-        }
-
-        // Check doors
-        for (PlacedEntity entity : placedDoors) {
-            Rectangle bounds = new Rectangle(entity.x, entity.y, 64, 128);
-            if (bounds.contains(worldMouseX, worldMouseY)) {
-                hoveredEntity = entity;
-                return;
-            }
-        }
-
-        // Check buttons
-        for (PlacedEntity entity : placedButtons) {
-            Rectangle bounds = new Rectangle(entity.x, entity.y, 32, 16);
-            if (bounds.contains(worldMouseX, worldMouseY)) {
-                hoveredEntity = entity;
-                return;
-            }
-        }
+        // Single cell lookup in the spatial index (vaults are not hover-highlighted)
+        hoveredEntity = findEntityAt(worldMouseX, worldMouseY, false);
     }
 
     @Override
@@ -828,6 +920,9 @@ public class CreativeScene implements Scene {
         // Draw placed entities (with zoom applied)
         drawPlacedEntitiesZoomed(g2);
 
+        // Draw rectangle selection (with zoom applied)
+        drawSelectionZoomed(g2);
+
         // Draw cursor preview (with zoom applied)
         drawCursorPreviewZoomed(g2);
 
@@ -918,6 +1013,13 @@ public class CreativeScene implements Scene {
                 g.setFont(new Font("Arial", Font.PLAIN, 12));
                 g.setColor(new Color(120, 120, 140));
                 g.drawString("[Esc] Skip - use default settings (60x17 blocks)", dialogX + 100, dialogY + 175);
+
+                // Crash recovery option
+                if (CreativeEditJournal.hasRecoverableAutosave()) {
+                    g.setFont(new Font("Arial", Font.BOLD, 12));
+                    g.setColor(new Color(255, 200, 100));
+                    g.drawString("[R] Recover unsaved session", dialogX + 100, dialogY + 192);
+                }
                 break;
 
             case CONFIRM_EXIT:
@@ -1257,6 +1359,52 @@ public class CreativeScene implements Scene {
         g.setStroke(new BasicStroke(1));
     }
 
+    /**
+     * Draw a single placed block (graphics already scaled by zoomLevel)
+     */
+    private void drawPlacedBlockZoomed(Graphics2D g, PlacedEntity entity) {
+        int drawX = entity.x - (int) cameraX;
+        int drawY = entity.y - (int) cameraY;
+
+        if (entity.icon != null) {
+            g.drawImage(entity.icon, drawX, drawY, GRID_SIZE, GRID_SIZE, null);
+        }
+
+        // Draw overlay texture if present
+        if (entity.hasOverlay()) {
+            BlockOverlay overlay = BlockOverlay.fromName(entity.overlay);
+            if (overlay != BlockOverlay.NONE) {
+                BufferedImage overlayTexture = BlockRegistry.getInstance().getOverlayTexture(overlay);
+                if (overlayTexture != null) {
+                    g.drawImage(overlayTexture, drawX, drawY, GRID_SIZE, GRID_SIZE, null);
+                }
+            }
+        }
+
+        // Highlight if hovered
+        if (entity == hoveredEntity) {
+            g.setColor(new Color(255, 255, 0, 100));
+            g.fillRect(drawX, drawY, GRID_SIZE, GRID_SIZE);
+        }
+    }
+
+    /**
+     * Draw the rectangle selection outline (graphics already scaled by zoomLevel)
+     */
+    private void drawSelectionZoomed(Graphics2D g) {
+        if (selectionRect == null) return;
+
+        int drawX = selectionRect.x - (int) cameraX;
+        int drawY = selectionRect.y - (int) cameraY;
+        g.setColor(new Color(80, 160, 255, 40));
+        g.fillRect(drawX, drawY, selectionRect.width, selectionRect.height);
+        g.setColor(new Color(80, 160, 255, 200));
+        g.setStroke(new BasicStroke((float) (2 / zoomLevel), BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER,
+            10, new float[]{(float) (6 / zoomLevel), (float) (4 / zoomLevel)}, 0));
+        g.drawRect(drawX, drawY, selectionRect.width, selectionRect.height);
+        g.setStroke(new BasicStroke(1));
+    }
+
     /**
      * Draw all placed entities with zoom applied.
      * Graphics is already scaled by zoomLevel.
@@ -1266,34 +1414,28 @@ public class CreativeScene implements Scene {
         double visibleWidth = GamePanel.SCREEN_WIDTH / zoomLevel;
         double visibleHeight = GamePanel.SCREEN_HEIGHT / zoomLevel;
 
-        // Draw blocks
-        for (PlacedEntity entity : placedBlocks) {
-            int drawX = entity.x - (int) cameraX;
-            int drawY = entity.y - (int) cameraY;
-
-            // Check if visible (approximate bounds check in world space)
-            if (entity.x + GRID_SIZE > cameraX && entity.x < cameraX + visibleWidth &&
-                entity.y + GRID_SIZE > cameraY && entity.y < cameraY + visibleHeight) {
-
-                if (entity.icon != null) {
-                    g.drawImage(entity.icon, drawX, drawY, GRID_SIZE, GRID_SIZE, null);
-                }
-
-                // Draw overlay texture if present
-                if (entity.hasOverlay()) {
-                    BlockOverlay overlay = BlockOverlay.fromName(entity.overlay);
-                    if (overlay != BlockOverlay.NONE) {
-                        BufferedImage overlayTexture = BlockRegistry.getInstance().getOverlayTexture(overlay);
-                        if (overlayTexture != null) {
-                            g.drawImage(overlayTexture, drawX, drawY, GRID_SIZE, GRID_SIZE, null);
-                        }
+        // Draw blocks - walk the visible index cells when that is cheaper than the whole list
+        int firstCellX = Math.floorDiv((int) cameraX, GRID_SIZE);
+        int firstCellY = Math.floorDiv((int) cameraY, GRID_SIZE);
+        int lastCellX = Math.floorDiv((int) (cameraX + visibleWidth), GRID_SIZE);
+        int lastCellY = Math.floorDiv((int) (cameraY + visibleHeight), GRID_SIZE);
+        long visibleCells = (long) (lastCellX - firstCellX + 1) * (lastCellY - firstCellY + 1);
+
+        if (visibleCells < placedBlocks.size()) {
+            for (int cy = firstCellY; cy <= lastCellY; cy++) {
+                for (int cx = firstCellX; cx <= lastCellX; cx++) {
+                    PlacedEntity entity = findBlockAtCell(cx, cy);
+                    if (entity != null) {
+                        drawPlacedBlockZoomed(g, entity);
                     }
                 }
-
-                // Highlight if hovered
-                if (entity == hoveredEntity) {
-                    g.setColor(new Color(255, 255, 0, 100));
-                    g.fillRect(drawX, drawY, GRID_SIZE, GRID_SIZE);
+            }
+        } else {
+            for (PlacedEntity entity : placedBlocks) {
+                // Check if visible (approximate bounds check in world space)
+                if (entity.x + GRID_SIZE > cameraX && entity.x < cameraX + visibleWidth &&
+                    entity.y + GRID_SIZE > cameraY && entity.y < cameraY + visibleHeight) {
+                    drawPlacedBlockZoomed(g, entity);
                 }
             }
         }
@@ -2056,7 +2198,7 @@ public class CreativeScene implements Scene {
         // Controls help
         g.setColor(Color.WHITE);
         g.setFont(new Font("Arial", Font.PLAIN, 11));
-        g.drawString("WASD: Pan | LClick: Place | RClick: Delete | Tab: Category | G: Grid | P: Play | Ctrl+S: Save | L: Load | Esc: Menu",
+        g.drawString("WASD: Pan | LClick: Place | RClick: Delete | Shift+Drag: Select | Ctrl+C/X/V: Copy/Cut/Paste | F: Fill | Ctrl+Z/Y: Undo/Redo | Tab: Category | G: Grid | P: Play | Ctrl+S: Save | L: Load | Esc: Menu",
             CreativePaletteManager.PALETTE_WIDTH + 10, 25);
     }
 
@@ -2253,10 +2395,8 @@ public class CreativeScene implements Scene {
                 placeY = (worldMouseY / GRID_SIZE) * GRID_SIZE;
 
                 // Check if block already exists at this position
-                for (PlacedEntity entity : placedBlocks) {
-                    if (entity.x == placeX && entity.y == placeY) {
-                        return; // Block already exists
-                    }
+                if (findPlacedEntity("block", placeX, placeY) != null) {
+                    return; // Block already exists
                 }
 
                 BlockType blockType = (BlockType) selected.data;
@@ -2264,7 +2404,7 @@ public class CreativeScene implements Scene {
                 PlacedEntity block = new PlacedEntity(placeX, placeY, "block", blockType, blockIcon);
                 block.gridX = placeX / GRID_SIZE;
                 block.gridY = placeY / GRID_SIZE;
-                placedBlocks.add(block);
+                addPlacedEntity(block);
                 break;
 
             case MOVING_BLOCKS:
@@ -2273,10 +2413,8 @@ public class CreativeScene implements Scene {
                 placeY = (worldMouseY / GRID_SIZE) * GRID_SIZE;
 
                 // Check if moving block already exists at this position
-                for (PlacedEntity entity : placedMovingBlocks) {
-                    if (entity.x == placeX && entity.y == placeY) {
-                        return; // Block already exists
-                    }
+                if (findPlacedEntity("moving_block", placeX, placeY) != null) {
+                    return; // Block already exists
                 }
 
                 @SuppressWarnings("unchecked")
@@ -2301,7 +2439,7 @@ public class CreativeScene implements Scene {
                 PlacedEntity movingBlock = new PlacedEntity(placeX, placeY, "moving_block", movingData, selected.icon);
                 movingBlock.gridX = gridX;
                 movingBlock.gridY = gridY;
-                placedMovingBlocks.add(movingBlock);
+                addPlacedEntity(movingBlock);
                 setStatus("Placed moving block (" + pattern + ") - Right-click to remove");
                 break;
 
@@ -2313,31 +2451,20 @@ public class CreativeScene implements Scene {
                 BlockOverlay overlayType = (BlockOverlay) selected.data;
 
                 // Find block at this position and apply overlay
-                boolean appliedToBlock = false;
-                for (PlacedEntity entity : placedBlocks) {
-                    if (entity.x == placeX && entity.y == placeY) {
-                        entity.overlay = overlayType.name();
-                        appliedToBlock = true;
-                        setStatus("Applied " + overlayType.getDisplayName() + " overlay to block");
-                        break;
-                    }
-                }
-
-                // Also check moving blocks
-                if (!appliedToBlock) {
-                    for (PlacedEntity entity : placedMovingBlocks) {
-                        if (entity.x == placeX && entity.y == placeY) {
-                            entity.overlay = overlayType.name();
-                            appliedToBlock = true;
-                            setStatus("Applied " + overlayType.getDisplayName() + " overlay to moving block");
-                            break;
-                        }
+                PlacedEntity overlayTarget = findPlacedEntity("block", placeX, placeY);
+                if (overlayTarget != null) {
+                    setEntityOverlay(overlayTarget, overlayType.name());
+                    setStatus("Applied " + overlayType.getDisplayName() + " overlay to block");
+                } else {
+                    // Also check moving blocks
+                    overlayTarget = findPlacedEntity("moving_block", placeX, placeY);
+                    if (overlayTarget != null) {
+                        setEntityOverlay(overlayTarget, overlayType.name());
+                        setStatus("Applied " + overlayType.getDisplayName() + " overlay to moving block");
+                    } else {
+                        setStatus("No block at this position - place a block first");
                     }
                 }
-
-                if (!appliedToBlock) {
-                    setStatus("No block at this position - place a block first");
-                }
                 break;
 
             case ITEMS:
@@ -2345,7 +2472,7 @@ public class CreativeScene implements Scene {
                 placeY = worldMouseY - 16;
                 String itemId = (String) selected.data;
                 PlacedEntity item = new PlacedEntity(placeX, placeY, "item", itemId, selected.icon);
-                placedItems.add(item);
+                addPlacedEntity(item);
                 setStatus("Placed item: " + selected.displayName);
                 break;
 
@@ -2355,7 +2482,7 @@ public class CreativeScene implements Scene {
                 @SuppressWarnings("unchecked")
                 Map<String, String> mobData = (Map<String, String>) selected.data;
                 PlacedEntity mob = new PlacedEntity(placeX, placeY, "mob", new HashMap<>(mobData), selected.icon);
-                placedMobs.add(mob);
+                addPlacedEntity(mob);
                 setStatus("Placed mob: " + selected.displayName);
                 break;
 
@@ -2364,7 +2491,7 @@ public class CreativeScene implements Scene {
                 placeY = worldMouseY - 16;
                 String lightType = (String) selected.data;
                 PlacedEntity light = new PlacedEntity(placeX, placeY, "light", lightType, selected.icon);
-                placedLights.add(light);
+                addPlacedEntity(light);
                 setStatus("Placed light: " + selected.displayName);
                 break;
 
@@ -2381,7 +2508,7 @@ public class CreativeScene implements Scene {
                     Map<String, Object> doorData = new HashMap<>(interactiveData);
                     doorData.put("linkId", "door_" + System.currentTimeMillis());
                     PlacedEntity door = new PlacedEntity(placeX, placeY, "door", doorData, selected.icon);
-                    placedDoors.add(door);
+                    addPlacedEntity(door);
                     setStatus("Placed door - Press W near it to configure level transition");
                 } else if ("button".equals(interactiveType)) {
                     // Place button
@@ -2391,7 +2518,7 @@ public class CreativeScene implements Scene {
                     Map<String, Object> buttonData = new HashMap<>(interactiveData);
                     buttonData.put("linkId", "button_" + System.currentTimeMillis());
                     PlacedEntity button = new PlacedEntity(placeX, placeY, "button", buttonData, selected.icon);
-                    placedButtons.add(button);
+                    addPlacedEntity(button);
                     setStatus("Placed button - Press E near it to configure action");
                 } else if ("vault".equals(interactiveType)) {
                     // Place vault/chest
@@ -2401,12 +2528,13 @@ public class CreativeScene implements Scene {
                     Map<String, Object> vaultData = new HashMap<>(interactiveData);
                     vaultData.put("linkId", "vault_" + System.currentTimeMillis());
                     PlacedEntity vault = new PlacedEntity(placeX, placeY, "vault", vaultData, selected.icon);
-                    placedVaults.add(vault);
+                    addPlacedEntity(vault);
                     setStatus("Placed vault - Player can open with E key");
                 } else if ("spawn_point".equals(interactiveType)) {
                     // Update the player spawn point
                     levelData.playerSpawnX = worldMouseX - 24;
                     levelData.playerSpawnY = worldMouseY - 48;
+                    recordSpawnPoint();
                     setStatus("Spawn point set at (" + levelData.playerSpawnX + ", " + levelData.playerSpawnY + ")");
                 }
                 break;
@@ -2453,6 +2581,10 @@ public class CreativeScene implements Scene {
                     setStatus("Added parallax layer: " + selected.displayName + " - Click again to configure");
                 }
                 levelData.parallaxEnabled = !parallaxLayers.isEmpty();
+                // Parallax layers are not journaled individually - fold them in with a compaction
+                if (editJournal != null) {
+                    editJournal.requestCompaction();
+                }
                 break;
         }
     }
@@ -2461,93 +2593,746 @@ public class CreativeScene implements Scene {
      * Remove entity at the given position
      */
     public void removeEntityAt(int worldX, int worldY) {
-        // Check all entity lists
-        Iterator<PlacedEntity> iter = placedBlocks.iterator();
-        while (iter.hasNext()) {
-            PlacedEntity entity = iter.next();
+        PlacedEntity entity = findEntityAt(worldX, worldY, true);
+        if (entity == null) return;
+
+        removePlacedEntity(entity);
+        setStatus("Removed " + entity.type.replace('_', ' '));
+    }
+
+    /**
+     * Find the entity under a world position using the spatial index.
+     * Priority follows the editor's layering: blocks, moving blocks, items, mobs,
+     * lights, doors, buttons, then vaults.
+     * @param includeVaults Whether vaults can be picked (hover ignores them)
+     */
+    private PlacedEntity findEntityAt(int worldX, int worldY, boolean includeVaults) {
+        List<PlacedEntity> cell = spatialIndex.getCellAt(worldX, worldY);
+        if (cell == null) return null;
+
+        PlacedEntity best = null;
+        int bestPriority = Integer.MAX_VALUE;
+        for (PlacedEntity entity : cell) {
+            int priority = getPickPriority(entity.type);
+            if (priority >= bestPriority) continue;
+            if (!includeVaults && entity.type.equals("vault")) continue;
             if (entity.getBounds().contains(worldX, worldY)) {
-                iter.remove();
-                setStatus("Removed block");
-                return;
+                best = entity;
+                bestPriority = priority;
             }
         }
+        return best;
+    }
 
-        // Check moving blocks
-        iter = placedMovingBlocks.iterator();
-        while (iter.hasNext()) {
-            PlacedEntity entity = iter.next();
-            if (entity.getBounds().contains(worldX, worldY)) {
-                iter.remove();
-                setStatus("Removed moving block");
-                return;
+    /**
+     * Picking priority for an entity type (lower wins)
+     */
+    private static int getPickPriority(String type) {
+        switch (type) {
+            case "block": return 0;
+            case "moving_block": return 1;
+            case "item": return 2;
+            case "mob": return 3;
+            case "light": return 4;
+            case "door": return 5;
+            case "button": return 6;
+            case "vault": return 7;
+            default: return 8;
+        }
+    }
+
+    /**
+     * Add an entity to its list and the spatial index, journaling it and recording it for undo
+     */
+    private void addPlacedEntity(PlacedEntity entity) {
+        List<PlacedEntity> list = listForType(entity.type);
+        if (list == null) return;
+        list.add(entity);
+        spatialIndex.insert(entity, entity.getBounds());
+        recordEdit(CreativeEditJournal.Op.PLACE, entity);
+        if (openBatch != null) {
+            openBatch.added.add(entity);
+        }
+    }
+
+    /**
+     * Remove an entity from its list and the spatial index, journaling it and recording it for undo
+     */
+    private void removePlacedEntity(PlacedEntity entity) {
+        List<PlacedEntity> list = listForType(entity.type);
+        if (list == null || !list.remove(entity)) return;
+        spatialIndex.remove(entity, entity.getBounds());
+        recordEdit(CreativeEditJournal.Op.REMOVE, entity);
+        if (openBatch != null) {
+            openBatch.removed.add(entity);
+        }
+        if (entity == hoveredEntity) {
+            hoveredEntity = null;
+        }
+    }
+
+    /**
+     * Remove many entities at once. Each list is compacted in a single pass instead of
+     * one O(n) removal per entity, so deleting large regions stays fast.
+     */
+    private void removePlacedEntities(Collection<PlacedEntity> entities) {
+        if (entities.isEmpty()) return;
+        Set<PlacedEntity> toRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+        toRemove.addAll(entities);
+
+        for (String type : new String[] {"block", "moving_block", "item", "mob", "light", "door", "button", "vault"}) {
+            List<PlacedEntity> list = listForType(type);
+            List<PlacedEntity> kept = null;
+            for (int i = 0; i < list.size(); i++) {
+                PlacedEntity entity = list.get(i);
+                if (toRemove.contains(entity)) {
+                    if (kept == null) {
+                        kept = new ArrayList<>(list.subList(0, i));
+                    }
+                    spatialIndex.remove(entity, entity.getBounds());
+                    recordEdit(CreativeEditJournal.Op.REMOVE, entity);
+                    if (openBatch != null) {
+                        openBatch.removed.add(entity);
+                    }
+                } else if (kept != null) {
+                    kept.add(entity);
+                }
             }
+            if (kept != null) {
+                list.clear();
+                list.addAll(kept);
+            }
+        }
+        if (hoveredEntity != null && toRemove.contains(hoveredEntity)) {
+            hoveredEntity = null;
         }
+    }
 
-        iter = placedItems.iterator();
-        while (iter.hasNext()) {
-            PlacedEntity entity = iter.next();
-            if (entity.getBounds().contains(worldX, worldY)) {
-                iter.remove();
-                setStatus("Removed item");
-                return;
+    /**
+     * Change a block's overlay, journaling it and recording it for undo
+     */
+    private void setEntityOverlay(PlacedEntity entity, String overlay) {
+        if (openBatch != null) {
+            openBatch.overlayChanges.add(new OverlayChange(entity, entity.overlay, overlay));
+        }
+        entity.overlay = overlay;
+        recordConfigure(entity, "overlay", overlay != null ? overlay : "");
+    }
+
+    /**
+     * Rebuild the spatial index from the entity lists (after a load or a level reset)
+     */
+    private void rebuildSpatialIndex() {
+        spatialIndex.clear();
+        for (String type : new String[] {"block", "moving_block", "item", "mob", "light", "door", "button", "vault"}) {
+            for (PlacedEntity entity : listForType(type)) {
+                spatialIndex.insert(entity, entity.getBounds());
             }
         }
+        hoveredEntity = null;
+        clearSelection();
+        undoStack.clear();
+        redoStack.clear();
+        openBatch = null;
+    }
 
-        iter = placedMobs.iterator();
-        while (iter.hasNext()) {
-            PlacedEntity entity = iter.next();
-            if (entity.getBounds().contains(worldX, worldY)) {
-                iter.remove();
-                setStatus("Removed mob");
-                return;
+    /**
+     * Find the block at a grid cell, or null if the cell is empty
+     */
+    private PlacedEntity findBlockAtCell(int gridX, int gridY) {
+        List<PlacedEntity> cell = spatialIndex.getCell(gridX, gridY);
+        if (cell == null) return null;
+        for (PlacedEntity entity : cell) {
+            if (entity.type.equals("block")) {
+                return entity;
             }
         }
+        return null;
+    }
 
-        iter = placedLights.iterator();
-        while (iter.hasNext()) {
-            PlacedEntity entity = iter.next();
-            if (entity.getBounds().contains(worldX, worldY)) {
-                iter.remove();
-                setStatus("Removed light");
-                return;
+    // ==================== Bulk Editing ====================
+
+    /**
+     * Start grouping edits into one undo step
+     */
+    private void beginBatch(String label) {
+        endBatch();
+        openBatch = new EditBatch(label);
+    }
+
+    /**
+     * Finish the current undo step (empty batches are dropped)
+     */
+    private void endBatch() {
+        if (openBatch == null) return;
+        if (!openBatch.isEmpty()) {
+            undoStack.push(openBatch);
+            while (undoStack.size() > MAX_UNDO_STEPS) {
+                undoStack.removeLast();
             }
+            redoStack.clear();
         }
+        openBatch = null;
+    }
 
-        // Check doors
-        iter = placedDoors.iterator();
-        while (iter.hasNext()) {
-            PlacedEntity entity = iter.next();
-            Rectangle bounds = new Rectangle(entity.x, entity.y, 64, 128);
-            if (bounds.contains(worldX, worldY)) {
-                iter.remove();
-                setStatus("Removed door");
-                return;
+    /**
+     * Handle selection, clipboard, fill and undo/redo shortcuts
+     */
+    private void handleEditShortcuts(InputManager input) {
+        boolean ctrl = input.isKeyPressed(KeyEvent.VK_CONTROL);
+
+        if (ctrl && input.isKeyJustPressed(KeyEvent.VK_Z)) {
+            if (input.isKeyPressed(KeyEvent.VK_SHIFT)) {
+                redo();
+            } else {
+                undo();
+            }
+        } else if (ctrl && input.isKeyJustPressed(KeyEvent.VK_Y)) {
+            redo();
+        } else if (ctrl && input.isKeyJustPressed(KeyEvent.VK_C)) {
+            copySelection();
+        } else if (ctrl && input.isKeyJustPressed(KeyEvent.VK_X)) {
+            if (copySelection()) {
+                deleteSelection("Cut");
             }
+        } else if (ctrl && input.isKeyJustPressed(KeyEvent.VK_V)) {
+            pasteAt(worldMouseX, worldMouseY);
+        } else if (input.isKeyJustPressed(KeyEvent.VK_DELETE)) {
+            deleteSelection("Delete");
+        } else if (!ctrl && input.isKeyJustPressed(KeyEvent.VK_F) &&
+                   mouseX >= CreativePaletteManager.PALETTE_WIDTH) {
+            floodFill(Math.floorDiv(worldMouseX, GRID_SIZE), Math.floorDiv(worldMouseY, GRID_SIZE));
         }
+    }
 
-        // Check buttons
-        iter = placedButtons.iterator();
-        while (iter.hasNext()) {
-            PlacedEntity entity = iter.next();
-            Rectangle bounds = new Rectangle(entity.x, entity.y, 32, 16);
-            if (bounds.contains(worldX, worldY)) {
-                iter.remove();
-                setStatus("Removed button");
-                return;
+    /**
+     * Update the rectangle selection while Shift+dragging and finish it on release
+     */
+    private void updateSelectionDrag(boolean mouseHeld) {
+        int minX = Math.min(selectionStartX, worldMouseX);
+        int minY = Math.min(selectionStartY, worldMouseY);
+        int maxX = Math.max(selectionStartX, worldMouseX);
+        int maxY = Math.max(selectionStartY, worldMouseY);
+        selectionRect = new Rectangle(minX, minY, Math.max(1, maxX - minX), Math.max(1, maxY - minY));
+
+        if (!mouseHeld) {
+            isSelecting = false;
+            selectedEntities = new ArrayList<>();
+            final Rectangle area = selectionRect;
+            spatialIndex.query(area, entity -> {
+                if (entity.getBounds().intersects(area)) {
+                    selectedEntities.add(entity);
+                }
+            });
+            setStatus("Selected " + selectedEntities.size() + " entities - Ctrl+C copy, Ctrl+X cut, Delete remove");
+        }
+    }
+
+    /**
+     * Drop the current selection
+     */
+    private void clearSelection() {
+        isSelecting = false;
+        selectionRect = null;
+        if (selectedEntities != null) {
+            selectedEntities = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Copy the selected entities to the clipboard, relative to the selection's top-left cell
+     * @return true if anything was copied
+     */
+    private boolean copySelection() {
+        if (selectionRect == null || selectedEntities.isEmpty()) {
+            setStatus("Nothing selected - Shift+drag to select");
+            return false;
+        }
+        int originX = Math.floorDiv(selectionRect.x, GRID_SIZE) * GRID_SIZE;
+        int originY = Math.floorDiv(selectionRect.y, GRID_SIZE) * GRID_SIZE;
+
+        clipboard = new ArrayList<>(selectedEntities.size());
+        for (PlacedEntity entity : selectedEntities) {
+            clipboard.add(new ClipboardEntry(entity, originX, originY));
+        }
+        setStatus("Copied " + clipboard.size() + " entities");
+        return true;
+    }
+
+    /**
+     * Remove all selected entities as one undo step
+     */
+    private void deleteSelection(String label) {
+        if (selectedEntities == null || selectedEntities.isEmpty()) return;
+        int count = selectedEntities.size();
+        beginBatch(label);
+        removePlacedEntities(selectedEntities);
+        endBatch();
+        clearSelection();
+        setStatus(label + ": removed " + count + " entities (Ctrl+Z to undo)");
+    }
+
+    /**
+     * Paste the clipboard with its top-left cell at the cursor's grid cell, as one undo step.
+     * Grid-snapped blocks are skipped where the target cell is already occupied.
+     */
+    private void pasteAt(int worldX, int worldY) {
+        if (clipboard.isEmpty()) {
+            setStatus("Clipboard is empty");
+            return;
+        }
+        int originX = Math.floorDiv(worldX, GRID_SIZE) * GRID_SIZE;
+        int originY = Math.floorDiv(worldY, GRID_SIZE) * GRID_SIZE;
+
+        beginBatch("Paste");
+        int pasted = 0;
+        int index = 0;
+        long linkStamp = System.currentTimeMillis();
+        for (ClipboardEntry entry : clipboard) {
+            int x = originX + entry.offsetX;
+            int y = originY + entry.offsetY;
+            boolean gridSnapped = entry.type.equals("block") || entry.type.equals("moving_block");
+            if (gridSnapped && findPlacedEntity(entry.type, x, y) != null) {
+                continue;
             }
+
+            Object data = copyEntityData(entry.data);
+            if (data instanceof Map) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> map = (Map<String, Object>) data;
+                if (map.containsKey("linkId")) {
+                    // Interactive entities need their own link ids
+                    map.put("linkId", entry.type + "_" + linkStamp + "_" + (index++));
+                }
+                if (entry.type.equals("moving_block")) {
+                    // Movement targets are absolute grid coordinates - shift them with the paste
+                    int shiftX = Math.floorDiv(x, GRID_SIZE) - ((Number) map.getOrDefault("startGridX", x / GRID_SIZE)).intValue();
+                    int shiftY = Math.floorDiv(y, GRID_SIZE) - ((Number) map.getOrDefault("startGridY", y / GRID_SIZE)).intValue();
+                    for (String key : new String[] {"endX", "startGridX"}) {
+                        if (map.get(key) instanceof Number) map.put(key, ((Number) map.get(key)).intValue() + shiftX);
+                    }
+                    for (String key : new String[] {"endY", "startGridY"}) {
+                        if (map.get(key) instanceof Number) map.put(key, ((Number) map.get(key)).intValue() + shiftY);
+                    }
+                }
+            }
+
+            PlacedEntity entity = new PlacedEntity(x, y, entry.type, data, entry.icon);
+            entity.overlay = entry.overlay;
+            if (gridSnapped) {
+                entity.gridX = Math.floorDiv(x, GRID_SIZE);
+                entity.gridY = Math.floorDiv(y, GRID_SIZE);
+            }
+            addPlacedEntity(entity);
+            pasted++;
         }
+        endBatch();
+        setStatus("Pasted " + pasted + " entities (Ctrl+Z to undo)");
+    }
 
-        // Check vaults
-        iter = placedVaults.iterator();
-        while (iter.hasNext()) {
-            PlacedEntity entity = iter.next();
-            Rectangle bounds = new Rectangle(entity.x, entity.y, 64, 64);
-            if (bounds.contains(worldX, worldY)) {
-                iter.remove();
-                setStatus("Removed vault");
-                return;
+    /**
+     * Flood fill from a grid cell with the selected block type, as one undo step.
+     * An empty start cell fills the connected empty area; a block start cell replaces
+     * the connected blocks of the same type. Bounded by the level and MAX_FLOOD_FILL_CELLS.
+     */
+    private void floodFill(int startGridX, int startGridY) {
+        if (paletteManager.getCurrentCategory() != PaletteCategory.BLOCKS) {
+            setStatus("Flood fill needs a block selected in the Blocks palette");
+            return;
+        }
+        PaletteItem selected = paletteManager.getSelectedPaletteItem();
+        if (selected == null) return;
+        BlockType fillType = (BlockType) selected.data;
+
+        int gridWidth = levelData.levelWidth / GRID_SIZE;
+        int gridHeight = levelData.levelHeight / GRID_SIZE;
+        if (startGridX < 0 || startGridY < 0 || startGridX >= gridWidth || startGridY >= gridHeight) return;
+
+        PlacedEntity startBlock = findBlockAtCell(startGridX, startGridY);
+        BlockType targetType = startBlock != null ? (BlockType) startBlock.data : null;
+        if (targetType == fillType) {
+            setStatus("Area is already " + fillType.name());
+            return;
+        }
+
+        BufferedImage icon = paletteManager.getBlockTextures().get(fillType);
+        Set<Long> visited = new HashSet<>();
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        queue.add(new int[] {startGridX, startGridY});
+        visited.add(SpatialGrid.key(startGridX, startGridY));
+
+        List<PlacedEntity> replaced = new ArrayList<>();
+        List<PlacedEntity> filled = new ArrayList<>();
+        boolean truncated = false;
+        int[][] neighbors = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+
+        while (!queue.isEmpty()) {
+            if (filled.size() >= MAX_FLOOD_FILL_CELLS) {
+                truncated = true;
+                break;
+            }
+            int[] cell = queue.poll();
+            PlacedEntity existing = findBlockAtCell(cell[0], cell[1]);
+            if (existing != null) {
+                replaced.add(existing);
+            }
+            PlacedEntity block = new PlacedEntity(cell[0] * GRID_SIZE, cell[1] * GRID_SIZE, "block", fillType, icon);
+            block.gridX = cell[0];
+            block.gridY = cell[1];
+            filled.add(block);
+
+            for (int[] n : neighbors) {
+                int nx = cell[0] + n[0];
+                int ny = cell[1] + n[1];
+                if (nx < 0 || ny < 0 || nx >= gridWidth || ny >= gridHeight) continue;
+                if (!visited.add(SpatialGrid.key(nx, ny))) continue;
+                PlacedEntity neighbor = findBlockAtCell(nx, ny);
+                BlockType neighborType = neighbor != null ? (BlockType) neighbor.data : null;
+                if (neighborType == targetType) {
+                    queue.add(new int[] {nx, ny});
+                }
+            }
+        }
+
+        beginBatch("Fill");
+        removePlacedEntities(replaced);
+        for (PlacedEntity block : filled) {
+            addPlacedEntity(block);
+        }
+        endBatch();
+        setStatus("Filled " + filled.size() + " cells with " + fillType.name() +
+            (truncated ? " (limit reached)" : "") + " - Ctrl+Z to undo");
+    }
+
+    /**
+     * Undo the most recent edit batch
+     */
+    private void undo() {
+        endBatch();
+        if (undoStack.isEmpty()) {
+            setStatus("Nothing to undo");
+            return;
+        }
+        EditBatch batch = undoStack.pop();
+        removePlacedEntities(batch.added);
+        for (PlacedEntity entity : batch.removed) {
+            addPlacedEntity(entity);
+        }
+        for (int i = batch.overlayChanges.size() - 1; i >= 0; i--) {
+            OverlayChange change = batch.overlayChanges.get(i);
+            setEntityOverlay(change.entity, change.before);
+        }
+        redoStack.push(batch);
+        clearSelection();
+        setStatus("Undo: " + batch.label);
+    }
+
+    /**
+     * Redo the most recently undone edit batch
+     */
+    private void redo() {
+        endBatch();
+        if (redoStack.isEmpty()) {
+            setStatus("Nothing to redo");
+            return;
+        }
+        EditBatch batch = redoStack.pop();
+        removePlacedEntities(batch.removed);
+        for (PlacedEntity entity : batch.added) {
+            addPlacedEntity(entity);
+        }
+        for (OverlayChange change : batch.overlayChanges) {
+            setEntityOverlay(change.entity, change.after);
+        }
+        undoStack.push(batch);
+        clearSelection();
+        setStatus("Redo: " + batch.label);
+    }
+
+    /**
+     * Get the placed entity list for an entity type
+     */
+    private List<PlacedEntity> listForType(String type) {
+        switch (type) {
+            case "block": return placedBlocks;
+            case "moving_block": return placedMovingBlocks;
+            case "item": return placedItems;
+            case "mob": return placedMobs;
+            case "light": return placedLights;
+            case "door": return placedDoors;
+            case "button": return placedButtons;
+            case "vault": return placedVaults;
+            default: return null;
+        }
+    }
+
+    /**
+     * Record a place or remove edit in the journal
+     */
+    private void recordEdit(CreativeEditJournal.Op op, PlacedEntity entity) {
+        if (editJournal == null || replayingJournal) return;
+        Map<String, String> fields = op == CreativeEditJournal.Op.PLACE ? describeEntity(entity) : null;
+        editJournal.record(new CreativeEditJournal.Entry(op, entity.type, entity.x, entity.y, fields));
+    }
+
+    /**
+     * Record a configuration change (key/value pairs) of an existing entity in the journal
+     */
+    private void recordConfigure(PlacedEntity entity, String... keyValues) {
+        if (editJournal == null || replayingJournal) return;
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < keyValues.length; i += 2) {
+            fields.put(keyValues[i], keyValues[i + 1]);
+        }
+        editJournal.record(new CreativeEditJournal.Entry(
+            CreativeEditJournal.Op.CONFIGURE, entity.type, entity.x, entity.y, fields));
+    }
+
+    /**
+     * Record a player spawn point change in the journal
+     */
+    private void recordSpawnPoint() {
+        if (editJournal == null) return;
+        editJournal.record(new CreativeEditJournal.Entry(CreativeEditJournal.Op.CONFIGURE, "spawn",
+            levelData.playerSpawnX, levelData.playerSpawnY, null));
+    }
+
+    /**
+     * Flatten a placed entity's type-specific data into journal fields
+     */
+    private Map<String, String> describeEntity(PlacedEntity entity) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        if (entity.data instanceof BlockType) {
+            fields.put("blockType", ((BlockType) entity.data).name());
+        } else if (entity.data instanceof String) {
+            fields.put("id", (String) entity.data);
+        } else if (entity.data instanceof Map) {
+            for (Map.Entry<?, ?> e : ((Map<?, ?>) entity.data).entrySet()) {
+                Object value = e.getValue();
+                if (value instanceof BlockType) {
+                    fields.put(String.valueOf(e.getKey()), ((BlockType) value).name());
+                } else if (value instanceof String || value instanceof Number) {
+                    fields.put(String.valueOf(e.getKey()), String.valueOf(value));
+                }
+            }
+        }
+        if (entity.hasOverlay()) {
+            fields.put("overlay", entity.overlay);
+        }
+        return fields;
+    }
+
+    /**
+     * Rebuild a placed entity (with its editor icon) from a journaled PLACE edit
+     */
+    private PlacedEntity createEntityFromJournal(CreativeEditJournal.Entry entry) {
+        Map<String, String> f = entry.fields;
+        PlacedEntity entity;
+
+        switch (entry.kind) {
+            case "block": {
+                BlockType type = BlockType.fromName(f.get("blockType"));
+                entity = new PlacedEntity(entry.x, entry.y, "block", type, paletteManager.getBlockTextures().get(type));
+                entity.gridX = entry.x / GRID_SIZE;
+                entity.gridY = entry.y / GRID_SIZE;
+                break;
             }
+            case "moving_block": {
+                Map<String, Object> movingData = new HashMap<>();
+                for (Map.Entry<String, String> e : f.entrySet()) {
+                    if (e.getKey().equals("overlay")) continue;
+                    movingData.put(e.getKey(), parseJournalValue(e.getValue()));
+                }
+                BlockType type = BlockType.fromName(f.get("blockType"));
+                movingData.put("blockType", type);
+                BufferedImage icon = paletteManager.createMovingBlockIcon(
+                    paletteManager.getBlockTextures().get(type), f.get("movementPattern"));
+                entity = new PlacedEntity(entry.x, entry.y, "moving_block", movingData, icon);
+                entity.gridX = entry.x / GRID_SIZE;
+                entity.gridY = entry.y / GRID_SIZE;
+                break;
+            }
+            case "item": {
+                String itemId = f.get("id");
+                entity = new PlacedEntity(entry.x, entry.y, "item", itemId,
+                    paletteManager.createItemIcon(itemId != null ? itemId : "unknown"));
+                break;
+            }
+            case "mob": {
+                Map<String, String> mobData = new HashMap<>(f);
+                String subType = f.get("subType");
+                entity = new PlacedEntity(entry.x, entry.y, "mob", mobData,
+                    paletteManager.createMobIcon(subType != null ? subType : "zombie"));
+                break;
+            }
+            case "light": {
+                String lightType = f.get("id");
+                entity = new PlacedEntity(entry.x, entry.y, "light", lightType, paletteManager.createLightIcon(lightType));
+                break;
+            }
+            case "door":
+                entity = new PlacedEntity(entry.x, entry.y, "door", new HashMap<String, Object>(f),
+                    paletteManager.createDoorIcon(f.get("texturePath")));
+                break;
+            case "button":
+                entity = new PlacedEntity(entry.x, entry.y, "button", new HashMap<String, Object>(f),
+                    paletteManager.createButtonIcon(f.get("texturePath")));
+                break;
+            case "vault":
+                entity = new PlacedEntity(entry.x, entry.y, "vault", new HashMap<String, Object>(f),
+                    paletteManager.createVaultIcon(f.get("texturePath")));
+                break;
+            default:
+                return null;
+        }
+
+        String overlay = f.get("overlay");
+        if (overlay != null && !overlay.isEmpty()) {
+            entity.overlay = overlay;
+        }
+        return entity;
+    }
+
+    /**
+     * Parse a journaled moving block value back into the Integer/Double/String the editor uses
+     */
+    private Object parseJournalValue(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            // Not an int
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return value;
+        }
+    }
+
+    /**
+     * Find the first placed entity of a type at an exact position.
+     * An entity's top-left corner is always inside its first index cell, so this is one cell lookup.
+     */
+    private PlacedEntity findPlacedEntity(String type, int x, int y) {
+        List<PlacedEntity> cell = spatialIndex.getCellAt(x, y);
+        if (cell == null) return null;
+        for (PlacedEntity entity : cell) {
+            if (entity.x == x && entity.y == y && entity.type.equals(type)) {
+                return entity;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Apply a single journaled edit to the placed entity lists
+     */
+    private void applyJournalEntry(CreativeEditJournal.Entry entry) {
+        switch (entry.op) {
+            case PLACE: {
+                PlacedEntity entity = createEntityFromJournal(entry);
+                if (entity != null) {
+                    addPlacedEntity(entity);
+                }
+                break;
+            }
+            case REMOVE: {
+                PlacedEntity entity = findPlacedEntity(entry.kind, entry.x, entry.y);
+                if (entity != null) {
+                    removePlacedEntity(entity);
+                }
+                break;
+            }
+            case CONFIGURE: {
+                if (entry.kind.equals("spawn")) {
+                    levelData.playerSpawnX = entry.x;
+                    levelData.playerSpawnY = entry.y;
+                    break;
+                }
+                PlacedEntity entity = findPlacedEntity(entry.kind, entry.x, entry.y);
+                if (entity == null) break;
+                for (Map.Entry<String, String> e : entry.fields.entrySet()) {
+                    if (e.getKey().equals("overlay")) {
+                        entity.overlay = e.getValue();
+                    } else if (entity.data instanceof Map) {
+                        @SuppressWarnings("unchecked")
+                        Map<String, Object> data = (Map<String, Object>) entity.data;
+                        data.put(e.getKey(), e.getValue());
+                    }
+                }
+                break;
+            }
+        }
+    }
+
+    /**
+     * Replay a level's journal on top of the currently loaded entities
+     * @return Number of edits replayed
+     */
+    private int replayJournal(String levelPath, int levelGeneration) {
+        List<CreativeEditJournal.Entry> entries = CreativeEditJournal.readEntries(levelPath, levelGeneration);
+        replayingJournal = true;
+        try {
+            for (CreativeEditJournal.Entry entry : entries) {
+                applyJournalEntry(entry);
+            }
+        } finally {
+            replayingJournal = false;
         }
+        return entries.size();
+    }
+
+    /**
+     * Recover an unsaved session left behind by a crash (autosave level + its journal)
+     */
+    private void recoverAutosave() {
+        String autosavePath = CreativeEditJournal.AUTOSAVE_LEVEL_PATH;
+        if (new File(autosavePath).exists()) {
+            loadLevel(autosavePath);
+            return;
+        }
+
+        // Never compacted - replay the journal on top of the default level
+        int recoveredEdits = replayJournal(autosavePath, 0);
+        setStatus("Recovered " + recoveredEdits + " journaled edits from unsaved session");
+    }
+
+    /**
+     * Compact the journal: snapshot the level and let the journal writer thread
+     * rewrite the level file, so large maps don't stall the editor.
+     */
+    private void compactJournal() {
+        buildLevelData();
+
+        // buildLevelData() replaces the list contents on every call, so copying the
+        // lists is enough to give the writer thread a snapshot it can read safely
+        LevelData snapshot = new LevelData();
+        snapshot.name = levelData.name;
+        snapshot.backgroundPath = levelData.backgroundPath;
+        snapshot.musicPath = levelData.musicPath;
+        snapshot.playerSpawnX = levelData.playerSpawnX;
+        snapshot.playerSpawnY = levelData.playerSpawnY;
+        snapshot.levelWidth = levelData.levelWidth;
+        snapshot.levelHeight = levelData.levelHeight;
+        snapshot.groundY = levelData.groundY;
+        snapshot.scrollingEnabled = levelData.scrollingEnabled;
+        snapshot.tileBackgroundHorizontal = levelData.tileBackgroundHorizontal;
+        snapshot.verticalScrollEnabled = levelData.verticalScrollEnabled;
+        snapshot.parallaxEnabled = levelData.parallaxEnabled;
+        snapshot.blocks.addAll(levelData.blocks);
+        snapshot.items.addAll(levelData.items);
+        snapshot.mobs.addAll(levelData.mobs);
+        snapshot.lightSources.addAll(levelData.lightSources);
+        snapshot.parallaxLayers.addAll(levelData.parallaxLayers);
+        snapshot.doors.addAll(levelData.doors);
+        snapshot.buttons.addAll(levelData.buttons);
+        snapshot.vaults.addAll(levelData.vaults);
+        snapshot.movingBlocks.addAll(levelData.movingBlocks);
+
+        editJournal.compact((writer, generation) -> {
+            snapshot.journalGeneration = generation;
+            writeLevelJson(writer, snapshot);
+        });
     }
 
     /**
@@ -2760,181 +3545,15 @@ public class CreativeScene implements Scene {
         String filepath = "levels/creative_" + filename + ".json";
 
         try {
-            File file = new File(filepath);
-            file.getParentFile().mkdirs();
-
-            try (PrintWriter writer = new PrintWriter(new FileWriter(file))) {
-                writer.println("{");
-                writer.println("  \"name\": \"" + escapeJson(levelData.name) + "\",");
-                writer.println("  \"description\": \"Creative mode level\",");
-                writer.println();
-
-                // Player settings
-                writer.println("  \"useSpriteAnimation\": true,");
-                writer.println("  \"spriteAnimationDir\": \"assets/player/sprites\",");
-                writer.println();
-
-                // Background
-                writer.println("  \"backgroundPath\": \"" + escapeJson(levelData.backgroundPath) + "\",");
-                writer.println("  \"musicPath\": \"" + escapeJson(levelData.musicPath) + "\",");
-                writer.println();
-
-                // Spawn
-                writer.println("  \"playerSpawnX\": " + levelData.playerSpawnX + ",");
-                writer.println("  \"playerSpawnY\": " + levelData.playerSpawnY + ",");
-                writer.println();
-
-                // Dimensions
-                writer.println("  \"levelWidth\": " + levelData.levelWidth + ",");
-                writer.println("  \"levelHeight\": " + levelData.levelHeight + ",");
-                writer.println("  \"groundY\": " + levelData.groundY + ",");
-                writer.println();
-
-                // Scrolling
-                writer.println("  \"scrollingEnabled\": " + levelData.scrollingEnabled + ",");
-                writer.println("  \"tileBackgroundHorizontal\": " + levelData.tileBackgroundHorizontal + ",");
-                writer.println("  \"tileBackgroundVertical\": false,");
-                writer.println("  \"verticalScrollEnabled\": " + levelData.verticalScrollEnabled + ",");
-                writer.println();
-
-                // Lighting
-                writer.println("  \"nightMode\": false,");
-                writer.println();
-
-                // Blocks
-                writer.println("  \"blocks\": [");
-                for (int i = 0; i < levelData.blocks.size(); i++) {
-                    LevelData.BlockData b = levelData.blocks.get(i);
-                    String comma = (i < levelData.blocks.size() - 1) ? "," : "";
-                    writer.println("    {\"x\": " + b.x + ", \"y\": " + b.y +
-                        ", \"blockType\": \"" + b.blockType + "\", \"useGridCoords\": true}" + comma);
-                }
-                writer.println("  ],");
-                writer.println();
-
-                // Items
-                writer.println("  \"items\": [");
-                for (int i = 0; i < levelData.items.size(); i++) {
-                    LevelData.ItemData item = levelData.items.get(i);
-                    String comma = (i < levelData.items.size() - 1) ? "," : "";
-                    writer.println("    {\"x\": " + item.x + ", \"y\": " + item.y +
-                        ", \"itemId\": \"" + escapeJson(item.itemId) + "\"}" + comma);
-                }
-                writer.println("  ],");
-                writer.println();
-
-                // Mobs
-                writer.println("  \"mobs\": [");
-                for (int i = 0; i < levelData.mobs.size(); i++) {
-                    LevelData.MobData m = levelData.mobs.get(i);
-                    String comma = (i < levelData.mobs.size() - 1) ? "," : "";
-                    writer.println("    {\"x\": " + m.x + ", \"y\": " + m.y +
-                        ", \"mobType\": \"" + escapeJson(m.mobType) +
-                        "\", \"spriteDir\": \"" + escapeJson(m.spriteDir) +
-                        "\", \"behavior\": \"" + escapeJson(m.behavior) + "\"}" + comma);
-                }
-                writer.println("  ],");
-                writer.println();
-
-                // Light sources
-                writer.println("  \"lightSources\": [");
-                for (int i = 0; i < levelData.lightSources.size(); i++) {
-                    LevelData.LightSourceData l = levelData.lightSources.get(i);
-                    String comma = (i < levelData.lightSources.size() - 1) ? "," : "";
-                    writer.println("    {\"x\": " + l.x + ", \"y\": " + l.y +
-                        ", \"lightType\": \"" + escapeJson(l.lightType) + "\"}" + comma);
-                }
-                writer.println("  ],");
-                writer.println();
-
-                // Empty arrays
-                writer.println("  \"platforms\": [],");
-                writer.println("  \"triggers\": [],");
-                writer.println();
-
-                // Parallax layers with placement properties
-                writer.println("  \"parallaxEnabled\": " + levelData.parallaxEnabled + ",");
-                writer.println("  \"parallaxLayers\": [");
-                for (int i = 0; i < levelData.parallaxLayers.size(); i++) {
-                    LevelData.ParallaxLayerData p = levelData.parallaxLayers.get(i);
-                    String comma = (i < levelData.parallaxLayers.size() - 1) ? "," : "";
-                    writer.println("    {\"name\": \"" + escapeJson(p.name) +
-                        "\", \"imagePath\": \"" + escapeJson(p.imagePath) +
-                        "\", \"scrollSpeedX\": " + p.scrollSpeedX +
-                        ", \"scrollSpeedY\": " + p.scrollSpeedY +
-                        ", \"zOrder\": " + p.zOrder +
-                        ", \"scale\": " + p.scale +
-                        ", \"opacity\": " + p.opacity +
-                        ", \"offsetX\": " + p.offsetX +
-                        ", \"offsetY\": " + p.offsetY +
-                        ", \"tileHorizontal\": " + p.tileHorizontal +
-                        ", \"tileVertical\": " + p.tileVertical +
-                        ", \"anchorBottom\": " + p.anchorBottom + "}" + comma);
-                }
-                writer.println("  ],");
-                writer.println();
-
-                // Doors
-                writer.println("  \"doors\": [");
-                for (int i = 0; i < levelData.doors.size(); i++) {
-                    LevelData.DoorData d = levelData.doors.get(i);
-                    String comma = (i < levelData.doors.size() - 1) ? "," : "";
-                    writer.println("    {\"x\": " + d.x + ", \"y\": " + d.y +
-                        ", \"width\": " + d.width + ", \"height\": " + d.height +
-                        ", \"texturePath\": \"" + escapeJson(d.texturePath) +
-                        "\", \"linkId\": \"" + escapeJson(d.linkId) +
-                        "\", \"actionType\": \"" + escapeJson(d.actionType) +
-                        "\", \"actionTarget\": \"" + escapeJson(d.actionTarget) + "\"}" + comma);
-                }
-                writer.println("  ],");
-                writer.println();
-
-                // Buttons
-                writer.println("  \"buttons\": [");
-                for (int i = 0; i < levelData.buttons.size(); i++) {
-                    LevelData.ButtonData b = levelData.buttons.get(i);
-                    String comma = (i < levelData.buttons.size() - 1) ? "," : "";
-                    writer.println("    {\"x\": " + b.x + ", \"y\": " + b.y +
-                        ", \"width\": " + b.width + ", \"height\": " + b.height +
-                        ", \"texturePath\": \"" + escapeJson(b.texturePath) +
-                        "\", \"linkId\": \"" + escapeJson(b.linkId) +
-                        "\", \"buttonType\": \"" + escapeJson(b.buttonType) +
-                        "\", \"actionType\": \"" + escapeJson(b.actionType) +
-                        "\", \"actionTarget\": \"" + escapeJson(b.actionTarget) + "\"}" + comma);
-                }
-                writer.println("  ],");
-                writer.println();
-
-                // Vaults
-                writer.println("  \"vaults\": [");
-                for (int i = 0; i < levelData.vaults.size(); i++) {
-                    LevelData.VaultData v = levelData.vaults.get(i);
-                    String comma = (i < levelData.vaults.size() - 1) ? "," : "";
-                    writer.println("    {\"x\": " + v.x + ", \"y\": " + v.y +
-                        ", \"width\": " + v.width + ", \"height\": " + v.height +
-                        ", \"texturePath\": \"" + escapeJson(v.texturePath) +
-                        "\", \"linkId\": \"" + escapeJson(v.linkId) +
-                        "\", \"vaultType\": \"" + escapeJson(v.vaultType) + "\"}" + comma);
-                }
-                writer.println("  ],");
-                writer.println();
-
-                // Moving Blocks
-                writer.println("  \"movingBlocks\": [");
-                for (int i = 0; i < levelData.movingBlocks.size(); i++) {
-                    LevelData.MovingBlockData mb = levelData.movingBlocks.get(i);
-                    String comma = (i < levelData.movingBlocks.size() - 1) ? "," : "";
-                    writer.println("    {\"x\": " + mb.x + ", \"y\": " + mb.y +
-                        ", \"blockType\": \"" + escapeJson(mb.blockType) +
-                        "\", \"useGridCoords\": " + mb.useGridCoords +
-                        ", \"movementPattern\": \"" + escapeJson(mb.movementPattern) +
-                        "\", \"endX\": " + mb.endX + ", \"endY\": " + mb.endY +
-                        ", \"speed\": " + mb.speed + ", \"pauseTime\": " + mb.pauseTime +
-                        ", \"radius\": " + mb.radius + "}" + comma);
-                }
-                writer.println("  ]");
-
-                writer.println("}");
+            if (editJournal != null) {
+                // Goes through the journal writer so a queued compaction can't overwrite
+                // the save; the journal then starts over against the saved file
+                editJournal.save(filepath, (writer, generation) -> {
+                    levelData.journalGeneration = generation;
+                    writeLevelJson(writer, levelData);
+                });
+            } else {
+                CreativeEditJournal.writeLevelAtomically(filepath, writer -> writeLevelJson(writer, levelData));
             }
 
             currentLevelPath = filepath;
@@ -2946,6 +3565,186 @@ public class CreativeScene implements Scene {
         }
     }
 
+    /**
+     * Write level data as creative level JSON.
+     * Only reads the given LevelData, so it is safe to call on a snapshot from the journal writer thread.
+     */
+    private void writeLevelJson(PrintWriter writer, LevelData data) {
+        writer.println("{");
+        writer.println("  \"name\": \"" + escapeJson(data.name) + "\",");
+        writer.println("  \"description\": \"Creative mode level\",");
+        writer.println("  \"journalGeneration\": " + data.journalGeneration + ",");
+        writer.println();
+
+        // Player settings
+        writer.println("  \"useSpriteAnimation\": true,");
+        writer.println("  \"spriteAnimationDir\": \"assets/player/sprites\",");
+        writer.println();
+
+        // Background
+        writer.println("  \"backgroundPath\": \"" + escapeJson(data.backgroundPath) + "\",");
+        writer.println("  \"musicPath\": \"" + escapeJson(data.musicPath) + "\",");
+        writer.println();
+
+        // Spawn
+        writer.println("  \"playerSpawnX\": " + data.playerSpawnX + ",");
+        writer.println("  \"playerSpawnY\": " + data.playerSpawnY + ",");
+        writer.println();
+
+        // Dimensions
+        writer.println("  \"levelWidth\": " + data.levelWidth + ",");
+        writer.println("  \"levelHeight\": " + data.levelHeight + ",");
+        writer.println("  \"groundY\": " + data.groundY + ",");
+        writer.println();
+
+        // Scrolling
+        writer.println("  \"scrollingEnabled\": " + data.scrollingEnabled + ",");
+        writer.println("  \"tileBackgroundHorizontal\": " + data.tileBackgroundHorizontal + ",");
+        writer.println("  \"tileBackgroundVertical\": false,");
+        writer.println("  \"verticalScrollEnabled\": " + data.verticalScrollEnabled + ",");
+        writer.println();
+
+        // Lighting
+        writer.println("  \"nightMode\": false,");
+        writer.println();
+
+        // Blocks
+        writer.println("  \"blocks\": [");
+        for (int i = 0; i < data.blocks.size(); i++) {
+            LevelData.BlockData b = data.blocks.get(i);
+            String comma = (i < data.blocks.size() - 1) ? "," : "";
+            writer.println("    {\"x\": " + b.x + ", \"y\": " + b.y +
+                ", \"blockType\": \"" + b.blockType + "\", \"useGridCoords\": true" +
+                (b.hasOverlay() ? ", \"overlay\": \"" + escapeJson(b.overlay) + "\"" : "") + "}" + comma);
+        }
+        writer.println("  ],");
+        writer.println();
+
+        // Items
+        writer.println("  \"items\": [");
+        for (int i = 0; i < data.items.size(); i++) {
+            LevelData.ItemData item = data.items.get(i);
+            String comma = (i < data.items.size() - 1) ? "," : "";
+            writer.println("    {\"x\": " + item.x + ", \"y\": " + item.y +
+                ", \"itemId\": \"" + escapeJson(item.itemId) + "\"}" + comma);
+        }
+        writer.println("  ],");
+        writer.println();
+
+        // Mobs
+        writer.println("  \"mobs\": [");
+        for (int i = 0; i < data.mobs.size(); i++) {
+            LevelData.MobData m = data.mobs.get(i);
+            String comma = (i < data.mobs.size() - 1) ? "," : "";
+            writer.println("    {\"x\": " + m.x + ", \"y\": " + m.y +
+                ", \"mobType\": \"" + escapeJson(m.mobType) +
+                "\", \"spriteDir\": \"" + escapeJson(m.spriteDir) +
+                "\", \"behavior\": \"" + escapeJson(m.behavior) + "\"}" + comma);
+        }
+        writer.println("  ],");
+        writer.println();
+
+        // Light sources
+        writer.println("  \"lightSources\": [");
+        for (int i = 0; i < data.lightSources.size(); i++) {
+            LevelData.LightSourceData l = data.lightSources.get(i);
+            String comma = (i < data.lightSources.size() - 1) ? "," : "";
+            writer.println("    {\"x\": " + l.x + ", \"y\": " + l.y +
+                ", \"lightType\": \"" + escapeJson(l.lightType) + "\"}" + comma);
+        }
+        writer.println("  ],");
+        writer.println();
+
+        // Empty arrays
+        writer.println("  \"platforms\": [],");
+        writer.println("  \"triggers\": [],");
+        writer.println();
+
+        // Parallax layers with placement properties
+        writer.println("  \"parallaxEnabled\": " + data.parallaxEnabled + ",");
+        writer.println("  \"parallaxLayers\": [");
+        for (int i = 0; i < data.parallaxLayers.size(); i++) {
+            LevelData.ParallaxLayerData p = data.parallaxLayers.get(i);
+            String comma = (i < data.parallaxLayers.size() - 1) ? "," : "";
+            writer.println("    {\"name\": \"" + escapeJson(p.name) +
+                "\", \"imagePath\": \"" + escapeJson(p.imagePath) +
+                "\", \"scrollSpeedX\": " + p.scrollSpeedX +
+                ", \"scrollSpeedY\": " + p.scrollSpeedY +
+                ", \"zOrder\": " + p.zOrder +
+                ", \"scale\": " + p.scale +
+                ", \"opacity\": " + p.opacity +
+                ", \"offsetX\": " + p.offsetX +
+                ", \"offsetY\": " + p.offsetY +
+                ", \"tileHorizontal\": " + p.tileHorizontal +
+                ", \"tileVertical\": " + p.tileVertical +
+                ", \"anchorBottom\": " + p.anchorBottom + "}" + comma);
+        }
+        writer.println("  ],");
+        writer.println();
+
+        // Doors
+        writer.println("  \"doors\": [");
+        for (int i = 0; i < data.doors.size(); i++) {
+            LevelData.DoorData d = data.doors.get(i);
+            String comma = (i < data.doors.size() - 1) ? "," : "";
+            writer.println("    {\"x\": " + d.x + ", \"y\": " + d.y +
+                ", \"width\": " + d.width + ", \"height\": " + d.height +
+                ", \"texturePath\": \"" + escapeJson(d.texturePath) +
+                "\", \"linkId\": \"" + escapeJson(d.linkId) +
+                "\", \"actionType\": \"" + escapeJson(d.actionType) +
+                "\", \"actionTarget\": \"" + escapeJson(d.actionTarget) + "\"}" + comma);
+        }
+        writer.println("  ],");
+        writer.println();
+
+        // Buttons
+        writer.println("  \"buttons\": [");
+        for (int i = 0; i < data.buttons.size(); i++) {
+            LevelData.ButtonData b = data.buttons.get(i);
+            String comma = (i < data.buttons.size() - 1) ? "," : "";
+            writer.println("    {\"x\": " + b.x + ", \"y\": " + b.y +
+                ", \"width\": " + b.width + ", \"height\": " + b.height +
+                ", \"texturePath\": \"" + escapeJson(b.texturePath) +
+                "\", \"linkId\": \"" + escapeJson(b.linkId) +
+                "\", \"buttonType\": \"" + escapeJson(b.buttonType) +
+                "\", \"actionType\": \"" + escapeJson(b.actionType) +
+                "\", \"actionTarget\": \"" + escapeJson(b.actionTarget) + "\"}" + comma);
+        }
+        writer.println("  ],");
+        writer.println();
+
+        // Vaults
+        writer.println("  \"vaults\": [");
+        for (int i = 0; i < data.vaults.size(); i++) {
+            LevelData.VaultData v = data.vaults.get(i);
+            String comma = (i < data.vaults.size() - 1) ? "," : "";
+            writer.println("    {\"x\": " + v.x + ", \"y\": " + v.y +
+                ", \"width\": " + v.width + ", \"height\": " + v.height +
+                ", \"texturePath\": \"" + escapeJson(v.texturePath) +
+                "\", \"linkId\": \"" + escapeJson(v.linkId) +
+                "\", \"vaultType\": \"" + escapeJson(v.vaultType) + "\"}" + comma);
+        }
+        writer.println("  ],");
+        writer.println();
+
+        // Moving Blocks
+        writer.println("  \"movingBlocks\": [");
+        for (int i = 0; i < data.movingBlocks.size(); i++) {
+            LevelData.MovingBlockData mb = data.movingBlocks.get(i);
+            String comma = (i < data.movingBlocks.size() - 1) ? "," : "";
+            writer.println("    {\"x\": " + mb.x + ", \"y\": " + mb.y +
+                ", \"blockType\": \"" + escapeJson(mb.blockType) +
+                "\", \"useGridCoords\": " + mb.useGridCoords +
+                ", \"movementPattern\": \"" + escapeJson(mb.movementPattern) +
+                "\", \"endX\": " + mb.endX + ", \"endY\": " + mb.endY +
+                ", \"speed\": " + mb.speed + ", \"pauseTime\": " + mb.pauseTime +
+                ", \"radius\": " + mb.radius + "}" + comma);
+        }
+        writer.println("  ]");
+
+        writer.println("}");
+    }
+
     /**
      * Escape special characters for JSON
      */
@@ -3099,6 +3898,24 @@ public class CreativeScene implements Scene {
             // Update camera bounds
             camera.setLevelBounds(levelData.levelWidth, levelData.levelHeight);
 
+            rebuildSpatialIndex();
+
+            // Replay edits journaled after the last compaction (crash recovery)
+            int recoveredEdits = replayJournal(filepath, levelData.journalGeneration);
+            if (editJournal != null) {
+                if (new File(filepath).getName().startsWith("creative_")) {
+                    editJournal.rebind(filepath, levelData.journalGeneration);
+                } else {
+                    // Never compact into hand-made levels - autosave a creative copy instead
+                    editJournal.rebind(null, 0);
+                    compactJournal();
+                }
+            }
+            if (recoveredEdits > 0) {
+                setStatus("Loaded level: " + filepath + " (recovered " + recoveredEdits + " journaled edits)");
+                return;
+            }
+
             setStatus("Loaded level: " + filepath + " (" +
                 placedBlocks.size() + " blocks, " +
                 placedMovingBlocks.size() + " moving blocks, " +
@@ -3289,7 +4106,14 @@ public class CreativeScene implements Scene {
                 placedDoors.clear();
                 placedButtons.clear();
                 placedVaults.clear();
+                placedMovingBlocks.clear();
                 parallaxLayers.clear();
+                rebuildSpatialIndex();
+
+                // Level properties are not journaled individually - fold them in with a compaction
+                if (editJournal != null) {
+                    editJournal.requestCompaction();
+                }
 
                 showPropertiesDialog = false;
                 dialog.dispose();
@@ -3415,6 +4239,9 @@ public class CreativeScene implements Scene {
                 layer.scrollSpeedY = Double.parseDouble(scrollSpeedYField.getText().trim());
                 layer.scale = Double.parseDouble(scaleField.getText().trim());
                 layer.opacity = Math.max(0.0, Math.min(1.0, Double.parseDouble(opacityField.getText().trim())));
+                if (editJournal != null) {
+                    editJournal.requestCompaction();
+                }
                 dialog.dispose();
                 setStatus("Updated parallax layer: " + layer.name);
             } catch (NumberFormatException ex) {
@@ -3425,6 +4252,9 @@ public class CreativeScene implements Scene {
         removeBtn.addActionListener(e -> {
             parallaxLayers.removeIf(l -> l.name.equals(layer.name));
             levelData.parallaxEnabled = !parallaxLayers.isEmpty();
+            if (editJournal != null) {
+                editJournal.requestCompaction();
+            }
             dialog.dispose();
             setStatus("Removed parallax layer: " + layer.name);
         });
@@ -3442,6 +4272,10 @@ public class CreativeScene implements Scene {
             gameScene.dispose();
             gameScene = null;
         }
+        if (editJournal != null) {
+            editJournal.close();
+            editJournal = null;
+        }
         initialized = false;
     }
 
@@ -7,6 +7,9 @@ import entity.mob.*;
 import entity.mob.mobs.humanoid.*;
 import entity.mob.mobs.quadruped.*;
 import entity.mob.mobs.special.*;
+import entity.mob.ai.AIScheduler;
+import entity.mob.ai.FlowFieldManager;
+import entity.mob.ai.PathFinder;
 import entity.mob.old.*;  // Deprecated bone-based mobs (HumanoidMobEntity, QuadrupedMobEntity)
 import block.*;
 import animation.bone.*;
@@ -41,6 +44,7 @@ public class GameScene implements Scene {
     private ArrayList<ButtonEntity> interactiveButtons;
     private ArrayList<VaultEntity> vaults;
     private ArrayList<block.MovingBlockEntity> movingBlocks;
+    private final ArrayList<Entity> riderContacts = new ArrayList<>(); // Scratch list for rider correction
     private Map<String, DoorEntity> doorsByLinkId;
     private Map<String, ButtonEntity> buttonsByLinkId;
     private PlayerBase player;
@@ -58,6 +62,7 @@ public class GameScene implements Scene {
 
     // Lighting system
     private LightingSystem lightingSystem;
+    private BlockGrid blockGrid;
     private LightSource playerLight;
     private boolean playerHasLantern = false;
 
@@ -211,7 +216,10 @@ public class GameScene implements Scene {
             entityManager.addEntity(background);
         }
 
-        // Add blocks (new block-based terrain system)
+        // Add blocks (new block-based terrain system), indexed by grid cell
+        blockGrid = BlockGrid.forLevel(levelData.levelWidth, levelData.levelHeight);
+        entityManager.setBlockGrid(blockGrid);
+        entityManager.getPathFinder().setGroundY(levelData.groundY);
         for (LevelData.BlockData b : levelData.blocks) {
             BlockType blockType = BlockType.fromName(b.blockType);
             BlockEntity block = new BlockEntity(b.x, b.y, blockType, b.useGridCoords);
@@ -283,6 +291,9 @@ public class GameScene implements Scene {
         }
         System.out.println("GameScene: Added " + mobsAdded + " mobs to level");
 
+        // Pre-warm projectile and item pools for this level's mob roster
+        EntityPools.getInstance().prewarm(entityManager.getEntities());
+
         // Add doors (interactive door entities)
         int doorsAdded = 0;
         for (LevelData.DoorData d : levelData.doors) {
@@ -549,6 +560,13 @@ public class GameScene implements Scene {
             }
         }
 
+        // Block levels light per tile so terrain occludes light
+        if (blockGrid != null && blockGrid.getBlockCount() > 0) {
+            TileLightMap tileLightMap = new TileLightMap(blockGrid);
+            tileLightMap.setSkyLight(levelData.skyLight);
+            lightingSystem.setTileLightMap(tileLightMap);
+        }
+
         lastUpdateTime = System.nanoTime();
 
         if (levelData.nightMode) {
@@ -735,6 +753,13 @@ public class GameScene implements Scene {
         // Handle door and button interactions FIRST (before entities consume E key)
         handleDoorButtonInteractions(input);
 
+        // Flow fields cover the camera view (plus a margin) rather than the whole level
+        FlowFieldManager flowFields = entityManager.getFlowFields();
+        if (flowFields != null && camera != null) {
+            flowFields.setView((int) camera.getX(), (int) camera.getY(),
+                    camera.getViewportWidth(), camera.getViewportHeight());
+        }
+
         entityManager.updateAll(input);
 
         // Handle player riding on moving blocks
@@ -896,8 +921,8 @@ public class GameScene implements Scene {
             // Remove the broken block from the entity manager
             entityManager.removeEntity(brokenBlock);
 
-            // Add the dropped item if any
-            if (droppedItem != null) {
+            // Add the dropped item if any (the player's block helper may already have)
+            if (droppedItem != null && !entityManager.getEntities().contains(droppedItem)) {
                 entityManager.addEntity(droppedItem);
             }
         }
@@ -928,72 +953,16 @@ public class GameScene implements Scene {
             foundHigherSurface = true;
         }
 
-        // Check against all static blocks
-        ArrayList<Entity> entities = entityManager.getEntities();
-        for (Entity e : entities) {
-            // Skip the moving block being ridden and non-solid entities
-            if (e == ridingBlock) continue;
-
-            boolean isSolid = false;
-            Rectangle blockBounds = null;
-
-            if (e instanceof BlockEntity) {
-                BlockEntity block = (BlockEntity) e;
-                if (block.isSolid() && !block.isBroken()) {
-                    isSolid = true;
-                    blockBounds = block.getBounds();
-                }
-            } else if (e instanceof SpriteEntity) {
-                SpriteEntity sprite = (SpriteEntity) e;
-                if (sprite.isSolid()) {
-                    isSolid = true;
-                    blockBounds = sprite.getBounds();
-                }
-            }
-
-            if (isSolid && blockBounds != null) {
-                // Check if rider horizontally overlaps with this block
-                int blockLeft = blockBounds.x;
-                int blockRight = blockBounds.x + blockBounds.width;
-                int blockTop = blockBounds.y;
-                int blockBottom = blockBounds.y + blockBounds.height;
-
-                boolean horizontalOverlap = riderRight > blockLeft && riderLeft < blockRight;
-
-                if (horizontalOverlap) {
-                    // Check if rider's bottom is inside or below the block's top
-                    // and rider's top is above the block's bottom (actual collision)
-                    if (riderBottom > blockTop && riderBounds.y < blockBottom) {
-                        // Rider is colliding with this block
-                        // If the block top is higher (smaller Y) than current highest, use it
-                        if (blockTop < highestSurfaceY) {
-                            highestSurfaceY = blockTop;
-                            foundHigherSurface = true;
-                        }
-                    }
-                }
-            }
-        }
-
-        // Also check other moving blocks (not the one being ridden)
-        for (block.MovingBlockEntity mb : movingBlocks) {
-            if (mb == ridingBlock || mb.isBroken()) continue;
-
-            Rectangle blockBounds = mb.getBounds();
-            int blockLeft = blockBounds.x;
-            int blockRight = blockBounds.x + blockBounds.width;
-            int blockTop = blockBounds.y;
-            int blockBottom = blockBounds.y + blockBounds.height;
-
-            boolean horizontalOverlap = riderRight > blockLeft && riderLeft < blockRight;
-
-            if (horizontalOverlap) {
-                if (riderBottom > blockTop && riderBounds.y < blockBottom) {
-                    if (blockTop < highestSurfaceY) {
-                        highestSurfaceY = blockTop;
-                        foundHigherSurface = true;
-                    }
-                }
+        // Check against solid blocks, sprites and other moving blocks the rider overlaps
+        riderContacts.clear();
+        entityManager.getTileCollider().collectSolids(riderBounds, ridingBlock, riderContacts);
+        for (Entity e : riderContacts) {
+            if (e == rider) continue;
+            int blockTop = e.getBounds().y;
+            // If the block top is higher (smaller Y) than current highest, use it
+            if (blockTop < highestSurfaceY) {
+                highestSurfaceY = blockTop;
+                foundHigherSurface = true;
             }
         }
 
@@ -1362,13 +1331,19 @@ public class GameScene implements Scene {
 
         Graphics2D g2d = (Graphics2D) g;
 
+        // World goes through the render scaler (internal resolution), UI stays full resolution
+        RenderScaler scaler = RenderScaler.getInstance();
+        Graphics2D world = scaler.beginWorld(g2d, GamePanel.SCREEN_WIDTH, GamePanel.SCREEN_HEIGHT);
+
         // Use camera-based rendering for scrolling levels
         if (levelData.scrollingEnabled && camera != null) {
-            drawWithCamera(g2d);
+            drawWithCamera(world);
         } else {
-            drawWithoutCamera(g2d);
+            drawWithoutCamera(world);
         }
 
+        scaler.endWorld(g2d);
+
         // Draw UI elements (always in screen space, not affected by camera)
         drawUI(g2d);
     }
@@ -1532,7 +1507,7 @@ public class GameScene implements Scene {
 
         // Semi-transparent background for debug panel
         g2d.setColor(new Color(0, 0, 0, 180));
-        g2d.fillRect(5, debugY - 15, 350, 220);
+        g2d.fillRect(5, debugY - 15, 420, 378);
 
         g2d.setFont(new Font("Monospaced", Font.BOLD, 14));
         g2d.setColor(Color.CYAN);
@@ -1573,6 +1548,58 @@ public class GameScene implements Scene {
             g2d.drawString(String.format("Entities: %d (Mobs: %d, Blocks: %d, Items: %d)",
                     totalEntities, mobCount, blockCount, itemCount), debugX, debugY);
             debugY += lineHeight;
+            DroppedItemManager droppedItems = entityManager.getDroppedItems();
+            g2d.drawString(String.format("Items: %d asleep | %d updated | %d merged",
+                    droppedItems.getSleepingCount(), droppedItems.getUpdatesLastTick(),
+                    droppedItems.getMerges()), debugX, debugY);
+            debugY += lineHeight;
+            ObjectPool<ProjectileEntity> projectilePool = EntityPools.getInstance().getProjectilePool();
+            ObjectPool<ItemEntity> itemPool = EntityPools.getInstance().getItemPool();
+            g2d.drawString(String.format("Pools: projectiles %d out / %d peak | items %d out / %d peak",
+                    projectilePool.getInUse(), projectilePool.getHighWater(),
+                    itemPool.getInUse(), itemPool.getHighWater()), debugX, debugY);
+            debugY += lineHeight;
+            BlockChunkRenderer blockLayer = entityManager.getBlockLayer();
+            if (blockLayer != null) {
+                g2d.drawString(String.format("Block chunks: %d drawn | %d baked | %d cached",
+                        blockLayer.getChunksDrawn(), blockLayer.getChunksBaked(),
+                        blockLayer.getCachedChunkCount()), debugX, debugY);
+                debugY += lineHeight;
+            }
+            AIScheduler aiScheduler = entityManager.getAIScheduler();
+            g2d.drawString(String.format("Mob AI: %d/%d thinking | far %d/%d budget | %d queued",
+                    aiScheduler.getThinksLastTick(), aiScheduler.getMobCount(),
+                    aiScheduler.getFarThinksLastTick(), aiScheduler.getBudget(),
+                    aiScheduler.getQueueDepth()), debugX, debugY);
+            debugY += lineHeight;
+            LineOfSight lineOfSight = entityManager.getLineOfSight();
+            if (lineOfSight != null) {
+                g2d.drawString(String.format("Sight: %d checks | %d rays traced",
+                        lineOfSight.getQueriesLastTick(), lineOfSight.getRaysLastTick()), debugX, debugY);
+                debugY += lineHeight;
+            }
+            PathFinder pathFinder = entityManager.getPathFinder();
+            if (pathFinder != null) {
+                g2d.drawString(String.format("Paths: %d cached | %d queued | %d nodes",
+                        pathFinder.getCachedPathCount(), pathFinder.getQueuedCount(),
+                        pathFinder.getNodesLastTick()), debugX, debugY);
+                debugY += lineHeight;
+            }
+            FlowFieldManager flowFields = entityManager.getFlowFields();
+            if (flowFields != null && flowFields.getFieldCount() > 0) {
+                g2d.drawString(String.format("Flow fields: %d | %d graph builds | %d solves",
+                        flowFields.getFieldCount(), flowFields.getGraphBuilds(),
+                        flowFields.getSolves()), debugX, debugY);
+                debugY += lineHeight;
+            }
+            AnimationBaker baker = AnimationBaker.getInstance();
+            if (baker.getCachedAnimationCount() > 0) {
+                g2d.drawString(String.format("Baked anims: %d cached | %.1f MB",
+                        baker.getCachedAnimationCount(), baker.getCachedBytes() / (1024.0 * 1024.0)), debugX, debugY);
+                debugY += lineHeight;
+            }
+            g2d.drawString("UI layer repaints: " + UILayer.getTotalRepaints(), debugX, debugY);
+            debugY += lineHeight;
         }
 
         // Lighting info
@@ -1581,6 +1608,12 @@ public class GameScene implements Scene {
                     lightingSystem.isNight() ? "NIGHT" : "DAY",
                     lightingSystem.getLightSources().size()), debugX, debugY);
             debugY += lineHeight;
+            TileLightMap tileLightMap = lightingSystem.getTileLightMap();
+            if (tileLightMap != null) {
+                g2d.drawString(String.format("Tile light: %d visited | %d pending",
+                        tileLightMap.getLastTickWork(), tileLightMap.getPendingWork()), debugX, debugY);
+                debugY += lineHeight;
+            }
         }
 
         // Camera info
@@ -1604,7 +1637,12 @@ public class GameScene implements Scene {
     public void dispose() {
         System.out.println("GameScene: Disposing level '" + (levelData != null ? levelData.name : "unknown") + "'");
         initialized = false;
+        if (entityManager != null) {
+            // Return pooled projectiles and items for the next level
+            entityManager.clear();
+        }
         entityManager = null;
+        blockGrid = null;
         buttons = null;
         triggers = null;
         doors = null;
@@ -0,0 +1,511 @@
+package scene.creative;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Append-only edit journal for the Creative Scene level editor.
+ *
+ * Every place/remove/configure edit is recorded as a single line and flushed to
+ * a journal file next to the level on a background thread every few hundred
+ * milliseconds. The full level file is only rewritten during periodic compaction,
+ * so the cost of autosaving scales with the number of edits rather than map size.
+ *
+ * If the editor crashes, the journal is left behind and can be replayed on top of
+ * the last compacted level file to recover the session.
+ *
+ * Each full level write (compaction or explicit save) starts a new generation and
+ * stores it in the level file as "journalGeneration". Journal segments are headed by
+ * the generation they were recorded against, and replay skips segments older than
+ * the level's, so a crash between the level write and the journal truncation cannot
+ * apply the same edits twice.
+ *
+ * Journal line format (tab separated, values escaped):
+ *   GEN  generation                               (segment header)
+ *   OP  kind  x  y  key=value  key=value ...
+ */
+public class CreativeEditJournal {
+
+    // Flush and compaction tuning
+    public static final long FLUSH_INTERVAL_MS = 250;
+    public static final int COMPACT_AFTER_EDITS = 2000;
+    public static final long COMPACT_INTERVAL_MS = 60000;
+
+    // Where unsaved (never named) levels are compacted to
+    public static final String AUTOSAVE_LEVEL_PATH = "levels/autosave/creative_autosave.json";
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String SEGMENT_HEADER = "GEN";
+
+    /**
+     * Kinds of edits recorded in the journal.
+     */
+    public enum Op {
+        PLACE,      // Entity added to the level
+        REMOVE,     // Entity removed from the level
+        CONFIGURE   // Existing entity (or level property) changed
+    }
+
+    /**
+     * A single journaled edit.
+     */
+    public static class Entry {
+        public final Op op;
+        public final String kind;  // PlacedEntity type ("block", "mob", "door", "spawn", ...)
+        public final int x, y;
+        public final Map<String, String> fields;
+
+        public Entry(Op op, String kind, int x, int y, Map<String, String> fields) {
+            this.op = op;
+            this.kind = kind;
+            this.x = x;
+            this.y = y;
+            this.fields = fields != null ? fields : new LinkedHashMap<>();
+        }
+
+        String toLine() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(op.name()).append('\t').append(escape(kind))
+              .append('\t').append(x).append('\t').append(y);
+            for (Map.Entry<String, String> field : fields.entrySet()) {
+                sb.append('\t').append(escape(field.getKey()))
+                  .append('=').append(escape(field.getValue()));
+            }
+            return sb.toString();
+        }
+
+        static Entry fromLine(String line) {
+            String[] parts = line.split("\t", -1);
+            if (parts.length < 4) return null;
+            try {
+                Op op = Op.valueOf(parts[0]);
+                int x = Integer.parseInt(parts[2]);
+                int y = Integer.parseInt(parts[3]);
+                Map<String, String> fields = new LinkedHashMap<>();
+                for (int i = 4; i < parts.length; i++) {
+                    int eq = parts[i].indexOf('=');
+                    if (eq < 0) continue;
+                    fields.put(unescape(parts[i].substring(0, eq)), unescape(parts[i].substring(eq + 1)));
+                }
+                return new Entry(op, unescape(parts[1]), x, y, fields);
+            } catch (IllegalArgumentException e) {
+                // Torn or unknown line (e.g. crash mid-write) - skip it
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Marker queued in the pending stream to compact at an exact point in the edit order.
+     */
+    private static class Compaction {
+        final Consumer<PrintWriter> levelWriter;
+
+        Compaction(Consumer<PrintWriter> levelWriter) {
+            this.levelWriter = levelWriter;
+        }
+    }
+
+    /**
+     * Marker queued in the pending stream to switch to another level's journal.
+     */
+    private static class Rebind {
+        final String levelPath;
+
+        Rebind(String levelPath) {
+            this.levelPath = levelPath;
+        }
+    }
+
+    // Pending lines and markers, in edit order (written by game thread, drained by writer thread)
+    private final ConcurrentLinkedQueue<Object> pending = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService writerExecutor;
+    private final Thread shutdownHook;
+
+    // Writer-thread state
+    private String levelPath;
+    private BufferedWriter journalWriter;
+    private FileOutputStream journalStream;
+
+    // Game-thread compaction bookkeeping
+    private int generation;                // Generation of the level file edits are recorded against
+    private boolean segmentStarted = false; // Header for the current generation queued
+    private int editsSinceCompaction = 0;
+    private long lastCompactionTime = System.currentTimeMillis();
+    private boolean compactionRequested = false;
+    private boolean closed = false;
+
+    /**
+     * Create a journal bound to the given level file and start the background flusher.
+     * @param levelPath Level file the journal belongs to (null for an unsaved level)
+     * @param levelGeneration Journal generation stored in that level file (0 if none)
+     */
+    public CreativeEditJournal(String levelPath, int levelGeneration) {
+        this.levelPath = levelPath != null ? levelPath : AUTOSAVE_LEVEL_PATH;
+        this.generation = levelGeneration;
+
+        writerExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "CreativeEditJournal-Writer");
+            t.setDaemon(true);
+            return t;
+        });
+        writerExecutor.scheduleWithFixedDelay(this::flushPending,
+            FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+
+        // Flush whatever is still pending if the game exits via System.exit
+        shutdownHook = new Thread(this::flushPending, "CreativeEditJournal-Shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Get the journal file path for a level file.
+     */
+    public static String journalPathFor(String levelPath) {
+        return levelPath + JOURNAL_SUFFIX;
+    }
+
+    /**
+     * Check whether a level has edits that were journaled but never cleanly closed.
+     */
+    public static boolean hasJournal(String levelPath) {
+        return levelPath != null && new File(journalPathFor(levelPath)).exists();
+    }
+
+    /**
+     * Check whether an unsaved session was left behind by a crash.
+     */
+    public static boolean hasRecoverableAutosave() {
+        return hasJournal(AUTOSAVE_LEVEL_PATH) || new File(AUTOSAVE_LEVEL_PATH).exists();
+    }
+
+    /**
+     * Delete a previous unsaved session (autosave level and journal) when starting fresh.
+     */
+    public static void clearAutosave() {
+        deleteQuietly(journalPathFor(AUTOSAVE_LEVEL_PATH));
+        deleteQuietly(AUTOSAVE_LEVEL_PATH);
+    }
+
+    /**
+     * Read the entries a level file does not hold yet from its journal, in edit order.
+     * @param levelGeneration Journal generation stored in the level file; segments
+     *                        recorded against an older generation are already in it
+     * @return List of entries (empty if there is no journal)
+     */
+    public static List<Entry> readEntries(String levelPath, int levelGeneration) {
+        List<Entry> entries = new ArrayList<>();
+        File file = new File(journalPathFor(levelPath));
+        if (!file.exists()) return entries;
+
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            int segmentGeneration = 0; // Lines before any header belong to generation 0
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) continue;
+                if (line.startsWith(SEGMENT_HEADER + "\t")) {
+                    try {
+                        segmentGeneration = Integer.parseInt(line.substring(SEGMENT_HEADER.length() + 1));
+                    } catch (NumberFormatException e) {
+                        // Torn header - keep the previous segment's generation
+                    }
+                    continue;
+                }
+                if (segmentGeneration < levelGeneration) continue; // Already in the level file
+                Entry entry = Entry.fromLine(line);
+                if (entry != null) {
+                    entries.add(entry);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("CreativeEditJournal: Failed to read journal " + file.getPath());
+            e.printStackTrace();
+        }
+        return entries;
+    }
+
+    /**
+     * Record an edit. Called from the game thread; the write happens on the next flush.
+     */
+    public void record(Entry entry) {
+        if (closed) return;
+        if (!segmentStarted) {
+            pending.add(SEGMENT_HEADER + "\t" + generation);
+            segmentStarted = true;
+        }
+        pending.add(entry.toLine());
+        editsSinceCompaction++;
+    }
+
+    /**
+     * Request a compaction on the next check, e.g. after level properties or
+     * parallax layers change (those are not journaled individually).
+     */
+    public void requestCompaction() {
+        compactionRequested = true;
+    }
+
+    /**
+     * Check whether enough edits or time have accumulated to compact.
+     */
+    public boolean shouldCompact() {
+        if (closed) return false;
+        if (compactionRequested) return true;
+        if (editsSinceCompaction >= COMPACT_AFTER_EDITS) return true;
+        return editsSinceCompaction > 0 &&
+               System.currentTimeMillis() - lastCompactionTime >= COMPACT_INTERVAL_MS;
+    }
+
+    /**
+     * Start a new generation for a full level write (compaction or explicit save).
+     * Edits recorded from now on belong to it.
+     * @return Generation to store in the level file as "journalGeneration"
+     */
+    public int nextGeneration() {
+        generation++;
+        segmentStarted = false;
+        return generation;
+    }
+
+    /**
+     * Compact the journal into the level file. The level writer is invoked on the
+     * background thread, so it must only read a snapshot that the caller will not mutate.
+     * @param levelWriter Writes the full level JSON with the given journal generation
+     */
+    public void compact(ObjIntConsumer<PrintWriter> levelWriter) {
+        if (closed) return;
+        int levelGeneration = nextGeneration();
+        pending.add(new Compaction(writer -> levelWriter.accept(writer, levelGeneration)));
+        editsSinceCompaction = 0;
+        compactionRequested = false;
+        lastCompactionTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Switch the journal to another level file.
+     * @param newLevelPath The level now being edited
+     * @param levelGeneration Journal generation stored in the new level file
+     */
+    public void rebind(String newLevelPath, int levelGeneration) {
+        if (closed) return;
+        generation = levelGeneration;
+        segmentStarted = false;
+        pending.add(new Rebind(newLevelPath != null ? newLevelPath : AUTOSAVE_LEVEL_PATH));
+    }
+
+    /**
+     * Write the full level to a file now (explicit save) and start the journal over
+     * against it. Pending edits and queued compactions are drained first under the
+     * writer lock, so no older snapshot can be written over the saved file afterwards.
+     * @param newLevelPath Level file to save to
+     * @param levelWriter Writes the full level JSON with the given journal generation
+     * @throws IOException If the level could not be written (the old journal is kept)
+     */
+    public synchronized void save(String newLevelPath, ObjIntConsumer<PrintWriter> levelWriter) throws IOException {
+        int levelGeneration = nextGeneration();
+        flushPending();
+        writeLevelAtomically(newLevelPath, writer -> levelWriter.accept(writer, levelGeneration));
+
+        // Everything journaled so far is in the saved file, which also supersedes
+        // any journal left next to it
+        closeJournalFile();
+        deleteQuietly(journalPathFor(levelPath));
+        deleteQuietly(journalPathFor(newLevelPath));
+        if (AUTOSAVE_LEVEL_PATH.equals(levelPath) && !AUTOSAVE_LEVEL_PATH.equals(newLevelPath)) {
+            deleteQuietly(AUTOSAVE_LEVEL_PATH);
+        }
+        levelPath = newLevelPath;
+
+        editsSinceCompaction = 0;
+        compactionRequested = false;
+        lastCompactionTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Flush any pending edits and stop the background writer. The journal file is kept,
+     * so the session can still be recovered.
+     */
+    public void close() {
+        if (closed) return;
+        closed = true;
+        shutdownWriter();
+    }
+
+    /**
+     * Stop the writer and delete the journal (and autosave level) - used when the
+     * user explicitly exits without saving.
+     */
+    public void discard() {
+        if (closed) return;
+        closed = true;
+        pending.clear();
+        shutdownWriter();
+        deleteQuietly(journalPathFor(levelPath));
+        if (AUTOSAVE_LEVEL_PATH.equals(levelPath)) {
+            deleteQuietly(AUTOSAVE_LEVEL_PATH);
+        }
+    }
+
+    private void shutdownWriter() {
+        writerExecutor.shutdown();
+        try {
+            writerExecutor.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushPending();
+        closeJournalFile();
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // Already shutting down
+        }
+    }
+
+    /**
+     * Drain pending lines and markers to disk in order. Runs on the writer thread
+     * (and once more on close/shutdown).
+     */
+    private synchronized void flushPending() {
+        if (pending.isEmpty()) return;
+
+        try {
+            Object next;
+            boolean wroteLines = false;
+            while ((next = pending.poll()) != null) {
+                if (next instanceof String) {
+                    ensureJournalOpen();
+                    journalWriter.write((String) next);
+                    journalWriter.newLine();
+                    wroteLines = true;
+                } else if (next instanceof Compaction) {
+                    syncJournal(wroteLines);
+                    wroteLines = false;
+                    writeLevelAtomically(levelPath, ((Compaction) next).levelWriter);
+                    truncateJournal();
+                } else if (next instanceof Rebind) {
+                    syncJournal(wroteLines);
+                    wroteLines = false;
+                    closeJournalFile();
+                    levelPath = ((Rebind) next).levelPath;
+                }
+            }
+            syncJournal(wroteLines);
+        } catch (IOException e) {
+            System.err.println("CreativeEditJournal: Failed to flush journal for " + levelPath);
+            e.printStackTrace();
+        }
+    }
+
+    private void ensureJournalOpen() throws IOException {
+        if (journalWriter != null) return;
+        File file = new File(journalPathFor(levelPath));
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        journalStream = new FileOutputStream(file, true);
+        journalWriter = new BufferedWriter(new OutputStreamWriter(journalStream, StandardCharsets.UTF_8));
+    }
+
+    private void syncJournal(boolean wroteLines) throws IOException {
+        if (!wroteLines || journalWriter == null) return;
+        journalWriter.flush();
+        journalStream.getFD().sync();
+    }
+
+    private void truncateJournal() throws IOException {
+        closeJournalFile();
+        File file = new File(journalPathFor(levelPath));
+        if (AUTOSAVE_LEVEL_PATH.equals(levelPath)) {
+            // Keep an empty journal so the unsaved session is still flagged as recoverable
+            new FileOutputStream(file, false).close();
+        } else {
+            deleteQuietly(file.getPath());
+        }
+    }
+
+    private void closeJournalFile() {
+        if (journalWriter == null) return;
+        try {
+            journalWriter.close();
+        } catch (IOException e) {
+            System.err.println("CreativeEditJournal: Failed to close journal for " + levelPath);
+        }
+        journalWriter = null;
+        journalStream = null;
+    }
+
+    /**
+     * Write the level to a temp file and atomically move it over the level file,
+     * so a crash mid-write can never leave a truncated level behind.
+     */
+    public static void writeLevelAtomically(String path, Consumer<PrintWriter> levelWriter) throws IOException {
+        Path target = Paths.get(path);
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        Path temp = Paths.get(path + ".tmp");
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(temp, StandardCharsets.UTF_8))) {
+            levelWriter.accept(writer);
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(String path) {
+        try {
+            Files.deleteIfExists(Paths.get(path));
+        } catch (IOException e) {
+            System.err.println("CreativeEditJournal: Failed to delete " + path);
+        }
+    }
+
+    private static String escape(String s) {
+        if (s == null) return "";
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '\\': sb.append("\\\\"); break;
+                case '\t': sb.append("\\t"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '=': sb.append("\\e"); break;
+                default: sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String unescape(String s) {
+        if (s.indexOf('\\') < 0) return s;
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\\' && i + 1 < s.length()) {
+                char n = s.charAt(++i);
+                switch (n) {
+                    case 't': sb.append('\t'); break;
+                    case 'n': sb.append('\n'); break;
+                    case 'r': sb.append('\r'); break;
+                    case 'e': sb.append('='); break;
+                    default: sb.append(n);
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
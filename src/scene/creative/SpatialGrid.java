@@ -0,0 +1,147 @@
+package scene.creative;
+
+import java.awt.Rectangle;
+import java.util.*;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Grid-hash spatial index used by the Creative Scene level editor.
+ *
+ * Each item is stored in every cell its bounds overlap, so a point lookup only
+ * has to look at a single cell (O(1)) and a rectangle query only touches the
+ * cells it covers, regardless of how many entities the level contains.
+ *
+ * Items must not move while indexed - remove and re-insert them instead.
+ *
+ * @param <T> Type of indexed item
+ */
+public class SpatialGrid<T> {
+
+    private final int cellSize;
+    private final Map<Long, List<T>> cells = new HashMap<>();
+    private int size = 0;
+
+    /**
+     * Create a grid with square cells.
+     * @param cellSize Cell size in world pixels (usually the block size)
+     */
+    public SpatialGrid(int cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Pack a cell coordinate pair into a map key.
+     */
+    public static long key(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Convert a world coordinate to a cell coordinate (floor, so negative positions work).
+     */
+    public int toCell(int worldCoord) {
+        return Math.floorDiv(worldCoord, cellSize);
+    }
+
+    /**
+     * Add an item covering the given bounds.
+     */
+    public void insert(T item, Rectangle bounds) {
+        int minX = toCell(bounds.x);
+        int minY = toCell(bounds.y);
+        int maxX = toCell(bounds.x + bounds.width - 1);
+        int maxY = toCell(bounds.y + bounds.height - 1);
+
+        for (int cy = minY; cy <= maxY; cy++) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                cells.computeIfAbsent(key(cx, cy), k -> new ArrayList<>(2)).add(item);
+            }
+        }
+        size++;
+    }
+
+    /**
+     * Remove an item that was inserted with the same bounds.
+     */
+    public void remove(T item, Rectangle bounds) {
+        int minX = toCell(bounds.x);
+        int minY = toCell(bounds.y);
+        int maxX = toCell(bounds.x + bounds.width - 1);
+        int maxY = toCell(bounds.y + bounds.height - 1);
+
+        boolean removed = false;
+        for (int cy = minY; cy <= maxY; cy++) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                long key = key(cx, cy);
+                List<T> cell = cells.get(key);
+                if (cell == null) continue;
+                // Identity removal - items don't need equals()
+                for (int i = 0; i < cell.size(); i++) {
+                    if (cell.get(i) == item) {
+                        cell.remove(i);
+                        removed = true;
+                        break;
+                    }
+                }
+                if (cell.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        }
+        if (removed) size--;
+    }
+
+    /**
+     * Get the items overlapping a cell.
+     * @return Items in the cell, or null if the cell is empty (do not modify)
+     */
+    public List<T> getCell(int cellX, int cellY) {
+        return cells.get(key(cellX, cellY));
+    }
+
+    /**
+     * Get the items overlapping the cell that contains a world position.
+     * @return Items in the cell, or null if the cell is empty (do not modify)
+     */
+    public List<T> getCellAt(int worldX, int worldY) {
+        return cells.get(key(toCell(worldX), toCell(worldY)));
+    }
+
+    /**
+     * Visit every item whose cells overlap a world rectangle. Each item is visited once,
+     * even if it spans several cells. Callers still need an exact bounds test.
+     */
+    public void query(Rectangle area, Consumer<T> visitor) {
+        int minX = toCell(area.x);
+        int minY = toCell(area.y);
+        int maxX = toCell(area.x + area.width - 1);
+        int maxY = toCell(area.y + area.height - 1);
+
+        Set<T> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int cy = minY; cy <= maxY; cy++) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                List<T> cell = cells.get(key(cx, cy));
+                if (cell == null) continue;
+                for (int i = 0; i < cell.size(); i++) {
+                    T item = cell.get(i);
+                    if (seen.add(item)) {
+                        visitor.accept(item);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove everything from the index.
+     */
+    public void clear() {
+        cells.clear();
+        size = 0;
+    }
+
+    public int size() { return size; }
+    public int getOccupiedCellCount() { return cells.size(); }
+    public int getCellSize() { return cellSize; }
+}
@@ -70,6 +70,12 @@ public class AlchemyTableUI {
     private Color accentColor = new Color(100, 220, 150);  // Green for alchemy
     private Color titleColor = new Color(150, 255, 180);
 
+    // Cached panel and tooltip images (see UILayer)
+    private final UILayer panelLayer = new UILayer();
+    private final UILayer tooltipLayer = new UILayer();
+    private java.util.List<String> tooltipLines;
+    private int tooltipWidth, tooltipHeight;
+
     // Callbacks
     private ItemConsumedCallback itemConsumedCallback;
     private ItemProducedCallback itemProducedCallback;
@@ -463,22 +469,13 @@ public class AlchemyTableUI {
         Graphics2D g2d = (Graphics2D) g;
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        // Draw background panel
-        drawBackground(g2d);
-
-        // Draw title
-        drawTitle(g2d);
-
-        // Draw input slots
-        for (int i = 0; i < 3; i++) {
-            drawSlot(g2d, inputSlots[i], i, hoveredSlotIndex == i);
+        // Panel is repainted only when slots, hover, drag or recipe change
+        panelLayer.key(hoveredSlotIndex).key(currentRecipe).key(isDragging ? dragSourceIndex : -1);
+        for (int i = 0; i <= 3; i++) {
+            CraftingSlot slot = getSlotByIndex(i);
+            panelLayer.key(slot.itemId).key(slot.stackCount).key(slot.icon).key(slot.x).key(slot.y);
         }
-
-        // Draw arrow
-        drawArrow(g2d);
-
-        // Draw output slot
-        drawSlot(g2d, outputSlot, 3, hoveredSlotIndex == 3);
+        panelLayer.draw(g2d, x, y, width, height, this::paintPanel);
 
         // Draw tooltip
         if (hoveredSlotIndex >= 0) {
@@ -500,6 +497,25 @@ public class AlchemyTableUI {
         drawDraggedItem(g2d);
     }
 
+    private void paintPanel(Graphics2D g2d) {
+        // Draw background panel
+        drawBackground(g2d);
+
+        // Draw title
+        drawTitle(g2d);
+
+        // Draw input slots
+        for (int i = 0; i < 3; i++) {
+            drawSlot(g2d, inputSlots[i], i, hoveredSlotIndex == i);
+        }
+
+        // Draw arrow
+        drawArrow(g2d);
+
+        // Draw output slot
+        drawSlot(g2d, outputSlot, 3, hoveredSlotIndex == 3);
+    }
+
     private void drawBackground(Graphics2D g2d) {
         // Main panel
         g2d.setColor(panelBackground);
@@ -597,9 +613,43 @@ public class AlchemyTableUI {
         g2d.fillPolygon(xPoints, yPoints, 3);
     }
 
+    /**
+     * Draws the tooltip for a slot at the mouse. The tooltip image is cached per
+     * item and stack size and only moved with the mouse.
+     */
     private void drawTooltip(Graphics2D g2d, CraftingSlot slot) {
         if (slot.itemTemplate == null) return;
 
+        Item item = slot.itemTemplate;
+        tooltipLayer.key(item).key(slot.stackCount);
+        if (tooltipLayer.needsRepaint()) {
+            layoutTooltip(g2d, slot);
+        }
+
+        int tx = mouseX + 15;
+        int ty = mouseY - tooltipHeight / 2;
+
+        // Keep on screen
+        if (tx + tooltipWidth > x + width) {
+            tx = mouseX - tooltipWidth - 10;
+        }
+        if (ty < 0) {
+            ty = 5;
+        }
+        if (ty + tooltipHeight > 1080) {
+            ty = 1080 - tooltipHeight - 5;
+        }
+
+        final int tooltipX = tx;
+        final int tooltipY = ty;
+        tooltipLayer.draw(g2d, tooltipX, tooltipY, tooltipWidth, tooltipHeight,
+                g -> paintTooltip(g, item, tooltipX, tooltipY));
+    }
+
+    /**
+     * Builds the tooltip lines for a slot and measures the tooltip.
+     */
+    private void layoutTooltip(Graphics2D g2d, CraftingSlot slot) {
         Item item = slot.itemTemplate;
         String name = item.getName();
         String rarity = item.getRarity().getDisplayName();
@@ -627,30 +677,20 @@ public class AlchemyTableUI {
         }
 
         // Calculate tooltip size
-        g2d.setFont(new Font("Arial", Font.BOLD, 12));
+        FontMetrics fm = g2d.getFontMetrics(new Font("Arial", Font.BOLD, 12));
         int maxWidth = 0;
         for (String line : lines) {
-            int w = g2d.getFontMetrics().stringWidth(line);
+            int w = fm.stringWidth(line);
             if (w > maxWidth) maxWidth = w;
         }
 
-        int tooltipWidth = maxWidth + 20;
-        int lineHeight = 14;
-        int tooltipHeight = lines.size() * lineHeight + 16;
-
-        int tx = mouseX + 15;
-        int ty = mouseY - tooltipHeight / 2;
+        tooltipLines = lines;
+        tooltipWidth = maxWidth + 20;
+        tooltipHeight = lines.size() * 14 + 16;
+    }
 
-        // Keep on screen
-        if (tx + tooltipWidth > x + width) {
-            tx = mouseX - tooltipWidth - 10;
-        }
-        if (ty < 0) {
-            ty = 5;
-        }
-        if (ty + tooltipHeight > 1080) {
-            ty = 1080 - tooltipHeight - 5;
-        }
+    private void paintTooltip(Graphics2D g2d, Item item, int tx, int ty) {
+        int lineHeight = 14;
 
         // Background
         g2d.setColor(new Color(20, 20, 30, 230));
@@ -663,7 +703,7 @@ public class AlchemyTableUI {
 
         // Draw text lines
         int textY = ty + 16;
-        for (int i = 0; i < lines.size(); i++) {
+        for (int i = 0; i < tooltipLines.size(); i++) {
             if (i == 0) {
                 g2d.setColor(item.getRarity().getColor());
                 g2d.setFont(new Font("Arial", Font.BOLD, 12));
@@ -671,7 +711,7 @@ public class AlchemyTableUI {
                 g2d.setColor(Color.LIGHT_GRAY);
                 g2d.setFont(new Font("Arial", Font.PLAIN, 10));
             }
-            g2d.drawString(lines.get(i), tx + 10, textY);
+            g2d.drawString(tooltipLines.get(i), tx + 10, textY);
             textY += lineHeight;
         }
     }
@@ -65,6 +65,15 @@ public class Inventory {
     private int cursorHeldItemOriginalSlot = -1;  // Original slot index of the held item
     private boolean navigationMode = false;  // True when using keyboard/controller navigation
 
+    // Cached panel images, repainted only when their state changes (see UILayer)
+    private final UILayer hotbarLayer = new UILayer();
+    private final UILayer hintLayer = new UILayer();
+    private final UILayer panelLayer = new UILayer();
+    private final UILayer tooltipLayer = new UILayer();
+    private List<String> tooltipLines;
+    private Color tooltipColor;
+    private int tooltipWidth, tooltipHeight;
+
     public Inventory() {
         this.slots = new ItemEntity[MAX_SLOTS];  // Fixed-size array, null = empty slot
         this.isOpen = false;
@@ -1128,14 +1137,43 @@ public class Inventory {
         isDragging = false;
     }
 
+    // Hotbar layout (bottom center of screen)
+    private static final int HOTBAR_SLOT_SIZE = 50;
+    private static final int HOTBAR_PADDING = 5;
+    private static final int HOTBAR_WIDTH = HOTBAR_SIZE * (HOTBAR_SLOT_SIZE + HOTBAR_PADDING) + HOTBAR_PADDING;
+    private static final int HOTBAR_HEIGHT = HOTBAR_SLOT_SIZE + HOTBAR_PADDING * 2;
+    private static final int HOTBAR_X = (1920 - HOTBAR_WIDTH) / 2;
+    private static final int HOTBAR_Y = 1080 - HOTBAR_HEIGHT - 20;
+    private static final int HOTBAR_NAME_SPACE = 30;  // Held item name above the hotbar
+
     private void drawCompactInventory(Graphics2D g2d) {
-        // Draw hotbar at bottom center of screen
-        int hotbarSlotSize = 50;
-        int hotbarPadding = 5;
-        int hotbarWidth = HOTBAR_SIZE * (hotbarSlotSize + hotbarPadding) + hotbarPadding;
-        int hotbarHeight = hotbarSlotSize + hotbarPadding * 2;
-        int hotbarX = (1920 - hotbarWidth) / 2;
-        int hotbarY = 1080 - hotbarHeight - 20;
+        // Hotbar and held item name; animated icons are drawn on top each frame
+        ItemEntity held = getHeldItem();
+        hotbarLayer.key(selectedSlot).key(held != null ? held.getItemName() : null);
+        for (int i = 0; i < HOTBAR_SIZE; i++) {
+            keySlot(hotbarLayer, slots[i]);
+        }
+        hotbarLayer.draw(g2d, HOTBAR_X - HOTBAR_WIDTH, HOTBAR_Y - HOTBAR_NAME_SPACE,
+                HOTBAR_WIDTH * 3, HOTBAR_HEIGHT + HOTBAR_NAME_SPACE, this::paintHotbar);
+        for (int i = 0; i < HOTBAR_SIZE; i++) {
+            if (slots[i] != null && slots[i].isAnimated()) {
+                int slotX = HOTBAR_X + HOTBAR_PADDING + i * (HOTBAR_SLOT_SIZE + HOTBAR_PADDING);
+                drawHotbarItem(g2d, slots[i], slotX, HOTBAR_Y + HOTBAR_PADDING);
+            }
+        }
+
+        // Inventory count and hint
+        hintLayer.key(getItemCount());
+        hintLayer.draw(g2d, 0, 1080 - 30, 700, 30, this::paintHint);
+    }
+
+    private void paintHotbar(Graphics2D g2d) {
+        int hotbarSlotSize = HOTBAR_SLOT_SIZE;
+        int hotbarPadding = HOTBAR_PADDING;
+        int hotbarWidth = HOTBAR_WIDTH;
+        int hotbarHeight = HOTBAR_HEIGHT;
+        int hotbarX = HOTBAR_X;
+        int hotbarY = HOTBAR_Y;
 
         // Background
         g2d.setColor(new Color(0, 0, 0, 180));
@@ -1169,28 +1207,9 @@ public class Inventory {
             }
             g2d.drawRoundRect(slotX, slotY, hotbarSlotSize, hotbarSlotSize, 6, 6);
 
-            // Draw item if present
-            if (slots[i] != null) {
-                ItemEntity item = slots[i];
-                if (item.getSprite() != null) {
-                    g2d.drawImage(item.getSprite(), slotX + 5, slotY + 5,
-                            hotbarSlotSize - 10, hotbarSlotSize - 10, null);
-                }
-
-                // Draw stack count if more than 1
-                if (item.getStackCount() > 1) {
-                    g2d.setColor(Color.WHITE);
-                    g2d.setFont(new Font("Arial", Font.BOLD, 12));
-                    String countStr = String.valueOf(item.getStackCount());
-                    FontMetrics fm = g2d.getFontMetrics();
-                    int textX = slotX + hotbarSlotSize - fm.stringWidth(countStr) - 4;
-                    int textY = slotY + hotbarSlotSize - 4;
-                    // Draw shadow for visibility
-                    g2d.setColor(Color.BLACK);
-                    g2d.drawString(countStr, textX + 1, textY + 1);
-                    g2d.setColor(Color.WHITE);
-                    g2d.drawString(countStr, textX, textY);
-                }
+            // Draw item if present (animated items are drawn per frame)
+            if (slots[i] != null && !slots[i].isAnimated()) {
+                drawHotbarItem(g2d, slots[i], slotX, slotY);
             }
 
             // Draw slot number
@@ -1209,14 +1228,47 @@ public class Inventory {
             int textX = hotbarX + (hotbarWidth - fm.stringWidth(heldName)) / 2;
             g2d.drawString(heldName, textX, hotbarY - 8);
         }
+    }
 
-        // Draw inventory count and hint
+    private void paintHint(Graphics2D g2d) {
         g2d.setColor(new Color(200, 200, 200, 150));
         g2d.setFont(new Font("Arial", Font.PLAIN, 12));
         String hint = "[I] Inventory (" + getItemCount() + "/" + MAX_SLOTS + ") | [1-5] Select | Scroll to cycle";
         g2d.drawString(hint, 10, 1080 - 10);
     }
 
+    private void drawHotbarItem(Graphics2D g2d, ItemEntity item, int slotX, int slotY) {
+        if (item.getSprite() != null) {
+            g2d.drawImage(item.getSprite(), slotX + 5, slotY + 5,
+                    HOTBAR_SLOT_SIZE - 10, HOTBAR_SLOT_SIZE - 10, null);
+        }
+
+        // Draw stack count if more than 1
+        if (item.getStackCount() > 1) {
+            g2d.setFont(new Font("Arial", Font.BOLD, 12));
+            String countStr = String.valueOf(item.getStackCount());
+            FontMetrics fm = g2d.getFontMetrics();
+            int textX = slotX + HOTBAR_SLOT_SIZE - fm.stringWidth(countStr) - 4;
+            int textY = slotY + HOTBAR_SLOT_SIZE - 4;
+            // Draw shadow for visibility
+            g2d.setColor(Color.BLACK);
+            g2d.drawString(countStr, textX + 1, textY + 1);
+            g2d.setColor(Color.WHITE);
+            g2d.drawString(countStr, textX, textY);
+        }
+    }
+
+    /**
+     * Declares a slot's contents as layer keys. Animated sprites change every few
+     * frames, so only their presence is keyed (they are drawn over the layer).
+     */
+    private static void keySlot(UILayer layer, ItemEntity item) {
+        layer.key(item);
+        if (item != null) {
+            layer.key(item.getStackCount()).key(item.isAnimated() ? null : item.getSprite());
+        }
+    }
+
     private void drawFullInventory(Graphics2D g2d) {
         int panelWidth = COLS * (slotSize + padding) + padding;
         int panelHeight = VISIBLE_ROWS * (slotSize + padding) + padding + 100;
@@ -1225,6 +1277,47 @@ public class Inventory {
         int panelX = (1920 - panelWidth) / 2;
         int panelY = 150;
 
+        // Everything except animated icons and the tooltip comes from the cached panel
+        int startIndex = scrollOffset * COLS;
+        int endIndex = Math.min(startIndex + VISIBLE_ROWS * COLS, MAX_SLOTS);
+        panelLayer.key(scrollOffset).key(selectedSlot).key(navigationMode).key(cursorSlot)
+                .key(isDragging ? draggedIndex : -1)
+                .key(cursorHeldItem != null ? cursorHeldItemOriginalSlot : -1)
+                .key(cursorHeldItem != null ? cursorHeldItem.getItemName() : null)
+                .key(getItemCount());
+        for (int i = startIndex; i < endIndex; i++) {
+            keySlot(panelLayer, slots[i]);
+        }
+        panelLayer.draw(g2d, panelX, panelY, panelWidth, panelHeight, this::paintFullInventory);
+
+        for (int i = startIndex; i < endIndex; i++) {
+            if (slots[i] != null && slots[i].isAnimated() && !isSlotBeingHeld(i)) {
+                int displayIndex = i - startIndex;
+                int slotX = panelX + padding + (displayIndex % COLS) * (slotSize + padding);
+                int slotY = panelY + 60 + (displayIndex / COLS) * (slotSize + padding);
+                drawSlotItem(g2d, slots[i], slotX, slotY);
+            }
+        }
+
+        // Draw tooltip for hovered item
+        if (hoveredSlotIndex >= 0 && hoveredSlotIndex < MAX_SLOTS && slots[hoveredSlotIndex] != null) {
+            drawTooltip(g2d, slots[hoveredSlotIndex]);
+        }
+    }
+
+    private boolean isSlotBeingHeld(int index) {
+        return (isDragging && draggedIndex == index) ||
+               (cursorHeldItem != null && cursorHeldItemOriginalSlot == index);
+    }
+
+    private void paintFullInventory(Graphics2D g2d) {
+        int panelWidth = COLS * (slotSize + padding) + padding;
+        int panelHeight = VISIBLE_ROWS * (slotSize + padding) + padding + 100;
+
+        // Center the panel
+        int panelX = (1920 - panelWidth) / 2;
+        int panelY = 150;
+
         // Background panel
         g2d.setColor(new Color(40, 40, 40, 230));
         g2d.fillRoundRect(panelX, panelY, panelWidth, panelHeight, 20, 20);
@@ -1320,33 +1413,15 @@ public class Inventory {
                 ItemEntity item = slots[i];
 
                 // Skip drawing if this is the item being dragged or held by cursor
-                boolean isBeingHeld = (isDragging && draggedIndex == i) ||
-                                     (cursorHeldItem != null && cursorHeldItemOriginalSlot == i);
-                if (isBeingHeld) {
+                if (isSlotBeingHeld(i)) {
                     // Draw empty slot with dashed border
                     g2d.setColor(new Color(100, 100, 100, 100));
                     g2d.setStroke(new BasicStroke(2, BasicStroke.CAP_BUTT,
                             BasicStroke.JOIN_BEVEL, 0, new float[]{5}, 0));
                     g2d.drawRoundRect(slotX, slotY, slotSize, slotSize, 8, 8);
-                } else {
-                    // Draw normal item
-                    if (item.getSprite() != null) {
-                        g2d.drawImage(item.getSprite(), slotX + 5, slotY + 5, slotSize - 10, slotSize - 10, null);
-                    }
-
-                    // Draw stack count if more than 1
-                    if (item.getStackCount() > 1) {
-                        g2d.setFont(new Font("Arial", Font.BOLD, 14));
-                        String countStr = String.valueOf(item.getStackCount());
-                        FontMetrics cfm = g2d.getFontMetrics();
-                        int countX = slotX + slotSize - cfm.stringWidth(countStr) - 5;
-                        int countY = slotY + slotSize - 5;
-                        // Draw shadow for visibility
-                        g2d.setColor(Color.BLACK);
-                        g2d.drawString(countStr, countX + 1, countY + 1);
-                        g2d.setColor(Color.WHITE);
-                        g2d.drawString(countStr, countX, countY);
-                    }
+                } else if (!item.isAnimated()) {
+                    // Draw normal item (animated items are drawn per frame)
+                    drawSlotItem(g2d, item, slotX, slotY);
                 }
             }
         }
@@ -1371,19 +1446,63 @@ public class Inventory {
             String holdingText = "Holding: " + cursorHeldItem.getItemName();
             g2d.drawString(holdingText, panelX + 20, panelY + panelHeight - 35);
         }
+    }
 
-        // Draw tooltip for hovered item
-        if (hoveredSlotIndex >= 0 && hoveredSlotIndex < MAX_SLOTS && slots[hoveredSlotIndex] != null) {
-            drawTooltip(g2d, slots[hoveredSlotIndex]);
+    private void drawSlotItem(Graphics2D g2d, ItemEntity item, int slotX, int slotY) {
+        if (item.getSprite() != null) {
+            g2d.drawImage(item.getSprite(), slotX + 5, slotY + 5, slotSize - 10, slotSize - 10, null);
+        }
+
+        // Draw stack count if more than 1
+        if (item.getStackCount() > 1) {
+            g2d.setFont(new Font("Arial", Font.BOLD, 14));
+            String countStr = String.valueOf(item.getStackCount());
+            FontMetrics cfm = g2d.getFontMetrics();
+            int countX = slotX + slotSize - cfm.stringWidth(countStr) - 5;
+            int countY = slotY + slotSize - 5;
+            // Draw shadow for visibility
+            g2d.setColor(Color.BLACK);
+            g2d.drawString(countStr, countX + 1, countY + 1);
+            g2d.setColor(Color.WHITE);
+            g2d.drawString(countStr, countX, countY);
         }
     }
 
     /**
      * Draws a tooltip for the given item at the current mouse position.
+     * The tooltip is cached per item and stack size and only moved with the mouse.
      */
     private void drawTooltip(Graphics2D g2d, ItemEntity itemEntity) {
         if (itemEntity == null) return;
 
+        tooltipLayer.key(itemEntity).key(itemEntity.getStackCount()).key(itemEntity.getLinkedItem());
+        if (tooltipLayer.needsRepaint()) {
+            layoutTooltip(g2d, itemEntity);
+        }
+
+        int tooltipX = lastMouseX + 15;
+        int tooltipY = lastMouseY - tooltipHeight / 2;
+
+        // Keep tooltip on screen
+        if (tooltipX + tooltipWidth > 1920) {
+            tooltipX = lastMouseX - tooltipWidth - 10;
+        }
+        if (tooltipY < 0) {
+            tooltipY = 5;
+        }
+        if (tooltipY + tooltipHeight > 1080) {
+            tooltipY = 1080 - tooltipHeight - 5;
+        }
+
+        final int x = tooltipX;
+        final int y = tooltipY;
+        tooltipLayer.draw(g2d, x, y, tooltipWidth, tooltipHeight, g -> paintTooltip(g, x, y));
+    }
+
+    /**
+     * Builds the tooltip lines for an item and measures the tooltip.
+     */
+    private void layoutTooltip(Graphics2D g2d, ItemEntity itemEntity) {
         Item item = itemEntity.getLinkedItem();
         String name = itemEntity.getItemName();
         String rarity = "Common";
@@ -1432,53 +1551,44 @@ public class Inventory {
         }
 
         // Calculate tooltip size
-        g2d.setFont(new Font("Arial", Font.BOLD, 12));
+        FontMetrics fm = g2d.getFontMetrics(new Font("Arial", Font.BOLD, 12));
         int maxWidth = 0;
         for (String line : lines) {
-            int w = g2d.getFontMetrics().stringWidth(line);
+            int w = fm.stringWidth(line);
             if (w > maxWidth) maxWidth = w;
         }
 
-        int tooltipWidth = maxWidth + 20;
-        int lineHeight = 14;
-        int tooltipHeight = lines.size() * lineHeight + 16;
-
-        int tooltipX = lastMouseX + 15;
-        int tooltipY = lastMouseY - tooltipHeight / 2;
+        tooltipLines = lines;
+        tooltipColor = rarityColor;
+        tooltipWidth = maxWidth + 20;
+        tooltipHeight = lines.size() * 14 + 16;
+    }
 
-        // Keep tooltip on screen
-        if (tooltipX + tooltipWidth > 1920) {
-            tooltipX = lastMouseX - tooltipWidth - 10;
-        }
-        if (tooltipY < 0) {
-            tooltipY = 5;
-        }
-        if (tooltipY + tooltipHeight > 1080) {
-            tooltipY = 1080 - tooltipHeight - 5;
-        }
+    private void paintTooltip(Graphics2D g2d, int tooltipX, int tooltipY) {
+        int lineHeight = 14;
 
         // Background
         g2d.setColor(new Color(20, 20, 30, 240));
         g2d.fillRoundRect(tooltipX, tooltipY, tooltipWidth, tooltipHeight, 8, 8);
 
         // Border with rarity color
-        g2d.setColor(rarityColor);
+        g2d.setColor(tooltipColor);
         g2d.setStroke(new BasicStroke(2));
         g2d.drawRoundRect(tooltipX, tooltipY, tooltipWidth, tooltipHeight, 8, 8);
 
         // Draw text lines
         int textY = tooltipY + 16;
-        for (int i = 0; i < lines.size(); i++) {
+        for (int i = 0; i < tooltipLines.size(); i++) {
             if (i == 0) {
                 // Name in rarity color and bold
-                g2d.setColor(rarityColor);
+                g2d.setColor(tooltipColor);
                 g2d.setFont(new Font("Arial", Font.BOLD, 12));
             } else {
                 // Other lines in light gray
                 g2d.setColor(Color.LIGHT_GRAY);
                 g2d.setFont(new Font("Arial", Font.PLAIN, 10));
             }
-            g2d.drawString(lines.get(i), tooltipX + 10, textY);
+            g2d.drawString(tooltipLines.get(i), tooltipX + 10, textY);
             textY += lineHeight;
         }
     }
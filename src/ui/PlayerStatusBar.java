@@ -27,6 +27,9 @@ public class PlayerStatusBar {
     private static final Color BORDER_COLOR = new Color(60, 60, 60);
     private static final Color PANEL_BG = new Color(0, 0, 0, 160);
 
+    // Bars are repainted only when a value changes (see UILayer)
+    private static final UILayer layer = new UILayer();
+
     /**
      * Draws the player status bars above the hotbar in a horizontal layout.
      * Mana | Health | Stamina
@@ -46,6 +49,16 @@ public class PlayerStatusBar {
         // Position above hotbar (hotbar is at ~1080-80, so place this at ~1080-140)
         int panelY = screenHeight - 140;
 
+        layer.key(player.getMana()).key(player.getMaxMana())
+             .key(player.getHealth()).key(player.getMaxHealth())
+             .key(player.getStamina()).key(player.getMaxStamina());
+        layer.draw(g2d, panelX, panelY, panelWidth, panelHeight, g -> paint(g, player, panelX, panelY));
+    }
+
+    private static void paint(Graphics2D g2d, PlayerBase player, int panelX, int panelY) {
+        int panelWidth = BAR_WIDTH * 3 + BAR_SPACING * 2 + 20;
+        int panelHeight = BAR_HEIGHT + 10;
+
         // Draw panel background
         g2d.setColor(PANEL_BG);
         g2d.fillRoundRect(panelX, panelY, panelWidth, panelHeight, 8, 8);
@@ -69,6 +69,11 @@ public class ReverseCraftingUI {
     private Color accentColor = new Color(180, 100, 255);  // Purple for deconstruction
     private Color titleColor = new Color(220, 150, 255);
 
+    // Cached panel and tooltip images (see UILayer)
+    private final UILayer panelLayer = new UILayer();
+    private final UILayer tooltipLayer = new UILayer();
+    private int tooltipWidth, tooltipHeight;
+
     // Callbacks
     private ItemProducedCallback itemProducedCallback;
     private Runnable onCloseCallback;
@@ -405,22 +410,13 @@ public class ReverseCraftingUI {
         Graphics2D g2d = (Graphics2D) g;
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        // Draw background panel
-        drawBackground(g2d);
-
-        // Draw title
-        drawTitle(g2d);
-
-        // Draw input slot
-        drawSlot(g2d, inputSlot, 0, hoveredSlotIndex == 0, true);
-
-        // Draw arrow
-        drawArrow(g2d);
-
-        // Draw output slots
-        for (int i = 0; i < 3; i++) {
-            drawSlot(g2d, outputSlots[i], i + 1, hoveredSlotIndex == i + 1, false);
+        // Panel is repainted only when slots, hover, drag or recipe change
+        panelLayer.key(hoveredSlotIndex).key(currentRecipe).key(isDragging && dragFromInput);
+        for (int i = 0; i <= 3; i++) {
+            CraftingSlot slot = getSlotByIndex(i);
+            panelLayer.key(slot.itemId).key(slot.stackCount).key(slot.icon).key(slot.x).key(slot.y);
         }
+        panelLayer.draw(g2d, x, y, width, height, this::paintPanel);
 
         // Draw tooltip
         if (hoveredSlotIndex >= 0) {
@@ -448,6 +444,25 @@ public class ReverseCraftingUI {
         return null;
     }
 
+    private void paintPanel(Graphics2D g2d) {
+        // Draw background panel
+        drawBackground(g2d);
+
+        // Draw title
+        drawTitle(g2d);
+
+        // Draw input slot
+        drawSlot(g2d, inputSlot, 0, hoveredSlotIndex == 0, true);
+
+        // Draw arrow
+        drawArrow(g2d);
+
+        // Draw output slots
+        for (int i = 0; i < 3; i++) {
+            drawSlot(g2d, outputSlots[i], i + 1, hoveredSlotIndex == i + 1, false);
+        }
+    }
+
     private void drawBackground(Graphics2D g2d) {
         // Main panel
         g2d.setColor(panelBackground);
@@ -554,22 +569,25 @@ public class ReverseCraftingUI {
         g2d.fillPolygon(xPoints, yPoints, 3);
     }
 
+    /**
+     * Draws the tooltip for a slot at the mouse. The tooltip image is cached per
+     * item and stack size and only moved with the mouse.
+     */
     private void drawTooltip(Graphics2D g2d, CraftingSlot slot) {
         if (slot.itemTemplate == null) return;
 
         Item item = slot.itemTemplate;
-        String name = item.getName();
-        String rarity = item.getRarity().getDisplayName();
         String abilityTags = item.hasAbilityScaling() ? item.getAbilityTags() : null;
-
-        g2d.setFont(new Font("Arial", Font.BOLD, 12));
-        int nameWidth = g2d.getFontMetrics().stringWidth(name);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 10));
-        int infoWidth = g2d.getFontMetrics().stringWidth(rarity + " x" + slot.stackCount);
-        int abilityWidth = abilityTags != null ? g2d.getFontMetrics().stringWidth("Scales: " + abilityTags) : 0;
-
-        int tooltipWidth = Math.max(Math.max(nameWidth, infoWidth), abilityWidth) + 20;
-        int tooltipHeight = abilityTags != null ? 60 : 45;
+        tooltipLayer.key(item).key(slot.stackCount).key(currentRecipe != null);
+        if (tooltipLayer.needsRepaint()) {
+            int nameWidth = g2d.getFontMetrics(new Font("Arial", Font.BOLD, 12)).stringWidth(item.getName());
+            FontMetrics fm = g2d.getFontMetrics(new Font("Arial", Font.PLAIN, 10));
+            int infoWidth = fm.stringWidth(item.getRarity().getDisplayName() + " x" + slot.stackCount);
+            int abilityWidth = abilityTags != null ? fm.stringWidth("Scales: " + abilityTags) : 0;
+
+            tooltipWidth = Math.max(Math.max(nameWidth, infoWidth), abilityWidth) + 20;
+            tooltipHeight = abilityTags != null ? 60 : 45;
+        }
 
         int tx = mouseX + 15;
         int ty = mouseY - tooltipHeight / 2;
@@ -579,12 +597,24 @@ public class ReverseCraftingUI {
             tx = mouseX - tooltipWidth - 10;
         }
 
+        final int tooltipX = tx;
+        final int tooltipY = ty;
+        final int stackCount = slot.stackCount;
+        tooltipLayer.draw(g2d, tooltipX, tooltipY, tooltipWidth, tooltipHeight,
+                g -> paintTooltip(g, item, stackCount, abilityTags, tooltipX, tooltipY));
+    }
+
+    private void paintTooltip(Graphics2D g2d, Item item, int stackCount, String abilityTags, int tx, int ty) {
+        String name = item.getName();
+        String rarity = item.getRarity().getDisplayName();
+
         // Background
         g2d.setColor(new Color(20, 20, 30, 230));
         g2d.fillRoundRect(tx, ty, tooltipWidth, tooltipHeight, 6, 6);
 
         // Border
         g2d.setColor(item.getRarity().getColor());
+        g2d.setStroke(new BasicStroke(currentRecipe != null ? 2 : 1));
         g2d.drawRoundRect(tx, ty, tooltipWidth, tooltipHeight, 6, 6);
 
         // Name
@@ -595,7 +625,7 @@ public class ReverseCraftingUI {
         // Rarity
         g2d.setColor(Color.LIGHT_GRAY);
         g2d.setFont(new Font("Arial", Font.PLAIN, 10));
-        g2d.drawString(rarity + " x" + slot.stackCount, tx + 10, ty + 34);
+        g2d.drawString(rarity + " x" + stackCount, tx + 10, ty + 34);
 
         // Ability scaling
         if (abilityTags != null) {
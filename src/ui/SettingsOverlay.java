@@ -2,8 +2,10 @@ package ui;
 
 import audio.AudioManager;
 import core.GamePanel;
+import graphics.RenderScaler;
 import input.ControllerBindings;
 import input.ControllerManager;
+import input.InputManager;
 import input.KeyBindings;
 import scene.SceneManager;
 
@@ -55,6 +57,7 @@ public class SettingsOverlay {
     private UIButton vibrationToggle;
     private UIButton dayNightToggle;
     private UIButton debugToggle;
+    private UIButton renderScaleToggle;
 
     // UI Components - Actions Tab
     private UIButton exitGameButton;
@@ -69,6 +72,10 @@ public class SettingsOverlay {
     private boolean nightMode = false;
     private boolean debugMode = false;
 
+    // Cached panel image; input handlers invalidate it since they change
+    // button hover, labels and slider values (see UILayer)
+    private final UILayer panelLayer = new UILayer();
+
     // Callbacks for actions
     private Runnable onDayNightToggle;
     private Runnable onDebugToggle;
@@ -328,6 +335,32 @@ public class SettingsOverlay {
             new Color(120, 120, 120, 230),
             Color.WHITE
         );
+
+        // Render Scale Toggle (internal world resolution)
+        renderScaleToggle = new UIButton(
+            contentX, startY + spacing * 3, contentWidth, buttonHeight,
+            getRenderScaleButtonText(), this::cycleRenderScale
+        );
+        updateRenderScaleButtonColors();
+    }
+
+    private String getRenderScaleButtonText() {
+        RenderScaler scaler = RenderScaler.getInstance();
+        return "Render Scale: " + scaler.getMode().getDisplayName() + " (" +
+            scaler.getResolutionText(GamePanel.SCREEN_WIDTH, GamePanel.SCREEN_HEIGHT) + ")";
+    }
+
+    private void updateRenderScaleButtonColors() {
+        if (RenderScaler.getInstance().getMode() != RenderScaler.Mode.FULL) {
+            renderScaleToggle.setColors(BUTTON_ACTIVE, BUTTON_ACTIVE_HOVER, Color.WHITE);
+        } else {
+            renderScaleToggle.setColors(BUTTON_NORMAL, BUTTON_HOVER, Color.WHITE);
+        }
+    }
+
+    private void cycleRenderScale() {
+        RenderScaler.getInstance().cycleMode();
+        initGameTab(panelX + 40, panelWidth - 80);
     }
 
     private void initActionsTab(int contentX, int contentWidth) {
@@ -465,14 +498,17 @@ public class SettingsOverlay {
 
     public void setNightMode(boolean nightMode) {
         this.nightMode = nightMode;
+        panelLayer.invalidate();
     }
 
     public void setDebugMode(boolean debugMode) {
         this.debugMode = debugMode;
+        panelLayer.invalidate();
     }
 
     public void show() {
         visible = true;
+        panelLayer.invalidate();
         // Refresh slider values from audio manager
         if (audioManager != null) {
             musicVolumeSlider.setValue(audioManager.getMusicVolume());
@@ -544,6 +580,7 @@ public class SettingsOverlay {
 
             waitingForControllerInput = false;
             currentlyRebindingController = null;
+            panelLayer.invalidate();
 
             // Vibration feedback
             if (cm.isVibrationSupported() && cm.isVibrationEnabled()) {
@@ -577,6 +614,7 @@ public class SettingsOverlay {
 
     public boolean handleMousePressed(int x, int y) {
         if (!visible) return false;
+        panelLayer.invalidate();
 
         // Handle tab clicks
         for (int i = 0; i < tabRects.length; i++) {
@@ -629,6 +667,7 @@ public class SettingsOverlay {
 
     public void handleMouseReleased(int x, int y) {
         if (!visible) return;
+        panelLayer.invalidate();
 
         if (currentTab == 0) {
             musicVolumeSlider.handleMouseReleased(x, y);
@@ -638,6 +677,7 @@ public class SettingsOverlay {
 
     public void handleMouseDragged(int x, int y) {
         if (!visible) return;
+        panelLayer.invalidate();
 
         if (currentTab == 0) {
             musicVolumeSlider.handleMouseDragged(x, y);
@@ -647,6 +687,7 @@ public class SettingsOverlay {
 
     public void handleMouseMoved(int x, int y) {
         if (!visible) return;
+        panelLayer.invalidate();
 
         closeButton.handleMouseMove(x, y);
 
@@ -668,6 +709,7 @@ public class SettingsOverlay {
             vibrationToggle.handleMouseMove(x, y);
             dayNightToggle.handleMouseMove(x, y);
             debugToggle.handleMouseMove(x, y);
+            renderScaleToggle.handleMouseMove(x, y);
         } else if (currentTab == 3) {
             returnToMenuButton.handleMouseMove(x, y);
             customizeButton.handleMouseMove(x, y);
@@ -678,6 +720,7 @@ public class SettingsOverlay {
 
     public boolean handleMouseClicked(int x, int y) {
         if (!visible) return false;
+        panelLayer.invalidate();
 
         if (closeButton.handleClick(x, y)) {
             return true;
@@ -696,6 +739,7 @@ public class SettingsOverlay {
             if (vibrationToggle.handleClick(x, y)) return true;
             if (dayNightToggle.handleClick(x, y)) return true;
             if (debugToggle.handleClick(x, y)) return true;
+            if (renderScaleToggle.handleClick(x, y)) return true;
         } else if (currentTab == 3) {
             if (returnToMenuButton.handleClick(x, y)) return true;
             if (customizeButton.handleClick(x, y)) return true;
@@ -708,6 +752,7 @@ public class SettingsOverlay {
 
     public boolean handleKeyPressed(int keyCode) {
         if (!visible) return false;
+        panelLayer.invalidate();
 
         // Handle key rebinding
         if (waitingForKeyInput && currentlyRebindingKey != null) {
@@ -757,6 +802,27 @@ public class SettingsOverlay {
         g2d.setColor(OVERLAY_BG);
         g2d.fillRect(0, 0, GamePanel.SCREEN_WIDTH, GamePanel.SCREEN_HEIGHT);
 
+        // Panel is repainted when input invalidates it, or when tab hover or
+        // controller state changes without input events
+        panelLayer.key(currentTab).key(getHoveredTab());
+        if (currentTab == 1) {
+            ControllerManager cm = ControllerManager.getInstance();
+            panelLayer.key(cm.isControllerConnected()).key(cm.getControllerName());
+        }
+        panelLayer.draw(g2d, panelX, panelY, panelWidth, panelHeight, this::paintPanel);
+    }
+
+    private int getHoveredTab() {
+        InputManager input = SceneManager.getInstance().getInputManager();
+        for (int i = 0; i < tabRects.length; i++) {
+            if (tabRects[i].contains(input.getMouseX(), input.getMouseY())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void paintPanel(Graphics2D g2d) {
         // Draw panel background
         g2d.setColor(PANEL_BG);
         g2d.fillRoundRect(panelX, panelY, panelWidth, panelHeight, 20, 20);
@@ -786,7 +852,7 @@ public class SettingsOverlay {
         }
 
         // Draw close button
-        closeButton.draw(g);
+        closeButton.draw(g2d);
 
         // Draw hint text at bottom
         g2d.setColor(new Color(150, 150, 160));
@@ -813,9 +879,7 @@ public class SettingsOverlay {
             // Tab background
             if (i == currentTab) {
                 g2d.setColor(TAB_ACTIVE);
-            } else if (rect.contains(
-                    SceneManager.getInstance().getInputManager().getMouseX(),
-                    SceneManager.getInstance().getInputManager().getMouseY())) {
+            } else if (i == getHoveredTab()) {
                 g2d.setColor(TAB_HOVER);
             } else {
                 g2d.setColor(TAB_INACTIVE);
@@ -887,13 +951,16 @@ public class SettingsOverlay {
         vibrationToggle.draw(g2d);
         dayNightToggle.draw(g2d);
         debugToggle.draw(g2d);
+        renderScaleToggle.draw(g2d);
 
         // Draw game options info
         g2d.setColor(new Color(150, 150, 160));
         g2d.setFont(new Font("Arial", Font.ITALIC, 12));
         String info = "Configure gameplay and visual options";
         FontMetrics fm = g2d.getFontMetrics();
-        g2d.drawString(info, panelX + (panelWidth - fm.stringWidth(info)) / 2, panelY + 340);
+        g2d.drawString(info, panelX + (panelWidth - fm.stringWidth(info)) / 2, panelY + 410);
+        String scaleInfo = "Lower render scales draw the world at fewer pixels (faster on weak GPUs)";
+        g2d.drawString(scaleInfo, panelX + (panelWidth - fm.stringWidth(scaleInfo)) / 2, panelY + 430);
     }
 
     private void drawActionsTab(Graphics2D g2d) {
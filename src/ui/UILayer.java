@@ -0,0 +1,186 @@
+package ui;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Retained-mode image cache for a UI panel.
+ *
+ * Each frame a panel declares the state its picture depends on with key()
+ * calls (slot contents, hover, drag source, scroll offset, ...) and then calls
+ * draw(). The painter only runs when a key differs from the previous frame or
+ * invalidate() was called; otherwise drawing the panel is a single blit.
+ *
+ * The painter draws in the same coordinates as the target Graphics, inside
+ * the bounds passed to draw(). Moving the bounds does not repaint, so keys
+ * should cover everything except the panel position. Under a scaling
+ * transform (HiDPI) the image is rendered at device resolution; under a
+ * rotation the layer just paints directly.
+ *
+ * Usage:
+ *   layer.key(scrollOffset).key(hoveredSlot).key(slots[i]);
+ *   layer.draw(g2d, panelX, panelY, panelWidth, panelHeight, this::paintPanel);
+ */
+public class UILayer {
+
+    /**
+     * Paints a layer's content.
+     */
+    public interface Painter {
+        void paint(Graphics2D g);
+    }
+
+    // Extra pixels around the bounds for borders that straddle the edge
+    private static final int MARGIN = 4;
+
+    private static int totalRepaints;
+
+    private BufferedImage image;
+    private double imageScaleX, imageScaleY;
+    private int imageWidth, imageHeight;
+    private boolean dirty = true;
+
+    // Keys declared this frame, compared in order against the previous frame
+    private long[] values = new long[32];
+    private Object[] objects = new Object[16];
+    private int valueCount, objectCount;
+    private int lastValueCount, lastObjectCount;
+
+    /**
+     * Declares a numeric key for this frame.
+     */
+    public UILayer key(long value) {
+        if (valueCount == values.length) {
+            values = Arrays.copyOf(values, valueCount * 2);
+        }
+        if (valueCount >= lastValueCount || values[valueCount] != value) {
+            values[valueCount] = value;
+            dirty = true;
+        }
+        valueCount++;
+        return this;
+    }
+
+    /**
+     * Declares a boolean key for this frame.
+     */
+    public UILayer key(boolean value) {
+        return key(value ? 1 : 0);
+    }
+
+    /**
+     * Declares an object key for this frame (compared with equals, so strings
+     * and images can be passed as-is).
+     */
+    public UILayer key(Object value) {
+        if (objectCount == objects.length) {
+            objects = Arrays.copyOf(objects, objectCount * 2);
+        }
+        if (objectCount >= lastObjectCount || !Objects.equals(objects[objectCount], value)) {
+            objects[objectCount] = value;
+            dirty = true;
+        }
+        objectCount++;
+        return this;
+    }
+
+    /**
+     * Forces a repaint on the next draw (for changes that keys do not cover).
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Checks if the next draw will repaint (keys for this frame must be declared first).
+     */
+    public boolean needsRepaint() {
+        return dirty || image == null || valueCount != lastValueCount || objectCount != lastObjectCount;
+    }
+
+    /**
+     * Draws the layer, repainting it first if its keys changed.
+     * @param g Target graphics
+     * @param x Left of the panel
+     * @param y Top of the panel
+     * @param width Panel width
+     * @param height Panel height
+     * @param painter Paints the panel in target coordinates
+     */
+    public void draw(Graphics2D g, int x, int y, int width, int height, Painter painter) {
+        AffineTransform transform = g.getTransform();
+        if (transform.getShearX() != 0 || transform.getShearY() != 0 || width <= 0 || height <= 0) {
+            endFrame();
+            painter.paint(g);
+            return;
+        }
+
+        int left = x - MARGIN;
+        int top = y - MARGIN;
+        int layerWidth = width + MARGIN * 2;
+        int layerHeight = height + MARGIN * 2;
+        double scaleX = Math.abs(transform.getScaleX());
+        double scaleY = Math.abs(transform.getScaleY());
+
+        if (image == null || layerWidth != imageWidth || layerHeight != imageHeight
+                || scaleX != imageScaleX || scaleY != imageScaleY) {
+            int pixelWidth = Math.max(1, (int) Math.ceil(layerWidth * scaleX));
+            int pixelHeight = Math.max(1, (int) Math.ceil(layerHeight * scaleY));
+            image = g.getDeviceConfiguration().createCompatibleImage(pixelWidth, pixelHeight, Transparency.TRANSLUCENT);
+            imageWidth = layerWidth;
+            imageHeight = layerHeight;
+            imageScaleX = scaleX;
+            imageScaleY = scaleY;
+            dirty = true;
+        }
+
+        if (needsRepaint()) {
+            Graphics2D ig = image.createGraphics();
+            ig.setComposite(AlphaComposite.Clear);
+            ig.fillRect(0, 0, image.getWidth(), image.getHeight());
+            ig.setComposite(AlphaComposite.SrcOver);
+            ig.setRenderingHints(g.getRenderingHints());
+            ig.scale(scaleX, scaleY);
+            ig.translate(-left, -top);
+            painter.paint(ig);
+            ig.dispose();
+            totalRepaints++;
+        }
+        endFrame();
+
+        g.drawImage(image, left, top, layerWidth, layerHeight, null);
+    }
+
+    /**
+     * Keeps this frame's keys for comparison with the next frame.
+     */
+    private void endFrame() {
+        // Drop references to objects past the new end so they can be collected
+        for (int i = objectCount; i < lastObjectCount; i++) {
+            objects[i] = null;
+        }
+        lastValueCount = valueCount;
+        lastObjectCount = objectCount;
+        valueCount = 0;
+        objectCount = 0;
+        dirty = false;
+    }
+
+    /**
+     * Frees the cached image (it is recreated on the next draw).
+     */
+    public void release() {
+        image = null;
+        dirty = true;
+    }
+
+    /**
+     * Gets the number of layer repaints since startup (for the debug overlay).
+     */
+    public static int getTotalRepaints() {
+        return totalRepaints;
+    }
+}
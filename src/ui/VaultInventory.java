@@ -82,6 +82,12 @@ public class VaultInventory {
     // Reference to player inventory for drag-drop transfers
     private InventoryDropCallback inventoryDropCallback;
 
+    // Cached panel and tooltip images (see UILayer)
+    private final UILayer panelLayer = new UILayer();
+    private final UILayer tooltipLayer = new UILayer();
+    private List<String> tooltipLines;
+    private int tooltipWidth, tooltipHeight;
+
     // Callback for when an item is taken from vault
     private ItemTakenCallback itemTakenCallback;
 
@@ -704,13 +710,15 @@ public class VaultInventory {
                 }
             }
         } else {
-            // For persistent mode, update SaveManager
-            SaveManager.getInstance().clearVault();
+            // For persistent mode, store the exact slot order (re-adding would
+            // re-merge stacks and count the items as newly collected)
+            List<SavedItem> ordered = new ArrayList<>(slots.size());
             for (VaultSlot slot : slots) {
                 if (!slot.isEmpty()) {
-                    SaveManager.getInstance().addItemToVault(slot.itemId, slot.stackCount);
+                    ordered.add(new SavedItem(slot.itemId, slot.stackCount));
                 }
             }
+            SaveManager.getInstance().setVaultOrder(ordered);
         }
     }
 
@@ -754,17 +762,16 @@ public class VaultInventory {
         Graphics2D g2d = (Graphics2D) g;
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        // Draw background panel
-        drawBackground(g2d);
-
-        // Draw title
-        drawTitle(g2d);
-
-        // Draw item slots
-        drawSlots(g2d);
-
-        // Draw scrollbar
-        drawScrollbar(g2d);
+        // Panel is repainted only when its visible state changes (position included,
+        // since painting also places the sort buttons)
+        int startIndex = scrollOffset * columns;
+        panelLayer.key(x).key(y).key(scrollOffset).key(maxScrollRows).key(hoveredSlotIndex).key(currentSortMode)
+                .key(localMode ? linkedVault : null).key(slots.size()).key(maxSlots).key(columns);
+        for (int i = startIndex; i < startIndex + visibleSlots && i < slots.size(); i++) {
+            VaultSlot slot = slots.get(i);
+            panelLayer.key(slot).key(slot.itemId).key(slot.stackCount).key(slot.icon);
+        }
+        panelLayer.draw(g2d, x, y, width, height, this::paintPanel);
 
         // Draw tooltip for hovered item
         if (hoveredSlotIndex >= 0 && hoveredSlotIndex < slots.size()) {
@@ -786,6 +793,20 @@ public class VaultInventory {
         drawDraggedItem(g2d);
     }
 
+    private void paintPanel(Graphics2D g2d) {
+        // Draw background panel
+        drawBackground(g2d);
+
+        // Draw title
+        drawTitle(g2d);
+
+        // Draw item slots
+        drawSlots(g2d);
+
+        // Draw scrollbar
+        drawScrollbar(g2d);
+    }
+
     private void drawBackground(Graphics2D g2d) {
         // Semi-transparent background
         g2d.setColor(new Color(30, 30, 50, 230));
@@ -955,9 +976,42 @@ public class VaultInventory {
         g2d.fillRoundRect(scrollbarX + 2, (int) handleY, SCROLLBAR_WIDTH - 8, (int) handleHeight, 4, 4);
     }
 
+    /**
+     * Draws the tooltip for a slot at the mouse. The tooltip image is cached per
+     * item and stack size and only moved with the mouse.
+     */
     private void drawTooltip(Graphics2D g2d, VaultSlot slot) {
         if (slot.isEmpty() || slot.itemTemplate == null) return;
 
+        Item item = slot.itemTemplate;
+        tooltipLayer.key(item).key(slot.stackCount);
+        if (tooltipLayer.needsRepaint()) {
+            layoutTooltip(g2d, slot);
+        }
+
+        int tooltipX = mouseX + 15;
+        int tooltipY = mouseY - tooltipHeight / 2;
+
+        // Keep tooltip on screen
+        if (tooltipX + tooltipWidth > x + width) {
+            tooltipX = mouseX - tooltipWidth - 10;
+        }
+        if (tooltipY < 0) {
+            tooltipY = 5;
+        }
+        if (tooltipY + tooltipHeight > 1080) {
+            tooltipY = 1080 - tooltipHeight - 5;
+        }
+
+        final int tx = tooltipX;
+        final int ty = tooltipY;
+        tooltipLayer.draw(g2d, tx, ty, tooltipWidth, tooltipHeight, g -> paintTooltip(g, item, tx, ty));
+    }
+
+    /**
+     * Builds the tooltip lines for a slot and measures the tooltip.
+     */
+    private void layoutTooltip(Graphics2D g2d, VaultSlot slot) {
         Item item = slot.itemTemplate;
         String name = item.getName();
         String rarity = item.getRarity().getDisplayName();
@@ -992,30 +1046,20 @@ public class VaultInventory {
         }
 
         // Calculate tooltip size
-        g2d.setFont(new Font("Arial", Font.BOLD, 12));
+        FontMetrics fm = g2d.getFontMetrics(new Font("Arial", Font.BOLD, 12));
         int maxWidth = 0;
         for (String line : lines) {
-            int w = g2d.getFontMetrics().stringWidth(line);
+            int w = fm.stringWidth(line);
             if (w > maxWidth) maxWidth = w;
         }
 
-        int tooltipWidth = maxWidth + 20;
-        int lineHeight = 14;
-        int tooltipHeight = lines.size() * lineHeight + 16;
-
-        int tooltipX = mouseX + 15;
-        int tooltipY = mouseY - tooltipHeight / 2;
+        tooltipLines = lines;
+        tooltipWidth = maxWidth + 20;
+        tooltipHeight = lines.size() * 14 + 16;
+    }
 
-        // Keep tooltip on screen
-        if (tooltipX + tooltipWidth > x + width) {
-            tooltipX = mouseX - tooltipWidth - 10;
-        }
-        if (tooltipY < 0) {
-            tooltipY = 5;
-        }
-        if (tooltipY + tooltipHeight > 1080) {
-            tooltipY = 1080 - tooltipHeight - 5;
-        }
+    private void paintTooltip(Graphics2D g2d, Item item, int tooltipX, int tooltipY) {
+        int lineHeight = 14;
 
         // Background
         g2d.setColor(new Color(20, 20, 30, 240));
@@ -1028,7 +1072,7 @@ public class VaultInventory {
 
         // Draw text lines
         int textY = tooltipY + 16;
-        for (int i = 0; i < lines.size(); i++) {
+        for (int i = 0; i < tooltipLines.size(); i++) {
             if (i == 0) {
                 // Name in rarity color and bold
                 g2d.setColor(item.getRarity().getColor());
@@ -1038,7 +1082,7 @@ public class VaultInventory {
                 g2d.setColor(Color.LIGHT_GRAY);
                 g2d.setFont(new Font("Arial", Font.PLAIN, 10));
             }
-            g2d.drawString(lines.get(i), tooltipX + 10, textY);
+            g2d.drawString(tooltipLines.get(i), tooltipX + 10, textY);
             textY += lineHeight;
         }
     }